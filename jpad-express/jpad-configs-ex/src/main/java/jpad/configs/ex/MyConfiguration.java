@@ -127,7 +127,7 @@ public class MyConfiguration {
 	 * @author Agostino De Marco
 	 */
 
-	public static void customizeAmountOutput(){
+	public static synchronized void customizeAmountOutput(){
 		
 		//============================================================================
 		// Trick to write the ".getEstimatedValue() + unit" format
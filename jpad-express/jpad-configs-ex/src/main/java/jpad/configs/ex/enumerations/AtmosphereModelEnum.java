@@ -0,0 +1,6 @@
+package jpad.configs.ex.enumerations;
+
+public enum AtmosphereModelEnum {
+	EXACT,
+	TABULATED;
+}
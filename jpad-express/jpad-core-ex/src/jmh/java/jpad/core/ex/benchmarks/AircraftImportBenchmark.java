@@ -0,0 +1,46 @@
+package jpad.core.ex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jpad.core.ex.aircraft.Aircraft;
+
+/**
+ * Aircraft.importFromXML on each aircraft template of jpad-input/Template_Aircraft,
+ * components, airfoils and databases included.
+ *
+ * aircraft_IRON_CANARD_LOOP2_FINAL.xml is not listed since its wing spoilers
+ * miss some mandatory values and the import fails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AircraftImportBenchmark {
+
+	@Param({
+		"aircraft_A320neo.xml",
+		"aircraft_ATR72.xml",
+		"aircraft_ATR72_ATsi.xml",
+		"aircraft_CS300.xml"
+	})
+	public String template;
+
+	@Benchmark
+	public Aircraft importFromXML() {
+		return BenchmarkTemplates.importAircraft(template);
+	}
+
+}
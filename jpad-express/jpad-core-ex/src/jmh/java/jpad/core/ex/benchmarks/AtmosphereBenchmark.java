@@ -0,0 +1,87 @@
+package jpad.core.ex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jpad.configs.ex.enumerations.AtmosphereModelEnum;
+import jpad.core.ex.standaloneutils.atmosphere.AtmosphereCalc;
+import jpad.core.ex.standaloneutils.atmosphere.StdAtmos1976;
+
+/**
+ * Density and full property set over a sweep of altitudes, computed with the stateful
+ * StdAtmos1976 object, with the exact AtmosphereCalc model and with the tabulated one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtmosphereBenchmark {
+
+	@Param({"0.0", "15.0"})
+	public double deltaTemperature;
+
+	private double[] altitude;
+	private double[] temperature;
+	private double[] pressure;
+	private double[] density;
+	private double[] speedOfSound;
+
+	@Setup
+	public void setup() {
+		// 0-12000 m, as in a typical mission profile
+		altitude = new double[1000];
+		for (int i = 0; i < altitude.length; i++)
+			altitude[i] = 12000.0*i/(altitude.length - 1);
+		temperature = new double[altitude.length];
+		pressure = new double[altitude.length];
+		density = new double[altitude.length];
+		speedOfSound = new double[altitude.length];
+		// builds the table outside of the measurement
+		AtmosphereCalc.getTabulatedAtmosphere();
+	}
+
+	@Benchmark
+	public void densityStdAtmos1976(Blackhole bh) {
+		for (double h : altitude)
+			bh.consume(new StdAtmos1976(h, deltaTemperature).getDensity()*1000.);
+	}
+
+	@Benchmark
+	public void densityExact(Blackhole bh) {
+		for (double h : altitude)
+			bh.consume(AtmosphereCalc.getDensity(h, deltaTemperature, AtmosphereModelEnum.EXACT));
+	}
+
+	@Benchmark
+	public void densityTabulated(Blackhole bh) {
+		for (double h : altitude)
+			bh.consume(AtmosphereCalc.getDensity(h, deltaTemperature, AtmosphereModelEnum.TABULATED));
+	}
+
+	@Benchmark
+	public double[] propertiesExact() {
+		AtmosphereCalc.getProperties(altitude, deltaTemperature, temperature, pressure, density, speedOfSound, AtmosphereModelEnum.EXACT);
+		return density;
+	}
+
+	@Benchmark
+	public double[] propertiesTabulated() {
+		AtmosphereCalc.getProperties(altitude, deltaTemperature, temperature, pressure, density, speedOfSound, AtmosphereModelEnum.TABULATED);
+		return density;
+	}
+
+}
@@ -0,0 +1,163 @@
+package jpad.core.ex.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares a JMH result file (-rf csv) with a baseline saved from a previous release
+ * and reports the benchmarks whose score got worse by more than the given tolerance.
+ *
+ * The primary scores are compared according to the benchmark mode (time per operation
+ * must not increase, throughput must not decrease) together with the allocated bytes
+ * per operation of the gc profiler (gc.alloc.rate.norm), which must not increase.
+ *
+ * Usage: BaselineComparator baseline.csv results.csv [tolerance (%), default 10]
+ * The exit code is 1 if at least one regression is found. A missing baseline is not an
+ * error (nothing is compared): the baselines are machine dependent, hence they are not
+ * committed, and each one is created on the machine where the comparisons are run with
+ *
+ * <pre>
+ * gradlew :jpad-core-ex:jmh
+ * gradlew :jpad-core-ex:jmhSaveBaseline -Pjmh.baseline=&lt;release&gt;
+ * </pre>
+ */
+public class BaselineComparator {
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final double DEFAULT_TOLERANCE = 10.0;
+	private static final String ALLOCATION_SUFFIX = "gc.alloc.rate.norm";
+
+	public static void main(String[] args) throws IOException {
+
+		if (args.length < 2) {
+			System.err.println("Usage: BaselineComparator baseline.csv results.csv [tolerance (%)]");
+			System.exit(2);
+		}
+
+		File baselineFile = new File(args[0]);
+		File resultsFile = new File(args[1]);
+		if (!baselineFile.isFile()) {
+			System.out.println("No baseline " + baselineFile.getAbsolutePath() + ", nothing to compare.");
+			System.out.println("Create it from the results of this machine with: "
+					+ "gradlew :jpad-core-ex:jmh, then gradlew :jpad-core-ex:jmhSaveBaseline -Pjmh.baseline=" 
+					+ baselineFile.getName().replaceAll("\\.csv$", ""));
+			return;
+		}
+		if (!resultsFile.isFile()) {
+			System.err.println("No results " + resultsFile.getAbsolutePath() + ": run gradlew :jpad-core-ex:jmh first");
+			System.exit(2);
+		}
+
+		double tolerance = (args.length > 2) ? Double.valueOf(args[2]) : DEFAULT_TOLERANCE;
+		Map<String, Result> baseline = read(baselineFile);
+		Map<String, Result> current = read(resultsFile);
+
+		int regressions = 0;
+		System.out.println(String.format(Locale.ROOT, "%-100s %14s %14s %9s", "Benchmark", "Baseline", "Current", "Change"));
+		for (Map.Entry<String, Result> entry : current.entrySet()) {
+
+			Result result = entry.getValue();
+			Result reference = baseline.get(entry.getKey());
+			if (reference == null) {
+				System.out.println(String.format(Locale.ROOT, "%-100s %14s %14.3f %9s", entry.getKey(), "-", result.score, "new"));
+				continue;
+			}
+
+			double change = (reference.score == 0.0) ? 0.0 : 100.0*(result.score - reference.score)/reference.score;
+			boolean regression = (result.isHigherBetter() ? -change : change) > tolerance;
+			if (regression)
+				regressions++;
+
+			System.out.println(String.format(Locale.ROOT, "%-100s %14.3f %14.3f %+8.1f%% %s",
+					entry.getKey(), reference.score, result.score, change, regression ? "REGRESSION" : ""));
+		}
+
+		System.out.println("\n" + regressions + " regression(s) above " + tolerance + "%");
+		if (regressions > 0)
+			System.exit(1);
+	}
+
+	private static Map<String, Result> read(File file) throws IOException {
+
+		List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		Map<String, Result> results = new LinkedHashMap<>();
+		if (lines.isEmpty())
+			return results;
+
+		List<String> header = split(lines.get(0));
+		int benchmarkIndex = header.indexOf("Benchmark");
+		int modeIndex = header.indexOf("Mode");
+		int scoreIndex = header.indexOf("Score");
+
+		for (String line : lines.subList(1, lines.size())) {
+
+			List<String> columns = split(line);
+			if (columns.size() != header.size())
+				continue;
+
+			String benchmark = columns.get(benchmarkIndex);
+			// primary score and allocation per operation only
+			if (benchmark.contains(":") && !benchmark.endsWith(ALLOCATION_SUFFIX))
+				continue;
+
+			StringBuilder key = new StringBuilder(benchmark);
+			for (int i = 0; i < header.size(); i++)
+				if (header.get(i).startsWith("Param: ") && !columns.get(i).isEmpty())
+					key.append(" ").append(header.get(i).substring("Param: ".length())).append("=").append(columns.get(i));
+
+			try {
+				results.put(key.toString(), new Result(
+						benchmark.endsWith(ALLOCATION_SUFFIX) ? "alloc" : columns.get(modeIndex),
+						Double.parseDouble(columns.get(scoreIndex))
+						));
+			} catch (NumberFormatException e) {
+				// NaN or missing scores (e.g. failed benchmarks) are skipped
+			}
+		}
+
+		return results;
+	}
+
+	private static List<String> split(String line) {
+
+		List<String> columns = new ArrayList<>();
+		StringBuilder column = new StringBuilder();
+		boolean quoted = false;
+		for (char c : line.toCharArray()) {
+			if (c == '"')
+				quoted = !quoted;
+			else if (c == ',' && !quoted) {
+				columns.add(column.toString());
+				column.setLength(0);
+			}
+			else
+				column.append(c);
+		}
+		columns.add(column.toString());
+		return columns;
+	}
+
+	private static class Result {
+
+		private final String mode;
+		private final double score;
+
+		private Result(String mode, double score) {
+			this.mode = mode;
+			this.score = score;
+		}
+
+		private boolean isHigherBetter() {
+			return mode.equals("thrpt");
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+package jpad.core.ex.benchmarks;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import jpad.configs.ex.MyConfiguration;
+import jpad.core.ex.aircraft.Aircraft;
+
+/**
+ * Access to the aircraft templates of jpad-input/Template_Aircraft for the benchmarks.
+ *
+ * The templates folder is taken from the system property jpad.templates (set by the
+ * jmh task of the build), otherwise it is searched from the working directory.
+ */
+public final class BenchmarkTemplates {
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final String TEMPLATES_PROPERTY = "jpad.templates";
+
+	private static final PrintStream NULL_STREAM = new PrintStream(new OutputStream() {
+		public void write(int b) {
+			// write nothing
+		}
+	});
+
+	private BenchmarkTemplates() {}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	public static File getTemplatesDirectory() {
+
+		String property = System.getProperty(TEMPLATES_PROPERTY);
+		if (property != null)
+			return new File(property);
+
+		for (String candidate : new String[] {
+				"jpad-input" + File.separator + "Template_Aircraft",
+				".." + File.separator + "jpad-input" + File.separator + "Template_Aircraft"
+		}) {
+			File dir = new File(candidate);
+			if (dir.isDirectory())
+				return dir;
+		}
+		throw new IllegalStateException(
+				"Aircraft templates not found, set -D" + TEMPLATES_PROPERTY + "=<path to jpad-input/Template_Aircraft>");
+	}
+
+	/**
+	 * Same working directory tree and component folders used by JPAD.main.
+	 * The console output of the import is discarded.
+	 *
+	 * @param templateFileName the aircraft file (e.g. aircraft_ATR72.xml)
+	 * @return the imported aircraft
+	 */
+	public static Aircraft importAircraft(String templateFileName) {
+
+		MyConfiguration.initWorkingDirectoryTree(
+				MyConfiguration.databaseDirectory,
+				MyConfiguration.inputDirectory,
+				MyConfiguration.outputDirectory
+				);
+
+		String dir = getTemplatesDirectory().getAbsolutePath() + File.separator;
+
+		PrintStream originalOut = System.out;
+		System.setOut(NULL_STREAM);
+		try {
+			return Aircraft.importFromXML(
+					dir + templateFileName,
+					dir + "lifting_surfaces",
+					dir + "fuselages",
+					dir + "engines",
+					dir + "nacelles",
+					dir + "landing_gears",
+					dir + "cabin_configurations",
+					dir + "lifting_surfaces" + File.separator + "airfoils"
+					);
+		} finally {
+			System.setOut(originalOut);
+		}
+	}
+
+	/**
+	 * Runs the task with the console output discarded (the geometry methods are very verbose).
+	 */
+	public static void silently(Runnable task) {
+		PrintStream originalOut = System.out;
+		System.setOut(NULL_STREAM);
+		try {
+			task.run();
+		} finally {
+			System.setOut(originalOut);
+		}
+	}
+
+}
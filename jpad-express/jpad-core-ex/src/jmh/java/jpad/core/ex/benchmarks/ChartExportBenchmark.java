@@ -0,0 +1,115 @@
+package jpad.core.ex.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jpad.core.ex.standaloneutils.MyChartToFileUtils;
+import jpad.core.ex.standaloneutils.PNGChartWriter;
+import jpad.core.ex.standaloneutils.SVGChartWriter;
+import jpad.core.ex.standaloneutils.aircraft.AircraftAndComponentsViewPlotUtils;
+
+/**
+ * The SVG (MyChartToFileUtils.createSVGChart) and PNG (ChartUtilities.saveChartAsPNG)
+ * export paths used by the plotting utilities, on a chart with SERIES traces of POINTS
+ * points; the SVG also decimated at half a pixel and gzip compressed (SVGChartWriter), the
+ * PNG also on the pooled image of PNGChartWriter, with the default and the fast encoding.
+ * The files are written to a temporary folder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ChartExportBenchmark {
+
+	public static final int SERIES = 10;
+	public static final int POINTS = 1000;
+
+	private JFreeChart chart;
+	private File outputDirectory;
+
+	@Setup
+	public void setup() throws IOException {
+
+		XYSeriesCollection dataset = new XYSeriesCollection();
+		for (int s = 0; s < SERIES; s++) {
+			XYSeries series = new XYSeries("series " + s, false);
+			for (int i = 0; i < POINTS; i++)
+				series.add(i, Math.sin(0.01*i + s));
+			dataset.addSeries(series);
+		}
+		chart = ChartFactory.createXYLineChart("", "x", "y", dataset, PlotOrientation.VERTICAL, true, false, false);
+
+		outputDirectory = Files.createTempDirectory("jpad-jmh").toFile();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(outputDirectory);
+	}
+
+	@Benchmark
+	public File chartToSVG() {
+		File file = new File(outputDirectory, "chart.svg");
+		MyChartToFileUtils.createSVGChart(chart, file, AircraftAndComponentsViewPlotUtils.WIDTH, AircraftAndComponentsViewPlotUtils.HEIGHT);
+		return file;
+	}
+
+	@Benchmark
+	public File chartToSVGDecimated() throws IOException {
+		File file = new File(outputDirectory, "chart.svg");
+		SVGChartWriter.writeChart(chart, file, AircraftAndComponentsViewPlotUtils.WIDTH, AircraftAndComponentsViewPlotUtils.HEIGHT, 0.5);
+		return file;
+	}
+
+	@Benchmark
+	public File chartToSVGZ() throws IOException {
+		File file = new File(outputDirectory, "chart.svgz");
+		SVGChartWriter.writeChart(chart, file, AircraftAndComponentsViewPlotUtils.WIDTH, AircraftAndComponentsViewPlotUtils.HEIGHT, 0.0);
+		return file;
+	}
+
+	@Benchmark
+	public File chartToPNG() throws IOException {
+		File file = new File(outputDirectory, "chart.png");
+		ChartUtilities.saveChartAsPNG(file, chart, AircraftAndComponentsViewPlotUtils.WIDTH, AircraftAndComponentsViewPlotUtils.HEIGHT);
+		return file;
+	}
+
+	@Benchmark
+	public File chartToPNGPooled() throws IOException {
+		File file = new File(outputDirectory, "chart.png");
+		PNGChartWriter.writeChart(chart, file, AircraftAndComponentsViewPlotUtils.WIDTH, AircraftAndComponentsViewPlotUtils.HEIGHT, false);
+		return file;
+	}
+
+	@Benchmark
+	public File chartToPNGFast() throws IOException {
+		File file = new File(outputDirectory, "chart.png");
+		PNGChartWriter.writeChart(chart, file, AircraftAndComponentsViewPlotUtils.WIDTH, AircraftAndComponentsViewPlotUtils.HEIGHT, true);
+		return file;
+	}
+
+}
@@ -0,0 +1,81 @@
+package jpad.core.ex.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import jpad.core.ex.standaloneutils.JPADXmlReader;
+
+/**
+ * JPADXmlReader on the template component files, DOM+XPath against the single-pass
+ * StAX tree: the file is opened and the text and unit attribute of each element is read,
+ * as done by the component importers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentReaderBenchmark {
+
+	@Param({
+		"lifting_surfaces/wing_ATR72.xml",
+		"fuselages/fuselage_ATR72.xml",
+		"lifting_surfaces/airfoils/IRON_ROOT.xml"
+	})
+	public String componentFile;
+
+	@Param({"DOM", "STAX"})
+	public JPADXmlReader.Parser parser;
+
+	private String fileName;
+	private List<String> expressions;
+
+	@Setup
+	public void setup() {
+
+		fileName = new File(BenchmarkTemplates.getTemplatesDirectory(), componentFile).getAbsolutePath();
+
+		Set<String> tags = new LinkedHashSet<>();
+		BenchmarkTemplates.silently(() -> collectTags(new JPADXmlReader(fileName).getXmlDoc().getDocumentElement(), tags));
+		expressions = new ArrayList<>(tags);
+	}
+
+	private static void collectTags(Element element, Set<String> tags) {
+		tags.add("//" + element.getTagName());
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling())
+			if (child.getNodeType() == Node.ELEMENT_NODE)
+				collectTags((Element) child, tags);
+	}
+
+	@Benchmark
+	public void openAndRead(Blackhole bh) {
+		BenchmarkTemplates.silently(() -> {
+			JPADXmlReader reader = new JPADXmlReader(fileName, parser);
+			for (String expression : expressions) {
+				bh.consume(reader.getXMLPropertyByPath(expression));
+				bh.consume(reader.getXMLAttributeByPath(expression, "unit"));
+			}
+		});
+	}
+
+}
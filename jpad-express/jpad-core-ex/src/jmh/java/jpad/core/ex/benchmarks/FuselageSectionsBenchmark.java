@@ -0,0 +1,93 @@
+package jpad.core.ex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.unit.SI;
+
+import org.jscience.physics.amount.Amount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jpad.core.ex.aircraft.Aircraft;
+import jpad.core.ex.aircraft.components.fuselage.Fuselage;
+import jpad.core.ex.aircraft.components.fuselage.FuselageSurfaceMesh;
+import jpad.core.ex.aircraft.components.fuselage.FuselageYZSections;
+import processing.core.PVector;
+
+/**
+ * Fuselage YZ sections at equally spaced stations: one getUniqueValuesYZSectionCurve call
+ * per station against a single getYZSections call, after the outlines changed (nothing
+ * memoized) and with the sections already memoized; plus the structured surface mesh
+ * (FuselageSurfaceMesh) with numberOfStations intervals along the body and 100 along the sections.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuselageSectionsBenchmark {
+
+	@Param({"aircraft_ATR72.xml"})
+	public String template;
+
+	@Param({"25", "200"})
+	public int numberOfStations;
+
+	private Fuselage fuselage;
+	private double[] stations;
+
+	@Setup
+	public void setup() {
+		Aircraft aircraft = BenchmarkTemplates.importAircraft(template);
+		if (aircraft == null)
+			throw new IllegalStateException("Unable to import the aircraft template " + template);
+		fuselage = aircraft.getFuselage();
+
+		double fuselageLength = fuselage.getFuselageLength().doubleValue(SI.METER);
+		stations = new double[numberOfStations];
+		for (int i = 0; i < numberOfStations; i++)
+			stations[i] = fuselageLength*i/(numberOfStations - 1);
+	}
+
+	@Benchmark
+	public List<List<PVector>> perStation() {
+		fuselage.invalidateOutlineInterpolants();
+		List<List<PVector>> sections = new ArrayList<>(stations.length);
+		for (double x : stations)
+			sections.add(fuselage.getUniqueValuesYZSectionCurve(Amount.valueOf(x, SI.METER)));
+		return sections;
+	}
+
+	@Benchmark
+	public FuselageYZSections batch() {
+		fuselage.invalidateOutlineInterpolants();
+		return fuselage.getYZSections(stations);
+	}
+
+	@Benchmark
+	public FuselageYZSections batchMemoized() {
+		return fuselage.getYZSections(stations);
+	}
+
+	@Benchmark
+	public FuselageSurfaceMesh surfaceMesh() {
+		fuselage.invalidateOutlineInterpolants();
+		FuselageSurfaceMesh mesh = new FuselageSurfaceMesh(
+				fuselage, 2*numberOfStations/5, numberOfStations/5, 2*numberOfStations/5, 100);
+		mesh.buildMesh();
+		return mesh;
+	}
+
+}
@@ -0,0 +1,75 @@
+package jpad.core.ex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jpad.configs.ex.enumerations.ComponentEnum;
+import jpad.core.ex.aircraft.Aircraft;
+
+/**
+ * Derived geometry of the components of an imported aircraft template:
+ * wing (LiftingSurface.calculateGeometry, default and 500 spanwise stations), fuselage (Fuselage.calculateGeometry)
+ * and cabin layout (CabinConfiguration.buildSimpleLayout), plus the fuselage outline
+ * point queries (Fuselage.calculateEquivalentDiameter, 200 stations).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+	@Param({"aircraft_ATR72.xml"})
+	public String template;
+
+	private Aircraft aircraft;
+
+	@Setup
+	public void setup() {
+		aircraft = BenchmarkTemplates.importAircraft(template);
+		if (aircraft == null)
+			throw new IllegalStateException("Unable to import the aircraft template " + template);
+	}
+
+	@Benchmark
+	public Aircraft wingCalculateGeometry() {
+		BenchmarkTemplates.silently(() -> aircraft.getWing().calculateGeometry(ComponentEnum.WING, true));
+		return aircraft;
+	}
+
+	@Benchmark
+	public Aircraft wingCalculateGeometryFineDiscretization() {
+		BenchmarkTemplates.silently(() -> aircraft.getWing().calculateGeometry(500, ComponentEnum.WING, true));
+		return aircraft;
+	}
+
+	@Benchmark
+	public Aircraft fuselageCalculateGeometry() {
+		BenchmarkTemplates.silently(() -> aircraft.getFuselage().calculateGeometry());
+		return aircraft;
+	}
+
+	@Benchmark
+	public double fuselageOutlineQueries() {
+		return aircraft.getFuselage().calculateEquivalentDiameter();
+	}
+
+	@Benchmark
+	public Aircraft cabinBuildSimpleLayout() {
+		BenchmarkTemplates.silently(() -> aircraft.getCabinConfiguration().buildSimpleLayout(aircraft));
+		return aircraft;
+	}
+
+}
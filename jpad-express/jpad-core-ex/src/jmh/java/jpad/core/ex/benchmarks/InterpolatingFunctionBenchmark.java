@@ -0,0 +1,139 @@
+package jpad.core.ex.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jpad.core.ex.standaloneutils.MyInterpolatingFunction;
+
+/**
+ * MyInterpolatingFunction evaluators (one query at a time and batch) on 1D-4D grids
+ * with the sizes of the h5 databases, queried at QUERIES random points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpolatingFunctionBenchmark {
+
+	public static final int QUERIES = 1000;
+	public static final int GRID_POINTS = 20;
+
+	private MyInterpolatingFunction linear = new MyInterpolatingFunction();
+	private MyInterpolatingFunction spline = new MyInterpolatingFunction();
+	private MyInterpolatingFunction bilinear = new MyInterpolatingFunction();
+	private MyInterpolatingFunction trilinear = new MyInterpolatingFunction();
+	private MyInterpolatingFunction quadrilinear = new MyInterpolatingFunction();
+
+	private double[] x, y, z, k;
+	private double[] result;
+
+	@Setup
+	public void setup() {
+
+		double[] axis = new double[GRID_POINTS];
+		for (int i = 0; i < GRID_POINTS; i++)
+			axis[i] = i;
+
+		Random random = new Random(42);
+
+		double[] data1D = new double[GRID_POINTS];
+		for (int i = 0; i < data1D.length; i++)
+			data1D[i] = random.nextDouble();
+		double[] data2D = new double[GRID_POINTS*GRID_POINTS];
+		for (int i = 0; i < data2D.length; i++)
+			data2D[i] = random.nextDouble();
+		double[] data3D = new double[GRID_POINTS*GRID_POINTS*GRID_POINTS];
+		for (int i = 0; i < data3D.length; i++)
+			data3D[i] = random.nextDouble();
+		double[] data4D = new double[GRID_POINTS*GRID_POINTS*GRID_POINTS*GRID_POINTS];
+		for (int i = 0; i < data4D.length; i++)
+			data4D[i] = random.nextDouble();
+
+		linear.interpolateLinear(axis, data1D);
+		spline.interpolate(axis, data1D);
+		bilinear.interpolateBilinear(axis, axis, data2D);
+		trilinear.interpolateTrilinear(axis, axis, axis, data3D);
+		quadrilinear.interpolateQuadrilinear(axis, axis, axis, axis, data4D);
+
+		x = new double[QUERIES];
+		y = new double[QUERIES];
+		z = new double[QUERIES];
+		k = new double[QUERIES];
+		for (int q = 0; q < QUERIES; q++) {
+			x[q] = random.nextDouble()*(GRID_POINTS - 1);
+			y[q] = random.nextDouble()*(GRID_POINTS - 1);
+			z[q] = random.nextDouble()*(GRID_POINTS - 1);
+			k[q] = random.nextDouble()*(GRID_POINTS - 1);
+		}
+		result = new double[QUERIES];
+	}
+
+	@Benchmark
+	public void linearValue(Blackhole bh) {
+		for (int q = 0; q < QUERIES; q++)
+			bh.consume(linear.value(x[q]));
+	}
+
+	@Benchmark
+	public double[] linearValues() {
+		linear.values(x, result);
+		return result;
+	}
+
+	@Benchmark
+	public void splineValue(Blackhole bh) {
+		for (int q = 0; q < QUERIES; q++)
+			bh.consume(spline.value(x[q]));
+	}
+
+	@Benchmark
+	public void bilinearValue(Blackhole bh) {
+		for (int q = 0; q < QUERIES; q++)
+			bh.consume(bilinear.valueBilinear(x[q], y[q]));
+	}
+
+	@Benchmark
+	public double[] bilinearValues() {
+		bilinear.valuesBilinear(x, y, result);
+		return result;
+	}
+
+	@Benchmark
+	public void trilinearValue(Blackhole bh) {
+		for (int q = 0; q < QUERIES; q++)
+			bh.consume(trilinear.valueTrilinear(x[q], y[q], z[q]));
+	}
+
+	@Benchmark
+	public double[] trilinearValues() {
+		trilinear.valuesTrilinear(x, y, z, result);
+		return result;
+	}
+
+	@Benchmark
+	public void quadrilinearValue(Blackhole bh) {
+		for (int q = 0; q < QUERIES; q++)
+			bh.consume(quadrilinear.valueQuadrilinear(x[q], y[q], z[q], k[q]));
+	}
+
+	@Benchmark
+	public double[] quadrilinearValues() {
+		quadrilinear.valuesQuadrilinear(x, y, z, k, result);
+		return result;
+	}
+
+}
@@ -0,0 +1,55 @@
+package jpad.core.ex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jpad.core.ex.aircraft.Aircraft;
+import jpad.core.ex.aircraft.AircraftProjectedGeometry;
+
+/**
+ * The projected outlines shared by the aircraft and component views: computed from the
+ * components after a change of the geometry, and read back once computed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectedGeometryBenchmark {
+
+	@Param({"aircraft_ATR72.xml"})
+	public String template;
+
+	private Aircraft aircraft;
+
+	@Setup
+	public void setup() {
+		aircraft = BenchmarkTemplates.importAircraft(template);
+		if (aircraft == null)
+			throw new IllegalStateException("Unable to import the aircraft template " + template);
+	}
+
+	@Benchmark
+	public AircraftProjectedGeometry compute() {
+		aircraft.invalidateProjectedGeometry();
+		return aircraft.getProjectedGeometry();
+	}
+
+	@Benchmark
+	public AircraftProjectedGeometry cached() {
+		return aircraft.getProjectedGeometry();
+	}
+
+}
@@ -0,0 +1,97 @@
+package jpad.core.ex.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jpad.core.ex.aircraft.Aircraft;
+import jpad.core.ex.standaloneutils.aircraft.AircraftAndComponentsViewPlotUtils;
+import jpad.core.ex.standaloneutils.aircraft.AircraftViewsRenderer;
+
+/**
+ * The aircraft and component views written by JPAD.main, each one exported both
+ * to SVG and to PNG, and all of them together (ALL) as written by AircraftViewsRenderer.
+ * The files are written to a temporary folder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ViewExportBenchmark {
+
+	@Param({"aircraft_ATR72.xml"})
+	public String template;
+
+	@Param({"AIRCRAFT_TOP", "AIRCRAFT_SIDE", "AIRCRAFT_FRONT", "FUSELAGE_TOP", "WING_PLANFORM", "NACELLE_TOP", "ALL"})
+	public String view;
+
+	private Aircraft aircraft;
+	private File outputDirectory;
+
+	@Setup
+	public void setup() throws IOException {
+
+		aircraft = BenchmarkTemplates.importAircraft(template);
+		if (aircraft == null)
+			throw new IllegalStateException("Unable to import the aircraft template " + template);
+
+		outputDirectory = Files.createTempDirectory("jpad-jmh").toFile();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(outputDirectory);
+	}
+
+	@Benchmark
+	public File createView() {
+
+		String path = outputDirectory.getAbsolutePath();
+		BenchmarkTemplates.silently(() -> {
+			switch (view) {
+			case "AIRCRAFT_TOP":
+				AircraftAndComponentsViewPlotUtils.createAircraftTopView(aircraft, path);
+				break;
+			case "AIRCRAFT_SIDE":
+				AircraftAndComponentsViewPlotUtils.createAircraftSideView(aircraft, path);
+				break;
+			case "AIRCRAFT_FRONT":
+				AircraftAndComponentsViewPlotUtils.createAircraftFrontView(aircraft, path);
+				break;
+			case "FUSELAGE_TOP":
+				AircraftAndComponentsViewPlotUtils.createFuselageTopView(aircraft, path);
+				break;
+			case "WING_PLANFORM":
+				AircraftAndComponentsViewPlotUtils.createWingPlanformView(aircraft, path);
+				break;
+			case "NACELLE_TOP":
+				AircraftAndComponentsViewPlotUtils.createNacelleTopView(aircraft, path);
+				break;
+			case "ALL":
+				AircraftViewsRenderer.render(aircraft, path, path);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown view " + view);
+			}
+		});
+		return outputDirectory;
+	}
+
+}
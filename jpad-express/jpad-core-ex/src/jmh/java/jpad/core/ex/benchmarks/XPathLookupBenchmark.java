@@ -0,0 +1,104 @@
+package jpad.core.ex.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import jpad.core.ex.standaloneutils.MyXMLReaderUtils;
+
+/**
+ * The XPath lookups made by the component importers, replayed on the template files:
+ * for each element of the file the text and the unit attribute are read, as done
+ * by the MyXMLReaderUtils.getXMLAmount...ByPath methods.
+ *
+ * compilePerLookup reproduces the former MyXMLReaderUtils.getXMLPropertyByPath (compile the
+ * expression at each call and collect every match), cachedFirstMatch is the current one.
+ * AircraftImportBenchmark gives the effect on the whole import.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XPathLookupBenchmark {
+
+	@Param({
+		"lifting_surfaces/wing_ATR72.xml",
+		"fuselages/fuselage_ATR72.xml",
+		"engines/engine_ATR72.xml"
+	})
+	public String componentFile;
+
+	private Document doc;
+	private XPath xpath;
+	private List<String> expressions;
+
+	@Setup
+	public void setup() {
+
+		String fileName = new File(BenchmarkTemplates.getTemplatesDirectory(), componentFile).getAbsolutePath();
+		BenchmarkTemplates.silently(() -> doc = MyXMLReaderUtils.importDocument(fileName));
+		xpath = XPathFactory.newInstance().newXPath();
+
+		Set<String> tags = new LinkedHashSet<>();
+		collectTags(doc.getDocumentElement(), tags);
+		expressions = new ArrayList<>();
+		for (String tag : tags) {
+			expressions.add("//" + tag + "/text()");
+			expressions.add("//" + tag + "/@unit");
+		}
+	}
+
+	private static void collectTags(Element element, Set<String> tags) {
+		tags.add(element.getTagName());
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling())
+			if (child.getNodeType() == Node.ELEMENT_NODE)
+				collectTags((Element) child, tags);
+	}
+
+	@Benchmark
+	public void compilePerLookup(Blackhole bh) throws XPathExpressionException {
+		for (String expression : expressions) {
+			XPathExpression expr = xpath.compile(expression);
+			NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
+			List<String> values = new ArrayList<>();
+			for (int i = 0; i < nodes.getLength(); i++)
+				values.add(nodes.item(i).getNodeValue());
+			bh.consume(values.isEmpty() ? null : values.get(0));
+		}
+	}
+
+	@Benchmark
+	public void cachedFirstMatch(Blackhole bh) {
+		for (String expression : expressions)
+			bh.consume(MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, expression));
+	}
+
+}
@@ -3,8 +3,18 @@ package jpad.core.ex.aircraft;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 import javax.measure.quantity.Angle;
 import javax.measure.quantity.Area;
@@ -15,7 +25,6 @@ import javax.measure.unit.Unit;
 
 import org.jscience.physics.amount.Amount;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import jpad.configs.ex.MyConfiguration;
@@ -69,6 +78,13 @@ public class Aircraft {
 	private Amount<Area> _sWetTotal = Amount.valueOf(0.0, SI.SQUARE_METRE);
 	private Amount<Length> _wingACToCGDistance = Amount.valueOf(0.0, SI.METER);
 
+	// dirty-tracking of the derived data (see AircraftDerivedData and updateDerivedData)
+	private final Set<AircraftDerivedData> _dirtyDerivedData = EnumSet.noneOf(AircraftDerivedData.class);
+	// CG positions given to calculateArms, by lifting surface type, to recalculate the arms
+	private final Map<ComponentEnum, Amount<Length>> _xCGMTOMForArms = new EnumMap<>(ComponentEnum.class);
+	// outlines of the views, computed on first use (see getProjectedGeometry)
+	private volatile AircraftProjectedGeometry _projectedGeometry;
+
 	//--------------------------------------------------------------------------
 	// COMPONENTS FILE PATHS (GUI)
 	private String _fuselageFilePath;
@@ -89,6 +105,197 @@ public class Aircraft {
 		this._theAircraftInterface = theAircraftInterface;
 
 		//-------------------------------------------------------------		
+		updateEnginesOverTheWing();
+		//-------------------------------------------------------------
+		updateExposedWing();
+		if(_theAircraftInterface.getHTail() !=  null) 
+			_theAircraftInterface.getHTail().setExposedLiftingSurface(_theAircraftInterface.getHTail());
+		if(_theAircraftInterface.getVTail() !=  null) 
+			_theAircraftInterface.getVTail().setExposedLiftingSurface(_theAircraftInterface.getVTail());
+		if(_theAircraftInterface.getCanard() !=  null) 
+			_theAircraftInterface.getCanard().setExposedLiftingSurface(_theAircraftInterface.getCanard());
+
+		// setup the positionRelativeToAttachment variable
+		updatePositionsRelativeToAttachment();
+
+		//----------------------------------------
+		calculateLiftingSurfacesACToWingACdistance();
+
+		//----------------------------------------
+		calculateSWetTotal();
+
+	}
+
+	//-----------------------------------------------------------------------------------
+	// DERIVED DATA UPDATE
+
+	/**
+	 * Marks as out of date the given data and all the data derived from it, which will be
+	 * recalculated by the next updateDerivedData(). To be called after editing a component, 
+	 * e.g. markChanged(AircraftDerivedData.WING_GEOMETRY) after a change of the wing sweep
+	 * recalculates wing geometry, exposed wing, fuel tank, landing gears position, wetted 
+	 * surface and arms, but not fuselage and nacelles.
+	 */
+	public void markChanged(AircraftDerivedData data) {
+		_dirtyDerivedData.addAll(data.getAffectedData());
+		invalidateProjectedGeometry();
+	}
+
+	/**
+	 * Same as above, for the data depending on the given component (see AircraftDerivedData.fromComponent).
+	 * ALL and AIRCRAFT mark all the derived data.
+	 */
+	public void markChanged(ComponentEnum component) {
+
+		if (component == ComponentEnum.ALL || component == ComponentEnum.AIRCRAFT) {
+			_dirtyDerivedData.addAll(EnumSet.allOf(AircraftDerivedData.class));
+			invalidateProjectedGeometry();
+			return;
+		}
+
+		AircraftDerivedData data = AircraftDerivedData.fromComponent(component);
+		if (data != null)
+			markChanged(data);
+	}
+
+	public boolean isDirty(AircraftDerivedData data) {
+		return _dirtyDerivedData.contains(data);
+	}
+
+	public Set<AircraftDerivedData> getDirtyDerivedData() {
+		return Collections.unmodifiableSet(EnumSet.copyOf(_dirtyDerivedData));
+	}
+
+	/**
+	 * Recalculates only the data marked by markChanged, in dependency order.
+	 * 
+	 * @return the recalculated data, in the order they have been recalculated
+	 */
+	public List<AircraftDerivedData> updateDerivedData() {
+
+		List<AircraftDerivedData> updatedData = new ArrayList<>();
+		// EnumSet iterates in declaration order, which is a topological order of the graph
+		for (AircraftDerivedData data : EnumSet.copyOf(_dirtyDerivedData)) {
+			updateDerivedData(data);
+			_dirtyDerivedData.remove(data);
+			updatedData.add(data);
+		}
+		if (!updatedData.isEmpty())
+			invalidateProjectedGeometry();
+		return updatedData;
+	}
+
+	/**
+	 * The component outlines projected on the top, side and front planes, shared by all the
+	 * aircraft and component views. They are computed on the first call after a change of the
+	 * geometry, i.e. after markChanged, updateDerivedData or a change of a component.
+	 */
+	public AircraftProjectedGeometry getProjectedGeometry() {
+
+		AircraftProjectedGeometry projectedGeometry = _projectedGeometry;
+		if (projectedGeometry == null) {
+			synchronized (this) {
+				projectedGeometry = _projectedGeometry;
+				if (projectedGeometry == null) {
+					projectedGeometry = new AircraftProjectedGeometry(this);
+					_projectedGeometry = projectedGeometry;
+				}
+			}
+		}
+		return projectedGeometry;
+	}
+
+	/**
+	 * Discards the projected geometry, to be called after editing a component in place
+	 * without markChanged.
+	 */
+	public void invalidateProjectedGeometry() {
+		_projectedGeometry = null;
+	}
+
+	private void updateDerivedData(AircraftDerivedData data) {
+
+		switch (data) {
+		case FUSELAGE_GEOMETRY:
+			if(_theAircraftInterface.getFuselage() != null)
+				_theAircraftInterface.getFuselage().calculateGeometry();
+			break;
+		case WING_GEOMETRY:
+			updateLiftingSurfaceGeometry(_theAircraftInterface.getWing());
+			break;
+		case HTAIL_GEOMETRY:
+			updateLiftingSurfaceGeometry(_theAircraftInterface.getHTail());
+			break;
+		case VTAIL_GEOMETRY:
+			updateLiftingSurfaceGeometry(_theAircraftInterface.getVTail());
+			break;
+		case CANARD_GEOMETRY:
+			updateLiftingSurfaceGeometry(_theAircraftInterface.getCanard());
+			break;
+		case NACELLES_GEOMETRY:
+			if(_theAircraftInterface.getNacelles() != null)
+				_theAircraftInterface.getNacelles().calculateSurfaceWetted();
+			break;
+		case COMPONENT_POSITIONS:
+			// input data, set directly on the components
+			break;
+		case ENGINES_OVER_THE_WING:
+			updateEnginesOverTheWing();
+			break;
+		case POSITIONS_RELATIVE_TO_ATTACHMENT:
+			updatePositionsRelativeToAttachment();
+			break;
+		case EXPOSED_WING:
+			updateExposedWing();
+			break;
+		case FUEL_TANK:
+			updateFuelTank();
+			break;
+		case POWER_PLANT_POSITIONS:
+			if(_theAircraftInterface.getPowerPlant() != null && _theAircraftInterface.getNacelles() != null)
+				updatePowerPlantPositions();
+			break;
+		case LANDING_GEARS_POSITION:
+			if(_theAircraftInterface.getLandingGears() != null)
+				updateLandingGearsPosition();
+			break;
+		case WETTED_SURFACE:
+			calculateSWetTotal();
+			break;
+		case ARMS:
+			calculateLiftingSurfacesACToWingACdistance();
+			for (Map.Entry<ComponentEnum, Amount<Length>> xCGMTOM : new EnumMap<>(_xCGMTOMForArms).entrySet()) {
+				LiftingSurface theLiftingSurface = getLiftingSurface(xCGMTOM.getKey());
+				if(theLiftingSurface != null)
+					calculateArms(theLiftingSurface, xCGMTOM.getValue());
+			}
+			break;
+		}
+	}
+
+	private void updateLiftingSurfaceGeometry(LiftingSurface theLiftingSurface) {
+		if(theLiftingSurface != null) {
+			theLiftingSurface.recalculateGeometry();
+			theLiftingSurface.populateAirfoilList(false);
+		}
+	}
+
+	private LiftingSurface getLiftingSurface(ComponentEnum type) {
+		switch (type) {
+		case WING:
+			return _theAircraftInterface.getWing();
+		case HORIZONTAL_TAIL:
+			return _theAircraftInterface.getHTail();
+		case VERTICAL_TAIL:
+			return _theAircraftInterface.getVTail();
+		case CANARD:
+			return _theAircraftInterface.getCanard();
+		default:
+			return null;
+		}
+	}
+
+	private void updateEnginesOverTheWing() {
 		if(_theAircraftInterface.getPowerPlant() != null) {
 			if(_theAircraftInterface.getWing() != null) {
 				int indexOfEngineUpperWing = 0;
@@ -101,30 +308,10 @@ public class Aircraft {
 				_theAircraftInterface.getWing().setNumberOfEngineOverTheWing(indexOfEngineUpperWing);
 			}
 		}
-		//-------------------------------------------------------------
-		if((_theAircraftInterface.getFuselage() != null) && (_theAircraftInterface.getWing() != null)) { 
-			_theAircraftInterface.getWing().setExposedLiftingSurface(
-					calculateExposedWing(
-							_theAircraftInterface.getWing(), 
-							_theAircraftInterface.getFuselage()
-							)
-					);
-			_theAircraftInterface.getWing().setSurfaceWettedExposed(
-					_theAircraftInterface.getWing().getExposedLiftingSurface().getSurfaceWetted()
-					);
-		}
-		else if(_theAircraftInterface.getWing() != null)
-			_theAircraftInterface.getWing().setSurfaceWettedExposed(
-					_theAircraftInterface.getWing().getSurfaceWetted()
-					);
-		if(_theAircraftInterface.getHTail() !=  null) 
-			_theAircraftInterface.getHTail().setExposedLiftingSurface(_theAircraftInterface.getHTail());
-		if(_theAircraftInterface.getVTail() !=  null) 
-			_theAircraftInterface.getVTail().setExposedLiftingSurface(_theAircraftInterface.getVTail());
-		if(_theAircraftInterface.getCanard() !=  null) 
-			_theAircraftInterface.getCanard().setExposedLiftingSurface(_theAircraftInterface.getCanard());
+	}
+
+	private void updatePositionsRelativeToAttachment() {
 
-		// setup the positionRelativeToAttachment variable
 		if(_theAircraftInterface.getWing() != null)
 			_theAircraftInterface.getWing().setPositionRelativeToAttachment(
 					_theAircraftInterface.getWing().getZApexConstructionAxes().doubleValue(SI.METER)
@@ -153,8 +340,49 @@ public class Aircraft {
 					_theAircraftInterface.getCanard().getZApexConstructionAxes().doubleValue(SI.METER)
 					/(_theAircraftInterface.getFuselage().getSectionCylinderHeight().divide(2).getEstimatedValue())
 					);
+	}
+
+	private void updateExposedWing() {
+
+		if((_theAircraftInterface.getFuselage() != null) && (_theAircraftInterface.getWing() != null)) { 
+			_theAircraftInterface.getWing().setExposedLiftingSurface(
+					calculateExposedWing(
+							_theAircraftInterface.getWing(), 
+							_theAircraftInterface.getFuselage()
+							)
+					);
+			_theAircraftInterface.getWing().setSurfaceWettedExposed(
+					_theAircraftInterface.getWing().getExposedLiftingSurface().getSurfaceWetted()
+					);
+		}
+		else if(_theAircraftInterface.getWing() != null)
+			_theAircraftInterface.getWing().setSurfaceWettedExposed(
+					_theAircraftInterface.getWing().getSurfaceWetted()
+					);
+	}
+
+	private void updateFuelTank() {
+
+		FuelTank theFuelTank = _theAircraftInterface.getFuelTank();
+		LiftingSurface theWing = _theAircraftInterface.getWing();
+		if(theFuelTank == null || theWing == null)
+			return;
+
+		theFuelTank.setXApexConstructionAxes(
+				theWing.getXApexConstructionAxes()
+				.plus(theWing.getPanels().get(0).getChordRoot()
+						.times(theWing.getMainSparDimensionlessPosition())
+						)
+				);
+		theFuelTank.setYApexConstructionAxes(theWing.getYApexConstructionAxes());
+		theFuelTank.setZApexConstructionAxes(theWing.getZApexConstructionAxes());
+		theFuelTank.setTheWing(theWing);
+		theFuelTank.calculateGeometry(theWing);
+		theFuelTank.calculateFuelMass();
+	}
+
+	private void calculateLiftingSurfacesACToWingACdistance() {
 
-		//----------------------------------------
 		if(_theAircraftInterface.getWing() != null)
 			calculateLiftingSurfaceACToWingACdistance(_theAircraftInterface.getWing());
 		if(_theAircraftInterface.getHTail() != null)
@@ -163,10 +391,6 @@ public class Aircraft {
 			calculateLiftingSurfaceACToWingACdistance(_theAircraftInterface.getVTail());
 		if(_theAircraftInterface.getCanard() != null)
 			calculateLiftingSurfaceACToWingACdistance(_theAircraftInterface.getCanard());
-
-		//----------------------------------------
-		calculateSWetTotal();
-
 	}
 
 	private LiftingSurface calculateExposedWing(LiftingSurface theWing, Fuselage theFuselage) {
@@ -242,6 +466,8 @@ public class Aircraft {
 
 	public void calculateSWetTotal() {
 
+		this._sWetTotal = Amount.valueOf(0.0, SI.SQUARE_METRE);
+
 		if(this._theAircraftInterface.getFuselage() != null)
 			this._sWetTotal = this._sWetTotal.plus(_theAircraftInterface.getFuselage().getSWetTotal());
 
@@ -264,6 +490,8 @@ public class Aircraft {
 
 	public void calculateArms(LiftingSurface theLiftingSurface, Amount<Length> xcgMTOM){
 
+		_xCGMTOMForArms.put(theLiftingSurface.getType(), xcgMTOM);
+
 		if(theLiftingSurface.getType() == ComponentEnum.WING) {
 			calculateAircraftCGToWingACdistance(xcgMTOM.to(SI.METER));
 			theLiftingSurface.setLiftingSurfaceArm(
@@ -381,6 +609,11 @@ public class Aircraft {
 	}
 
 	public void updateLinkedComponentsPositions() {
+		updatePowerPlantPositions();
+		updateLandingGearsPosition();
+	}
+
+	private void updatePowerPlantPositions() {
 
 		//---------------------------------------------------------------------------------
 		// POWER PLANT: ENGINES AND NACELLES
@@ -430,7 +663,9 @@ public class Aircraft {
 			this.getNacelles().getNacellesList().get(i).setYApexConstructionAxes(yApexPowerPlant);
 			this.getNacelles().getNacellesList().get(i).setZApexConstructionAxes(zApexPowerPlant);
 		}
+	}
 
+	private void updateLandingGearsPosition() {
 
 		//---------------------------------------------------------------------------------
 		// LANDING GEARS
@@ -507,7 +742,6 @@ public class Aircraft {
 		
 	}
 
-	@SuppressWarnings("unchecked")
 	public static Aircraft importFromXML (String pathToXML,
 			String liftingSurfacesDir,
 			String fuselagesDir,
@@ -517,6 +751,41 @@ public class Aircraft {
 			String cabinConfigurationDir,
 			String airfoilsDir
 			) {
+		return importFromXML(
+				pathToXML,
+				liftingSurfacesDir,
+				fuselagesDir,
+				engineDir,
+				nacelleDir,
+				landingGearsDir,
+				cabinConfigurationDir,
+				airfoilsDir,
+				ForkJoinPool.commonPool()
+				);
+	}
+
+	/**
+	 * Same as above, with the components (fuselage, cabin configuration, lifting surfaces,
+	 * engines, nacelles and landing gears) imported concurrently on the given executor.
+	 * The aircraft is then assembled by the calling thread always in the same order.
+	 * 
+	 * @param executor the executor which runs the component import tasks
+	 */
+	@SuppressWarnings("unchecked")
+	public static Aircraft importFromXML (String pathToXML,
+			String liftingSurfacesDir,
+			String fuselagesDir,
+			String engineDir,
+			String nacelleDir,
+			String landingGearsDir,
+			String cabinConfigurationDir,
+			String airfoilsDir,
+			Executor executor
+			) {
+
+		// the "deg" unit label is needed to parse the angles below, and it is set here once
+		// instead of being left to the component import tasks (which run concurrently)
+		MyConfiguration.customizeAmountOutput();
 
 		JPADXmlReader reader = new JPADXmlReader(pathToXML);
 
@@ -566,227 +835,242 @@ public class Aircraft {
 		}
 
 		//---------------------------------------------------------------------------------
-		// FUSELAGE
+		// COMPONENT FILES
 		String fuselageFileName =
 				MyXMLReaderUtils
 				.getXMLPropertyByPath(
 						reader.getXmlDoc(), reader.getXpath(),
 						"//fuselages/fuselage/@file");
+		String cabinConfigrationFileName =
+				MyXMLReaderUtils
+				.getXMLPropertyByPath(
+						reader.getXmlDoc(), reader.getXpath(),
+						"//global_data/cabin_configuration/@file");
+		String wingFileName =
+				MyXMLReaderUtils
+				.getXMLPropertyByPath(
+						reader.getXmlDoc(), reader.getXpath(),
+						"//lifting_surfaces/wing/@file");
+		String hTailFileName =
+				MyXMLReaderUtils
+				.getXMLPropertyByPath(
+						reader.getXmlDoc(), reader.getXpath(),
+						"//lifting_surfaces/horizontal_tail/@file");
+		String vTailFileName =
+				MyXMLReaderUtils
+				.getXMLPropertyByPath(
+						reader.getXmlDoc(), reader.getXpath(),
+						"//lifting_surfaces/vertical_tail/@file");
+		String canardFileName =
+				MyXMLReaderUtils
+				.getXMLPropertyByPath(
+						reader.getXmlDoc(), reader.getXpath(),
+						"//lifting_surfaces/canard/@file");
+		String landingGearsFileName =
+				MyXMLReaderUtils
+				.getXMLPropertyByPath(
+						reader.getXmlDoc(), reader.getXpath(),
+						"//landing_gears/@file");
 
-		Fuselage theFuselage = null;
-		Amount<Length> xApexFuselage = Amount.valueOf(0.0, SI.METER);
-		Amount<Length> yApexFuselage = Amount.valueOf(0.0, SI.METER);
-		Amount<Length> zApexFuselage = Amount.valueOf(0.0, SI.METER);
+		NodeList nodelistEngines = MyXMLReaderUtils 
+				.getXMLNodeListByPath(reader.getXmlDoc(), "//power_plant/engine");
+		List<String> engineFileList = new ArrayList<>();
+		for (int i = 0; i < nodelistEngines.getLength(); i++)
+			engineFileList.add(((Element) nodelistEngines.item(i)).getAttribute("file"));
+		List<String> nacelleFileListProperties = reader.getXMLAttributesByPath("//engine/nacelle", "file");
+
+		List<PowerPlantMountingPositionEnum> engineMountingPointList = new ArrayList<>();
+		List<PowerPlantMountingPositionEnum> nacelleMountingPointList = new ArrayList<>();
+		if(!engineFileList.isEmpty()) {
+			List<String> mountingPointListProperties = reader.getXMLPropertiesByPath("//engine/mounting_point");
+			for (int i=0; i<mountingPointListProperties.size(); i++) {
 
-		if(fuselageFileName != null) {
-			String fuselagePath = fuselagesDir + File.separator + fuselageFileName;
-			theFuselage = Fuselage.importFromXML(fuselagePath);
+				if (mountingPointListProperties.get(i).equalsIgnoreCase("FUSELAGE")) {
+					engineMountingPointList.add(PowerPlantMountingPositionEnum.FUSELAGE);
+					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.FUSELAGE);
 
-			theFuselage.calculateGeometry();
+				} else if (mountingPointListProperties.get(i).equalsIgnoreCase("WING")) {
+					engineMountingPointList.add(PowerPlantMountingPositionEnum.WING);
+					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.WING);
 
-			xApexFuselage = reader.getXMLAmountLengthByPath("//fuselage/position/x");
-			yApexFuselage = reader.getXMLAmountLengthByPath("//fuselage/position/y");
-			zApexFuselage = reader.getXMLAmountLengthByPath("//fuselage/position/z");
-			theFuselage.setXApexConstructionAxes(xApexFuselage);
-			theFuselage.setYApexConstructionAxes(yApexFuselage);
-			theFuselage.setZApexConstructionAxes(zApexFuselage);
+				} else if (mountingPointListProperties.get(i).equalsIgnoreCase("UNDERCARRIAGE_HOUSING")) {
+					engineMountingPointList.add(PowerPlantMountingPositionEnum.UNDERCARRIAGE_HOUSING);
+					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.UNDERCARRIAGE_HOUSING);
+
+				} else if (mountingPointListProperties.get(i).equalsIgnoreCase("HTAIL")) {
+					engineMountingPointList.add(PowerPlantMountingPositionEnum.HTAIL);
+					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.HTAIL);
+
+				} else {
+					System.err.println("INVALID POWER PLANT MOUNTING POSITION !!! ");
+					return null;
+				}
+
+			}
 		}
 
+		LandingGearsMountingPositionEnum mountingPosition = null;
+		if(landingGearsFileName != null) {
+			String mountingPositionProperty = reader.getXMLPropertyByPath("//landing_gears/mounting_point");
+			if(mountingPositionProperty.equalsIgnoreCase("FUSELAGE"))
+				mountingPosition = LandingGearsMountingPositionEnum.FUSELAGE;
+			else if(mountingPositionProperty.equalsIgnoreCase("WING"))
+				mountingPosition = LandingGearsMountingPositionEnum.WING;
+			else if(mountingPositionProperty.equalsIgnoreCase("NACELLE"))
+				mountingPosition = LandingGearsMountingPositionEnum.NACELLE;
+			else {
+				System.err.println("INVALID LANDING GEARS MOUNTING POSITION !!! ");
+				return null;
+			}
+		}
 
 		//---------------------------------------------------------------------------------
-		// CABIN CONFIGURATION
-		String cabinConfigrationFileName =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//global_data/cabin_configuration/@file");
-
-		CabinConfiguration theCabinConfiguration = null;
-		if(cabinConfigrationFileName != null) {
+		// COMPONENT IMPORT TASKS
+		// Each component is read from its own file by an independent task. The airfoils are
+		// read by the panels of each lifting surface, so the only constraint between tasks
+		// is that a nacelle is imported after its engine. The aircraft file is read only by
+		// this thread (the JPADXmlReader is not thread-safe), while the tasks are running.
+		CompletableFuture<Fuselage> fuselageTask = submitImport(fuselageFileName, executor, () -> {
+			Fuselage fuselage = Fuselage.importFromXML(fuselagesDir + File.separator + fuselageFileName);
+			fuselage.calculateGeometry();
+			return fuselage;
+		});
+
+		CompletableFuture<CabinConfiguration> cabinConfigurationTask = submitImport(cabinConfigrationFileName, executor, () -> {
 			String cabinConfigurationPath = cabinConfigurationDir + File.separator + cabinConfigrationFileName;
-			theCabinConfiguration = CabinConfiguration.importFromXML(cabinConfigurationPath);
-			theCabinConfiguration.setCabinConfigurationPath(new File(cabinConfigurationPath));
+			CabinConfiguration cabinConfiguration = CabinConfiguration.importFromXML(cabinConfigurationPath);
+			cabinConfiguration.setCabinConfigurationPath(new File(cabinConfigurationPath));
+			return cabinConfiguration;
+		});
+
+		CompletableFuture<LiftingSurface> wingTask = submitImport(wingFileName, executor, () -> {
+			LiftingSurface wing = LiftingSurface.importFromXML(
+					ComponentEnum.WING, liftingSurfacesDir + File.separator + wingFileName, airfoilsDir);
+			wing.populateAirfoilList(false);
+			return wing;
+		});
+
+		CompletableFuture<LiftingSurface> hTailTask = submitImport(hTailFileName, executor, () -> {
+			LiftingSurface hTail = LiftingSurface.importFromXML(
+					ComponentEnum.HORIZONTAL_TAIL, liftingSurfacesDir + File.separator + hTailFileName, airfoilsDir);
+			hTail.calculateGeometry(ComponentEnum.HORIZONTAL_TAIL, true);
+			hTail.populateAirfoilList(false);
+			return hTail;
+		});
+
+		CompletableFuture<LiftingSurface> vTailTask = submitImport(vTailFileName, executor, () -> {
+			LiftingSurface vTail = LiftingSurface.importFromXML(
+					ComponentEnum.VERTICAL_TAIL, liftingSurfacesDir + File.separator + vTailFileName, airfoilsDir);
+			vTail.calculateGeometry(ComponentEnum.VERTICAL_TAIL, false);
+			vTail.populateAirfoilList(false);
+			return vTail;
+		});
+
+		CompletableFuture<LiftingSurface> canardTask = submitImport(canardFileName, executor, () -> {
+			LiftingSurface canard = LiftingSurface.importFromXML(
+					ComponentEnum.CANARD, liftingSurfacesDir + File.separator + canardFileName, airfoilsDir);
+			canard.calculateGeometry(ComponentEnum.CANARD, true);
+			canard.populateAirfoilList(false);
+			return canard;
+		});
+
+		List<CompletableFuture<Engine>> engineTaskList = new ArrayList<>();
+		List<CompletableFuture<NacelleCreator>> nacelleTaskList = new ArrayList<>();
+		System.out.println("Engines found: " + engineFileList.size());
+		for (int i = 0; i < engineFileList.size(); i++) {
+			System.out.println("[" + i + "]\nEngine file: " + engineFileList.get(i));
+
+			String enginePath = engineDir + File.separator + engineFileList.get(i);
+			String nacellePath = nacelleDir + File.separator + nacelleFileListProperties.get(i);
+			CompletableFuture<Engine> engineTask = submitImport(enginePath, executor, () -> {
+				try {
+					return Engine.importFromXML(enginePath);
+				} catch (IOException e) {
+					e.printStackTrace();
+					return null;
+				}
+			});
+			engineTaskList.add(engineTask);
+			nacelleTaskList.add(engineTask.thenApplyAsync(
+					engine -> NacelleCreator.importFromXML(nacellePath, engineDir),
+					executor
+					));
 		}
 
+		CompletableFuture<LandingGears> landingGearsTask = submitImport(landingGearsFileName, executor, 
+				() -> LandingGears.importFromXML(landingGearsDir + File.separator + landingGearsFileName)
+				);
+
 		//---------------------------------------------------------------------------------
-		// WING
-		String wingFileName =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//lifting_surfaces/wing/@file");
+		// POSITIONS (read while the components are being imported)
+		Amount<Length> xApexFuselage = Amount.valueOf(0.0, SI.METER);
+		Amount<Length> yApexFuselage = Amount.valueOf(0.0, SI.METER);
+		Amount<Length> zApexFuselage = Amount.valueOf(0.0, SI.METER);
+		if(fuselageFileName != null) {
+			xApexFuselage = reader.getXMLAmountLengthByPath("//fuselage/position/x");
+			yApexFuselage = reader.getXMLAmountLengthByPath("//fuselage/position/y");
+			zApexFuselage = reader.getXMLAmountLengthByPath("//fuselage/position/z");
+		}
 
-		LiftingSurface theWing = null;
 		Amount<Length> xApexWing = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> yApexWing = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> zApexWing = Amount.valueOf(0.0, SI.METER);
 		Amount<Angle> riggingAngleWing = Amount.valueOf(0.0, NonSI.DEGREE_ANGLE);
-
 		if(wingFileName != null) {
-			String wingPath = liftingSurfacesDir + File.separator + wingFileName;
-			theWing = LiftingSurface.importFromXML(ComponentEnum.WING, wingPath, airfoilsDir);
-
-			theWing.populateAirfoilList(false);
-
 			xApexWing = reader.getXMLAmountLengthByPath("//wing/position/x");
 			yApexWing = reader.getXMLAmountLengthByPath("//wing/position/y");
 			zApexWing = reader.getXMLAmountLengthByPath("//wing/position/z");
 			riggingAngleWing = reader.getXMLAmountAngleByPath("//wing/rigging_angle");
-			theWing.setXApexConstructionAxes(xApexWing);
-			theWing.setYApexConstructionAxes(yApexWing);
-			theWing.setZApexConstructionAxes(zApexWing);
-			theWing.setRiggingAngle(riggingAngleWing);
 		}
 
-		//---------------------------------------------------------------------------------
-		// FUEL TANK
-		FuelTank theFuelTank = null;
-		Amount<Length> xApexFuelTank = Amount.valueOf(0.0, SI.METER);
-		Amount<Length> yApexFuelTank = Amount.valueOf(0.0, SI.METER);
-		Amount<Length> zApexFuelTank = Amount.valueOf(0.0, SI.METER);
-
-		if(theWing != null) {
-
-			theFuelTank = new FuelTank("Fuel Tank", theWing);
-
-			xApexFuelTank = xApexWing
-					.plus(theWing.getPanels().get(0).getChordRoot()
-							.times(theWing.getMainSparDimensionlessPosition())
-							);
-			yApexFuelTank = yApexWing;
-			zApexFuelTank = zApexWing;			
-			theFuelTank.setXApexConstructionAxes(xApexFuelTank);
-			theFuelTank.setYApexConstructionAxes(yApexFuelTank);
-			theFuelTank.setZApexConstructionAxes(zApexFuelTank);
-		}
-
-		//---------------------------------------------------------------------------------
-		// HORIZONTAL TAIL
-		String hTailFileName =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//lifting_surfaces/horizontal_tail/@file");
-
-		LiftingSurface theHorizontalTail = null;
 		Amount<Length> xApexHTail = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> yApexHTail = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> zApexHTail = Amount.valueOf(0.0, SI.METER);
 		Amount<Angle> riggingAngleHTail = Amount.valueOf(0.0, NonSI.DEGREE_ANGLE);
-
 		if(hTailFileName != null) {
-			String hTailPath = liftingSurfacesDir + File.separator + hTailFileName;
-			theHorizontalTail = LiftingSurface.importFromXML(ComponentEnum.HORIZONTAL_TAIL, hTailPath, airfoilsDir);
-
-			theHorizontalTail.calculateGeometry(ComponentEnum.HORIZONTAL_TAIL, true);
-			theHorizontalTail.populateAirfoilList(false);
-
 			xApexHTail = reader.getXMLAmountLengthByPath("//horizontal_tail/position/x");
 			yApexHTail = reader.getXMLAmountLengthByPath("//horizontal_tail/position/y");
 			zApexHTail = reader.getXMLAmountLengthByPath("//horizontal_tail/position/z");
 			riggingAngleHTail = reader.getXMLAmountAngleByPath("//horizontal_tail/rigging_angle");
-			theHorizontalTail.setXApexConstructionAxes(xApexHTail);
-			theHorizontalTail.setYApexConstructionAxes(yApexHTail);
-			theHorizontalTail.setZApexConstructionAxes(zApexHTail);
-			theHorizontalTail.setRiggingAngle(riggingAngleHTail);
 		}
 
-		//---------------------------------------------------------------------------------
-		// VERTICAL TAIL
-		String vTailFileName =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//lifting_surfaces/vertical_tail/@file");
-
-		LiftingSurface theVerticalTail = null;
 		Amount<Length> xApexVTail = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> yApexVTail = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> zApexVTail = Amount.valueOf(0.0, SI.METER);
 		Amount<Angle> riggingAngleVTail = Amount.valueOf(0.0, NonSI.DEGREE_ANGLE);
-
 		if(vTailFileName != null) {
-			String vTailPath = liftingSurfacesDir + File.separator + vTailFileName;
-			theVerticalTail = LiftingSurface.importFromXML(ComponentEnum.VERTICAL_TAIL, vTailPath, airfoilsDir);
-
-			theVerticalTail.calculateGeometry(ComponentEnum.VERTICAL_TAIL, false);
-			theVerticalTail.populateAirfoilList(false);
-
 			xApexVTail = reader.getXMLAmountLengthByPath("//vertical_tail/position/x");
 			yApexVTail = reader.getXMLAmountLengthByPath("//vertical_tail/position/y");
 			zApexVTail = reader.getXMLAmountLengthByPath("//vertical_tail/position/z");
 			riggingAngleVTail = reader.getXMLAmountAngleByPath("//vertical_tail/rigging_angle");
-			theVerticalTail.setXApexConstructionAxes(xApexVTail);
-			theVerticalTail.setYApexConstructionAxes(yApexVTail);
-			theVerticalTail.setZApexConstructionAxes(zApexVTail);
-			theVerticalTail.setRiggingAngle(riggingAngleVTail);
 		}
 
-		//---------------------------------------------------------------------------------
-		// CANARD
-		String canardFileName =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//lifting_surfaces/canard/@file");
-
-		LiftingSurface theCanard = null;
 		Amount<Length> xApexCanard = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> yApexCanard = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> zApexCanard = Amount.valueOf(0.0, SI.METER);
 		Amount<Angle> riggingAngleCanard = Amount.valueOf(0.0, NonSI.DEGREE_ANGLE);
-
 		if(canardFileName != null) {
-			String canardPath = liftingSurfacesDir + File.separator + canardFileName;
-			theCanard = LiftingSurface.importFromXML(ComponentEnum.CANARD, canardPath, airfoilsDir);
-
-			theCanard.calculateGeometry(ComponentEnum.CANARD, true);
-			theCanard.populateAirfoilList(false);
-
 			xApexCanard = reader.getXMLAmountLengthByPath("//canard/position/x");
 			yApexCanard = reader.getXMLAmountLengthByPath("//canard/position/y");
 			zApexCanard = reader.getXMLAmountLengthByPath("//canard/position/z");
 			riggingAngleCanard = reader.getXMLAmountAngleByPath("//canard/rigging_angle");
-			theCanard.setXApexConstructionAxes(xApexCanard);
-			theCanard.setYApexConstructionAxes(yApexCanard);
-			theCanard.setZApexConstructionAxes(zApexCanard);
-			theCanard.setRiggingAngle(riggingAngleCanard);
-		}		
-
-		//---------------------------------------------------------------------------------
-		// POWER PLANT: ENGINES AND NACELLES
-		List<Engine> engineList = new ArrayList<Engine>();
-		List<NacelleCreator> nacelleList = new ArrayList<NacelleCreator>();
-		PowerPlant thePowerPlant = null;
-		Nacelles theNacelles = null;
-
-		NodeList nodelistEngines = MyXMLReaderUtils 
-				.getXMLNodeListByPath(reader.getXmlDoc(), "//power_plant/engine");
+		}
 
-		if(nodelistEngines.getLength() > 0) {			
-			List<String> deltaXPowerPlantValueList = new ArrayList<>(); 
-			List<String> deltaYPowerPlantValueList = new ArrayList<>();
-			List<String> deltaZPowerPlantValueList = new ArrayList<>();
-			List<String> deltaXPowerPlantUnitList = new ArrayList<>(); 
-			List<String> deltaYPowerPlantUnitList = new ArrayList<>();
-			List<String> deltaZPowerPlantUnitList = new ArrayList<>(); 
-			List<Amount<Length>> deltaXPowerPlantList = new ArrayList<>(); 
-			List<Amount<Length>> deltaYPowerPlantList = new ArrayList<>();
-			List<Amount<Length>> deltaZPowerPlantList = new ArrayList<>();
-			List<String> tiltingAngleValueList = new ArrayList<>(); 
-			List<String> tiltingAngleUnitList = new ArrayList<>();
-			List<Amount<Angle>> tiltingAngleList = new ArrayList<>();
-
-			deltaXPowerPlantValueList = reader.getXMLPropertiesByPath("//engine/position/delta_x");
-			deltaYPowerPlantValueList = reader.getXMLPropertiesByPath("//engine/position/delta_y");
-			deltaZPowerPlantValueList = reader.getXMLPropertiesByPath("//engine/position/delta_z");
-			deltaXPowerPlantUnitList = reader.getXMLAttributesByPath("//engine/position/delta_x", "unit");
-			deltaYPowerPlantUnitList = reader.getXMLAttributesByPath("//engine/position/delta_y", "unit");
-			deltaZPowerPlantUnitList = reader.getXMLAttributesByPath("//engine/position/delta_z", "unit");
-			tiltingAngleValueList = reader.getXMLPropertiesByPath("//engine/tilting_angle");
-			tiltingAngleUnitList = reader.getXMLAttributesByPath("//engine/tilting_angle", "unit");
-
-			for(int i=0; i<nodelistEngines.getLength(); i++) {
+		List<Amount<Length>> deltaXPowerPlantList = new ArrayList<>(); 
+		List<Amount<Length>> deltaYPowerPlantList = new ArrayList<>();
+		List<Amount<Length>> deltaZPowerPlantList = new ArrayList<>();
+		List<Amount<Angle>> tiltingAngleList = new ArrayList<>();
+		if(!engineFileList.isEmpty()) {
+			List<String> deltaXPowerPlantValueList = reader.getXMLPropertiesByPath("//engine/position/delta_x");
+			List<String> deltaYPowerPlantValueList = reader.getXMLPropertiesByPath("//engine/position/delta_y");
+			List<String> deltaZPowerPlantValueList = reader.getXMLPropertiesByPath("//engine/position/delta_z");
+			List<String> deltaXPowerPlantUnitList = reader.getXMLAttributesByPath("//engine/position/delta_x", "unit");
+			List<String> deltaYPowerPlantUnitList = reader.getXMLAttributesByPath("//engine/position/delta_y", "unit");
+			List<String> deltaZPowerPlantUnitList = reader.getXMLAttributesByPath("//engine/position/delta_z", "unit");
+			List<String> tiltingAngleValueList = reader.getXMLPropertiesByPath("//engine/tilting_angle");
+			List<String> tiltingAngleUnitList = reader.getXMLAttributesByPath("//engine/tilting_angle", "unit");
+
+			for(int i=0; i<engineFileList.size(); i++) {
 				deltaXPowerPlantList.add(
 						(Amount<Length>) Amount.valueOf(
 								Double.valueOf(deltaXPowerPlantValueList.get(i)),
@@ -812,52 +1096,103 @@ public class Aircraft {
 								)
 						);
 			}
+		}
 
-			List<String> mountingPointListProperties = reader.getXMLPropertiesByPath("//engine/mounting_point");
-			List<String> nacelleFileListProperties = reader.getXMLAttributesByPath("//engine/nacelle", "file");
-			List<PowerPlantMountingPositionEnum> engineMountingPointList = new ArrayList<>();
-			List<PowerPlantMountingPositionEnum> nacelleMountingPointList = new ArrayList<>();
+		double deltaXNoseLandingGears = 0.0;
+		double deltaXMainLandingGears = 0.0;
+		if(landingGearsFileName != null) {
+			deltaXNoseLandingGears = Double.valueOf(reader.getXMLPropertyByPath("//landing_gears/position/delta_x_nose"));
+			deltaXMainLandingGears = Double.valueOf(reader.getXMLPropertyByPath("//landing_gears/position/delta_x_main"));
+		}
 
-			for (int i=0; i<mountingPointListProperties.size(); i++) {
+		//---------------------------------------------------------------------------------
+		// FUSELAGE
+		Fuselage theFuselage = joinImport(fuselageTask);
+		if(theFuselage != null) {
+			theFuselage.setXApexConstructionAxes(xApexFuselage);
+			theFuselage.setYApexConstructionAxes(yApexFuselage);
+			theFuselage.setZApexConstructionAxes(zApexFuselage);
+		}
 
-				if (mountingPointListProperties.get(i).equalsIgnoreCase("FUSELAGE")) {
-					engineMountingPointList.add(PowerPlantMountingPositionEnum.FUSELAGE);
-					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.FUSELAGE);
+		//---------------------------------------------------------------------------------
+		// CABIN CONFIGURATION
+		CabinConfiguration theCabinConfiguration = joinImport(cabinConfigurationTask);
 
-				} else if (mountingPointListProperties.get(i).equalsIgnoreCase("WING")) {
-					engineMountingPointList.add(PowerPlantMountingPositionEnum.WING);
-					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.WING);
+		//---------------------------------------------------------------------------------
+		// WING
+		LiftingSurface theWing = joinImport(wingTask);
+		if(theWing != null) {
+			theWing.setXApexConstructionAxes(xApexWing);
+			theWing.setYApexConstructionAxes(yApexWing);
+			theWing.setZApexConstructionAxes(zApexWing);
+			theWing.setRiggingAngle(riggingAngleWing);
+		}
 
-				} else if (mountingPointListProperties.get(i).equalsIgnoreCase("UNDERCARRIAGE_HOUSING")) {
-					engineMountingPointList.add(PowerPlantMountingPositionEnum.UNDERCARRIAGE_HOUSING);
-					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.UNDERCARRIAGE_HOUSING);
+		//---------------------------------------------------------------------------------
+		// FUEL TANK
+		FuelTank theFuelTank = null;
+		Amount<Length> xApexFuelTank = Amount.valueOf(0.0, SI.METER);
+		Amount<Length> yApexFuelTank = Amount.valueOf(0.0, SI.METER);
+		Amount<Length> zApexFuelTank = Amount.valueOf(0.0, SI.METER);
 
-				} else if (mountingPointListProperties.get(i).equalsIgnoreCase("HTAIL")) {
-					engineMountingPointList.add(PowerPlantMountingPositionEnum.HTAIL);
-					nacelleMountingPointList.add(PowerPlantMountingPositionEnum.HTAIL);
+		if(theWing != null) {
 
-				} else {
-					System.err.println("INVALID POWER PLANT MOUNTING POSITION !!! ");
-					return null;
-				}
+			theFuelTank = new FuelTank("Fuel Tank", theWing);
 
-			}
+			xApexFuelTank = xApexWing
+					.plus(theWing.getPanels().get(0).getChordRoot()
+							.times(theWing.getMainSparDimensionlessPosition())
+							);
+			yApexFuelTank = yApexWing;
+			zApexFuelTank = zApexWing;			
+			theFuelTank.setXApexConstructionAxes(xApexFuelTank);
+			theFuelTank.setYApexConstructionAxes(yApexFuelTank);
+			theFuelTank.setZApexConstructionAxes(zApexFuelTank);
+		}
 
-			System.out.println("Engines found: " + nodelistEngines.getLength());
-			for (int i = 0; i < nodelistEngines.getLength(); i++) {
-				Node nodeEngine  = nodelistEngines.item(i); // .getNodeValue();
-				Element elementEngine = (Element) nodeEngine;
-				String engineFileName = elementEngine.getAttribute("file");
-				System.out.println("[" + i + "]\nEngine file: " + elementEngine.getAttribute("file"));
+		//---------------------------------------------------------------------------------
+		// HORIZONTAL TAIL
+		LiftingSurface theHorizontalTail = joinImport(hTailTask);
+		if(theHorizontalTail != null) {
+			theHorizontalTail.setXApexConstructionAxes(xApexHTail);
+			theHorizontalTail.setYApexConstructionAxes(yApexHTail);
+			theHorizontalTail.setZApexConstructionAxes(zApexHTail);
+			theHorizontalTail.setRiggingAngle(riggingAngleHTail);
+		}
 
-				String enginePath = engineDir + File.separator + engineFileName;
-				String nacellePath = nacelleDir + File.separator + nacelleFileListProperties.get(i);
-				try {
-					engineList.add(Engine.importFromXML(enginePath));
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-				nacelleList.add(NacelleCreator.importFromXML(nacellePath, engineDir));
+		//---------------------------------------------------------------------------------
+		// VERTICAL TAIL
+		LiftingSurface theVerticalTail = joinImport(vTailTask);
+		if(theVerticalTail != null) {
+			theVerticalTail.setXApexConstructionAxes(xApexVTail);
+			theVerticalTail.setYApexConstructionAxes(yApexVTail);
+			theVerticalTail.setZApexConstructionAxes(zApexVTail);
+			theVerticalTail.setRiggingAngle(riggingAngleVTail);
+		}
+
+		//---------------------------------------------------------------------------------
+		// CANARD
+		LiftingSurface theCanard = joinImport(canardTask);
+		if(theCanard != null) {
+			theCanard.setXApexConstructionAxes(xApexCanard);
+			theCanard.setYApexConstructionAxes(yApexCanard);
+			theCanard.setZApexConstructionAxes(zApexCanard);
+			theCanard.setRiggingAngle(riggingAngleCanard);
+		}		
+
+		//---------------------------------------------------------------------------------
+		// POWER PLANT: ENGINES AND NACELLES
+		List<Engine> engineList = new ArrayList<Engine>();
+		List<NacelleCreator> nacelleList = new ArrayList<NacelleCreator>();
+		PowerPlant thePowerPlant = null;
+		Nacelles theNacelles = null;
+
+		if(!engineFileList.isEmpty()) {			
+
+			for (int i = 0; i < engineFileList.size(); i++) {
+
+				engineList.add(joinImport(engineTaskList.get(i)));
+				nacelleList.add(joinImport(nacelleTaskList.get(i)));
 
 				Amount<Length> xApexPowerPlant = Amount.valueOf(0.0, SI.METER);
 				Amount<Length> yApexPowerPlant = Amount.valueOf(0.0, SI.METER);
@@ -904,41 +1239,15 @@ public class Aircraft {
 
 		//---------------------------------------------------------------------------------
 		// LANDING GEARS
-		String landingGearsFileName =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//landing_gears/@file");
-
-		LandingGearsMountingPositionEnum mountingPosition = null;
-		LandingGears theLandingGears = null;
-		double deltaXNoseLandingGears = 0.0;
-		double deltaXMainLandingGears = 0.0;
+		LandingGears theLandingGears = joinImport(landingGearsTask);
 		Amount<Length> xApexMainLandingGears = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> yApexMainLandingGears = Amount.valueOf(0.0, SI.METER);
 		Amount<Length> zApexMainLandingGears = Amount.valueOf(0.0, SI.METER);
 
-		if(landingGearsFileName != null) {
-			String landingGearsPath = landingGearsDir + File.separator + landingGearsFileName;
-			theLandingGears = LandingGears.importFromXML(landingGearsPath);
-
-			String mountingPositionProperty = reader.getXMLPropertyByPath("//landing_gears/mounting_point");
-			if(mountingPositionProperty.equalsIgnoreCase("FUSELAGE"))
-				mountingPosition = LandingGearsMountingPositionEnum.FUSELAGE;
-			else if(mountingPositionProperty.equalsIgnoreCase("WING"))
-				mountingPosition = LandingGearsMountingPositionEnum.WING;
-			else if(mountingPositionProperty.equalsIgnoreCase("NACELLE"))
-				mountingPosition = LandingGearsMountingPositionEnum.NACELLE;
-			else {
-				System.err.println("INVALID LANDING GEARS MOUNTING POSITION !!! ");
-				return null;
-			}
+		if(theLandingGears != null) {
 
 			theLandingGears.setMountingPosition(mountingPosition);
 
-			deltaXNoseLandingGears = Double.valueOf(reader.getXMLPropertyByPath("//landing_gears/position/delta_x_nose"));
-			deltaXMainLandingGears = Double.valueOf(reader.getXMLPropertyByPath("//landing_gears/position/delta_x_main"));
-
 			if (mountingPosition.equals(LandingGearsMountingPositionEnum.WING)) {
 
 				xApexMainLandingGears = theWing.getXApexConstructionAxes().to(SI.METER).plus(
@@ -1107,6 +1416,31 @@ public class Aircraft {
 		return theAircraft;
 	}
 
+	/**
+	 * @return the running import task, or an already completed one with a null component 
+	 * 		   if the component file is not given
+	 */
+	private static <T> CompletableFuture<T> submitImport(String fileName, Executor executor, Supplier<T> task) {
+		if(fileName == null)
+			return CompletableFuture.completedFuture(null);
+		return CompletableFuture.supplyAsync(task, executor);
+	}
+
+	/**
+	 * Waits for an import task, rethrowing its exception as if the component was imported by this thread.
+	 */
+	private static <T> T joinImport(CompletableFuture<T> task) {
+		try {
+			return task.join();
+		} catch (CompletionException e) {
+			if(e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if(e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw e;
+		}
+	}
+
 	@Override
 	public String toString() {
 
@@ -1166,7 +1500,7 @@ public class Aircraft {
 
 	public void setTheAircraftInterface(IAircraft theAircraftInterface) {
 		this._theAircraftInterface = theAircraftInterface;
-
+		invalidateProjectedGeometry();
 	}
 
 	public AircraftTypeEnum getTypeVehicle() {
@@ -0,0 +1,170 @@
+package jpad.core.ex.aircraft;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jpad.configs.ex.enumerations.ComponentEnum;
+
+/**
+ * The data of an Aircraft which are derived from its components, and the dependency graph
+ * among them. The first nodes stand for the component inputs (the geometry of each component
+ * and the positions read from the aircraft file), the others for the quantities calculated
+ * by the Aircraft from them:
+ *
+ * <pre>
+ * EXPOSED_WING           <- FUSELAGE_GEOMETRY, WING_GEOMETRY, COMPONENT_POSITIONS
+ * FUEL_TANK              <- WING_GEOMETRY, COMPONENT_POSITIONS
+ * POWER_PLANT_POSITIONS  <- COMPONENT_POSITIONS
+ * ENGINES_OVER_THE_WING  <- COMPONENT_POSITIONS, POWER_PLANT_POSITIONS
+ * POSITIONS_RELATIVE_TO_ATTACHMENT <- FUSELAGE_GEOMETRY, VTAIL_GEOMETRY, COMPONENT_POSITIONS
+ * LANDING_GEARS_POSITION <- FUSELAGE_GEOMETRY, WING_GEOMETRY, NACELLES_GEOMETRY, POWER_PLANT_POSITIONS
+ * WETTED_SURFACE         <- FUSELAGE_GEOMETRY, HTAIL_GEOMETRY, VTAIL_GEOMETRY, CANARD_GEOMETRY,
+ *                           NACELLES_GEOMETRY, EXPOSED_WING
+ * ARMS                   <- WING_GEOMETRY, HTAIL_GEOMETRY, VTAIL_GEOMETRY, CANARD_GEOMETRY, COMPONENT_POSITIONS
+ * </pre>
+ *
+ * Every node is declared after its dependencies, hence the declaration order is a valid
+ * recalculation order (see Aircraft.updateDerivedData). describeGraph() prints the graph.
+ */
+public enum AircraftDerivedData {
+
+	FUSELAGE_GEOMETRY,
+	WING_GEOMETRY,
+	HTAIL_GEOMETRY,
+	VTAIL_GEOMETRY,
+	CANARD_GEOMETRY,
+	NACELLES_GEOMETRY,
+	/** apex positions of fuselage and lifting surfaces, engines and landing gears offsets */
+	COMPONENT_POSITIONS,
+
+	/** exposed wing and wing exposed wetted surface */
+	EXPOSED_WING(FUSELAGE_GEOMETRY, WING_GEOMETRY, COMPONENT_POSITIONS),
+	/** fuel tank position, geometry and fuel mass */
+	FUEL_TANK(WING_GEOMETRY, COMPONENT_POSITIONS),
+	/** engines and nacelles apex positions */
+	POWER_PLANT_POSITIONS(COMPONENT_POSITIONS),
+	/** number of wing mounted engines above the wing */
+	ENGINES_OVER_THE_WING(COMPONENT_POSITIONS, POWER_PLANT_POSITIONS),
+	/** vertical position of the lifting surfaces relative to fuselage (wing, canard) or vertical tail (horizontal tail) */
+	POSITIONS_RELATIVE_TO_ATTACHMENT(FUSELAGE_GEOMETRY, VTAIL_GEOMETRY, COMPONENT_POSITIONS),
+	/** main landing gear position and landing gears dependent data */
+	LANDING_GEARS_POSITION(FUSELAGE_GEOMETRY, WING_GEOMETRY, NACELLES_GEOMETRY, POWER_PLANT_POSITIONS),
+	/** aircraft total wetted surface */
+	WETTED_SURFACE(FUSELAGE_GEOMETRY, HTAIL_GEOMETRY, VTAIL_GEOMETRY, CANARD_GEOMETRY, NACELLES_GEOMETRY, EXPOSED_WING),
+	/** distances between the lifting surfaces AC and the wing AC, volumetric ratios and arms */
+	ARMS(WING_GEOMETRY, HTAIL_GEOMETRY, VTAIL_GEOMETRY, CANARD_GEOMETRY, COMPONENT_POSITIONS);
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	private static final Map<AircraftDerivedData, Set<AircraftDerivedData>> _dependents = new EnumMap<>(AircraftDerivedData.class);
+	private static final Map<AircraftDerivedData, Set<AircraftDerivedData>> _affectedData = new EnumMap<>(AircraftDerivedData.class);
+
+	static {
+		for (AircraftDerivedData data : values())
+			_dependents.put(data, EnumSet.noneOf(AircraftDerivedData.class));
+		for (AircraftDerivedData data : values())
+			for (AircraftDerivedData dependency : data.dependencies)
+				_dependents.get(dependency).add(data);
+
+		// reverse declaration order: the dependents of each node are already complete
+		AircraftDerivedData[] nodes = values();
+		for (int i = nodes.length - 1; i >= 0; i--) {
+			Set<AircraftDerivedData> affected = EnumSet.of(nodes[i]);
+			for (AircraftDerivedData dependent : _dependents.get(nodes[i]))
+				affected.addAll(_affectedData.get(dependent));
+			_affectedData.put(nodes[i], Collections.unmodifiableSet(affected));
+		}
+		for (AircraftDerivedData data : nodes)
+			_dependents.put(data, Collections.unmodifiableSet(_dependents.get(data)));
+	}
+
+	private final List<AircraftDerivedData> dependencies;
+
+	//-----------------------------------------------------------------------------------------
+	// BUILDER
+	private AircraftDerivedData(AircraftDerivedData... dependencies) {
+		this.dependencies = Collections.unmodifiableList(Arrays.asList(dependencies));
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * @return the node that changes when the given component is modified, null if the
+	 * 		   aircraft derives nothing from it
+	 */
+	public static AircraftDerivedData fromComponent(ComponentEnum component) {
+
+		switch (component) {
+		case FUSELAGE:
+			return FUSELAGE_GEOMETRY;
+		case WING:
+		case WING_AIRFOIL:
+			return WING_GEOMETRY;
+		case HORIZONTAL_TAIL:
+		case HORIZONTAL_TAIL_AIRFOIL:
+			return HTAIL_GEOMETRY;
+		case VERTICAL_TAIL:
+		case VERTICAL_TAIL_AIRFOIL:
+			return VTAIL_GEOMETRY;
+		case CANARD:
+		case CANARD_AIRFOIL:
+			return CANARD_GEOMETRY;
+		case NACELLE:
+			return NACELLES_GEOMETRY;
+		case POWER_PLANT:
+		case ENGINE:
+			return POWER_PLANT_POSITIONS;
+		case LANDING_GEAR:
+			return LANDING_GEARS_POSITION;
+		case FUEL_TANK:
+			return FUEL_TANK;
+		default:
+			return null;
+		}
+	}
+
+	public static String describeGraph() {
+
+		StringBuilder sb = new StringBuilder();
+		for (AircraftDerivedData data : values()) {
+			sb.append(data);
+			if (!data.dependencies.isEmpty())
+				sb.append(" <- ").append(data.dependencies);
+			if (!data.getDependents().isEmpty())
+				sb.append(" -> ").append(data.getDependents());
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// GETTERS
+
+	/**
+	 * @return the nodes this one is calculated from
+	 */
+	public List<AircraftDerivedData> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * @return the nodes calculated directly from this one
+	 */
+	public Set<AircraftDerivedData> getDependents() {
+		return _dependents.get(this);
+	}
+
+	/**
+	 * @return this node and all the nodes which depend on it, directly or not
+	 */
+	public Set<AircraftDerivedData> getAffectedData() {
+		return _affectedData.get(this);
+	}
+
+}
@@ -0,0 +1,353 @@
+package jpad.core.ex.aircraft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.quantity.Length;
+import javax.measure.unit.SI;
+
+import org.jscience.physics.amount.Amount;
+
+import jpad.configs.ex.enumerations.ComponentEnum;
+import jpad.core.ex.aircraft.components.fuselage.Fuselage;
+import jpad.core.ex.aircraft.components.liftingSurface.LiftingSurface;
+import jpad.core.ex.aircraft.components.nacelles.NacelleCreator;
+import jpad.core.ex.standaloneutils.MyArrayUtils;
+
+/**
+ * The outlines of the aircraft components projected on the top (XY), side (XZ) and front (YZ)
+ * planes, as polylines of primitive arrays (metres). They are the data of the aircraft and
+ * component views of AircraftAndComponentsViewPlotUtils.
+ *
+ * The object is immutable and is obtained from Aircraft.getProjectedGeometry(), which computes
+ * it once and shares it until the aircraft geometry changes (see Aircraft.markChanged).
+ *
+ * Frames:
+ * <ul>
+ * <li>fuselage outlines: fuselage frame, i.e. as they are drawn by both the aircraft and the fuselage views;</li>
+ * <li>planforms and nacelle outlines: component frame (apex at the origin);</li>
+ * <li>lifting surface and nacelle views: aircraft frame.</li>
+ * </ul>
+ */
+public final class AircraftProjectedGeometry {
+
+	//-------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final int NACELLE_FRONT_VIEW_POINTS = 20;
+
+	/**
+	 * An immutable polyline, with abscissa x and ordinate y in the plane of the projection.
+	 */
+	public static final class Polyline {
+
+		private final double[] x;
+		private final double[] y;
+
+		Polyline(double[] x, double[] y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		public int size() {
+			return x.length;
+		}
+
+		public double getX(int i) {
+			return x[i];
+		}
+
+		public double getY(int i) {
+			return y[i];
+		}
+
+		/**
+		 * @return a copy of the abscissas
+		 */
+		public double[] getXs() {
+			return x.clone();
+		}
+
+		/**
+		 * @return a copy of the ordinates
+		 */
+		public double[] getYs() {
+			return y.clone();
+		}
+	}
+
+	private final Polyline fuselageTopView;
+	private final Polyline fuselageSideView;
+	private final Polyline fuselageFrontView;
+
+	private final Map<ComponentEnum, Polyline> planforms;
+	private final Map<ComponentEnum, Polyline> liftingSurfaceViews;
+
+	private final List<Polyline> nacelleOutlinesXY;
+	private final List<Polyline> nacelleOutlinesXZ;
+	private final List<Polyline> nacelleTopViews;
+	private final List<Polyline> nacelleSideViews;
+	private final List<Polyline> nacelleFrontViews;
+
+	//-------------------------------------------------------------
+	// BUILDER
+	AircraftProjectedGeometry(Aircraft aircraft) {
+
+		Fuselage fuselage = aircraft.getFuselage();
+		if (fuselage != null) {
+			fuselageTopView = joinReversed(
+					fuselage.getOutlineXYSideLCurveX(), fuselage.getOutlineXYSideLCurveY(),
+					fuselage.getOutlineXYSideRCurveX(), fuselage.getOutlineXYSideRCurveY()
+					);
+			fuselageSideView = joinReversed(
+					fuselage.getOutlineXZUpperCurveX(), fuselage.getOutlineXZUpperCurveZ(),
+					fuselage.getOutlineXZLowerCurveX(), fuselage.getOutlineXZLowerCurveZ()
+					);
+			fuselageFrontView = joinReversed(
+					fuselage.getSectionUpperCurveY(), fuselage.getSectionUpperCurveZ(),
+					fuselage.getSectionLowerCurveY(), fuselage.getSectionLowerCurveZ()
+					);
+		}
+		else {
+			fuselageTopView = null;
+			fuselageSideView = null;
+			fuselageFrontView = null;
+		}
+
+		Map<ComponentEnum, Polyline> planforms = new EnumMap<>(ComponentEnum.class);
+		Map<ComponentEnum, Polyline> liftingSurfaceViews = new EnumMap<>(ComponentEnum.class);
+		for (LiftingSurface liftingSurface : new LiftingSurface[] {
+				aircraft.getWing(), aircraft.getHTail(), aircraft.getVTail(), aircraft.getCanard()}) {
+			if (liftingSurface == null)
+				continue;
+			Polyline planform = planform(liftingSurface);
+			planforms.put(liftingSurface.getType(), planform);
+			liftingSurfaceViews.put(liftingSurface.getType(), liftingSurfaceView(liftingSurface, planform));
+		}
+		this.planforms = Collections.unmodifiableMap(planforms);
+		this.liftingSurfaceViews = Collections.unmodifiableMap(liftingSurfaceViews);
+
+		List<Polyline> nacelleOutlinesXY = new ArrayList<>();
+		List<Polyline> nacelleOutlinesXZ = new ArrayList<>();
+		List<Polyline> nacelleTopViews = new ArrayList<>();
+		List<Polyline> nacelleSideViews = new ArrayList<>();
+		List<Polyline> nacelleFrontViews = new ArrayList<>();
+		if (aircraft.getNacelles() != null) {
+			Amount<Length> zero = Amount.valueOf(0.0, SI.METER);
+			for (NacelleCreator nacelle : aircraft.getNacelles().getNacellesList()) {
+				nacelleOutlinesXY.add(nacelleOutline(
+						nacelle.getXCoordinatesOutline(), nacelle.getYCoordinatesOutlineXYRight(), nacelle.getYCoordinatesOutlineXYLeft(),
+						null, null));
+				nacelleOutlinesXZ.add(nacelleOutline(
+						nacelle.getXCoordinatesOutline(), nacelle.getZCoordinatesOutlineXZUpper(), nacelle.getZCoordinatesOutlineXZLower(),
+						null, null));
+				nacelleTopViews.add(nacelleOutline(
+						nacelle.getXCoordinatesOutline(), nacelle.getYCoordinatesOutlineXYRight(), nacelle.getYCoordinatesOutlineXYLeft(),
+						nacelle.getXApexConstructionAxes(), nacelle.getYApexConstructionAxes()));
+				nacelleSideViews.add(nacelleOutline(
+						nacelle.getXCoordinatesOutline(), nacelle.getZCoordinatesOutlineXZUpper(), nacelle.getZCoordinatesOutlineXZLower(),
+						nacelle.getXApexConstructionAxes(), nacelle.getZApexConstructionAxes()));
+				nacelleFrontViews.add(nacelleFrontView(nacelle));
+			}
+		}
+		this.nacelleOutlinesXY = Collections.unmodifiableList(nacelleOutlinesXY);
+		this.nacelleOutlinesXZ = Collections.unmodifiableList(nacelleOutlinesXZ);
+		this.nacelleTopViews = Collections.unmodifiableList(nacelleTopViews);
+		this.nacelleSideViews = Collections.unmodifiableList(nacelleSideViews);
+		this.nacelleFrontViews = Collections.unmodifiableList(nacelleFrontViews);
+	}
+
+	//-------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * @return the first curve followed by the second one in reverse order
+	 */
+	private static Polyline joinReversed(List<Double> x1, List<Double> y1, List<Double> x2, List<Double> y2) {
+
+		int n1 = x1.size(), n2 = x2.size();
+		double[] x = new double[n1 + n2];
+		double[] y = new double[n1 + n2];
+		for (int i = 0; i < n1; i++) {
+			x[i] = x1.get(i);
+			y[i] = y1.get(i);
+		}
+		for (int i = 0; i < n2; i++) {
+			x[n1 + i] = x2.get(n2 - 1 - i);
+			y[n1 + i] = y2.get(n2 - 1 - i);
+		}
+		return new Polyline(x, y);
+	}
+
+	/**
+	 * @return leading edge from root to tip, then trailing edge from tip to root, with x chordwise and y spanwise
+	 */
+	private static Polyline planform(LiftingSurface liftingSurface) {
+
+		// WING gives the (y, x) pairs of any type without swapping them
+		Double[][] topView = liftingSurface.getDiscretizedTopViewAsArray(ComponentEnum.WING);
+		double[] x = new double[topView.length];
+		double[] y = new double[topView.length];
+		for (int i = 0; i < topView.length; i++) {
+			x[i] = topView[i][1];
+			y[i] = topView[i][0];
+		}
+		return new Polyline(x, y);
+	}
+
+	/**
+	 * @return the vertical tail in the side view (XZ), the other lifting surfaces in the top view (XY)
+	 * 		   with their right and left halves
+	 */
+	private static Polyline liftingSurfaceView(LiftingSurface liftingSurface, Polyline planform) {
+
+		double xApex = liftingSurface.getXApexConstructionAxes().doubleValue(SI.METER);
+		int n = planform.size();
+
+		if (liftingSurface.getType() == ComponentEnum.VERTICAL_TAIL) {
+			double zApex = liftingSurface.getZApexConstructionAxes().doubleValue(SI.METER);
+			double[] x = new double[n];
+			double[] z = new double[n];
+			for (int i = 0; i < n; i++) {
+				x[i] = planform.x[i] + xApex;
+				z[i] = planform.y[i] + zApex;
+			}
+			return new Polyline(x, z);
+		}
+
+		double yApex = liftingSurface.getYApexConstructionAxes().doubleValue(SI.METER);
+		double[] x = new double[2*n];
+		double[] y = new double[2*n];
+		for (int i = 0; i < n; i++) {
+			x[i] = planform.x[i] + xApex;
+			y[i] = planform.y[i] + yApex;
+			x[n + i] = planform.x[n - 1 - i] + xApex;
+			y[n + i] = -planform.y[n - 1 - i] + yApex;
+		}
+		return new Polyline(x, y);
+	}
+
+	/**
+	 * @return the closed outline: upper (or right) curve, lower (or left) curve in reverse order and
+	 * 		   the first point again; translated by the apex (as Amount, as the views always did) if not null
+	 */
+	private static Polyline nacelleOutline(List<Amount<Length>> xs, List<Amount<Length>> ys1, List<Amount<Length>> ys2,
+			Amount<Length> xApex, Amount<Length> yApex) {
+
+		int n = xs.size();
+		double[] x = new double[2*n + 1];
+		double[] y = new double[2*n + 1];
+		for (int j = 0; j < n; j++) {
+			x[j] = translate(xs.get(j), xApex);
+			y[j] = translate(ys1.get(j), yApex);
+			x[n + j] = translate(xs.get(n - j - 1), xApex);
+			y[n + j] = translate(ys2.get(n - j - 1), yApex);
+		}
+		x[2*n] = x[0];
+		y[2*n] = y[0];
+		return new Polyline(x, y);
+	}
+
+	private static double translate(Amount<Length> value, Amount<Length> offset) {
+		return (offset == null ? value : value.plus(offset)).doubleValue(SI.METER);
+	}
+
+	private static Polyline nacelleFrontView(NacelleCreator nacelle) {
+
+		double[] angleArray = MyArrayUtils.linspace(0.0, 2*Math.PI, NACELLE_FRONT_VIEW_POINTS);
+		double radius = nacelle.getDiameterMax().divide(2).doubleValue(SI.METER);
+		double y0 = nacelle.getYApexConstructionAxes().doubleValue(SI.METER);
+		double z0 = nacelle.getZApexConstructionAxes().doubleValue(SI.METER);
+
+		double[] y = new double[angleArray.length];
+		double[] z = new double[angleArray.length];
+		for (int j = 0; j < angleArray.length; j++) {
+			y[j] = radius*Math.cos(angleArray[j]) + y0;
+			z[j] = radius*Math.sin(angleArray[j]) + z0;
+		}
+		return new Polyline(y, z);
+	}
+
+	//-------------------------------------------------------------
+	// GETTERS
+
+	/**
+	 * @return the fuselage outline in the XY plane (left side, then right side from tail to nose), or null
+	 */
+	public Polyline getFuselageTopView() {
+		return fuselageTopView;
+	}
+
+	/**
+	 * @return the fuselage outline in the XZ plane (upper curve, then lower curve from tail to nose), or null
+	 */
+	public Polyline getFuselageSideView() {
+		return fuselageSideView;
+	}
+
+	/**
+	 * @return the fuselage cylinder section in the YZ plane (upper curve, then lower curve), or null
+	 */
+	public Polyline getFuselageFrontView() {
+		return fuselageFrontView;
+	}
+
+	/**
+	 * @param type WING, HORIZONTAL_TAIL, VERTICAL_TAIL or CANARD
+	 * @return the planform in the lifting surface frame (x chordwise, y spanwise), or null
+	 */
+	public Polyline getPlanform(ComponentEnum type) {
+		return planforms.get(type);
+	}
+
+	/**
+	 * @param type WING, HORIZONTAL_TAIL, VERTICAL_TAIL or CANARD
+	 * @return the lifting surface in the aircraft frame: the side view (XZ) of the vertical tail,
+	 * 		   the top view (XY, both halves) of the other ones; or null
+	 */
+	public Polyline getLiftingSurfaceView(ComponentEnum type) {
+		return liftingSurfaceViews.get(type);
+	}
+
+	public int getNumberOfNacelles() {
+		return nacelleTopViews.size();
+	}
+
+	/**
+	 * @return the closed XY outline of the i-th nacelle, in the nacelle frame
+	 */
+	public Polyline getNacelleOutlineXY(int i) {
+		return nacelleOutlinesXY.get(i);
+	}
+
+	/**
+	 * @return the closed XZ outline of the i-th nacelle, in the nacelle frame
+	 */
+	public Polyline getNacelleOutlineXZ(int i) {
+		return nacelleOutlinesXZ.get(i);
+	}
+
+	/**
+	 * @return the closed XY outline of the i-th nacelle, in the aircraft frame
+	 */
+	public Polyline getNacelleTopView(int i) {
+		return nacelleTopViews.get(i);
+	}
+
+	/**
+	 * @return the closed XZ outline of the i-th nacelle, in the aircraft frame
+	 */
+	public Polyline getNacelleSideView(int i) {
+		return nacelleSideViews.get(i);
+	}
+
+	/**
+	 * @return the maximum diameter circle of the i-th nacelle in the YZ plane, in the aircraft frame
+	 */
+	public Polyline getNacelleFrontView(int i) {
+		return nacelleFrontViews.get(i);
+	}
+
+}
@@ -262,6 +262,17 @@ public class FuelTank {
 	
 	public void calculateGeometry(LiftingSurface theWing) {
 		
+		// clean all the data before recalculating (e.g. after a change of the wing)
+		_thicknessAtMainSpar.clear();
+		_thicknessAtSecondarySpar.clear();
+		_distanceBetweenSpars.clear();
+		_prismoidsLength.clear();
+		_prismoidsSectionsAreas.clear();
+		_prismoidsVolumes.clear();
+		_fuelTankStations.clear();
+		_wingChordsAtFuelTankStations.clear();
+		_fuelVolume = Amount.valueOf(0.0, SI.CUBIC_METRE);
+		
 		estimateDimensions(theWing);
 		calculateAreas();
 		calculateVolume();
@@ -3,6 +3,9 @@ package jpad.core.ex.aircraft.components.fuselage;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -22,7 +25,6 @@ import org.apache.commons.math3.exception.OutOfRangeException;
 import org.jscience.physics.amount.Amount;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import jpad.configs.ex.MyConfiguration;
 import jpad.configs.ex.enumerations.FuselageAdjustCriteriaEnum;
@@ -31,7 +33,6 @@ import jpad.core.ex.aircraft.components.liftingSurface.creator.SpoilerCreator;
 import jpad.core.ex.standaloneutils.JPADXmlReader;
 import jpad.core.ex.standaloneutils.MyArrayUtils;
 import jpad.core.ex.standaloneutils.MyMathUtils;
-import jpad.core.ex.standaloneutils.MyXMLReaderUtils;
 import processing.core.PVector;
 
 /**
@@ -116,6 +117,21 @@ public class Fuselage {
 	private List<Double> outlineXYSideLCurveY = new ArrayList<Double>();
 	private List<Double> outlineXYSideLCurveZ = new ArrayList<Double>();
 
+	// interpolants of the outlines above, built at the first point query and
+	// discarded when the outlines change (see clearOutlines)
+	private volatile OutlineInterpolant outlineXZUpperInterpolant;
+	private volatile OutlineInterpolant outlineXZLowerInterpolant;
+	private volatile OutlineInterpolant outlineXYSideRInterpolant;
+
+	// YZ sections (right side, see getYZSideRSection) memoized by station and number of points,
+	// discarded with the interpolants
+	public static final int MAX_CACHED_SECTIONS_YZ = 4096;
+	private final ConcurrentMap<SectionKey, double[]> yzSideRSections = new ConcurrentHashMap<>();
+
+	// incremented at each change of outlines, lengths or section points, so that the objects
+	// derived from the geometry (see FuselageSurfaceMesh) know when to rebuild
+	private final AtomicInteger geometryVersion = new AtomicInteger();
+
 	// view section Upper curve (fuselage front view, looking from -X towards +X)
 	private List<Double> sectionUpperCurveY = new ArrayList<Double>();
 	private List<Double> sectionUpperCurveZ = new ArrayList<Double>();
@@ -765,94 +781,17 @@ public class Fuselage {
 	}
 	
 	public double getZOutlineXZUpperAtX(double x) {
-		// base vectors - upper
-		// unique values
-		double vxu[] = new double[getUniqueValuesXZUpperCurve().size()];
-		double vzu[] = new double[getUniqueValuesXZUpperCurve().size()];
-		for (int i = 0; i < vxu.length; i++)
-		{
-			vxu[i] = getUniqueValuesXZUpperCurve().get(i).x;
-			vzu[i] = getUniqueValuesXZUpperCurve().get(i).z;
-		}
-		// interpolation - lower
-		UnivariateInterpolator interpolatorUpper = new LinearInterpolator(); // SplineInterpolator();
-		UnivariateFunction myInterpolationFunctionUpper =
-				interpolatorUpper.interpolate(vxu, vzu);
-
-		// section z-coordinates at x
-		double z_F_u = 0.0;
-		if (x < vxu[0]) {
-			z_F_u = vzu[0];
-		}
-		if (x > vxu[vxu.length-1]) {
-			z_F_u = vzu[vzu.length-1];
-		}
-		if ((x >= vxu[0]) && (x <= vxu[vxu.length-1])){
-			z_F_u = myInterpolationFunctionUpper.value(x);
-		}
-		return z_F_u;
+		return getOutlineXZUpperInterpolant().valueAt(x);
 	}
 
-
 	public double getZOutlineXZLowerAtX(double x) {
-		// base vectors - lower
-		// unique values
-		double vxl[] = new double[getUniqueValuesXZLowerCurve().size()];
-		double vzl[] = new double[getUniqueValuesXZLowerCurve().size()];
-		for (int i = 0; i < vxl.length; i++)
-		{
-			vxl[i] = getUniqueValuesXZLowerCurve().get(i).x;
-			vzl[i] = getUniqueValuesXZLowerCurve().get(i).z;
-		}
-		// Interpolation - lower
-		UnivariateInterpolator interpolatorLower = new LinearInterpolator(); // SplineInterpolator();
-		UnivariateFunction myInterpolationFunctionLower =
-				interpolatorLower.interpolate(vxl, vzl);
-
-		// section z-coordinates at x
-		double z_F_l = 0.0;
-		if (x < vxl[0]) {
-			z_F_l = vzl[0];
-		}
-		if (x > vxl[vxl.length-1]) {
-			z_F_l = vzl[vzl.length-1];
-		}
-		if ((x >= vxl[0]) && (x <= vxl[vxl.length-1])){
-			z_F_l = myInterpolationFunctionLower.value(x);
-		}
-		return z_F_l;
+		return getOutlineXZLowerInterpolant().valueAt(x);
 	}
 
-
 	public double getYOutlineXYSideRAtX(double x) {
-		// base vectors - side (right)
-		// unique values
-		double vxs[] = new double[getUniqueValuesXYSideRCurve().size()];
-		double vys[] = new double[getUniqueValuesXYSideRCurve().size()];
-		for (int i = 0; i < vxs.length; i++)
-		{
-			vxs[i] = getUniqueValuesXYSideRCurve().get(i).x;
-			vys[i] = getUniqueValuesXYSideRCurve().get(i).y;
-		}
-		// Interpolation - side (right)
-		UnivariateInterpolator interpolatorSide = new LinearInterpolator(); // SplineInterpolator();
-		UnivariateFunction myInterpolationFunctionSide =
-				interpolatorSide.interpolate(vxs, vys);
-
-		double y_F_r = 0.0;
-		if (x < vxs[0]) {
-			y_F_r = vys[0];
-		}
-		if (x > vxs[vxs.length-1]) {
-			y_F_r = vys[vxs.length-1];
-		}
-		if ((x >= vxs[0]) && (x <= vxs[vxs.length-1])){
-			y_F_r = myInterpolationFunctionSide.value(x);
-		}
-		return y_F_r;
+		return getOutlineXYSideRInterpolant().valueAt(x);
 	}
 
-
 	public double getYOutlineXYSideLAtX(double x) {
 		return -getYOutlineXYSideRAtX(x);
 	}
@@ -868,29 +807,13 @@ public class Fuselage {
 	 */
 	public List<PVector> getUniqueValuesYZSideRCurve(Amount<Length> len_x)
 	{
-		List<PVector> p  = new ArrayList<PVector>();
+		double x = len_x.doubleValue(SI.METRE);
+		double[] section = getYZSideRSection(x, npSecUp, npSecLow);
 
-		FuselageCurvesSection curvesSection = makeSection(len_x.doubleValue(SI.METRE));
-
-		for ( int i = 0; i < curvesSection.getSectionUpperLeftPoints().size() - 1; i++ )
+		List<PVector> p  = new ArrayList<PVector>(section.length/2);
+		for ( int k = 0; k < section.length; k += 2 )
 		{
-			p.add(
-					new PVector(
-							(float) len_x.doubleValue(SI.METRE),
-							(float) curvesSection.getSectionUpperLeftPoints().get(i).x,
-							(float) curvesSection.getSectionUpperLeftPoints().get(i).y
-							)
-					);
-		}
-		for ( int i = 0; i < curvesSection.getSectionLowerLeftPoints().size(); i++ )
-		{
-			p.add(
-					new PVector(
-							(float) len_x.doubleValue(SI.METRE),
-							(float) curvesSection.getSectionLowerLeftPoints().get(i).x,
-							(float) curvesSection.getSectionLowerLeftPoints().get(i).y
-							)
-					);
+			p.add(new PVector((float) x, (float) section[k], (float) section[k+1]));
 		}
 		return p;
 	}
@@ -1048,6 +971,148 @@ public class Fuselage {
 		return p;
 	}
 
+	private OutlineInterpolant getOutlineXZUpperInterpolant() {
+		OutlineInterpolant interpolant = outlineXZUpperInterpolant;
+		if (interpolant == null) {
+			interpolant = new OutlineInterpolant(getUniqueValuesXZUpperCurve(), false);
+			outlineXZUpperInterpolant = interpolant;
+		}
+		return interpolant;
+	}
+
+	private OutlineInterpolant getOutlineXZLowerInterpolant() {
+		OutlineInterpolant interpolant = outlineXZLowerInterpolant;
+		if (interpolant == null) {
+			interpolant = new OutlineInterpolant(getUniqueValuesXZLowerCurve(), false);
+			outlineXZLowerInterpolant = interpolant;
+		}
+		return interpolant;
+	}
+
+	private OutlineInterpolant getOutlineXYSideRInterpolant() {
+		OutlineInterpolant interpolant = outlineXYSideRInterpolant;
+		if (interpolant == null) {
+			interpolant = new OutlineInterpolant(getUniqueValuesXYSideRCurve(), true);
+			outlineXYSideRInterpolant = interpolant;
+		}
+		return interpolant;
+	}
+
+	/**
+	 * Discards the outline interpolants used by the point queries (getZOutlineXZUpperAtX, 
+	 * getWidthAtX, makeSection, ...) and the memoized YZ sections. Done by clearOutlines and by 
+	 * the outline setters, it has to be called only when the lists returned by the outline getters 
+	 * (or the sections returned by getSectionsYZ) are modified in place.
+	 */
+	public void invalidateOutlineInterpolants() {
+		geometryVersion.incrementAndGet();
+		outlineXZUpperInterpolant = null;
+		outlineXZLowerInterpolant = null;
+		outlineXYSideRInterpolant = null;
+		yzSideRSections.clear();
+	}
+
+	/**
+	 * Right side of the YZ section at x, as in getUniqueValuesYZSideRCurve: y and z of each point.
+	 * The section is made at the first request and memoized until the outlines change.
+	 * 
+	 * @return the packed coordinates, null if the section can not be made
+	 */
+	private double[] getYZSideRSection(double x, int np_SecUp, int np_SecLow) {
+
+		SectionKey key = new SectionKey(x, np_SecUp, np_SecLow);
+		double[] section = yzSideRSections.get(key);
+		if (section == null) {
+
+			FuselageCurvesSection curvesSection = makeSection(x, np_SecUp, np_SecLow);
+			if (curvesSection == null)
+				return null;
+
+			List<PVector> upperLeftPoints = curvesSection.getSectionUpperLeftPoints();
+			List<PVector> lowerLeftPoints = curvesSection.getSectionLowerLeftPoints();
+			section = new double[2*(upperLeftPoints.size() - 1 + lowerLeftPoints.size())];
+			int k = 0;
+			// the last upper point is the first lower one
+			for (int i = 0; i < upperLeftPoints.size() - 1; i++) {
+				section[k++] = upperLeftPoints.get(i).x;
+				section[k++] = upperLeftPoints.get(i).y;
+			}
+			for (PVector point : lowerLeftPoints) {
+				section[k++] = point.x;
+				section[k++] = point.y;
+			}
+
+			if (yzSideRSections.size() >= MAX_CACHED_SECTIONS_YZ)
+				yzSideRSections.clear();
+			yzSideRSections.put(key, section);
+		}
+		return section;
+	}
+
+	/**
+	 * @return a counter incremented at each change of the geometry (outlines recalculated by
+	 * 		   calculateGeometry or adjustDimensions, outlines or lengths set, outlines invalidated)
+	 */
+	public int getGeometryVersion() {
+		return geometryVersion.get();
+	}
+
+	/**
+	 * @see #getYZSections(double[], int, int)
+	 */
+	public FuselageYZSections getYZSections(double[] stations) {
+		return getYZSections(stations, npSecUp, npSecLow);
+	}
+
+	/**
+	 * Closed YZ sections (see getUniqueValuesYZSectionCurve) at the given stations, all evaluated
+	 * in a single pass: the sections not yet memoized are made in parallel and the points are
+	 * packed in a single array.
+	 * 
+	 * @param stations sections X-coordinates (m)
+	 * @param np_SecUp number of points of the upper part of each section
+	 * @param np_SecLow number of points of the lower part of each section
+	 * @return the sections, null if they can not be made
+	 */
+	public FuselageYZSections getYZSections(double[] stations, int np_SecUp, int np_SecLow) {
+
+		double[] x = stations.clone();
+		if (x.length == 0)
+			return new FuselageYZSections(x, 0, new double[0]);
+
+		// the first section builds the shared interpolants, the others can then go in parallel
+		double[][] sidesR = new double[x.length][];
+		sidesR[0] = getYZSideRSection(x[0], np_SecUp, np_SecLow);
+		if (sidesR[0] == null)
+			return null;
+		IntStream.range(1, x.length).parallel()
+			.forEach(i -> sidesR[i] = getYZSideRSection(x[i], np_SecUp, np_SecLow));
+		for (double[] sideR : sidesR)
+			if (sideR == null)
+				return null;
+
+		// side R, then side L (mirrored and reversed) without its first point, a duplicate
+		int nSideR = sidesR[0].length/2;
+		int nPoints = 2*nSideR - 1;
+		double[] coordinates = new double[3*nPoints*x.length];
+		IntStream.range(0, x.length).parallel().forEach(i -> {
+			double[] sideR = sidesR[i];
+			int k = 3*nPoints*i;
+			for (int j = 0; j < nSideR; j++) {
+				coordinates[k++] = x[i];
+				coordinates[k++] = sideR[2*j];
+				coordinates[k++] = sideR[2*j+1];
+			}
+			for (int j = nSideR - 2; j >= 0; j--) {
+				coordinates[k++] = x[i];
+				coordinates[k++] = -sideR[2*j];
+				coordinates[k++] = sideR[2*j+1];
+			}
+		});
+
+		return new FuselageYZSections(x, nPoints, coordinates);
+	}
+
 	/**
 	 * Calculate a fuselage section profile for a given coordinate x,
 	 * with interpolated values of section shape parameters
@@ -1055,6 +1120,15 @@ public class Fuselage {
 	 * @return a MyFuselageCurvesSection object
 	 */
 	public FuselageCurvesSection makeSection(double x){
+		return makeSection(x, npSecUp, npSecLow);
+	}
+
+	/**
+	 * @see #makeSection(double)
+	 * @param np_SecUp number of points of the upper part of the section
+	 * @param np_SecLow number of points of the lower part of the section
+	 */
+	public FuselageCurvesSection makeSection(double x, int np_SecUp, int np_SecLow){
 
 		if ( sectionsYZ == null )
 		{
@@ -1132,94 +1206,21 @@ public class Fuselage {
 		}
 
 
-		// Sets of unique values of the x, y, z coordinates are generated
-		// base vectors - upper
-		// unique values
-		double vxu[] = new double[getUniqueValuesXZUpperCurve().size()];
-		double vzu[] = new double[getUniqueValuesXZUpperCurve().size()];
-		for (int i = 0; i < vxu.length; i++)
-		{
-			vxu[i] = getUniqueValuesXZUpperCurve().get(i).x;
-			vzu[i] = getUniqueValuesXZUpperCurve().get(i).z;
-		}
-		// interpolation - lower
-		UnivariateInterpolator interpolatorUpper = new LinearInterpolator(); // SplineInterpolator();
-		UnivariateFunction myInterpolationFunctionUpper =
-				interpolatorUpper.interpolate(vxu, vzu);
-
-		// base vectors - lower
-		// unique values
-		double vxl[] = new double[getUniqueValuesXZLowerCurve().size()];
-		double vzl[] = new double[getUniqueValuesXZLowerCurve().size()];
-		for (int i = 0; i < vxl.length; i++)
-		{
-			vxl[i] = getUniqueValuesXZLowerCurve().get(i).x;
-			vzl[i] = getUniqueValuesXZLowerCurve().get(i).z;
-		}
-		// Interpolation - lower
-		UnivariateInterpolator interpolatorLower = new LinearInterpolator(); // SplineInterpolator();
-		UnivariateFunction myInterpolationFunctionLower =
-				interpolatorLower.interpolate(vxl, vzl);
-
-		// section z-coordinates at x
-		double z_F_u = 0.0;
-		if (x < vxu[0]) {
-			z_F_u = vzu[0];
-		}
-		if (x > vxu[vxu.length-1]) {
-			z_F_u = vzu[vzu.length-1];
-		}
-		if ((x >= vxu[0]) && (x <= vxu[vxu.length-1])){
-			z_F_u = myInterpolationFunctionUpper.value(x);
-		}
-		z_F_u = myInterpolationFunctionUpper.value(x);
-
-
-		double z_F_l = 0.0;
-		if (x < vxl[0]) {
-			z_F_l = vzl[0];
-		}
-		if (x > vxl[vxl.length-1]) {
-			z_F_l = vzl[vzl.length-1];
-		}
-		if ((x >= vxl[0]) && (x <= vxl[vxl.length-1])){
-			z_F_l = myInterpolationFunctionLower.value(x);
-		}
+		// section z-coordinates at x (the upper one is not clamped to the end values)
+		double z_F_u = getOutlineXZUpperInterpolant().function.value(x);
+		double z_F_l = getOutlineXZLowerInterpolant().valueAt(x);
 
 		// section height at x
 		double h_F = Math.abs(z_F_u - z_F_l);
 
-		// base vectors - side (right)
-		// unique values
-		double vxs[] = new double[getUniqueValuesXYSideRCurve().size()];
-		double vys[] = new double[getUniqueValuesXYSideRCurve().size()];
-		for (int i = 0; i < vxs.length; i++)
-		{
-			vxs[i] = getUniqueValuesXYSideRCurve().get(i).x;
-			vys[i] = getUniqueValuesXYSideRCurve().get(i).y;
-		}
-		// Interpolation - side (right)
-		UnivariateInterpolator interpolatorSide = new LinearInterpolator(); // SplineInterpolator();
-		UnivariateFunction myInterpolationFunctionSide =
-				interpolatorSide.interpolate(vxs, vys);
-
-		double y_F_r = 0.0;
-		if (x < vxs[0]) {
-			y_F_r = vys[0];
-		}
-		if (x > vxs[vxs.length-1]) {
-			y_F_r = vys[vxs.length-1];
-		}
-		if ((x >= vxs[0]) && (x <= vxs[vxs.length-1])){
-			y_F_r = myInterpolationFunctionSide.value(x);
-		}
+		double y_F_r = getOutlineXYSideRInterpolant().valueAt(x);
 		double w_F = 2.0*y_F_r;
 
 		FuselageCurvesSection fuselageCurvesSection = new FuselageCurvesSection(
 				w_F, h_F, // lengths
 				sectionLowerToTotalHeightRatio, sectionRhoUpper, sectionRhoLower, // current parameters
 				//				_sectionCylinderLowerToTotalHeightRatio, _sectionCylinderRhoUpper, _sectionCylinderRhoLower, // object parameters
-				npSecUp, npSecLow // no. points (nose, cylinder, tail)
+				np_SecUp, np_SecLow // no. points (nose, cylinder, tail)
 				);
 
 		// translation: x=0 --> dZ=h_N; x=l_N --> dZ=0, etc
@@ -1990,6 +1991,7 @@ public class Fuselage {
 
 	public void clearOutlines( )
 	{
+		invalidateOutlineInterpolants();
 		outlineXZUpperCurveX.clear();
 		outlineXZUpperCurveZ.clear();
 		outlineXZLowerCurveX.clear();
@@ -2013,7 +2015,7 @@ public class Fuselage {
 
 	public static Fuselage importFromXML(String pathToXML) {
 
-		JPADXmlReader reader = new JPADXmlReader(pathToXML);
+		JPADXmlReader reader = new JPADXmlReader(pathToXML, JPADXmlReader.Parser.STAX);
 
 		System.out.println("Reading fuselage data ...");
 
@@ -2045,14 +2047,8 @@ public class Fuselage {
 		List<SpoilerCreator> spoilers = new ArrayList<>();
 		//.......................................................
 		
-		String id = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//fuselage/@id");
-		String pressProp = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//fuselage/@pressurized");
+		String id = reader.getXMLValueByPath("//fuselage/@id");
+		String pressProp = reader.getXMLValueByPath("//fuselage/@pressurized");
 		if(pressProp != null)
 			pressurized = Boolean.valueOf(pressProp);
 
@@ -2159,13 +2155,12 @@ public class Fuselage {
 			sectionMidTailRhoLower = Double.valueOf(midSectionRhoLowerTailProp);
 		
 		// SPOILERS
-		NodeList nodelistSpoilers = MyXMLReaderUtils
-				.getXMLNodeListByPath(reader.getXmlDoc(), "//spoilers/spoiler");
+		List<JPADXmlReader> spoilersReaders = reader.getXMLReadersByPath("//spoilers/spoiler");
 		
-		System.out.println("Spoilers found: " + nodelistSpoilers.getLength());
+		System.out.println("Spoilers found: " + spoilersReaders.size());
 		
-		for (int i = 0; i < nodelistSpoilers.getLength(); i++) {
-			Node nodeSpoiler  = nodelistSpoilers.item(i); // .getNodeValue();
+		for (int i = 0; i < spoilersReaders.size(); i++) {
+			Node nodeSpoiler  = spoilersReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 			Element elementSpoiler = (Element) nodeSpoiler;
             System.out.println("[" + i + "]\nSlat id: " + elementSpoiler.getAttribute("id"));
             
@@ -2342,6 +2337,7 @@ public class Fuselage {
 
 	public void setNoseLength(Amount<Length> lenN) {
 		this.lengthNose = lenN;
+		geometryVersion.incrementAndGet();
 	}
 	
 	public Amount<Length> getCylinderLength() {
@@ -2350,6 +2346,7 @@ public class Fuselage {
 
 	public void setCylinderLength(Amount<Length> lenC) {
 		this.lengthCylinder = lenC;
+		geometryVersion.incrementAndGet();
 	}
 	
 	public Amount<Length> getTailLength() {
@@ -2358,6 +2355,7 @@ public class Fuselage {
 
 	public void setTailLength(Amount<Length> lenT) {
 		this.lengthTail = lenT;
+		geometryVersion.incrementAndGet();
 	}
 	
 	public Amount<Length> getSectionCylinderHeight() {
@@ -2728,6 +2726,7 @@ public class Fuselage {
 
 	public void setNpSecUp(int npSecUp) {
 		this.npSecUp = npSecUp;
+		geometryVersion.incrementAndGet();
 	}
 
 	public int getNpSecLow() {
@@ -2736,6 +2735,7 @@ public class Fuselage {
 
 	public void setNpSecLow(int npSecLow) {
 		this.npSecLow = npSecLow;
+		geometryVersion.incrementAndGet();
 	}
 
 	public double getDeltaXNose() {
@@ -2790,6 +2790,7 @@ public class Fuselage {
 	
 	public void setOutlineXZUpperCurveX(List<Double> outlineXZUpperCurveX) {
 		this.outlineXZUpperCurveX = outlineXZUpperCurveX;
+		invalidateOutlineInterpolants();
 	}
 
 	public List<Double> getOutlineXZUpperCurveZ() {
@@ -2804,6 +2805,7 @@ public class Fuselage {
 	
 	public void setOutlineXZUpperCurveZ(List<Double> outlineXZUpperCurveZ) {
 		this.outlineXZUpperCurveZ = outlineXZUpperCurveZ;
+		invalidateOutlineInterpolants();
 	}
 
 	public List<Double> getOutlineXZLowerCurveX() {
@@ -2818,6 +2820,7 @@ public class Fuselage {
 
 	public void setOutlineXZLowerCurveX(List<Double> outlineXZLowerCurveX) {
 		this.outlineXZLowerCurveX = outlineXZLowerCurveX;
+		invalidateOutlineInterpolants();
 	}
 
 	public List<Double> getOutlineXZLowerCurveZ() {
@@ -2832,6 +2835,7 @@ public class Fuselage {
 	
 	public void setOutlineXZLowerCurveZ(List<Double> outlineXZLowerCurveZ) {
 		this.outlineXZLowerCurveZ = outlineXZLowerCurveZ;
+		invalidateOutlineInterpolants();
 	}
 
 	public List<Double> getOutlineXZCamberLineX() {
@@ -2874,6 +2878,7 @@ public class Fuselage {
 	
 	public void setOutlineXYSideRCurveX(List<Double> outlineXYSideRCurveX) {
 		this.outlineXYSideRCurveX = outlineXYSideRCurveX;
+		invalidateOutlineInterpolants();
 	}
 
 	public List<Double> getOutlineXYSideRCurveY() {
@@ -2888,6 +2893,7 @@ public class Fuselage {
 	
 	public void setOutlineXYSideRCurveY(List<Double> outlineXYSideRCurveY) {
 		this.outlineXYSideRCurveY = outlineXYSideRCurveY;
+		invalidateOutlineInterpolants();
 	}
 
 	public List<Double> getOutlineXYSideRCurveZ() {
@@ -3136,4 +3142,79 @@ public class Fuselage {
 		this.spoilersControlSurfaceArea = spoilersControlSurfaceArea;
 	}
 	
+	//------------------------------------------------------------------------------------------
+	// OUTLINE INTERPOLANT
+
+	/**
+	 * Unique values of an outline curve and their linear interpolant, evaluated by a binary search
+	 * on the x values without any allocation. Immutable, hence it can be used by concurrent queries.
+	 */
+	private static final class OutlineInterpolant {
+
+		private final double[] x;
+		private final double[] values;
+		private final UnivariateFunction function;
+
+		/**
+		 * @param uniqueValues the outline points, with strictly increasing x
+		 * @param sideValues true to interpolate the y coordinates, false for the z ones
+		 */
+		private OutlineInterpolant(List<PVector> uniqueValues, boolean sideValues) {
+
+			x = new double[uniqueValues.size()];
+			values = new double[uniqueValues.size()];
+			for (int i = 0; i < x.length; i++) {
+				x[i] = uniqueValues.get(i).x;
+				values[i] = sideValues ? uniqueValues.get(i).y : uniqueValues.get(i).z;
+			}
+			function = new LinearInterpolator().interpolate(x, values);
+		}
+
+		/**
+		 * @return the interpolated value, the end values outside the outline
+		 */
+		private double valueAt(double xValue) {
+
+			double value = 0.0;
+			if (xValue < x[0]) {
+				value = values[0];
+			}
+			if (xValue > x[x.length-1]) {
+				value = values[values.length-1];
+			}
+			if ((xValue >= x[0]) && (xValue <= x[x.length-1])) {
+				value = function.value(xValue);
+			}
+			return value;
+		}
+	}
+
+	private static final class SectionKey {
+
+		private final double x;
+		private final int np_SecUp;
+		private final int np_SecLow;
+
+		private SectionKey(double x, int np_SecUp, int np_SecLow) {
+			this.x = x;
+			this.np_SecUp = np_SecUp;
+			this.np_SecLow = np_SecLow;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof SectionKey))
+				return false;
+			SectionKey other = (SectionKey) obj;
+			return Double.doubleToLongBits(x) == Double.doubleToLongBits(other.x)
+					&& np_SecUp == other.np_SecUp && np_SecLow == other.np_SecLow;
+		}
+
+		@Override
+		public int hashCode() {
+			long bits = Double.doubleToLongBits(x);
+			return 31*(31*(int)(bits ^ (bits >>> 32)) + np_SecUp) + np_SecLow;
+		}
+	}
+
 }
@@ -1,39 +1,310 @@
 package jpad.core.ex.aircraft.components.fuselage;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import javax.measure.unit.SI;
+
+import jpad.core.ex.standaloneutils.MyArrayUtils;
+
 // Only half body is meshed. The rest is to be taken by symmetry w.r.t. XZ plane
 // Mesh index 'i' runs from nose to tail
 // Mesh index 'j' runs azimutally along the generic YZ section (X = const.)
 //    from top to right-side to bottom
 
+/**
+ * Structured surface mesh of the fuselage half body. The stations are clustered towards
+ * the nose tip (_ni_N intervals), equally spaced along the cylinder (_ni_C intervals) and
+ * clustered towards the tail tip (_ni_T intervals); on each station the right side of the
+ * YZ section is divided into _ni_Sec intervals of equal arc length.
+ *
+ * The nodes are stored in a flat array (x, y, z of each node, j running faster than i),
+ * generated in parallel station by station, and can be exported as binary STL or as
+ * binary legacy VTK structured grid. The mesh is built at the first request and again
+ * after any change of the number of intervals or of the fuselage geometry (see
+ * Fuselage.getGeometryVersion).
+ */
 public class FuselageSurfaceMesh {
 
-//	private Fuselage _theFuselage;
-	
-//	private List<List<PVector>> _surfaceMesh = new ArrayList<List<PVector>>();
+	private Fuselage _theFuselage;
 
 	// 'ni' stands for number of intervals
 	private int _ni_N = 10, _ni_C = 4, _ni_T = 10, _ni_Sec = 10;
-	private int _ni_F = _ni_N + _ni_N + _ni_N; 
-	
+	private int _ni_F = _ni_N + _ni_C + _ni_T;
+
+	private double[] _stations;
+	private double[] _nodes;
+	// fuselage geometry the mesh has been built on
+	private int _geometryVersion;
+
 	public FuselageSurfaceMesh(Fuselage fuselage) {
+		_theFuselage = fuselage;
+	}
+
+	/**
+	 * @throws IllegalArgumentException if a number of intervals is not positive
+	 */
+	public FuselageSurfaceMesh(Fuselage fuselage, int ni_N, int ni_C, int ni_T, int ni_Sec) {
+		_theFuselage = fuselage;
+		_ni_N = checkIntervals("ni_N", ni_N);
+		_ni_C = checkIntervals("ni_C", ni_C);
+		_ni_T = checkIntervals("ni_T", ni_T);
+		_ni_Sec = checkIntervals("ni_Sec", ni_Sec);
+		_ni_F = _ni_N + _ni_C + _ni_T;
+	}
+
+	/**
+	 * Builds the mesh, if not done yet or if the fuselage geometry has changed
+	 *
+	 * @throws IllegalStateException if the fuselage sections can not be made
+	 */
+	public void buildMesh() {
 
-//		_theFuselage = fuselage;
-		
-		// EXPERIMENTAL
-//		LineMeshYZ lineMesh = new LineMeshYZ(
-//				_theFuselage,                          // the fuselage object 
-//				_theFuselage.getSectionsYZ().get(3),  // the section XY
-//				_theFuselage.getNoseLength(),              // the X-coordinate
-//				20                                     // number of mesh intervals
-//				);
+		// read before the geometry, a change during the build leaves the mesh out of date
+		int geometryVersion = _theFuselage.getGeometryVersion();
+		if (_nodes != null && _geometryVersion == geometryVersion)
+			return;
 
+		double lengthN = _theFuselage.getNoseLength().doubleValue(SI.METER);
+		double lengthC = _theFuselage.getCylinderLength().doubleValue(SI.METER);
+		double lengthF = _theFuselage.getFuselageLength().doubleValue(SI.METER);
+
+		double[] stations = new double[_ni_F + 1];
+		double[] stationsN = spacing(0.0, lengthN, _ni_N + 1, true);
+		double[] stationsC = MyArrayUtils.linspace(lengthN, lengthN + lengthC, _ni_C + 1);
+		double[] stationsT = spacing(lengthN + lengthC, lengthF, _ni_T + 1, false);
+		System.arraycopy(stationsN, 0, stations, 0, _ni_N + 1);
+		// junction stations are not repeated
+		System.arraycopy(stationsC, 1, stations, _ni_N + 1, _ni_C);
+		System.arraycopy(stationsT, 1, stations, _ni_N + _ni_C + 1, _ni_T);
+
+		// section curves at least as fine as the mesh
+		int npSec = Math.max(_ni_Sec + 1, Math.max(_theFuselage.getNpSecUp(), _theFuselage.getNpSecLow()));
+		FuselageYZSections sections = _theFuselage.getYZSections(stations, npSec, npSec);
+		if (sections == null)
+			throw new IllegalStateException("Unable to make the sections of fuselage " + _theFuselage.getId());
+
+		double[] nodes = new double[3*(_ni_F + 1)*(_ni_Sec + 1)];
+		IntStream.range(0, stations.length).parallel()
+			.forEach(i -> makeMeshYZ(sections, i, nodes));
+
+		_stations = stations;
+		_nodes = nodes;
+		_geometryVersion = geometryVersion;
 	}
 
-	void makeMeshYZ(Double x, int nsec)
+	private static double[] spacing(double start, double end, int nPoints, boolean finerAtStart) {
+
+		if (end <= start)
+			return MyArrayUtils.linspace(start, end, nPoints);
+		return finerAtStart
+				? MyArrayUtils.halfCosine1Space(start, end, nPoints)
+				: MyArrayUtils.halfCosine2Space(start, end, nPoints);
+	}
+
+	/**
+	 * Nodes of station i: the right side of the section (from the top to the bottom) divided
+	 * into _ni_Sec intervals of equal arc length
+	 */
+	private void makeMeshYZ(FuselageYZSections sections, int i, double[] nodes)
 	{
-		
-		// EXPERIMENTAL
+		// first half of the closed section curve
+		int nSideR = (sections.getNumberOfPoints() + 1)/2;
+
+		double[] abscissa = new double[nSideR];
+		for (int k = 1; k < nSideR; k++)
+			abscissa[k] = abscissa[k-1] + Math.hypot(
+					sections.getY(i, k) - sections.getY(i, k-1),
+					sections.getZ(i, k) - sections.getZ(i, k-1)
+					);
+		double length = abscissa[nSideR - 1];
 
+		int n = 3*(_ni_Sec + 1)*i;
+		int k = 0;
+		for (int j = 0; j <= _ni_Sec; j++) {
+
+			double s = length*j/_ni_Sec;
+			while (k < nSideR - 2 && abscissa[k+1] < s)
+				k++;
+			double ds = abscissa[k+1] - abscissa[k];
+			double t = (ds > 0.0) ? Math.min(1.0, Math.max(0.0, (s - abscissa[k])/ds)) : 0.0;
+
+			nodes[n++] = sections.getStation(i);
+			nodes[n++] = sections.getY(i, k) + t*(sections.getY(i, k+1) - sections.getY(i, k));
+			nodes[n++] = sections.getZ(i, k) + t*(sections.getZ(i, k+1) - sections.getZ(i, k));
+		}
+	}
+
+	// with no intervals the spacings divide by zero and the mesh is made of NaNs
+	private static int checkIntervals(String name, int intervals) {
+		if (intervals < 1)
+			throw new IllegalArgumentException("The number of intervals " + name + " must be positive: " + intervals);
+		return intervals;
+	}
+
+	private void invalidateMesh() {
+		_ni_F = _ni_N + _ni_C + _ni_T;
+		_stations = null;
+		_nodes = null;
+	}
+
+	private int index(int i, int j) {
+		return 3*(i*(_ni_Sec + 1) + j);
+	}
+
+	public double getX(int i, int j) {
+		buildMesh();
+		return _nodes[index(i, j)];
+	}
+
+	public double getY(int i, int j) {
+		buildMesh();
+		return _nodes[index(i, j) + 1];
+	}
+
+	public double getZ(int i, int j) {
+		buildMesh();
+		return _nodes[index(i, j) + 2];
+	}
+
+	/**
+	 * Writes the mesh as binary STL, two triangles for each mesh cell (the degenerate
+	 * ones at nose and tail tip are skipped), normals pointing outwards
+	 *
+	 * @return true if the file has been written
+	 */
+	public boolean writeBinarySTL(String fileName) {
+
+		if (!tryBuildMesh())
+			return false;
+
+		int[] triangles = new int[3*2*_ni_F*_ni_Sec];
+		int nTriangles = 0;
+		for (int i = 0; i < _ni_F; i++)
+			for (int j = 0; j < _ni_Sec; j++) {
+				int a = index(i, j), b = index(i + 1, j), c = index(i + 1, j + 1), d = index(i, j + 1);
+				if (!isDegenerate(a, b, c)) {
+					triangles[3*nTriangles] = a; triangles[3*nTriangles+1] = b; triangles[3*nTriangles+2] = c;
+					nTriangles++;
+				}
+				if (!isDegenerate(a, c, d)) {
+					triangles[3*nTriangles] = a; triangles[3*nTriangles+1] = c; triangles[3*nTriangles+2] = d;
+					nTriangles++;
+				}
+			}
+
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(createParentDirectories(fileName)))) {
+
+			ByteBuffer buffer = ByteBuffer.allocate(80).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.put("JPAD fuselage half body".getBytes(StandardCharsets.US_ASCII));
+			out.write(buffer.array());
+
+			buffer = ByteBuffer.allocate(50).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(0, nTriangles);
+			out.write(buffer.array(), 0, 4);
+
+			double[] normal = new double[3];
+			for (int t = 0; t < nTriangles; t++) {
+				int a = triangles[3*t], b = triangles[3*t+1], c = triangles[3*t+2];
+				normal(a, b, c, normal);
+				buffer.clear();
+				buffer.putFloat((float) normal[0]).putFloat((float) normal[1]).putFloat((float) normal[2]);
+				for (int v : new int[] {a, b, c})
+					buffer.putFloat((float) _nodes[v]).putFloat((float) _nodes[v+1]).putFloat((float) _nodes[v+2]);
+				buffer.putShort((short) 0);
+				out.write(buffer.array());
+			}
+			return true;
+
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the mesh as binary legacy VTK structured grid (j is the first grid dimension)
+	 *
+	 * @return true if the file has been written
+	 */
+	public boolean writeVTK(String fileName) {
+
+		if (!tryBuildMesh())
+			return false;
+
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(createParentDirectories(fileName))))) {
+
+			int nNodes = _nodes.length/3;
+			String header = "# vtk DataFile Version 3.0\n"
+					+ "JPAD fuselage half body\n"
+					+ "BINARY\n"
+					+ "DATASET STRUCTURED_GRID\n"
+					+ "DIMENSIONS " + (_ni_Sec + 1) + " " + (_ni_F + 1) + " 1\n"
+					+ "POINTS " + nNodes + " float\n";
+			out.write(header.getBytes(StandardCharsets.US_ASCII));
+			// legacy VTK binary data are big endian, as DataOutputStream
+			for (double value : _nodes)
+				out.writeFloat((float) value);
+			out.write("\n".getBytes(StandardCharsets.US_ASCII));
+			return true;
+
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	private boolean tryBuildMesh() {
+		try {
+			buildMesh();
+			return true;
+		} catch (IllegalStateException e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	private static File createParentDirectories(String fileName) {
+		File file = new File(fileName);
+		File dir = file.getAbsoluteFile().getParentFile();
+		if (dir != null && !dir.exists())
+			dir.mkdirs();
+		return file;
+	}
+
+	private void normal(int a, int b, int c, double[] normal) {
+
+		double ux = _nodes[b] - _nodes[a], uy = _nodes[b+1] - _nodes[a+1], uz = _nodes[b+2] - _nodes[a+2];
+		double vx = _nodes[c] - _nodes[a], vy = _nodes[c+1] - _nodes[a+1], vz = _nodes[c+2] - _nodes[a+2];
+		normal[0] = uy*vz - uz*vy;
+		normal[1] = uz*vx - ux*vz;
+		normal[2] = ux*vy - uy*vx;
+		double norm = Math.sqrt(normal[0]*normal[0] + normal[1]*normal[1] + normal[2]*normal[2]);
+		if (norm > 0.0) {
+			normal[0] /= norm;
+			normal[1] /= norm;
+			normal[2] /= norm;
+		}
+	}
+
+	private boolean isDegenerate(int a, int b, int c) {
+		double[] normal = new double[3];
+		normal(a, b, c, normal);
+		return normal[0] == 0.0 && normal[1] == 0.0 && normal[2] == 0.0;
+	}
+
+	public Fuselage getFuselage() {
+		return _theFuselage;
 	}
 
 	public int get_ni_N() {
@@ -41,15 +312,17 @@ public class FuselageSurfaceMesh {
 	}
 
 	public void set_ni_N(int _ni_N) {
-		this._ni_N = _ni_N;
+		this._ni_N = checkIntervals("ni_N", _ni_N);
+		invalidateMesh();
 	}
-	
+
 	public int get_ni_C() {
 		return _ni_C;
 	}
 
 	public void set_ni_C(int _ni_C) {
-		this._ni_C = _ni_C;
+		this._ni_C = checkIntervals("ni_C", _ni_C);
+		invalidateMesh();
 	}
 
 	public int get_ni_T() {
@@ -57,7 +330,8 @@ public class FuselageSurfaceMesh {
 	}
 
 	public void set_ni_T(int _ni_T) {
-		this._ni_T = _ni_T;
+		this._ni_T = checkIntervals("ni_T", _ni_T);
+		invalidateMesh();
 	}
 
 	public int get_ni_Sec() {
@@ -65,12 +339,39 @@ public class FuselageSurfaceMesh {
 	}
 
 	public void set_ni_Sec(int _ni_Sec) {
-		this._ni_Sec = _ni_Sec;
+		this._ni_Sec = checkIntervals("ni_Sec", _ni_Sec);
+		invalidateMesh();
 	}
 
 	public int get_ni_F() {
 		return _ni_F;
 	}
 
+	/**
+	 * @return number of nodes along the fuselage (index i)
+	 */
+	public int getNumberOfStations() {
+		return _ni_F + 1;
+	}
+
+	/**
+	 * @return number of nodes along each section (index j)
+	 */
+	public int getNumberOfSectionNodes() {
+		return _ni_Sec + 1;
+	}
+
+	public double getStation(int i) {
+		buildMesh();
+		return _stations[i];
+	}
+
+	/**
+	 * @return a read-only view of the nodes (x, y, z of each node, j running faster than i)
+	 */
+	public DoubleBuffer getNodes() {
+		buildMesh();
+		return DoubleBuffer.wrap(_nodes).asReadOnlyBuffer();
+	}
 
 }
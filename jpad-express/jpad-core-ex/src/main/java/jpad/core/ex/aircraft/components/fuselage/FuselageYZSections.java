@@ -0,0 +1,96 @@
+package jpad.core.ex.aircraft.components.fuselage;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import processing.core.PVector;
+
+/**
+ * A set of fuselage YZ sections, evaluated by Fuselage.getYZSections, with the coordinates
+ * of all the sections packed in a single array.
+ *
+ * Each section is the closed curve of Fuselage.getUniqueValuesYZSectionCurve: the first point
+ * is at Y=0 at the top of the section, the others follow counter-clockwise when looking from
+ * X- towards X+, the last one coincides with the first. All the sections have the same number
+ * of points and the coordinates are stored as x, y, z of each point, section after section.
+ *
+ * The object is immutable, hence it can be shared among threads.
+ */
+public final class FuselageYZSections {
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	private final double[] stations;
+	private final int numberOfPoints;
+	private final double[] coordinates;
+
+	//-----------------------------------------------------------------------------------------
+	// BUILDER
+	FuselageYZSections(double[] stations, int numberOfPoints, double[] coordinates) {
+		this.stations = stations;
+		this.numberOfPoints = numberOfPoints;
+		this.coordinates = coordinates;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	private int index(int section, int point) {
+		return 3*(section*numberOfPoints + point);
+	}
+
+	public double getX(int section, int point) {
+		return coordinates[index(section, point)];
+	}
+
+	public double getY(int section, int point) {
+		return coordinates[index(section, point) + 1];
+	}
+
+	public double getZ(int section, int point) {
+		return coordinates[index(section, point) + 2];
+	}
+
+	/**
+	 * @return the points of the section, as returned by Fuselage.getUniqueValuesYZSectionCurve
+	 */
+	public List<PVector> getSectionPoints(int section) {
+
+		List<PVector> points = new ArrayList<>(numberOfPoints);
+		for (int i = index(section, 0), end = index(section + 1, 0); i < end; i += 3)
+			points.add(new PVector((float) coordinates[i], (float) coordinates[i + 1], (float) coordinates[i + 2]));
+		return points;
+	}
+
+	public List<List<PVector>> getSectionsPoints() {
+
+		List<List<PVector>> sections = new ArrayList<>(stations.length);
+		for (int section = 0; section < stations.length; section++)
+			sections.add(getSectionPoints(section));
+		return sections;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// GETTERS
+
+	public int getNumberOfSections() {
+		return stations.length;
+	}
+
+	public int getNumberOfPoints() {
+		return numberOfPoints;
+	}
+
+	public double getStation(int section) {
+		return stations[section];
+	}
+
+	/**
+	 * @return a read-only view of the packed coordinates (x, y, z of each point, section after section)
+	 */
+	public DoubleBuffer getCoordinates() {
+		return DoubleBuffer.wrap(coordinates).asReadOnlyBuffer();
+	}
+
+}
@@ -1,30 +1,31 @@
 package jpad.core.ex.aircraft.components.liftingSurface;
 
 import java.text.DecimalFormat;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import javax.measure.quantity.Angle;
 import javax.measure.quantity.Area;
 import javax.measure.quantity.Length;
+import javax.measure.quantity.Quantity;
 import javax.measure.unit.NonSI;
 import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
 
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.jscience.physics.amount.Amount;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import javaslang.Tuple;
 import javaslang.Tuple2;
-import javaslang.Tuple5;
-import jpad.configs.ex.MyConfiguration;
 import jpad.configs.ex.enumerations.ComponentEnum;
 import jpad.configs.ex.enumerations.LiftingSurfaceAdjustCriteriaEnum;
 import jpad.core.ex.aircraft.components.liftingSurface.airfoils.Airfoil;
@@ -39,7 +40,6 @@ import jpad.core.ex.standaloneutils.GeometryCalc;
 import jpad.core.ex.standaloneutils.JPADXmlReader;
 import jpad.core.ex.standaloneutils.MyArrayUtils;
 import jpad.core.ex.standaloneutils.MyMathUtils;
-import jpad.core.ex.standaloneutils.MyXMLReaderUtils;
 import jpad.core.ex.standaloneutils.geometry.LSGeometryCalc;
 
 /**
@@ -57,6 +57,8 @@ public class LiftingSurface {
 	// VARIABLE DECLARATION
 	ILiftingSurface _theLiftingSurfaceInterface;
 	private int _numberOfSpanwisePoints = 30;
+	// number of spanwise stations requested by the last calculateGeometry (see recalculateGeometry)
+	private int _requestedNumberOfSpanwisePoints = 30;
 	
 	private double _positionRelativeToAttachment;
 	private Amount<Length> _xApexConstructionAxes = Amount.valueOf(0.0, SI.METER); 
@@ -133,30 +135,16 @@ public class LiftingSurface {
 	private List<Amount<Angle>> _dihedralsBreakPoints;
 	
 	private List<Double> _etaStations;
-	private List<Amount<Length>> _yStations;
-	
-	private List<
-				Tuple2<
-					LiftingSurfacePanelCreator,
-					Tuple5<
-						List<Amount<Length>>, // Ys
-						List<Amount<Length>>, // chords
-						List<Amount<Length>>, // Xle
-						List<Amount<Length>>, // Zle
-						List<Amount<Angle>>   // twist
-						> 
-					>
-				> _panelToSpanwiseDiscretizedVariables;
-	
-	private List<
-				Tuple5<
-					Amount<Length>, // Ys
-					Amount<Length>, // chords
-					Amount<Length>, // Xle
-					Amount<Length>, // Zle
-					Amount<Angle>   // twist
-					> 
-				> _spanwiseDiscretizedVariables;
+	private double[] _yStations; // m
+	
+	// spanwise discretized variables in SI units (m, rad), panel after panel:
+	// the stations of panel k go from _panelStationsOffsets[k] to _panelStationsOffsets[k+1] (excluded)
+	private int[] _panelStationsOffsets;
+	private double[] _discretizedYs;
+	private double[] _discretizedChords;
+	private double[] _discretizedXle;
+	private double[] _discretizedZle;
+	private double[] _discretizedTwists;
 	
 	// data to eventually add to the equivalent wing attributes TODO
 	private double _xOffsetEquivalentWingRootLE;
@@ -213,15 +201,19 @@ public class LiftingSurface {
 		_criticalMachVsY = new ArrayList<>();
 
 		_etaStations = new ArrayList<>();
-		_yStations = new ArrayList<Amount<Length>>();
-		_panelToSpanwiseDiscretizedVariables = new ArrayList<>();
-		_spanwiseDiscretizedVariables = new ArrayList<>();
+		_yStations = new double[0];
+		_panelStationsOffsets = new int[] {0};
+		_discretizedYs = new double[0];
+		_discretizedChords = new double[0];
+		_discretizedXle = new double[0];
+		_discretizedZle = new double[0];
+		_discretizedTwists = new double[0];
 
 	}
 
 	public static LiftingSurface importFromXML(ComponentEnum type, String pathToXML, String airfoilsDir) {
 
-		JPADXmlReader reader = new JPADXmlReader(pathToXML);
+		JPADXmlReader reader = new JPADXmlReader(pathToXML, JPADXmlReader.Parser.STAX);
 		LiftingSurface liftingSurfaceCreator = null;
 
 		System.out.println("Reading lifting surface data ...");
@@ -240,15 +232,9 @@ public class LiftingSurface {
 		List<SpoilerCreator> spoilers = new ArrayList<>();
 		//...................................................................................
 		
-		String id = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@id");
+		String id = reader.getXMLValueByPath("//@id");
 		
-		String mirroredProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@mirrored");
+		String mirroredProperty = reader.getXMLValueByPath("//@mirrored");
 		if(mirroredProperty != null)
 			mirrored = Boolean.valueOf(mirroredProperty);
 
@@ -274,26 +260,25 @@ public class LiftingSurface {
 			
 			//---------------------------------------------------------------------------------
 			// PANELS
-			NodeList nodelistPanel = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//panels/panel");
+			List<JPADXmlReader> panelReaders = reader.getXMLReadersByPath("//panels/panel");
 
-			System.out.println("Panels found: " + nodelistPanel.getLength());
+			System.out.println("Panels found: " + panelReaders.size());
 
-			for (int i = 0; i < nodelistPanel.getLength(); i++) {
-				Node nodePanel  = nodelistPanel.item(i); // .getNodeValue();
-				Element elementPanel = (Element) nodePanel;
-				System.out.println("[" + i + "]\nPanel id: " + elementPanel.getAttribute("id"));
-				if (elementPanel.getAttribute("linked_to").isEmpty()) {
-					panels.add(LiftingSurfacePanelCreator.importFromPanelNode(nodePanel, airfoilsDir));
+			for (int i = 0; i < panelReaders.size(); i++) {
+				JPADXmlReader panelReader = panelReaders.get(i);
+				String linkedTo = panelReader.getXMLAttributeByPath("/panel", "linked_to");
+				System.out.println("[" + i + "]\nPanel id: " + panelReader.getXMLAttributeByPath("/panel", "id"));
+				if (linkedTo == null || linkedTo.isEmpty()) {
+					panels.add(LiftingSurfacePanelCreator.importFromPanel(panelReader, airfoilsDir));
 				} else {
 					LiftingSurfacePanelCreator panel0 = panels.stream()
-							.filter(p -> p.getId().equals(elementPanel.getAttribute("linked_to")))
+							.filter(p -> p.getId().equals(linkedTo))
 							.findFirst()
 							.get()
 							;
 					if (panel0 != null) {
-						System.out.println("Panel linked_to: **" + elementPanel.getAttribute("linked_to") + "**");
-						panels.add(LiftingSurfacePanelCreator.importFromPanelNodeLinked(nodePanel, panel0, airfoilsDir));
+						System.out.println("Panel linked_to: **" + linkedTo + "**");
+						panels.add(LiftingSurfacePanelCreator.importFromPanelLinked(panelReader, panel0, airfoilsDir));
 					} else {
 						System.out.println("WARNING: panel not parsed. Unable to find the ID of linked_to attribute!");
 					}
@@ -302,13 +287,12 @@ public class LiftingSurface {
 
 			//---------------------------------------------------------------------------------
 			// SYMMETRIC FLAPS
-			NodeList nodelistFlaps = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//symmetric_flaps/symmetric_flap");
+			List<JPADXmlReader> flapsReaders = reader.getXMLReadersByPath("//symmetric_flaps/symmetric_flap");
 
-			System.out.println("Symmetric flaps found: " + nodelistFlaps.getLength());
+			System.out.println("Symmetric flaps found: " + flapsReaders.size());
 
-			for (int i = 0; i < nodelistFlaps.getLength(); i++) {
-				Node nodeFlap  = nodelistFlaps.item(i); // .getNodeValue();
+			for (int i = 0; i < flapsReaders.size(); i++) {
+				Node nodeFlap  = flapsReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 				Element elementFlap = (Element) nodeFlap;
 				System.out.println("[" + i + "]\nFlap id: " + elementFlap.getAttribute("id"));
 
@@ -317,13 +301,12 @@ public class LiftingSurface {
 
 			//---------------------------------------------------------------------------------
 			// SYMMETRIC SLATS
-			NodeList nodelistSlats = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//slats/slat");
+			List<JPADXmlReader> slatsReaders = reader.getXMLReadersByPath("//slats/slat");
 
-			System.out.println("Slats found: " + nodelistSlats.getLength());
+			System.out.println("Slats found: " + slatsReaders.size());
 
-			for (int i = 0; i < nodelistSlats.getLength(); i++) {
-				Node nodeSlat  = nodelistSlats.item(i); // .getNodeValue();
+			for (int i = 0; i < slatsReaders.size(); i++) {
+				Node nodeSlat  = slatsReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 				Element elementSlat = (Element) nodeSlat;
 				System.out.println("[" + i + "]\nSlat id: " + elementSlat.getAttribute("id"));
 
@@ -332,13 +315,12 @@ public class LiftingSurface {
 
 			//---------------------------------------------------------------------------------
 			// ASYMMETRIC FLAPS
-			NodeList nodelistAsymmetricFlaps = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//asymmetric_flaps/asymmetric_flap");
+			List<JPADXmlReader> asymmetricFlapsReaders = reader.getXMLReadersByPath("//asymmetric_flaps/asymmetric_flap");
 
-			System.out.println("Asymmetric flaps found: " + nodelistAsymmetricFlaps.getLength());
+			System.out.println("Asymmetric flaps found: " + asymmetricFlapsReaders.size());
 
-			for (int i = 0; i < nodelistAsymmetricFlaps.getLength(); i++) {
-				Node nodeAsymmetricFlap  = nodelistAsymmetricFlaps.item(i); // .getNodeValue();
+			for (int i = 0; i < asymmetricFlapsReaders.size(); i++) {
+				Node nodeAsymmetricFlap  = asymmetricFlapsReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 				Element elementAsymmetricFlap = (Element) nodeAsymmetricFlap;
 				System.out.println("[" + i + "]\nSlat id: " + elementAsymmetricFlap.getAttribute("id"));
 
@@ -347,13 +329,12 @@ public class LiftingSurface {
 
 			//---------------------------------------------------------------------------------
 			// SPOILERS
-			NodeList nodelistSpoilers = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//spoilers/spoiler");
+			List<JPADXmlReader> spoilersReaders = reader.getXMLReadersByPath("//spoilers/spoiler");
 
-			System.out.println("Spoilers found: " + nodelistSpoilers.getLength());
+			System.out.println("Spoilers found: " + spoilersReaders.size());
 
-			for (int i = 0; i < nodelistSpoilers.getLength(); i++) {
-				Node nodeSpoiler  = nodelistSpoilers.item(i); // .getNodeValue();
+			for (int i = 0; i < spoilersReaders.size(); i++) {
+				Node nodeSpoiler  = spoilersReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 				Element elementSpoiler = (Element) nodeSpoiler;
 				System.out.println("[" + i + "]\nSlat id: " + elementSpoiler.getAttribute("id"));
 
@@ -407,26 +388,25 @@ public class LiftingSurface {
 			
 			//---------------------------------------------------------------------------------
 			// PANELS
-			NodeList nodelistPanel = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//panels/panel");
+			List<JPADXmlReader> panelReaders = reader.getXMLReadersByPath("//panels/panel");
 
-			System.out.println("Panels found: " + nodelistPanel.getLength());
+			System.out.println("Panels found: " + panelReaders.size());
 
-			for (int i = 0; i < nodelistPanel.getLength(); i++) {
-				Node nodePanel  = nodelistPanel.item(i); // .getNodeValue();
-				Element elementPanel = (Element) nodePanel;
-				System.out.println("[" + i + "]\nPanel id: " + elementPanel.getAttribute("id"));
-				if (elementPanel.getAttribute("linked_to").isEmpty()) {
-					panels.add(LiftingSurfacePanelCreator.importFromPanelNode(nodePanel, airfoilsDir));
+			for (int i = 0; i < panelReaders.size(); i++) {
+				JPADXmlReader panelReader = panelReaders.get(i);
+				String linkedTo = panelReader.getXMLAttributeByPath("/panel", "linked_to");
+				System.out.println("[" + i + "]\nPanel id: " + panelReader.getXMLAttributeByPath("/panel", "id"));
+				if (linkedTo == null || linkedTo.isEmpty()) {
+					panels.add(LiftingSurfacePanelCreator.importFromPanel(panelReader, airfoilsDir));
 				} else {
 					LiftingSurfacePanelCreator panel0 = panels.stream()
-							.filter(p -> p.getId().equals(elementPanel.getAttribute("linked_to")))
+							.filter(p -> p.getId().equals(linkedTo))
 							.findFirst()
 							.get()
 							;
 					if (panel0 != null) {
-						System.out.println("Panel linked_to: **" + elementPanel.getAttribute("linked_to") + "**");
-						panels.add(LiftingSurfacePanelCreator.importFromPanelNodeLinked(nodePanel, panel0, airfoilsDir));
+						System.out.println("Panel linked_to: **" + linkedTo + "**");
+						panels.add(LiftingSurfacePanelCreator.importFromPanelLinked(panelReader, panel0, airfoilsDir));
 					} else {
 						System.out.println("WARNING: panel not parsed. Unable to find the ID of linked_to attribute!");
 					}
@@ -435,13 +415,12 @@ public class LiftingSurface {
 
 			//---------------------------------------------------------------------------------
 			// SYMMETRIC FLAPS
-			NodeList nodelistFlaps = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//symmetric_flaps/symmetric_flap");
+			List<JPADXmlReader> flapsReaders = reader.getXMLReadersByPath("//symmetric_flaps/symmetric_flap");
 
-			System.out.println("Symmetric flaps found: " + nodelistFlaps.getLength());
+			System.out.println("Symmetric flaps found: " + flapsReaders.size());
 
-			for (int i = 0; i < nodelistFlaps.getLength(); i++) {
-				Node nodeFlap  = nodelistFlaps.item(i); // .getNodeValue();
+			for (int i = 0; i < flapsReaders.size(); i++) {
+				Node nodeFlap  = flapsReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 				Element elementFlap = (Element) nodeFlap;
 				System.out.println("[" + i + "]\nFlap id: " + elementFlap.getAttribute("id"));
 
@@ -485,26 +464,25 @@ public class LiftingSurface {
 			
 			//---------------------------------------------------------------------------------
 			// PANELS
-			NodeList nodelistPanel = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//panels/panel");
+			List<JPADXmlReader> panelReaders = reader.getXMLReadersByPath("//panels/panel");
 
-			System.out.println("Panels found: " + nodelistPanel.getLength());
+			System.out.println("Panels found: " + panelReaders.size());
 
-			for (int i = 0; i < nodelistPanel.getLength(); i++) {
-				Node nodePanel  = nodelistPanel.item(i); // .getNodeValue();
-				Element elementPanel = (Element) nodePanel;
-				System.out.println("[" + i + "]\nPanel id: " + elementPanel.getAttribute("id"));
-				if (elementPanel.getAttribute("linked_to").isEmpty()) {
-					panels.add(LiftingSurfacePanelCreator.importFromPanelNode(nodePanel, airfoilsDir));
+			for (int i = 0; i < panelReaders.size(); i++) {
+				JPADXmlReader panelReader = panelReaders.get(i);
+				String linkedTo = panelReader.getXMLAttributeByPath("/panel", "linked_to");
+				System.out.println("[" + i + "]\nPanel id: " + panelReader.getXMLAttributeByPath("/panel", "id"));
+				if (linkedTo == null || linkedTo.isEmpty()) {
+					panels.add(LiftingSurfacePanelCreator.importFromPanel(panelReader, airfoilsDir));
 				} else {
 					LiftingSurfacePanelCreator panel0 = panels.stream()
-							.filter(p -> p.getId().equals(elementPanel.getAttribute("linked_to")))
+							.filter(p -> p.getId().equals(linkedTo))
 							.findFirst()
 							.get()
 							;
 					if (panel0 != null) {
-						System.out.println("Panel linked_to: **" + elementPanel.getAttribute("linked_to") + "**");
-						panels.add(LiftingSurfacePanelCreator.importFromPanelNodeLinked(nodePanel, panel0, airfoilsDir));
+						System.out.println("Panel linked_to: **" + linkedTo + "**");
+						panels.add(LiftingSurfacePanelCreator.importFromPanelLinked(panelReader, panel0, airfoilsDir));
 					} else {
 						System.out.println("WARNING: panel not parsed. Unable to find the ID of linked_to attribute!");
 					}
@@ -513,13 +491,12 @@ public class LiftingSurface {
 
 			//---------------------------------------------------------------------------------
 			// SYMMETRIC FLAPS
-			NodeList nodelistFlaps = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//symmetric_flaps/symmetric_flap");
+			List<JPADXmlReader> flapsReaders = reader.getXMLReadersByPath("//symmetric_flaps/symmetric_flap");
 
-			System.out.println("Symmetric flaps found: " + nodelistFlaps.getLength());
+			System.out.println("Symmetric flaps found: " + flapsReaders.size());
 
-			for (int i = 0; i < nodelistFlaps.getLength(); i++) {
-				Node nodeFlap  = nodelistFlaps.item(i); // .getNodeValue();
+			for (int i = 0; i < flapsReaders.size(); i++) {
+				Node nodeFlap  = flapsReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 				Element elementFlap = (Element) nodeFlap;
 				System.out.println("[" + i + "]\nFlap id: " + elementFlap.getAttribute("id"));
 
@@ -563,26 +540,25 @@ public class LiftingSurface {
 			
 			//---------------------------------------------------------------------------------
 			// PANELS
-			NodeList nodelistPanel = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//panels/panel");
+			List<JPADXmlReader> panelReaders = reader.getXMLReadersByPath("//panels/panel");
 
-			System.out.println("Panels found: " + nodelistPanel.getLength());
+			System.out.println("Panels found: " + panelReaders.size());
 
-			for (int i = 0; i < nodelistPanel.getLength(); i++) {
-				Node nodePanel  = nodelistPanel.item(i); // .getNodeValue();
-				Element elementPanel = (Element) nodePanel;
-				System.out.println("[" + i + "]\nPanel id: " + elementPanel.getAttribute("id"));
-				if (elementPanel.getAttribute("linked_to").isEmpty()) {
-					panels.add(LiftingSurfacePanelCreator.importFromPanelNode(nodePanel, airfoilsDir));
+			for (int i = 0; i < panelReaders.size(); i++) {
+				JPADXmlReader panelReader = panelReaders.get(i);
+				String linkedTo = panelReader.getXMLAttributeByPath("/panel", "linked_to");
+				System.out.println("[" + i + "]\nPanel id: " + panelReader.getXMLAttributeByPath("/panel", "id"));
+				if (linkedTo == null || linkedTo.isEmpty()) {
+					panels.add(LiftingSurfacePanelCreator.importFromPanel(panelReader, airfoilsDir));
 				} else {
 					LiftingSurfacePanelCreator panel0 = panels.stream()
-							.filter(p -> p.getId().equals(elementPanel.getAttribute("linked_to")))
+							.filter(p -> p.getId().equals(linkedTo))
 							.findFirst()
 							.get()
 							;
 					if (panel0 != null) {
-						System.out.println("Panel linked_to: **" + elementPanel.getAttribute("linked_to") + "**");
-						panels.add(LiftingSurfacePanelCreator.importFromPanelNodeLinked(nodePanel, panel0, airfoilsDir));
+						System.out.println("Panel linked_to: **" + linkedTo + "**");
+						panels.add(LiftingSurfacePanelCreator.importFromPanelLinked(panelReader, panel0, airfoilsDir));
 					} else {
 						System.out.println("WARNING: panel not parsed. Unable to find the ID of linked_to attribute!");
 					}
@@ -590,13 +566,12 @@ public class LiftingSurface {
 			}
 
 			// SYMMETRIC FLAPS
-			NodeList nodelistFlaps = MyXMLReaderUtils
-					.getXMLNodeListByPath(reader.getXmlDoc(), "//symmetric_flaps/symmetric_flap");
+			List<JPADXmlReader> flapsReaders = reader.getXMLReadersByPath("//symmetric_flaps/symmetric_flap");
 
-			System.out.println("Symmetric flaps found: " + nodelistFlaps.getLength());
+			System.out.println("Symmetric flaps found: " + flapsReaders.size());
 
-			for (int i = 0; i < nodelistFlaps.getLength(); i++) {
-				Node nodeFlap  = nodelistFlaps.item(i); // .getNodeValue();
+			for (int i = 0; i < flapsReaders.size(); i++) {
+				Node nodeFlap  = flapsReaders.get(i).getXmlDoc().getDocumentElement(); // .getNodeValue();
 				Element elementFlap = (Element) nodeFlap;
 				System.out.println("[" + i + "]\nFlap id: " + elementFlap.getAttribute("id"));
 
@@ -630,10 +605,22 @@ public class LiftingSurface {
 		calculateGeometry(_numberOfSpanwisePoints, type, mirrored);
 	}
 
+	/**
+	 * Repeats the last calculateGeometry with the same number of spanwise stations, to be used 
+	 * after a change of the panels. calculateGeometry(type, mirrored) uses instead the number of 
+	 * stations resulting from the last discretization (break-points included), which grows at 
+	 * each call on a kinked planform.
+	 */
+	public void recalculateGeometry() {
+		calculateGeometry(_requestedNumberOfSpanwisePoints, getType(), isMirrored());
+	}
+
 	public void calculateGeometry(int numberSpanwiseStations, ComponentEnum type, Boolean mirrored) {
 
 		System.out.println("[LiftingSurfaceCreator] Calculating derived geometry parameters of lifting surface ...");
 
+		_requestedNumberOfSpanwisePoints = numberSpanwiseStations;
+
 		initializeData();
 		
 		// Update inner geometric variables of each panel
@@ -791,23 +778,11 @@ public class LiftingSurface {
 						_theLiftingSurfaceInterface.getSpoilers().get(i).getOuterStationSpanwisePosition()
 						).doubleValue(SI.METER);
 				
-				double localChordInner = GeometryCalc.getChordAtYActual(
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedYs()),
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedChords()),
-						yIn);
-				double localChordOuter = GeometryCalc.getChordAtYActual(
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedYs()),
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedChords()),
-						yOut);
+				double localChordInner = GeometryCalc.getChordAtYActual(_discretizedYs, _discretizedChords, yIn);
+				double localChordOuter = GeometryCalc.getChordAtYActual(_discretizedYs, _discretizedChords, yOut);
 				
-				double xLELocalInnerChord = GeometryCalc.getXLEAtYActual(
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedYs()),
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedXle()),
-						yIn);
-				double xLELocalOuterChord = GeometryCalc.getXLEAtYActual(
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedYs()),
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedXle()),
-						yOut);
+				double xLELocalInnerChord = GeometryCalc.getXLEAtYActual(_discretizedYs, _discretizedXle, yIn);
+				double xLELocalOuterChord = GeometryCalc.getXLEAtYActual(_discretizedYs, _discretizedXle, yOut);
 				
 				double innerChordwisePosition = _theLiftingSurfaceInterface.getSpoilers().get(i).getInnerStationChordwisePosition();
 				double outerChordwisePosition = _theLiftingSurfaceInterface.getSpoilers().get(i).getOuterStationChordwisePosition();
@@ -863,41 +838,38 @@ public class LiftingSurface {
 		double area1;
 		Double xOffsetEquivalentWingRootLE;
 		
-		int nSec = this.getDiscretizedXle().size();
-		
-		List<Amount<Length>> discretizedYs = this.getDiscretizedYs();
-		List<Amount<Length>> discretizedXle = this.getDiscretizedXle();
+		int nSec = _discretizedXle.length;
 		
-		double xLERoot = discretizedXle.get(0).doubleValue(SI.METER);
+		double xLERoot = _discretizedXle[0];
 		double xLEKink = this.getXLEBreakPoints().get(1).doubleValue(SI.METER);
-		double xLETip = discretizedXle.get(nSec-1).doubleValue(SI.METER);
+		double xLETip = _discretizedXle[nSec-1];
 		
 		if(xLETip - xLEKink >= 0) { // case 1
 			
 			if(xLETip - xLERoot >= 0) { // case 1.1
 				
 				area1 = MyMathUtils.areaPolygon(
-						new double[] {discretizedXle.get(0).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)},
-						new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)},
-						new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
+						new double[] {_discretizedXle[0], _discretizedYs[0]},
+						new double[] {_discretizedXle[nSec-1], _discretizedYs[0]},
+						new double[] {_discretizedXle[nSec-1], _discretizedYs[nSec-1]},
 						new double[] {this.getXLEBreakPoints().get(1).doubleValue(SI.METER), this.getYBreakPoints().get(1).doubleValue(SI.METER)}			
 						);
 				
 				xOffsetEquivalentWingRootLE = 
-						(discretizedXle.get(nSec-1).doubleValue(SI.METER)*this._semiSpan.doubleValue(SI.METER) - 2*area1)
+						(_discretizedXle[nSec-1]*this._semiSpan.doubleValue(SI.METER) - 2*area1)
 							/this._semiSpan.doubleValue(SI.METER);
 				
 			} else { // case 1.2
 				
 				area1 = MyMathUtils.areaPolygon(
-						new double[] {discretizedXle.get(0).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)},
-						new double[] {discretizedXle.get(0).doubleValue(SI.METER), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-						new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
+						new double[] {_discretizedXle[0], _discretizedYs[0]},
+						new double[] {_discretizedXle[0], _discretizedYs[nSec-1]},
+						new double[] {_discretizedXle[nSec-1], _discretizedYs[nSec-1]},
 						new double[] {this.getXLEBreakPoints().get(1).doubleValue(SI.METER), this.getYBreakPoints().get(1).doubleValue(SI.METER)}
 						);
 				
 				xOffsetEquivalentWingRootLE = 
-						(2*area1 - discretizedXle.get(nSec-1).doubleValue(SI.METER)*this._semiSpan.doubleValue(SI.METER))
+						(2*area1 - _discretizedXle[nSec-1]*this._semiSpan.doubleValue(SI.METER))
 							/this._semiSpan.doubleValue(SI.METER);
 				
 			}
@@ -907,14 +879,14 @@ public class LiftingSurface {
 			if(xLEKink - xLERoot < 0) { // case 2.2
 				
 				area1 = MyMathUtils.areaPolygon(
-						new double[] {discretizedXle.get(0).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)},
+						new double[] {_discretizedXle[0], _discretizedYs[0]},
 						new double[] {this.getXLEBreakPoints().get(1).doubleValue(SI.METER), this.getYBreakPoints().get(1).doubleValue(SI.METER)},
-						new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-						new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)}					
+						new double[] {_discretizedXle[nSec-1], _discretizedYs[nSec-1]},
+						new double[] {_discretizedXle[nSec-1], _discretizedYs[0]}					
 						);
 				
 				xOffsetEquivalentWingRootLE = 
-						(2*area1 + discretizedXle.get(nSec-1).doubleValue(SI.METER)*this._semiSpan.doubleValue(SI.METER))
+						(2*area1 + _discretizedXle[nSec-1]*this._semiSpan.doubleValue(SI.METER))
 							/this._semiSpan.doubleValue(SI.METER);
 						
 			} else { // case 2.1
@@ -922,27 +894,27 @@ public class LiftingSurface {
 				if(xLETip - xLERoot >= 0) { // case 2.1.1
 					
 					area1 = MyMathUtils.areaPolygon(
-							new double[] {discretizedXle.get(0).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)},
+							new double[] {_discretizedXle[0], _discretizedYs[0]},
 							new double[] {this.getXLEBreakPoints().get(1).doubleValue(SI.METER), this.getYBreakPoints().get(1).doubleValue(SI.METER)},
-							new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-							new double[] {discretizedXle.get(0).doubleValue(SI.METER), discretizedYs.get(nSec-1).doubleValue(SI.METER)}
+							new double[] {_discretizedXle[nSec-1], _discretizedYs[nSec-1]},
+							new double[] {_discretizedXle[0], _discretizedYs[nSec-1]}
 							);
 					
 					xOffsetEquivalentWingRootLE = 
-							(2*area1 - discretizedXle.get(nSec-1).doubleValue(SI.METER)*this._semiSpan.doubleValue(SI.METER))
+							(2*area1 - _discretizedXle[nSec-1]*this._semiSpan.doubleValue(SI.METER))
 								/this._semiSpan.doubleValue(SI.METER);
 					
 				} else { // case 2.1.2
 					
 					area1 = MyMathUtils.areaPolygon(
-							new double[] {discretizedXle.get(0).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)},
+							new double[] {_discretizedXle[0], _discretizedYs[0]},
 							new double[] {this.getXLEBreakPoints().get(1).doubleValue(SI.METER), this.getYBreakPoints().get(1).doubleValue(SI.METER)},
-							new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-							new double[] {discretizedXle.get(nSec-1).doubleValue(SI.METER), discretizedYs.get(0).doubleValue(SI.METER)}
+							new double[] {_discretizedXle[nSec-1], _discretizedYs[nSec-1]},
+							new double[] {_discretizedXle[nSec-1], _discretizedYs[0]}
 							);
 					
 					xOffsetEquivalentWingRootLE = 
-							(2*area1 + discretizedXle.get(nSec-1).doubleValue(SI.METER)*this._semiSpan.doubleValue(SI.METER))
+							(2*area1 + _discretizedXle[nSec-1]*this._semiSpan.doubleValue(SI.METER))
 								/this._semiSpan.doubleValue(SI.METER);
 							
 				}
@@ -955,15 +927,8 @@ public class LiftingSurface {
 		double area2;
 		Double xEquivalentWingRootTE;
 		
-		Tuple2<
-			List<Amount<Length>>, // Xle
-			List<Amount<Length>>  // c
-			> xlePlusCTuple = Tuple.of(this.getDiscretizedXle(), this.getDiscretizedChords());
-
-		List<Double> xlePlusC = IntStream.range(0, this.getDiscretizedYs().size())
-				.mapToObj(i -> 
-					xlePlusCTuple._1.get(i).doubleValue(SI.METRE)
-					+ xlePlusCTuple._2.get(i).doubleValue(SI.METRE))
+		List<Double> xlePlusC = IntStream.range(0, _discretizedYs.length)
+				.mapToObj(i -> _discretizedXle[i] + _discretizedChords[i])
 				.collect(Collectors.toList());
 		
 		double xTERoot = xlePlusC.get(0);
@@ -975,9 +940,9 @@ public class LiftingSurface {
 			if(xTETip - xTERoot >= 0) { // case 1.1
 				
 				area2 = MyMathUtils.areaPolygon(
-						new double[] {xlePlusC.get(0), discretizedYs.get(0).doubleValue(SI.METER)},
-						new double[] {xlePlusC.get(nSec-1), discretizedYs.get(0).doubleValue(SI.METER)},
-						new double[] {xlePlusC.get(nSec-1), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
+						new double[] {xlePlusC.get(0), _discretizedYs[0]},
+						new double[] {xlePlusC.get(nSec-1), _discretizedYs[0]},
+						new double[] {xlePlusC.get(nSec-1), _discretizedYs[nSec-1]},
 						new double[] {xTEKink, this.getYBreakPoints().get(1).doubleValue(SI.METER)}
 						);
 				
@@ -988,9 +953,9 @@ public class LiftingSurface {
 			} else { // case 1.2
 				
 				area2 = MyMathUtils.areaPolygon(
-						new double[] {xlePlusC.get(0), discretizedYs.get(0).doubleValue(SI.METER)},
-						new double[] {xlePlusC.get(0), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-						new double[] {xlePlusC.get(nSec-1), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
+						new double[] {xlePlusC.get(0), _discretizedYs[0]},
+						new double[] {xlePlusC.get(0), _discretizedYs[nSec-1]},
+						new double[] {xlePlusC.get(nSec-1), _discretizedYs[nSec-1]},
 						new double[] {xTEKink, this.getYBreakPoints().get(1).doubleValue(SI.METER)}
 						);
 				
@@ -1006,10 +971,10 @@ public class LiftingSurface {
 			if(xTEKink - xTERoot < 0) { // case 2.2
 				
 				area2 = MyMathUtils.areaPolygon(
-						new double[] {xlePlusC.get(0), discretizedYs.get(0).doubleValue(SI.METER)},
+						new double[] {xlePlusC.get(0), _discretizedYs[0]},
 						new double[] {xTEKink, this.getYBreakPoints().get(1).doubleValue(SI.METER)},
-						new double[] {xlePlusC.get(nSec-1), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-						new double[] {xlePlusC.get(nSec-1), discretizedYs.get(0).doubleValue(SI.METER)}
+						new double[] {xlePlusC.get(nSec-1), _discretizedYs[nSec-1]},
+						new double[] {xlePlusC.get(nSec-1), _discretizedYs[0]}
 						);
 				
 				xEquivalentWingRootTE = 
@@ -1021,10 +986,10 @@ public class LiftingSurface {
 				if(xTETip - xTERoot >= 0) { // case 2.1.1
 					
 					area2 = MyMathUtils.areaPolygon(
-							new double[] {xlePlusC.get(0), discretizedYs.get(0).doubleValue(SI.METER)},
+							new double[] {xlePlusC.get(0), _discretizedYs[0]},
 							new double[] {xTEKink, this.getYBreakPoints().get(1).doubleValue(SI.METER)},
-							new double[] {xlePlusC.get(nSec-1), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-							new double[] {xlePlusC.get(0), discretizedYs.get(nSec-1).doubleValue(SI.METER)}
+							new double[] {xlePlusC.get(nSec-1), _discretizedYs[nSec-1]},
+							new double[] {xlePlusC.get(0), _discretizedYs[nSec-1]}
 							);
 					
 					xEquivalentWingRootTE = 
@@ -1035,10 +1000,10 @@ public class LiftingSurface {
 				} else { // case 2.1.2
 					
 					area2 = MyMathUtils.areaPolygon(
-							new double[] {xlePlusC.get(0), discretizedYs.get(0).doubleValue(SI.METER)},
+							new double[] {xlePlusC.get(0), _discretizedYs[0]},
 							new double[] {xTEKink, this.getYBreakPoints().get(1).doubleValue(SI.METER)},
-							new double[] {xlePlusC.get(nSec-1), discretizedYs.get(nSec-1).doubleValue(SI.METER)},
-							new double[] {xlePlusC.get(nSec-1), discretizedYs.get(0).doubleValue(SI.METER)}
+							new double[] {xlePlusC.get(nSec-1), _discretizedYs[nSec-1]},
+							new double[] {xlePlusC.get(nSec-1), _discretizedYs[0]}
 							);
 					
 					xEquivalentWingRootTE = 
@@ -1097,7 +1062,7 @@ public class LiftingSurface {
 		
 		Amount<Angle> sweepLEEquivalentWing = Amount.valueOf(
 				Math.atan(
-						(getDiscretizedXle().get(getDiscretizedXle().size()-1).doubleValue(SI.METER) - xOffsetEquivalentWingRootLE)
+						(_discretizedXle[_discretizedXle.length-1] - xOffsetEquivalentWingRootLE)
 						/getSemiSpan().doubleValue(SI.METER)
 						),
 				SI.RADIAN)
@@ -1156,53 +1121,42 @@ public class LiftingSurface {
 		
 		if (mirrored) {
 			Double mac = MyMathUtils.integrate1DSimpsonSpline(
-					MyArrayUtils.convertListOfAmountTodoubleArray(
-							this.getDiscretizedYs()), // y
-					MyArrayUtils.convertListOfAmountTodoubleArray(
-							this.getDiscretizedChords().stream()
-							.map(c -> c.pow(2))
-							.collect(Collectors.toList())
-							) // c^2
+					_discretizedYs, // y
+					squareDiscretizedChords() // c^2
 					);
 			mac = 2.0 * mac / this.getSurfacePlanform().doubleValue(SI.SQUARE_METRE); // *= 2/S
 			_meanAerodynamicChord = Amount.valueOf(mac,1e-9,SI.METRE);
 		}
 		else {
 			Double mac = MyMathUtils.integrate1DSimpsonSpline(
-					MyArrayUtils.convertListOfAmountTodoubleArray(
-							this.getDiscretizedYs()), // y
-					MyArrayUtils.convertListOfAmountTodoubleArray(
-							this.getDiscretizedChords().stream()
-							.map(c -> c.pow(2))
-							.collect(Collectors.toList())
-							) // c^2
+					_discretizedYs, // y
+					squareDiscretizedChords() // c^2
 					);
 			mac = mac / this.getSurfacePlanform().doubleValue(SI.SQUARE_METRE); // *= 2/S
 			_meanAerodynamicChord = Amount.valueOf(mac,1e-9,SI.METRE);
 		}
 	}
 
+	private double[] squareDiscretizedChords() {
+		double[] chordsSquared = new double[_discretizedChords.length];
+		for (int i = 0; i < chordsSquared.length; i++)
+			chordsSquared[i] = _discretizedChords[i]*_discretizedChords[i];
+		return chordsSquared;
+	}
+
 	private void calculateXYZleMAC(Boolean mirrored) {
 
 		//======================================================
 		// x_le_mac = (2/S) * int_0^(b/2) xle(y) c(y) dy (if mirrored)
 		// x_le_mac = (2/S) * int_0^(b/2) xle(y) c(y) dy (if not mirrored)
 
-		Tuple2<
-			List<Amount<Length>>, // Xle
-			List<Amount<Length>>  // c
-		> xleTimeCTuple = Tuple.of(this.getDiscretizedXle(), this.getDiscretizedChords());
-		
-		List<Double> xleTimeC = IntStream.range(0, this.getDiscretizedYs().size())
-				.mapToObj(i -> 
-					xleTimeCTuple._1.get(i).doubleValue(SI.METRE)
-					*xleTimeCTuple._2.get(i).doubleValue(SI.METRE)) // xle * c
-				.collect(Collectors.toList());
+		double[] xleTimeC = new double[_discretizedYs.length];
+		for (int i = 0; i < xleTimeC.length; i++)
+			xleTimeC[i] = _discretizedXle[i]*_discretizedChords[i]; // xle * c
 		
 		Double xle = MyMathUtils.integrate1DSimpsonSpline(
-				MyArrayUtils.convertListOfAmountTodoubleArray(
-						this.getDiscretizedYs()), // y
-				MyArrayUtils.convertToDoublePrimitive(xleTimeC) // xle * c
+				_discretizedYs, // y
+				xleTimeC // xle * c
 			);
 		
 		if(mirrored) {
@@ -1218,21 +1172,13 @@ public class LiftingSurface {
 		// y_le_mac = (2/S) * int_0^(b/2) yle(y) c(y) dy (if mirrored)
 		// y_le_mac = (1/S) * int_0^(b/2) yle(y) c(y) dy (if not mirrored)
 
-		Tuple2<
-			List<Amount<Length>>, // Xle
-			List<Amount<Length>>  // c
-		> yTimeCTuple = Tuple.of(this.getDiscretizedYs(), this.getDiscretizedChords());
-
-		List<Double> yTimeC = IntStream.range(0, this.getDiscretizedYs().size())
-				.mapToObj(i -> 
-					yTimeCTuple._1.get(i).doubleValue(SI.METRE)
-					*yTimeCTuple._2.get(i).doubleValue(SI.METRE)) // y * c
-				.collect(Collectors.toList());
+		double[] yTimeC = new double[_discretizedYs.length];
+		for (int i = 0; i < yTimeC.length; i++)
+			yTimeC[i] = _discretizedYs[i]*_discretizedChords[i]; // y * c
 		
 		Double yle = MyMathUtils.integrate1DSimpsonSpline(
-				MyArrayUtils.convertListOfAmountTodoubleArray(
-						this.getDiscretizedYs()), // y
-				MyArrayUtils.convertToDoublePrimitive(yTimeC) // y * c
+				_discretizedYs, // y
+				yTimeC // y * c
 			);
 		if(mirrored) {
 			yle = 2.0 * yle / this.getSurfacePlanform().doubleValue(SI.SQUARE_METRE); // *= 2/S
@@ -1245,21 +1191,13 @@ public class LiftingSurface {
 		//======================================================
 		// z_le_mac = (2/S) * int_0^(b/2) zle(y) c(y) dy (if mirrored)
 		// z_le_mac = (1/S) * int_0^(b/2) zle(y) c(y) dy (if not mirrored)
-		Tuple2<
-			List<Amount<Length>>, // Xle
-			List<Amount<Length>>  // c
-		> zTimeCTuple = Tuple.of(this.getDiscretizedZle(), this.getDiscretizedChords());
-
-		List<Double> zTimeC = IntStream.range(0, this.getDiscretizedYs().size())
-			.mapToObj(i -> 
-				zTimeCTuple._1.get(i).doubleValue(SI.METRE)
-				*zTimeCTuple._2.get(i).doubleValue(SI.METRE)) // z * c
-			.collect(Collectors.toList());
+		double[] zTimeC = new double[_discretizedYs.length];
+		for (int i = 0; i < zTimeC.length; i++)
+			zTimeC[i] = _discretizedZle[i]*_discretizedChords[i]; // z * c
 		
 		Double zle = MyMathUtils.integrate1DSimpsonSpline(
-				MyArrayUtils.convertListOfAmountTodoubleArray(
-						this.getDiscretizedYs()), // z
-				MyArrayUtils.convertToDoublePrimitive(zTimeC) // z * c
+				_discretizedYs, // y
+				zTimeC // z * c
 			);
 		if(mirrored) {
 			zle = 2.0 * zle / this.getSurfacePlanform().doubleValue(SI.SQUARE_METRE); // *= 2/S
@@ -1294,7 +1232,6 @@ public class LiftingSurface {
 	private void calculateVariablesAtBreakpoints() {
 
 		System.out.println("[LiftingSurfaceCreator] calculate variables at breakpoints ...");
-		MyConfiguration.customizeAmountOutput();
 		
 		//======================================================
 		// Break points Y's
@@ -1383,118 +1320,71 @@ public class LiftingSurface {
 	}
 
 	/**
-	 * Calculate Chord Distribution of the Actual Wing along y axis
+	 * Assign the spanwise stations to the panels and allocate the discretized variables
 	 */
 	private void mapPanelsToYDiscretized() {
 
 		System.out.println("[LiftingSurfaceCreator] Map _panels to spanwise discretized Ys ...");
-		MyConfiguration.customizeAmountOutput();
 		
 		//======================================================
-		// Map _panels with lists of Y's, c, Xle, Yle, Zle, twist
+		// Map _panels to ranges of Y's (the stations are sorted,
+		// hence each panel takes a contiguous range of them)
 		// for each panel Y's of inner and outer break-points
 		// are included, i.e. Y's are repeated
 
-		Tuple2<
-			List<LiftingSurfacePanelCreator>,
-			List<Amount<Length>>
-			> tuple0 = Tuple.of(_theLiftingSurfaceInterface.getPanels(), _yStations);
-
-		_panelToSpanwiseDiscretizedVariables.add(
-			tuple0.map(
-				p -> _theLiftingSurfaceInterface.getPanels().get(0),
-				y -> Tuple.of(
-						y.stream()
-						// Innermost panel: Y's include 0 and panel's tip breakpoint Y
-						.filter(y_ -> y_.isLessThan( _theLiftingSurfaceInterface.getPanels().get(0).getSpan() ) 
-								|| y_.equals( _theLiftingSurfaceInterface.getPanels().get(0).getSpan()) )
-						.collect(Collectors.toList())
-						,
-						y.stream()
-						.filter(y_ -> y_.isLessThan( _theLiftingSurfaceInterface.getPanels().get(0).getSpan() ) 
-								|| y_.equals( _theLiftingSurfaceInterface.getPanels().get(0).getSpan()) )
-						.map(Y__ -> Amount.valueOf(0.0, SI.METRE))
-						.collect(Collectors.toList()) // initialize Chords
-						,
-						y.stream()
-						.filter(y_ -> y_.isLessThan( _theLiftingSurfaceInterface.getPanels().get(0).getSpan() )
-								|| y_.equals( _theLiftingSurfaceInterface.getPanels().get(0).getSpan()) )
-						.map(Y__ -> Amount.valueOf(0.0, SI.METRE))
-						.collect(Collectors.toList()) // initialize Xle
-						,
-						y.stream()
-						.filter(y_ -> y_.isLessThan( _theLiftingSurfaceInterface.getPanels().get(0).getSpan() )
-								|| y_.equals( _theLiftingSurfaceInterface.getPanels().get(0).getSpan()) )
-						.map(Y__ -> Amount.valueOf(0.0, SI.METRE))
-						.collect(Collectors.toList()) // initialize Zle
-						,
-						y.stream()
-						.filter(y_ -> y_.isLessThan( _theLiftingSurfaceInterface.getPanels().get(0).getSpan() ) 
-								|| y_.equals( _theLiftingSurfaceInterface.getPanels().get(0).getSpan()) )
-						.map(Y__ -> Amount.valueOf(0.0, SI.RADIAN))
-						.collect(Collectors.toList()) // initialize twists
-						)
-				)
-			);
+		List<LiftingSurfacePanelCreator> panels = _theLiftingSurfaceInterface.getPanels();
+		int nStations = _yStations.length;
+		int[] firstStation = new int[panels.size()];
+		int[] lastStation = new int[panels.size()]; // excluded
+
+		// Innermost panel: Y's include 0 and panel's tip breakpoint Y
+		double span0 = panels.get(0).getSpan().doubleValue(SI.METRE);
+		int end = 0;
+		while (end < nStations && _yStations[end] < span0)
+			end++;
+		lastStation[0] = end;
 
 		// All remaining _panels (innermost panel excluded)
 		// Y's include only panel's tip breakpoint Y,
 		// not including panel's root breakpoint Y
-		for (int i=1; i < _theLiftingSurfaceInterface.getPanels().size(); i++) {
-			final int i_ = i;
-			_panelToSpanwiseDiscretizedVariables.add(
-				tuple0.map(
-					p -> _theLiftingSurfaceInterface.getPanels().get(i_),
-					y -> Tuple.of(
-						y.stream()
-							.mapToDouble(a -> a.doubleValue(SI.METER))
-							.filter(y_ -> (
-									(Math.round(y_ * 100000) / 100000 > Math.round(_yBreakPoints.get(i_).doubleValue(SI.METER) * 100000) / 100000 )
-									&& ( Math.round(y_ * 100000) / 100000 <= Math.round(_yBreakPoints.get(i_+1).doubleValue(SI.METER) * 100000) / 100000 )
-									) )
-							.mapToObj(y_ -> Amount.valueOf(y_, SI.METER))
-							.collect(Collectors.toList())
-						,
-						y.stream()
-							.mapToDouble(a -> a.doubleValue(SI.METER))
-							.filter(y_ -> (
-									(Math.round(y_ * 100000) / 100000 > Math.round(_yBreakPoints.get(i_).doubleValue(SI.METER) * 100000) / 100000 )
-									&& ( Math.round(y_ * 100000) / 100000 <= Math.round(_yBreakPoints.get(i_+1).doubleValue(SI.METER) * 100000) / 100000 )
-									) ) 
-							.mapToObj(y_ -> Amount.valueOf(0.0, SI.METER))
-							.collect(Collectors.toList()) // initialize Chords
-						,
-						y.stream()
-							.mapToDouble(a -> a.doubleValue(SI.METER))
-							.filter(y_ -> (
-									(Math.round(y_ * 100000) / 100000 > Math.round(_yBreakPoints.get(i_).doubleValue(SI.METER) * 100000) / 100000 )
-									&& ( Math.round(y_ * 100000) / 100000 <= Math.round(_yBreakPoints.get(i_+1).doubleValue(SI.METER) * 100000) / 100000 )
-									) )
-							.mapToObj(y_ -> Amount.valueOf(0.0, SI.METER))
-							.collect(Collectors.toList()) // initialize Xle
-						,
-						y.stream()
-							.mapToDouble(a -> a.doubleValue(SI.METER))
-							.filter(y_ -> (
-									(Math.round(y_ * 100000) / 100000 > Math.round(_yBreakPoints.get(i_).doubleValue(SI.METER) * 100000) / 100000 )
-									&& ( Math.round(y_ * 100000) / 100000 <= Math.round(_yBreakPoints.get(i_+1).doubleValue(SI.METER) * 100000) / 100000 )
-									) )
-							.mapToObj(y_ -> Amount.valueOf(0.0, SI.METER))
-							.collect(Collectors.toList()) // initialize Zle
-						,
-						y.stream()
-							.mapToDouble(a -> a.doubleValue(SI.METER))
-							.filter(y_ -> (
-									(Math.round(y_ * 100000) / 100000 > Math.round(_yBreakPoints.get(i_).doubleValue(SI.METER) * 100000) / 100000 )
-									&& ( Math.round(y_ * 100000) / 100000 <= Math.round(_yBreakPoints.get(i_+1).doubleValue(SI.METER) * 100000) / 100000 )
-									) )
-							.mapToObj(y_ -> Amount.valueOf(0.0, SI.RADIAN))
-							.collect(Collectors.toList()) // initialize twists
-						)
-					)
-				);
-		}// end-of for
+		int start = 0;
+		for (int k = 1; k < panels.size(); k++) {
+			long yRoot = roundedToWholeMetres(_yBreakPoints.get(k).doubleValue(SI.METER));
+			long yTip = roundedToWholeMetres(_yBreakPoints.get(k+1).doubleValue(SI.METER));
+			while (start < nStations && roundedToWholeMetres(_yStations[start]) <= yRoot)
+				start++;
+			end = start;
+			while (end < nStations && roundedToWholeMetres(_yStations[end]) <= yTip)
+				end++;
+			firstStation[k] = start;
+			lastStation[k] = end;
+		}
 
+		_panelStationsOffsets = new int[panels.size() + 1];
+		for (int k = 0; k < panels.size(); k++)
+			_panelStationsOffsets[k+1] = _panelStationsOffsets[k] + (lastStation[k] - firstStation[k]);
+
+		int size = _panelStationsOffsets[panels.size()];
+		_discretizedYs = new double[size];
+		_discretizedChords = new double[size];
+		_discretizedXle = new double[size];
+		_discretizedZle = new double[size];
+		_discretizedTwists = new double[size];
+		for (int k = 0; k < panels.size(); k++)
+			System.arraycopy(
+					_yStations, firstStation[k], 
+					_discretizedYs, _panelStationsOffsets[k], 
+					lastStation[k] - firstStation[k]
+					);
+	}
+
+	/**
+	 * Station selection of the outer panels: Math.round(y*100000)/100000 is a long division,
+	 * i.e. Y's and break-points are compared in whole metres, as done since the first 
+	 * implementation
+	 */
+	private static long roundedToWholeMetres(double y) {
+		return Math.round(y * 100000) / 100000;
 	}
 
 	/**
@@ -1508,23 +1398,17 @@ public class LiftingSurface {
 		// Set chords versus Y's
 		// according to location within _panels/yBP
 
-		for (int k=0; k < _panelToSpanwiseDiscretizedVariables.size(); k++) {
-			LiftingSurfacePanelCreator panel = _panelToSpanwiseDiscretizedVariables.get(k)._1();
-			Amount<Length> y0 = _yBreakPoints.get(k);
-			List<Amount<Length>> vY = _panelToSpanwiseDiscretizedVariables.get(k)._2()._1(); // Ys
-			List<Amount<Length>> vC = _panelToSpanwiseDiscretizedVariables.get(k)._2()._2(); // Chords
-			IntStream.range(0, vY.size())
-				.forEach(i -> {
-					Amount<Length> y = vY.get(i).minus(y0);
-					// c(y) = cr + (2/b)*(ct - cr)*y
-					Amount<Length> c = panel.getChordRoot().plus(
-						y.times(
-							panel.getChordTip().minus(panel.getChordRoot())
-						).divide(panel.getSpan())
-						);
-					// assign the chord
-					vC.set(i, c);
-				});
+		for (int k = 0; k < _panelStationsOffsets.length - 1; k++) {
+			LiftingSurfacePanelCreator panel = _theLiftingSurfaceInterface.getPanels().get(k);
+			double y0 = _yBreakPoints.get(k).doubleValue(SI.METRE);
+			double chordRoot = panel.getChordRoot().doubleValue(SI.METRE);
+			double chordTip = panel.getChordTip().doubleValue(SI.METRE);
+			double span = panel.getSpan().doubleValue(SI.METRE);
+			for (int i = _panelStationsOffsets[k]; i < _panelStationsOffsets[k+1]; i++) {
+				double y = _discretizedYs[i] - y0;
+				// c(y) = cr + (2/b)*(ct - cr)*y
+				_discretizedChords[i] = chordRoot + y*(chordTip - chordRoot)/span;
+			}
 		}
 
 	}
@@ -1533,115 +1417,29 @@ public class LiftingSurface {
 
 		System.out.println("[LiftingSurfaceCreator] Map _panels to spanwise discretized Xle, Yle, twist ...");
 
-		for (int k=0; k < _panelToSpanwiseDiscretizedVariables.size(); k++) {
-			LiftingSurfacePanelCreator panel = _panelToSpanwiseDiscretizedVariables.get(k)._1();
-			Amount<Length> y0 = _yBreakPoints.get(k);
-			Amount<Length> x0 = _xLEBreakPoints.get(k);
-			Amount<Length> z0 = _zLEBreakPoints.get(k);
-			Amount<Angle> twist0 = _twistsBreakPoints.get(k);
-
-			List<Amount<Length>> vY = _panelToSpanwiseDiscretizedVariables.get(k)._2()._1(); // Ys
-			@SuppressWarnings("unused")
-			List<Amount<Length>> vC = _panelToSpanwiseDiscretizedVariables.get(k)._2()._2(); // Chords
-			List<Amount<Length>> vXLE = _panelToSpanwiseDiscretizedVariables.get(k)._2()._3(); // XLEs
-			List<Amount<Length>> vZLE = _panelToSpanwiseDiscretizedVariables.get(k)._2()._4(); // ZLEs
-			List<Amount<Angle>> vTwistsLE = _panelToSpanwiseDiscretizedVariables.get(k)._2()._5(); // Twists
-
-			Amount<Angle> sweepLE = panel.getSweepLeadingEdge();
-			Amount<Angle> dihedral = panel.getDihedral();
-
-			IntStream.range(0, vY.size())
-				.forEach(i -> {
-					// y := Y - y0
-					Amount<Length> y = vY.get(i).minus(y0);
-					// xle = x0 + y * tan(sweepLE)
-					Amount<Length> xle =
-						x0.plus(
-							y.times(Math.tan(sweepLE.to(SI.RADIAN).getEstimatedValue()))
-						);
-					// assign the xle
-					vXLE.set(i, xle);
-					// zle = z0 + y * tan(dihedral)
-					Amount<Length> zle =
-							z0.plus(
-								y.times(Math.tan(dihedral.to(SI.RADIAN).getEstimatedValue()))
-							);
-					vZLE.set(i, zle);
-					//
-					// twist(y) = twist_r + (2/b)*(twist_t - twist_r)*y
-					Amount<Angle> twist = twist0.plus(
-						y.times(
-							panel.getTwistGeometricAtTip().minus(twist0)
-						).divide(panel.getSpan())
-						);
-					// assign the chord
-					vTwistsLE.set(i, twist);
-				});
-		}
-	}
-
-	private void calculateDiscretizedGeometry() {
-		System.out.println("[LiftingSurfaceCreator] Map Ys to spanwise discretized variables ...");
-
-		List<Amount<Length>> vy = new ArrayList<>();
-		List<Amount<Length>> vc = new ArrayList<>();
-		List<Amount<Length>> vxle = new ArrayList<>();
-		List<Amount<Length>> vzle = new ArrayList<>();
-		List<Amount<Angle>> vtwist = new ArrayList<>();
-
-		for (int kp = 0; kp < _panelToSpanwiseDiscretizedVariables.size(); kp++) {
-
-			// sublist indexing criteria
-			int idxEnd = _panelToSpanwiseDiscretizedVariables.get(kp)
-						._2()._1().size()
-						// - 1 not necessary
-						;
-//			if (kp == (_panelToSpanwiseDiscretizedVariables.size() - 1))
-//				idxEnd += 1;
-
-			// System.out.println("kp=" + kp + ", end=" + idxEndExcluded);
-
-			vy.addAll(
-				_panelToSpanwiseDiscretizedVariables.get(kp)
-					._2()._1() // Ys
-					.subList(0, idxEnd)
-					);
-			vc.addAll(
-					_panelToSpanwiseDiscretizedVariables.get(kp)
-						._2()._2() // Chords
-						.subList(0, idxEnd)
-						);
-			vxle.addAll(
-					_panelToSpanwiseDiscretizedVariables.get(kp)
-						._2()._3() // Xle's
-						.subList(0, idxEnd)
-						);
-			vzle.addAll(
-					_panelToSpanwiseDiscretizedVariables.get(kp)
-						._2()._4() // Zle's
-						.subList(0, idxEnd)
-						);
-			vtwist.addAll(
-					_panelToSpanwiseDiscretizedVariables.get(kp)
-						._2()._5() // Twists
-						.subList(0, idxEnd)
-						);
-		}
-//		System.out.println("== y ==> size: " + vy.size() + "\n" + vy);
-//		System.out.println("== c ==> size: " + vc.size() + "\n" + vc);
-
-		for(int i = 0; i < vy.size(); i++) {
-			_spanwiseDiscretizedVariables.add(
-				Tuple.of(
-					vy.get(i),
-					vc.get(i),
-					vxle.get(i),
-					vzle.get(i),
-					vtwist.get(i)
-					)
-				);
+		for (int k = 0; k < _panelStationsOffsets.length - 1; k++) {
+			LiftingSurfacePanelCreator panel = _theLiftingSurfaceInterface.getPanels().get(k);
+			double y0 = _yBreakPoints.get(k).doubleValue(SI.METRE);
+			double x0 = _xLEBreakPoints.get(k).doubleValue(SI.METRE);
+			double z0 = _zLEBreakPoints.get(k).doubleValue(SI.METRE);
+			double twist0 = _twistsBreakPoints.get(k).doubleValue(SI.RADIAN);
+			double twistTip = panel.getTwistGeometricAtTip().doubleValue(SI.RADIAN);
+			double span = panel.getSpan().doubleValue(SI.METRE);
+
+			double tanSweepLE = Math.tan(panel.getSweepLeadingEdge().doubleValue(SI.RADIAN));
+			double tanDihedral = Math.tan(panel.getDihedral().doubleValue(SI.RADIAN));
+
+			for (int i = _panelStationsOffsets[k]; i < _panelStationsOffsets[k+1]; i++) {
+				// y := Y - y0
+				double y = _discretizedYs[i] - y0;
+				// xle = x0 + y * tan(sweepLE)
+				_discretizedXle[i] = x0 + y*tanSweepLE;
+				// zle = z0 + y * tan(dihedral)
+				_discretizedZle[i] = z0 + y*tanDihedral;
+				// twist(y) = twist_r + (2/b)*(twist_t - twist_r)*y
+				_discretizedTwists[i] = twist0 + y*(twistTip - twist0)/span;
+			}
 		}
-
 	}
 
 	public void calculateThicknessMean() {
@@ -1765,97 +1563,36 @@ public class LiftingSurface {
 	public void reportPanelsToSpanwiseDiscretizedVariables(){
 
 		System.out.println("=====================================================");
-		System.out.println("List of Tuples, size " + _panelToSpanwiseDiscretizedVariables.size());
-
-		_panelToSpanwiseDiscretizedVariables.stream()
-			.forEach( tup2 -> {
-				StringBuilder sb = new StringBuilder();
-				sb
-				.append("=====================================================\n")
-				.append("Panel '" + tup2._1().getId() + "'")
-				.append("\n")
-				.append("Ys: size ")
-				.append(
-					tup2
-						._2() // Tuple6
-						._1() // Ys
-						.size()
-					)
-				.append("\n")
-				.append(
-					tup2
-						._2() // Tuple5
-						._1() // Ys
-					);
-				sb
-				.append("\n")
-				.append("Chords: size ")
-				.append(
-					tup2
-						._2() // Tuple5
-						._2() // Chords
-						.size()
-					)
-				.append("\n")
-				.append(
-					tup2
-						._2() // Tuple5
-						._2() // Chords
-					);
-				sb
-				.append("\n")
-				.append("Xle's: size ")
-				.append(
-					tup2
-						._2() // Tuple5
-						._3() // Xle's
-						.size()
-					)
-				.append("\n")
-				.append(
-					tup2
-						._2() // Tuple5
-						._3() // Xle's
-					)
-				;
-				sb
-				.append("\n")
-				.append("Zle's: size ")
-				.append(
-					tup2
-						._2() // Tuple5
-						._4() // Zle's
-						.size()
-					)
-				.append("\n")
-				.append(
-					tup2
-						._2() // Tuple5
-						._4() // Zle's
-					)
-				;
-				sb
-				.append("\n")
-				.append("Twists: size ")
-				.append(
-					tup2
-						._2() // Tuple5
-						._5() // Twists
-						.size()
-					)
-				.append("\n")
-				.append(
-					tup2
-						._2() // Tuple5
-						._5() // Twists
-					)
-				.append("\n")
-				;
-
-				// spit out the string
-				System.out.println(sb.toString());
-			}
-		);
+		System.out.println("List of panels, size " + (_panelStationsOffsets.length - 1));
+
+		for (int k = 0; k < _panelStationsOffsets.length - 1; k++) {
+			int from = _panelStationsOffsets[k];
+			int to = _panelStationsOffsets[k+1];
+			StringBuilder sb = new StringBuilder();
+			sb
+			.append("=====================================================\n")
+			.append("Panel '" + _theLiftingSurfaceInterface.getPanels().get(k).getId() + "'")
+			.append("\n")
+			.append("Ys: size ").append(to - from).append("\n")
+			.append(getDiscretizedYs().subList(from, to))
+			.append("\n")
+			.append("Chords: size ").append(to - from).append("\n")
+			.append(getDiscretizedChords().subList(from, to))
+			.append("\n")
+			.append("Xle's: size ").append(to - from).append("\n")
+			.append(getDiscretizedXle().subList(from, to))
+			.append("\n")
+			.append("Zle's: size ").append(to - from).append("\n")
+			.append(getDiscretizedZle().subList(from, to))
+			.append("\n")
+			.append("Twists: size ").append(to - from).append("\n")
+			.append(getDiscretizedTwists().subList(from, to))
+			.append("\n")
+			;
+
+			// spit out the string
+			System.out.println(sb.toString());
+		}
 
 	}
 
@@ -1864,17 +1601,17 @@ public class LiftingSurface {
 		DecimalFormat numberFormat = new DecimalFormat("0.000");
 		
 		sb.append("\t=====================================================\n");
-		sb.append("\tSpanwise discretized " + _theLiftingSurfaceInterface.getType() + ", size " + _spanwiseDiscretizedVariables.size() + "\n");
+		sb.append("\tSpanwise discretized " + _theLiftingSurfaceInterface.getType() + ", size " + _discretizedYs.length + "\n");
 		sb.append("\t........................................................................................................................\n");
 		sb.append("\tY(m),\tchord(m),\tXle(m),\tZle(m),\ttwist(deg),\tAlpha0l(deg)\n");
 		sb.append("\t........................................................................................................................\n");
-		_spanwiseDiscretizedVariables.stream()
-			.forEach( t5 ->	{
-				double y = t5._1().doubleValue(SI.METER);
-				double c = t5._2().doubleValue(SI.METER);
-				double xLE = t5._3().doubleValue(SI.METER);
-				double zLE = t5._4().doubleValue(SI.METER);
-				double t = t5._5().doubleValue(NonSI.DEGREE_ANGLE);
+		IntStream.range(0, _discretizedYs.length)
+			.forEach( i ->	{
+				double y = _discretizedYs[i];
+				double c = _discretizedChords[i];
+				double xLE = _discretizedXle[i];
+				double zLE = _discretizedZle[i];
+				double t = Math.toDegrees(_discretizedTwists[i]);
 				
 				sb.append(
 						"\t" + numberFormat.format(y) 
@@ -1890,8 +1627,6 @@ public class LiftingSurface {
 	@Override
 	public String toString() {
 
-		MyConfiguration.customizeAmountOutput();
-
 		StringBuilder sb = new StringBuilder();
 		sb.append("\t-------------------------------------\n")
 		.append("\tLifting surface\n")
@@ -1976,8 +1711,8 @@ public class LiftingSurface {
 	public Amount<Length> getXLEAtYActual(Double yStation) {
 		return Amount.valueOf(
 				GeometryCalc.getXLEAtYActual(
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedYs()),
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedXle()),
+						_discretizedYs,
+						_discretizedXle,
 						yStation
 						),
 				SI.METER
@@ -1987,8 +1722,8 @@ public class LiftingSurface {
 	public Amount<Length> getZLEAtYActual(Double yStation) {
 		return Amount.valueOf(
 				GeometryCalc.getZLEAtYActual(
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedYs()), 
-						MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedZle()), 
+						_discretizedYs, 
+						_discretizedZle, 
 						yStation
 						), 
 				SI.METER);
@@ -2029,26 +1764,26 @@ public class LiftingSurface {
 
 		List<Tuple2<Amount<Length>,Amount<Length>>> listYX = new ArrayList<>();
 
+		List<Amount<Length>> ys = getDiscretizedYs();
+		List<Amount<Length>> xles = getDiscretizedXle();
+
 		// leading edge (straight)
-		IntStream.range(0, _spanwiseDiscretizedVariables.size())
+		IntStream.range(0, _discretizedYs.length)
 			.forEach(i -> {
 				listYX.add(Tuple.of(
-						_spanwiseDiscretizedVariables.get(i)._1(), // y
-						_spanwiseDiscretizedVariables.get(i)._3()  // xle
+						ys.get(i), // y
+						xles.get(i)  // xle
 						)
 					);
 			});
 
 		// trailing edge, reverse order
-		int num = _spanwiseDiscretizedVariables.size() - 1;
+		int num = _discretizedYs.length - 1;
 		IntStream.rangeClosed(0, num)
 			.forEach(i -> {
 				listYX.add(Tuple.of(
-						_spanwiseDiscretizedVariables.get(num - i)._1(),
-						_spanwiseDiscretizedVariables.get(num - i)._3() // xle
-							.plus(
-								_spanwiseDiscretizedVariables.get(num - i)._2() // + chord
-							)
+						ys.get(num - i),
+						Amount.valueOf(_discretizedXle[num - i] + _discretizedChords[num - i], 1e-8, SI.METRE) // xle + chord
 						)
 					);
 			});
@@ -2102,8 +1837,8 @@ public class LiftingSurface {
 	
 	public double getChordAtYActual(Double y) {
 		return GeometryCalc.getChordAtYActual(
-				MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedYs()), 
-				MyArrayUtils.convertListOfAmountTodoubleArray(getDiscretizedChords()),
+				_discretizedYs, 
+				_discretizedChords,
 				y
 				);
 	}
@@ -2121,7 +1856,7 @@ public class LiftingSurface {
 				Math.sqrt(_surfacePlanform.doubleValue(SI.SQUARE_METRE)*_aspectRatio),
 				SI.METER);
 		
-		return (getDiscretizedXle().get(getDiscretizedXle().size()-1).getEstimatedValue()
+		return (_discretizedXle[_discretizedXle.length-1]
 				/span.getEstimatedValue())
 				* y;
 	}
@@ -2168,9 +1903,10 @@ public class LiftingSurface {
 		// in the middle of each panel,
 		// and including break-point eta's
 
-		_yStations = _etaStations.stream()
-				.map(d -> _semiSpan.times(d))
-				.collect(Collectors.toList());
+		// evaluated as Amounts, whose rounding decides on which panel the break-point Y's fall
+		_yStations = new double[_etaStations.size()];
+		for (int i = 0; i < _yStations.length; i++)
+			_yStations[i] = _semiSpan.times(_etaStations.get(i)).doubleValue(SI.METRE);
 		
 		//======================================================
 		// Assign lists of Y's to each panel
@@ -2184,10 +1920,6 @@ public class LiftingSurface {
 		// Map Y's to (Xle, Zle, twist)
 		calculateXZleTwistAtYDiscretized();
 
-		//======================================================
-		// fill the list of all discretized variables
-		calculateDiscretizedGeometry();
-
 	}
 
 	public void adjustDimensions(
@@ -2706,51 +2438,64 @@ public class LiftingSurface {
 		return _taperRatio;
 	}
 	
+	/**
+	 * @return a view of the discretized Ys (the Amounts are made when requested)
+	 */
 	public List<Amount<Length>> getDiscretizedYs() {
-		return _spanwiseDiscretizedVariables.stream()
-			.mapToDouble(t5 ->
-				t5._1()
-				.to(SI.METRE).getEstimatedValue())
-			.mapToObj(y -> Amount.valueOf(y, 1e-8, SI.METRE))
-			.collect(Collectors.toList());
+		return new AmountListView<Length>(_discretizedYs, 1e-8, SI.METRE);
 	}
 	
-
 	public List<Amount<Length>> getDiscretizedChords() {
-		return _spanwiseDiscretizedVariables.stream()
-				.mapToDouble(t5 ->
-					t5._2()
-					.to(SI.METRE).getEstimatedValue())
-				.mapToObj(y -> Amount.valueOf(y, 1e-8, SI.METRE)) 
-				.collect(Collectors.toList());
+		return new AmountListView<Length>(_discretizedChords, 1e-8, SI.METRE);
 	}
 
 	public List<Amount<Length>> getDiscretizedXle() {
-		return _spanwiseDiscretizedVariables.stream()
-				.mapToDouble(t5 ->
-					t5._3()
-					.to(SI.METRE).getEstimatedValue())
-				.mapToObj(y -> Amount.valueOf(y, 1e-8, SI.METRE))
-				.collect(Collectors.toList());
+		return new AmountListView<Length>(_discretizedXle, 1e-8, SI.METRE);
 	}
 
 	public List<Amount<Length>> getDiscretizedZle() {
-		return _spanwiseDiscretizedVariables.stream()
-				.mapToDouble(t5 ->
-					t5._4()
-					.to(SI.METRE).getEstimatedValue())
-				.mapToObj(y -> Amount.valueOf(y, 1e-8, SI.METRE))
-				.collect(Collectors.toList());
+		return new AmountListView<Length>(_discretizedZle, 1e-8, SI.METRE);
 	}
 	
 	public List<Amount<Angle>> getDiscretizedTwists() {
-		return _spanwiseDiscretizedVariables.stream()
-				.mapToDouble(t5 ->
-					t5._5()
-					.to(SI.RADIAN).getEstimatedValue())
-				.mapToObj(y -> Amount.valueOf(y, 1e-9, SI.RADIAN))
-				.collect(Collectors.toList());
+		return new AmountListView<Angle>(_discretizedTwists, 1e-9, SI.RADIAN);
 	}
+
+	/**
+	 * @return the discretized Ys (m), not to be modified
+	 */
+	public double[] getDiscretizedYsArray() {
+		return _discretizedYs;
+	}
+
+	/**
+	 * @return the discretized chords (m), not to be modified
+	 */
+	public double[] getDiscretizedChordsArray() {
+		return _discretizedChords;
+	}
+
+	/**
+	 * @return the discretized Xle (m), not to be modified
+	 */
+	public double[] getDiscretizedXleArray() {
+		return _discretizedXle;
+	}
+
+	/**
+	 * @return the discretized Zle (m), not to be modified
+	 */
+	public double[] getDiscretizedZleArray() {
+		return _discretizedZle;
+	}
+
+	/**
+	 * @return the discretized twists (rad), not to be modified
+	 */
+	public double[] getDiscretizedTwistsArray() {
+		return _discretizedTwists;
+	}
+
 	public List<Amount<Length>> getYBreakPoints() {
 		return _yBreakPoints;
 	}
@@ -3163,4 +2908,30 @@ public class LiftingSurface {
 		this._spoilersControlSurfaceAreaList = _spoilersControlSurfaceAreaList;
 	}
 	
-}
\ No newline at end of file
+	/**
+	 * Read-only list of Amounts on an array of values, each Amount is made when requested
+	 */
+	private static final class AmountListView<Q extends Quantity> extends AbstractList<Amount<Q>> implements RandomAccess {
+
+		private final double[] values;
+		private final double error;
+		private final Unit<Q> unit;
+
+		private AmountListView(double[] values, double error, Unit<Q> unit) {
+			this.values = values;
+			this.error = error;
+			this.unit = unit;
+		}
+
+		@Override
+		public Amount<Q> get(int index) {
+			return Amount.valueOf(values[index], error, unit);
+		}
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+	}
+
+}
@@ -15,7 +15,6 @@ import jpad.configs.ex.enumerations.AirfoilFamilyEnum;
 import jpad.configs.ex.enumerations.AirfoilTypeEnum;
 import jpad.core.ex.standaloneutils.JPADXmlReader;
 import jpad.core.ex.standaloneutils.MyArrayUtils;
-import jpad.core.ex.standaloneutils.MyXMLReaderUtils;
 import jpad.core.ex.standaloneutils.geometry.AirfoilCalc;
 import processing.core.PVector;
 
@@ -41,56 +40,46 @@ public class Airfoil {
 	
 	//----------------------------------------------------------------------------------
 	// METHODS
+	/**
+	 * @param pathToXML the airfoil XML file
+	 * @return the airfoil, shared through AirfoilCache with every other import of the same file
+	 */
 	public static Airfoil importFromXML(String pathToXML) {
+		return AirfoilCache.getAirfoil(pathToXML, Airfoil::readFromXML);
+	}
+
+	static Airfoil readFromXML(String pathToXML) {
 
-		JPADXmlReader reader = new JPADXmlReader(pathToXML);
+		JPADXmlReader reader = new JPADXmlReader(pathToXML, JPADXmlReader.Parser.STAX);
 
 		System.out.println("Reading airfoil data ...");
 
 		boolean externalClCurveFlag = false;
-		String externalClCurveProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@external_cl_curve");
+		String externalClCurveProperty = reader.getXMLValueByPath("//@external_cl_curve");
 		if(externalClCurveProperty.equalsIgnoreCase("true"))
 			externalClCurveFlag = true;
 		else
 			externalClCurveFlag = false;
 		
 		boolean externalCdCurveFlag = false;
-		String externalCdCurveProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@external_cd_curve");
+		String externalCdCurveProperty = reader.getXMLValueByPath("//@external_cd_curve");
 		if(externalCdCurveProperty.equalsIgnoreCase("true"))
 			externalCdCurveFlag = true;
 		else
 			externalCdCurveFlag = false;
 		
 		boolean externalCmCurveFlag = false;
-		String externalCmCurveProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@external_cm_curve");
+		String externalCmCurveProperty = reader.getXMLValueByPath("//@external_cm_curve");
 		if(externalCmCurveProperty.equalsIgnoreCase("true"))
 			externalCmCurveFlag = true;
 		else
 			externalCmCurveFlag = false;
 		
-		String name = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//airfoil/@name");
+		String name = reader.getXMLValueByPath("//airfoil/@name");
 		
-		String familyProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//airfoil/@family");
-
-		String typeProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//airfoil/@type");
+		String familyProperty = reader.getXMLValueByPath("//airfoil/@family");
+
+		String typeProperty = reader.getXMLValueByPath("//airfoil/@type");
 		
 		// check if the airfoil type given in file is a legal enumerated type
 		AirfoilTypeEnum type = Arrays.stream(AirfoilTypeEnum.values())
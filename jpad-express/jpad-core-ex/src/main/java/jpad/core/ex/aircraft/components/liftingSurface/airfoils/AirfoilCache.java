@@ -0,0 +1,258 @@
+package jpad.core.ex.aircraft.components.liftingSurface.airfoils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Process-wide cache of the airfoils read from file. Each airfoil is keyed by the absolute path
+ * of its XML file and stored as the immutable IAirfoil obtained after the import (curves and
+ * characteristic values already extracted), so that every file is parsed only once per JVM and
+ * shared by all the lifting surfaces and aircraft which use it.
+ *
+ * An entry is valid as long as size and last modification time of the file are unchanged.
+ * When they change the content hash (CRC32) is checked: a file only touched is still a hit,
+ * a file with a different content is imported again.
+ *
+ * Airfoil objects are mutable (the lifting surfaces correct their Cl_max, for instance), hence
+ * each request gets a new Airfoil wrapping the shared IAirfoil.
+ *
+ * The cache is thread-safe: concurrent requests for the same file wait for a single import,
+ * which runs out of the map operations (the map holds a pending entry meanwhile), so that it
+ * does not block the requests for other files.
+ * It holds at most getMaximumSize() airfoils, the least recently used ones are evicted first;
+ * a maximum size of 0 disables it. Hit/miss, reload, eviction and load time counters are
+ * exposed for diagnostics.
+ */
+public class AirfoilCache {
+
+	private static final class Loaded {
+
+		private final IAirfoil airfoil;
+		private final long checksum;
+
+		private Loaded(IAirfoil airfoil, long checksum) {
+			this.airfoil = airfoil;
+			this.checksum = checksum;
+		}
+	}
+
+	private static final class Entry {
+
+		// completed with null if the import failed
+		private final CompletableFuture<Loaded> loaded = new CompletableFuture<>();
+		private final long fileSize;
+		private final long lastModified;
+		private volatile long lastAccess;
+
+		private Entry(long fileSize, long lastModified) {
+			this.fileSize = fileSize;
+			this.lastModified = lastModified;
+			this.lastAccess = _accessClock.incrementAndGet();
+		}
+	}
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private static final ConcurrentMap<String, Entry> _airfoils = new ConcurrentHashMap<>();
+	private static volatile int _maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	private static final AtomicLong _accessClock = new AtomicLong();
+	private static final AtomicLong _hits = new AtomicLong();
+	private static final AtomicLong _misses = new AtomicLong();
+	private static final AtomicLong _reloads = new AtomicLong();
+	private static final AtomicLong _evictions = new AtomicLong();
+	private static final AtomicLong _loadTimeNanos = new AtomicLong();
+
+	/**
+	 * @param pathToXML the airfoil XML file
+	 * @param loader the function importing the airfoil from pathToXML when it is not in the cache
+	 * 		  or the file has changed
+	 * @return a new Airfoil on the shared airfoil data, or null if it could not be imported
+	 */
+	public static Airfoil getAirfoil(String pathToXML, Function<String, Airfoil> loader) {
+
+		File file = new File(pathToXML);
+		if (_maximumSize <= 0 || !file.isFile())
+			// nothing to cache, the loader reports the error (if any) as usual
+			return loader.apply(pathToXML);
+
+		String key = file.getAbsoluteFile().toPath().normalize().toString();
+		long fileSize = file.length();
+		long lastModified = file.lastModified();
+
+		for (;;) {
+
+			Entry cached = _airfoils.get(key);
+			if (cached != null && cached.fileSize == fileSize && cached.lastModified == lastModified) {
+				// waits for the import, if still running
+				Loaded loaded = cached.loaded.join();
+				if (loaded == null)
+					// the import failed and nothing was cached: the loader reports the error as usual
+					return loader.apply(pathToXML);
+				_hits.incrementAndGet();
+				cached.lastAccess = _accessClock.incrementAndGet();
+				return new Airfoil(loaded.airfoil);
+			}
+
+			// the map only holds the pending entry: the file is read by this thread,
+			// out of the map operations, while the other requests for it wait on the entry
+			Entry entry = new Entry(fileSize, lastModified);
+			boolean installed = (cached == null)
+					? _airfoils.putIfAbsent(key, entry) == null
+					: _airfoils.replace(key, cached, entry);
+			if (installed)
+				return load(key, entry, cached, pathToXML, loader);
+		}
+	}
+
+	/**
+	 * Completes the entry (just installed in place of previous, if not null) with the airfoil
+	 * of the file, reusing the one of the previous entry if the content of the file is the same.
+	 */
+	private static Airfoil load(String key, Entry entry, Entry previous, String pathToXML, Function<String, Airfoil> loader) {
+
+		Airfoil imported = null;
+		Loaded loaded = null;
+		try {
+			long checksum = checksum(new File(pathToXML));
+			Loaded previousLoaded = (previous != null && previous.loaded.isDone()) ? previous.loaded.join() : null;
+
+			if (previousLoaded != null && checksum != -1 && previousLoaded.checksum == checksum) {
+				// only touched
+				_hits.incrementAndGet();
+				loaded = previousLoaded;
+			}
+			else {
+				_misses.incrementAndGet();
+				if (previous != null)
+					_reloads.incrementAndGet();
+				long startTime = System.nanoTime();
+				try {
+					imported = loader.apply(pathToXML);
+				} finally {
+					_loadTimeNanos.addAndGet(System.nanoTime() - startTime);
+				}
+				if (imported != null && checksum != -1)
+					loaded = new Loaded(imported.getTheAirfoilInterface(), checksum);
+			}
+		} finally {
+			entry.loaded.complete(loaded);
+			if (loaded == null)
+				// import failed or file not readable: nothing cached
+				_airfoils.remove(key, entry);
+		}
+
+		if (loaded == null)
+			return imported;
+
+		entry.lastAccess = _accessClock.incrementAndGet();
+		evictIfNeeded();
+
+		return new Airfoil(loaded.airfoil);
+	}
+
+	private static long checksum(File file) {
+
+		try {
+			CRC32 crc = new CRC32();
+			crc.update(Files.readAllBytes(file.toPath()));
+			return crc.getValue();
+		} catch (IOException e) {
+			e.printStackTrace();
+			return -1;
+		}
+	}
+
+	private static void evictIfNeeded() {
+
+		while (_airfoils.size() > _maximumSize) {
+			Map.Entry<String, Entry> oldest = null;
+			for (Map.Entry<String, Entry> candidate : _airfoils.entrySet())
+				if (oldest == null || candidate.getValue().lastAccess < oldest.getValue().lastAccess)
+					oldest = candidate;
+			if (oldest == null)
+				return;
+			if (_airfoils.remove(oldest.getKey(), oldest.getValue()))
+				_evictions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes all the airfoils from the cache. Airfoils already handed out stay valid.
+	 */
+	public static void clear() {
+		_airfoils.clear();
+	}
+
+	public static void resetStatistics() {
+		_hits.set(0);
+		_misses.set(0);
+		_reloads.set(0);
+		_evictions.set(0);
+		_loadTimeNanos.set(0);
+	}
+
+	/**
+	 * @param maximumSize the maximum number of cached airfoils, 0 disables the cache
+	 */
+	public static void setMaximumSize(int maximumSize) {
+		if (maximumSize < 0)
+			throw new IllegalArgumentException("The maximum size of the airfoil cache can not be negative");
+		_maximumSize = maximumSize;
+		evictIfNeeded();
+	}
+
+	public static int getMaximumSize() {
+		return _maximumSize;
+	}
+
+	public static int getSize() {
+		return _airfoils.size();
+	}
+
+	public static long getHits() {
+		return _hits.get();
+	}
+
+	public static long getMisses() {
+		return _misses.get();
+	}
+
+	/**
+	 * @return the misses caused by a file whose content changed after it was cached
+	 */
+	public static long getReloads() {
+		return _reloads.get();
+	}
+
+	public static long getEvictions() {
+		return _evictions.get();
+	}
+
+	public static double getHitRate() {
+		long hits = getHits();
+		long requests = hits + getMisses();
+		return (requests == 0) ? 0.0 : (double) hits / requests;
+	}
+
+	public static long getLoadTimeMillis() {
+		return _loadTimeNanos.get() / 1000000;
+	}
+
+	public static String getStatistics() {
+		return "Airfoil cache: " + getSize() + "/" + getMaximumSize() + " airfoils, "
+				+ getHits() + " hits, " + getMisses() + " misses (" + getReloads() + " reloads), "
+				+ String.format("%.1f", 100*getHitRate()) + "% hit rate, "
+				+ getEvictions() + " evictions, "
+				+ getLoadTimeMillis() + " ms spent loading";
+	}
+
+}
@@ -9,19 +9,13 @@ import javax.measure.quantity.Area;
 import javax.measure.quantity.Length;
 import javax.measure.unit.NonSI;
 import javax.measure.unit.SI;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathFactory;
 
 import org.jscience.physics.amount.Amount;
-import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
 import jpad.configs.ex.MyConfiguration;
 import jpad.core.ex.aircraft.components.liftingSurface.airfoils.Airfoil;
-import jpad.core.ex.standaloneutils.MyXMLReaderUtils;
+import jpad.core.ex.standaloneutils.JPADXmlReader;
 
 public class LiftingSurfacePanelCreator {
 
@@ -100,7 +94,12 @@ public class LiftingSurfacePanelCreator {
 
 	}
 
-	private static LiftingSurfacePanelCreator importFromPanelNodeImpl(Document doc, String airfoilsDir) {
+	/**
+	 * @param reader a reader on the panel element (the document element of the reader)
+	 * @param airfoilsDir the airfoils folder
+	 * @return the panel
+	 */
+	public static LiftingSurfacePanelCreator importFromPanel(JPADXmlReader reader, String airfoilsDir) {
 
 		boolean isLinked = false;
 		Amount<Length> span = null;
@@ -113,70 +112,55 @@ public class LiftingSurfacePanelCreator {
 		
 		System.out.println("Reading lifting surface panel data from XML doc ...");
 		
-		XPathFactory xpathFactory = XPathFactory.newInstance();
-		XPath xpath = xpathFactory.newXPath();
-
-		String id = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						doc, xpath,
-						"//panel/@id");
+		String id = reader.getXMLValueByPath("//panel/@id");
 		
-		String isLinkedProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						doc, xpath,
-						"//panel/@linked_to");
+		String isLinkedProperty = reader.getXMLValueByPath("//panel/@linked_to");
 		if(isLinkedProperty != null)
 			isLinked = true;
 
-		String spanProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//span/text()");
+		String spanProperty = reader.getXMLValueByPath("//span/text()");
 		if(spanProperty != null)
-			span = MyXMLReaderUtils.getXMLAmountLengthByPath(doc, xpath, "//span");
+			span = reader.getXMLAmountLengthByPath("//span");
 		
-		String dihedralProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//dihedral/text()");
+		String dihedralProperty = reader.getXMLValueByPath("//dihedral/text()");
 		if(dihedralProperty != null)
-			dihedral = MyXMLReaderUtils.getXMLAmountAngleByPath(doc, xpath, "//dihedral");
+			dihedral = reader.getXMLAmountAngleByPath("//dihedral");
 		
-		String sweepLeadingEdgeProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//sweep_leading_edge/text()");
+		String sweepLeadingEdgeProperty = reader.getXMLValueByPath("//sweep_leading_edge/text()");
 		if(sweepLeadingEdgeProperty != null)
-			sweepLeadingEdge = MyXMLReaderUtils.getXMLAmountAngleByPath(doc, xpath, "//sweep_leading_edge");
+			sweepLeadingEdge = reader.getXMLAmountAngleByPath("//sweep_leading_edge");
 		
-		String chordRootProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//inner_section/chord/text()");
+		String chordRootProperty = reader.getXMLValueByPath("//inner_section/chord/text()");
 		if(chordRootProperty != null)
-			chordRoot = MyXMLReaderUtils.getXMLAmountLengthByPath(doc, xpath, "//inner_section/chord");
+			chordRoot = reader.getXMLAmountLengthByPath("//inner_section/chord");
 
 		String airfoilFileName1 =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						doc, xpath,
-						"//inner_section/airfoil/@file");
+				reader.getXMLValueByPath("//inner_section/airfoil/@file");
 		String airFoilPath1 = "";
 		if(airfoilFileName1 != null)
 			airFoilPath1 = airfoilsDir + File.separator + airfoilFileName1;
 		
 		Airfoil airfoilRoot = Airfoil.importFromXML(airFoilPath1);
 
-		String twistGeometricRootProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//inner_section/geometric_twist/text()");
+		String twistGeometricRootProperty = reader.getXMLValueByPath("//inner_section/geometric_twist/text()");
 		if(twistGeometricRootProperty != null)
-			twistGeometricRoot = MyXMLReaderUtils.getXMLAmountAngleByPath(doc, xpath, "//inner_section/geometric_twist");
+			twistGeometricRoot = reader.getXMLAmountAngleByPath("//inner_section/geometric_twist");
 		
-		String chordTipProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//outer_section/chord/text()");
+		String chordTipProperty = reader.getXMLValueByPath("//outer_section/chord/text()");
 		if(chordTipProperty != null)
-			chordTip = MyXMLReaderUtils.getXMLAmountLengthByPath(doc, xpath, "//outer_section/chord");
+			chordTip = reader.getXMLAmountLengthByPath("//outer_section/chord");
 
 		String airfoilFileName2 =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						doc, xpath,
-						"//outer_section/airfoil/@file");
+				reader.getXMLValueByPath("//outer_section/airfoil/@file");
 		String airFoilPath2 = "";
 		if(airfoilFileName2 != null)
 			airFoilPath2 = airfoilsDir + File.separator + airfoilFileName2;
 		
 		Airfoil airfoilTip = Airfoil.importFromXML(airFoilPath2);
 
-		String twistGeometricTipProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//outer_section/geometric_twist/text()");
+		String twistGeometricTipProperty = reader.getXMLValueByPath("//outer_section/geometric_twist/text()");
 		if(twistGeometricTipProperty != null)
-			twistGeometricTip = MyXMLReaderUtils.getXMLAmountAngleByPath(doc, xpath, "//outer_section/geometric_twist");
+			twistGeometricTip = reader.getXMLAmountAngleByPath("//outer_section/geometric_twist");
 		
 		// create the wing panel via its builder
 		LiftingSurfacePanelCreator panel = new LiftingSurfacePanelCreator(
@@ -201,23 +185,16 @@ public class LiftingSurfacePanelCreator {
 	}
 
 	public static LiftingSurfacePanelCreator importFromPanelNode(Node nodePanel, String airfoilsDir) {
-		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-		factory.setNamespaceAware(true);
-		DocumentBuilder builder;
-		try {
-			builder = factory.newDocumentBuilder();
-			Document doc = builder.newDocument();
-			Node importedNode = doc.importNode(nodePanel, true);
-			doc.appendChild(importedNode);
-			return LiftingSurfacePanelCreator.importFromPanelNodeImpl(doc, airfoilsDir);
-
-		} catch (ParserConfigurationException e) {
-			e.printStackTrace();
-			return null;
-		}
+		return LiftingSurfacePanelCreator.importFromPanel(new JPADXmlReader(nodePanel), airfoilsDir);
 	}
 
-	private static LiftingSurfacePanelCreator importFromPanelNodeLinkedImpl(Document doc, LiftingSurfacePanelCreator panel0, String airfoilsDir) {
+	/**
+	 * @param reader a reader on the panel element (the document element of the reader)
+	 * @param panel0 the panel this one is linked to
+	 * @param airfoilsDir the airfoils folder
+	 * @return the panel
+	 */
+	public static LiftingSurfacePanelCreator importFromPanelLinked(JPADXmlReader reader, LiftingSurfacePanelCreator panel0, String airfoilsDir) {
 
 		boolean isLinked = false;
 		Amount<Length> span = null;
@@ -230,32 +207,23 @@ public class LiftingSurfacePanelCreator {
 		
 		System.out.println("Reading LINKED lifting surface panel data from XML doc ...");
 
-		XPathFactory xpathFactory = XPathFactory.newInstance();
-		XPath xpath = xpathFactory.newXPath();
-
-		String id = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						doc, xpath,
-						"//panel/@id");
+		String id = reader.getXMLValueByPath("//panel/@id");
 		
-		String isLinkedProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						doc, xpath,
-						"//panel/@linked_to");
+		String isLinkedProperty = reader.getXMLValueByPath("//panel/@linked_to");
 		if (isLinkedProperty != null)
 			isLinked = true;
 
-		String spanProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//span/text()");
+		String spanProperty = reader.getXMLValueByPath("//span/text()");
 		if(spanProperty != null)
-			span = MyXMLReaderUtils.getXMLAmountLengthByPath(doc, xpath, "//span");
+			span = reader.getXMLAmountLengthByPath("//span");
 		
-		String dihedralProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//dihedral/text()");
+		String dihedralProperty = reader.getXMLValueByPath("//dihedral/text()");
 		if(dihedralProperty != null)
-			dihedral = MyXMLReaderUtils.getXMLAmountAngleByPath(doc, xpath, "//dihedral");
+			dihedral = reader.getXMLAmountAngleByPath("//dihedral");
 		
-		String sweepLeadingEdgeProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//sweep_leading_edge/text()");
+		String sweepLeadingEdgeProperty = reader.getXMLValueByPath("//sweep_leading_edge/text()");
 		if(sweepLeadingEdgeProperty != null)
-			sweepLeadingEdge = MyXMLReaderUtils.getXMLAmountAngleByPath(doc, xpath, "//sweep_leading_edge");
+			sweepLeadingEdge = reader.getXMLAmountAngleByPath("//sweep_leading_edge");
 
 		chordRoot = panel0.getChordTip(); // from linked panel
 
@@ -264,24 +232,21 @@ public class LiftingSurfacePanelCreator {
 		
 		twistGeometricRoot = panel0.getTwistAerodynamicAtTip();
 		
-		String chordTipProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//outer_section/chord/text()");
+		String chordTipProperty = reader.getXMLValueByPath("//outer_section/chord/text()");
 		if(chordTipProperty != null)
-			chordTip = MyXMLReaderUtils.getXMLAmountLengthByPath(doc, xpath, "//outer_section/chord");
+			chordTip = reader.getXMLAmountLengthByPath("//outer_section/chord");
 
 		String airfoilFileName2 =
-				MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						doc, xpath,
-						"//outer_section/airfoil/@file");
+				reader.getXMLValueByPath("//outer_section/airfoil/@file");
 		String airFoilPath2 = "";
 		if(airfoilFileName2 != null)
 			airFoilPath2 = airfoilsDir + File.separator + airfoilFileName2;
 		
 		Airfoil airfoilTip = Airfoil.importFromXML(airFoilPath2);
 
-		String twistGeometricTipProperty = MyXMLReaderUtils.getXMLPropertyByPath(doc, xpath, "//outer_section/geometric_twist/text()");
+		String twistGeometricTipProperty = reader.getXMLValueByPath("//outer_section/geometric_twist/text()");
 		if(twistGeometricTipProperty != null)
-			twistGeometricTip = MyXMLReaderUtils.getXMLAmountAngleByPath(doc, xpath, "//outer_section/geometric_twist");
+			twistGeometricTip = reader.getXMLAmountAngleByPath("//outer_section/geometric_twist");
 		
 		// create the wing panel via its builder
 		LiftingSurfacePanelCreator panel =
@@ -307,20 +272,7 @@ public class LiftingSurfacePanelCreator {
 	}
 
 	public static LiftingSurfacePanelCreator importFromPanelNodeLinked(Node nodePanel, LiftingSurfacePanelCreator panel0, String airfoilsDir) {
-		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-		factory.setNamespaceAware(true);
-		DocumentBuilder builder;
-		try {
-			builder = factory.newDocumentBuilder();
-			Document doc = builder.newDocument();
-			Node importedNode = doc.importNode(nodePanel, true);
-			doc.appendChild(importedNode);
-			return LiftingSurfacePanelCreator.importFromPanelNodeLinkedImpl(doc, panel0, airfoilsDir);
-
-		} catch (ParserConfigurationException e) {
-			e.printStackTrace();
-			return null;
-		}
+		return LiftingSurfacePanelCreator.importFromPanelLinked(new JPADXmlReader(nodePanel), panel0, airfoilsDir);
 	}
 
 
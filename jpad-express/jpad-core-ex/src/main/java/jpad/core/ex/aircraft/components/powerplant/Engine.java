@@ -10,7 +10,6 @@ import javax.measure.quantity.Power;
 import javax.measure.unit.NonSI;
 import javax.measure.unit.SI;
 
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.jscience.physics.amount.Amount;
 
 import jpad.configs.ex.MyConfiguration;
@@ -18,8 +17,7 @@ import jpad.configs.ex.enumerations.EngineTypeEnum;
 import jpad.configs.ex.enumerations.FoldersEnum;
 import jpad.configs.ex.enumerations.PowerPlantMountingPositionEnum;
 import jpad.core.ex.standaloneutils.JPADXmlReader;
-import jpad.core.ex.standaloneutils.MyXMLReaderUtils;
-import jpad.core.ex.standaloneutils.database.DatabaseManager;
+import jpad.core.ex.standaloneutils.database.DatabaseRegistry;
 import jpad.core.ex.standaloneutils.database.databasefunctions.engine.TurbofanCharacteristicsReader;
 
 public class Engine {
@@ -61,26 +59,17 @@ public class Engine {
 	@SuppressWarnings("unchecked")
 	public static Engine importFromXML (String pathToXML) throws IOException {
 		
-		JPADXmlReader reader = new JPADXmlReader(pathToXML);
+		JPADXmlReader reader = new JPADXmlReader(pathToXML, JPADXmlReader.Parser.STAX);
 
 		System.out.println("Reading systems data ...");
 		
 		Engine theEngine = null;
 		
-		String id = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@id");
+		String id = reader.getXMLValueByPath("//@id");
 		
-		String typeProperty = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@type");
+		String typeProperty = reader.getXMLValueByPath("//@type");
 		
-		String engineDatabaseName = MyXMLReaderUtils
-				.getXMLPropertyByPath(
-						reader.getXmlDoc(), reader.getXpath(),
-						"//@database");
+		String engineDatabaseName = reader.getXMLValueByPath("//@database");
 		
 		EngineTypeEnum engineType = null;
 		if(typeProperty.equalsIgnoreCase("TURBOJET"))
@@ -98,19 +87,10 @@ public class Engine {
 		
 		if((engineType == EngineTypeEnum.TURBOJET)||(engineType == EngineTypeEnum.TURBOFAN)) {
 			
-			TurbofanCharacteristicsReader turbofanCharacteristicsReader = null;
-			try {
-				turbofanCharacteristicsReader = DatabaseManager.initializeTurbofanCharacteristicsDatabase(
-						new TurbofanCharacteristicsReader(
-								MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
-								"TurbofanCharacterstics.h5"
-								),
-						MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
-						"TurbofanCharacterstics.h5"
-						);
-			} catch (InvalidFormatException | IOException e) {
-				e.printStackTrace();
-			}
+			TurbofanCharacteristicsReader turbofanCharacteristicsReader = DatabaseRegistry.getTurbofanCharacteristicsReader(
+					MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
+					"TurbofanCharacterstics.h5"
+					);
 			
 			//..............................................................................
 			// STATIC THRUST
@@ -129,10 +109,7 @@ public class Engine {
 			//..............................................................................
 			// LENGTH
 			Amount<Length> length = null; 
-			String calculateLengthString = MyXMLReaderUtils
-					.getXMLPropertyByPath(
-							reader.getXmlDoc(), reader.getXpath(),
-							"//dimensions/length/@calculate");
+			String calculateLengthString = reader.getXMLValueByPath("//dimensions/length/@calculate");
 			
 			if(calculateLengthString.equalsIgnoreCase("TRUE"))
 				length = turbofanCharacteristicsReader.getEngineMaxLength(staticThrust, bpr);
@@ -145,10 +122,7 @@ public class Engine {
 			//..............................................................................
 			// DRY MASS
 			Amount<Mass> dryMass = null;
-			String calculateDryMassString = MyXMLReaderUtils
-					.getXMLPropertyByPath(
-							reader.getXmlDoc(), reader.getXpath(),
-							"//specifications/dry_mass/@calculate");
+			String calculateDryMassString = reader.getXMLValueByPath("//specifications/dry_mass/@calculate");
 			
 			if(calculateDryMassString.equalsIgnoreCase("TRUE"))
 				dryMass = turbofanCharacteristicsReader.getEngineDryMass(staticThrust, bpr);
@@ -189,10 +163,7 @@ public class Engine {
 			//..............................................................................
 			// LENGTH
 			Amount<Length> length = null; 
-			String calculateLengthString = MyXMLReaderUtils
-					.getXMLPropertyByPath(
-							reader.getXmlDoc(), reader.getXpath(),
-							"//dimensions/length/@calculate");
+			String calculateLengthString = reader.getXMLValueByPath("//dimensions/length/@calculate");
 			
 			if(calculateLengthString.equalsIgnoreCase("TRUE"))
 				length = Amount.valueOf(
@@ -209,10 +180,7 @@ public class Engine {
 			//..............................................................................
 			// DRY MASS
 			Amount<Mass> dryMass = null;
-			String calculateDryMassString = MyXMLReaderUtils
-					.getXMLPropertyByPath(
-							reader.getXmlDoc(), reader.getXpath(),
-							"//specifications/dry_mass/@calculate");
+			String calculateDryMassString = reader.getXMLValueByPath("//specifications/dry_mass/@calculate");
 			
 			if(calculateDryMassString.equalsIgnoreCase("TRUE")) {
 				if(staticPower.doubleValue(NonSI.HORSEPOWER)*2.8 < 10000)
@@ -296,10 +264,7 @@ public class Engine {
 			//..............................................................................
 			// LENGTH
 			Amount<Length> length = null; 
-			String calculateLengthString = MyXMLReaderUtils
-					.getXMLPropertyByPath(
-							reader.getXmlDoc(), reader.getXpath(),
-							"//dimensions/length/@calculate");
+			String calculateLengthString = reader.getXMLValueByPath("//dimensions/length/@calculate");
 
 			if(calculateLengthString.equalsIgnoreCase("TRUE"))
 				length = Amount.valueOf(
@@ -318,10 +283,7 @@ public class Engine {
 			//..............................................................................
 			// DRY MASS
 			Amount<Mass> dryMass = null;
-			String calculateDryMassString = MyXMLReaderUtils
-					.getXMLPropertyByPath(
-							reader.getXmlDoc(), reader.getXpath(),
-							"//specifications/dry_mass/@calculate");
+			String calculateDryMassString = reader.getXMLValueByPath("//specifications/dry_mass/@calculate");
 			
 			if(calculateDryMassString.equalsIgnoreCase("TRUE")) {
 				if(staticPower.doubleValue(NonSI.HORSEPOWER)*2.8 < 10000)
@@ -1,6 +1,5 @@
 package jpad.core.ex.aircraft.components.powerplant;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,14 +7,13 @@ import javax.measure.quantity.Force;
 import javax.measure.quantity.Power;
 import javax.measure.unit.SI;
 
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.jscience.physics.amount.Amount;
 
 import jpad.configs.ex.MyConfiguration;
 import jpad.configs.ex.enumerations.EngineTypeEnum;
 import jpad.configs.ex.enumerations.FoldersEnum;
 import jpad.configs.ex.enumerations.PowerPlantMountingPositionEnum;
-import jpad.core.ex.standaloneutils.database.DatabaseManager;
+import jpad.core.ex.standaloneutils.database.DatabaseRegistry;
 import jpad.core.ex.standaloneutils.database.databasefunctions.engine.TurbofanCharacteristicsReader;
 
 /** 
@@ -61,15 +59,10 @@ public class PowerPlant {
 
 		for (Engine engine : engineList) {
 			if(engine.getEngineType() == EngineTypeEnum.TURBOFAN || engine.getEngineType() == EngineTypeEnum.TURBOJET) {
-				try {
-					_turbofanCharacteristicsReader = DatabaseManager.initializeTurbofanCharacteristicsDatabase(
-							_turbofanCharacteristicsReader,
-							MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
-							"TurbofanCharacterstics.h5"
-							);
-				} catch (InvalidFormatException | IOException e) {
-					e.printStackTrace();
-				}
+				_turbofanCharacteristicsReader = DatabaseRegistry.getTurbofanCharacteristicsReader(
+						MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
+						"TurbofanCharacterstics.h5"
+						);
 				
 				// at least one engine must be a turbofan/turbojet to trigger database initializaion. It is useless to continue the engine iteration.
 				break;  
@@ -12,6 +12,7 @@ import javax.measure.unit.Unit;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
@@ -20,6 +21,7 @@ import javax.xml.xpath.XPathFactory;
 import org.jscience.physics.amount.Amount;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 import jpad.core.ex.aircraft.Aircraft;
@@ -34,11 +36,24 @@ public class JPADXmlReader {
 		RESET;
 	}
 
+	/**
+	 * DOM: the whole file is parsed into a W3C DOM and queried via XPath.
+	 * STAX: the file is read in a single pass into a StaxElement tree; the expressions
+	 * supported by StaxPath are evaluated on the tree, any other expression (and getXmlDoc())
+	 * falls back to a DOM built from the tree on first use.
+	 */
+	public enum Parser {
+		DOM,
+		STAX;
+	}
+
 	private Status _status = Status.UNKNOWN;
 	private String _xmlFilePath = "";
 	private File _xmlFile;
 
 	private Document _xmlDoc;
+	private Parser _parser = Parser.DOM;
+	private StaxElement _xmlTree;
 
 	private DocumentBuilder _builderDoc;
 	private DocumentBuilderFactory _factoryBuilderDoc;
@@ -58,6 +73,51 @@ public class JPADXmlReader {
 
 	}
 
+	/*
+	 *  Constructor
+	 *  @param filePath  file absolute path
+	 *  @param parser    how the file is read
+	 */
+	public JPADXmlReader(String filePath, Parser parser) {
+
+		_parser = parser;
+		this.open(filePath);
+
+	}
+
+	/*
+	 *  Constructor of a reader on a single node, imported into a new document
+	 *  (the node is the document element, as in the importers of the components parts)
+	 *  @param node  the node
+	 */
+	public JPADXmlReader(Node node) {
+
+		this.reset();
+
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		try {
+			_xmlDoc = factory.newDocumentBuilder().newDocument();
+			_xmlDoc.appendChild(_xmlDoc.importNode(node, true));
+			_xpath = MyXMLReaderUtils.getXPath();
+			_status = Status.PARSED_OK;
+		} catch (ParserConfigurationException e) {
+			e.printStackTrace();
+			_status = Status.STUCK;
+		}
+	}
+
+	// reader on an element of a tree read with Parser.STAX
+	private JPADXmlReader(StaxElement element, String filePath) {
+
+		this.reset();
+
+		_parser = Parser.STAX;
+		_xmlFilePath = filePath;
+		_xmlTree = element;
+		_status = Status.PARSED_OK;
+	}
+
 	/**
 	 * Builder used for importing an aircraft from xml file.
 	 * 
@@ -100,6 +160,23 @@ public class JPADXmlReader {
 
 	private void init() {
 
+		if (_parser == Parser.STAX) {
+			try {
+				_xmlTree = StaxElement.read(_xmlFilePath);
+				if (_xmlTree != null) {
+					System.out.println("File "+ _xmlFilePath + " parsed.");
+					_status = Status.PARSED_OK;
+					return;
+				}
+				// namespaces or DTD, not modeled by the tree
+				System.out.println("File "+ _xmlFilePath + " can't be streamed, parsing the DOM ...");
+			} catch (XMLStreamException | IOException e) {
+				e.printStackTrace();
+				_status = Status.STUCK;
+				return;
+			}
+		}
+
 		_factoryBuilderDoc = DocumentBuilderFactory.newInstance();
 		_factoryBuilderDoc.setNamespaceAware(true);
 		_factoryBuilderDoc.setIgnoringComments(true);
@@ -133,6 +210,7 @@ public class JPADXmlReader {
 		_xmlFilePath = "";
 		_xmlFile = null;
 		_xmlDoc = null;
+		_xmlTree = null;
 		_builderDoc = null;
 		_factoryBuilderDoc = null;
 		_xpathFactory = null;
@@ -146,12 +224,7 @@ public class JPADXmlReader {
 	 * @return           a string result; null if nothing found
 	 */
 	public String getXMLAttributeByPath(String path, String attribute) {
-		if (this.isStatusOK()) {
-			return MyXMLReaderUtils
-					.getXMLPropertyByPath(_xmlDoc, _xpath, path + "/@" + attribute);
-		} else {
-			return null;
-		}		
+		return getXMLValueByPath(path + "/@" + attribute);
 	}
 
 	/*
@@ -161,12 +234,7 @@ public class JPADXmlReader {
 	 * @return           a list of strings; null if nothing found
 	 */
 	public List<String> getXMLAttributesByPath(String path, String attribute) {
-		if (this.isStatusOK()) {
-			return MyXMLReaderUtils
-					.getXMLPropertiesByPath(_xmlDoc, _xpath, path + "/@" + attribute);
-		} else {
-			return null;
-		}		
+		return getXMLValuesByPath(path + "/@" + attribute);
 	}
 
 	/*
@@ -175,26 +243,80 @@ public class JPADXmlReader {
 	 * @return            a string result; null if nothing found
 	 */
 	public String getXMLPropertyByPath(String expression) {
+		return getXMLValueByPath(expression + "/text()");
+	}
+
+	/*
+	 * Search all occurrence of a given expression via XPath
+	 * @param expression  the XPath expression
+	 * @return            a list of strings result; null if nothing found
+	 */
+	public List<String> getXMLPropertiesByPath(String expression) {
+		return getXMLValuesByPath(expression + "/text()");
+	}
+
+	/*
+	 * Search first occurrence of a given expression via XPath, the expression is used as is
+	 * (e.g. "//@id", "//panel/@linked_to", "//span/text()")
+	 * @param expression  the XPath expression
+	 * @return            a string result; null if nothing found
+	 */
+	public String getXMLValueByPath(String expression) {
 		if (this.isStatusOK()) {
+			if (_xmlTree != null) {
+				StaxPath path = StaxPath.compile(expression);
+				if (path != null)
+					return path.first(_xmlTree);
+			}
 			return MyXMLReaderUtils
-					.getXMLPropertyByPath(_xmlDoc, _xpath, expression + "/text()");
+					.getXMLPropertyByPath(getXmlDoc(), getXpath(), expression);
 		} else {
 			return null;
-		}		
+		}
 	}
 
 	/*
-	 * Search all occurrence of a given expression via XPath
+	 * Search all occurrences of a given expression via XPath, the expression is used as is
 	 * @param expression  the XPath expression
 	 * @return            a list of strings result; null if nothing found
 	 */
-	public List<String> getXMLPropertiesByPath(String expression) {
+	public List<String> getXMLValuesByPath(String expression) {
 		if (this.isStatusOK()) {
+			if (_xmlTree != null) {
+				StaxPath path = StaxPath.compile(expression);
+				if (path != null)
+					return path.all(_xmlTree);
+			}
 			return MyXMLReaderUtils
-					.getXMLPropertiesByPath(_xmlDoc, _xpath, expression + "/text()");
+					.getXMLPropertiesByPath(getXmlDoc(), getXpath(), expression);
 		} else {
 			return null;
-		}		
+		}
+	}
+
+	/*
+	 * Readers on each node selected by a given expression, each one sees the node as its
+	 * document element (as the importers of wing panels, flaps, etc. expect)
+	 * @param expression  the XPath expression, e.g. "//panels/panel"
+	 * @return            the readers in document order; empty if nothing found
+	 */
+	public List<JPADXmlReader> getXMLReadersByPath(String expression) {
+		List<JPADXmlReader> readers = new ArrayList<>();
+		if (!this.isStatusOK())
+			return readers;
+		if (_xmlTree != null) {
+			StaxPath path = StaxPath.compile(expression);
+			if (path != null) {
+				for (StaxElement element : path.elements(_xmlTree))
+					readers.add(new JPADXmlReader(element, _xmlFilePath));
+				return readers;
+			}
+		}
+		NodeList nodes = MyXMLReaderUtils.getXMLNodeListByPath(getXmlDoc(), getXpath(), expression);
+		if (nodes != null)
+			for (int i = 0; i < nodes.getLength(); i++)
+				readers.add(new JPADXmlReader(nodes.item(i)));
+		return readers;
 	}
 
 	/*
@@ -208,7 +330,10 @@ public class JPADXmlReader {
 	 */
 	public Amount<?> getXMLAmountWithUnitByPath(String expression) {
 
-		return MyXMLReaderUtils.getXMLAmountWithUnitByPath(_xmlDoc, _xpath, expression);
+		return MyXMLReaderUtils.toAmountWithUnit(
+				getXMLPropertyByPath(expression),
+				getXMLAttributeByPath(expression, "unit")
+				);
 
 	}
 
@@ -225,19 +350,25 @@ public class JPADXmlReader {
 	 */
 	public Amount<Length> getXMLAmountLengthByPath(String expression) {
 
-		return MyXMLReaderUtils.getXMLAmountLengthByPath(_xmlDoc, _xpath, expression);
+		return MyXMLReaderUtils.toAmountLength(
+				getXMLPropertyByPath(expression),
+				getXMLAttributeByPath(expression, "unit")
+				);
 
 	}
 
 	public double[] getXMLAmountsLengthByPath(String expression) throws XPathExpressionException {
 
-		return MyXMLReaderUtils.getXMLAmountsLengthByPath(_xmlDoc, _xpath, expression);
+		return MyXMLReaderUtils.getXMLAmountsLengthByPath(getXmlDoc(), getXpath(), expression);
 
 	}
 
 	public Amount<Angle> getXMLAmountAngleByPath(String expression) {
 
-		return MyXMLReaderUtils.getXMLAmountAngleByPath(_xmlDoc, _xpath, expression);
+		return MyXMLReaderUtils.toAmountAngle(
+				getXMLPropertyByPath(expression),
+				getXMLAttributeByPath(expression, "unit")
+				);
 
 	}
 
@@ -485,7 +616,7 @@ public class JPADXmlReader {
 
 		String inputString = this.getXMLPropertiesByPath(inputStringInitial).get(0);
 
-		String unitStr = MyXMLReaderUtils.getXMLPropertyByPath(_xmlDoc, _xpath, inputStringInitial + "/@unit");
+		String unitStr = getXMLAttributeByPath(inputStringInitial, "unit");
 
 		List<Amount<T>> outputList = new ArrayList<Amount<T>>();
 		inputString = inputString.trim();
@@ -529,7 +660,7 @@ public class JPADXmlReader {
 
 		String inputString = this.getXMLPropertiesByPath(inputStringInitial).get(0);
 
-		String unitStr = MyXMLReaderUtils.getXMLPropertyByPath(_xmlDoc, _xpath, inputStringInitial + "/@unit");
+		String unitStr = getXMLAttributeByPath(inputStringInitial, "unit");
 
 		List<Amount<?>> outputList = new ArrayList<Amount<?>>();
 		inputString = inputString.trim();
@@ -568,12 +699,23 @@ public class JPADXmlReader {
 		return outputList;
 	}
 
+	/*
+	 * @return the DOM of the file; with Parser.STAX it is built from the tree on first use
+	 */
 	public Document getXmlDoc() {
+		if (_xmlDoc == null && _xmlTree != null)
+			_xmlDoc = _xmlTree.toDocument();
 		return _xmlDoc;
 	}
 
 	public XPath getXpath() {
+		if (_xpath == null && _status == Status.PARSED_OK)
+			_xpath = MyXMLReaderUtils.getXPath();
 		return _xpath;
 	}
 
+	public Parser getParser() {
+		return _parser;
+	}
+
 }
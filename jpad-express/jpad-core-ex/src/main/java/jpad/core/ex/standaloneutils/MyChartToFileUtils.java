@@ -4,7 +4,6 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Paint;
-import java.awt.Rectangle;
 import java.awt.geom.Ellipse2D;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -47,8 +46,6 @@ import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
-import org.jfree.graphics2d.svg.SVGGraphics2D;
-import org.jfree.graphics2d.svg.SVGUtils;
 import org.jscience.physics.amount.Amount;
 
 import com.google.common.collect.HashBasedTable;
@@ -1217,7 +1214,7 @@ public class MyChartToFileUtils {
 		
 		// creation of the file .png
 		File xyChart = new File(folderPathName + fileName + ".png"); 
-		File xyChartSVG = new File(folderPathName + fileName + ".svg"); 
+		File xyChartSVG = new File(folderPathName + fileName + SVGChartWriter.getFileExtension()); 
 
 		try {
 			ChartUtilities.saveChartAsPNG(xyChart, chart, 1920, 1080);
@@ -1397,7 +1394,7 @@ public class MyChartToFileUtils {
 		
 		// creation of the file .png
 		File xyChart = new File(folderPathName + fileName + ".png"); 
-		File xyChartSVG = new File(folderPathName + fileName + ".svg");
+		File xyChartSVG = new File(folderPathName + fileName + SVGChartWriter.getFileExtension());
 
 		try {
 			ChartUtilities.saveChartAsPNG(xyChart, chart, 1920, 1080);
@@ -1515,7 +1512,7 @@ public class MyChartToFileUtils {
 		
 		// creation of the file .png
 		File pieChart = new File(folderPathName + fileName + ".png"); 
-		File pieChartSVG = new File(folderPathName + fileName + ".svg"); 
+		File pieChartSVG = new File(folderPathName + fileName + SVGChartWriter.getFileExtension()); 
 
 		try {
 			ChartUtilities.saveChartAsPNG(pieChart, chart, 1920, 1080);
@@ -1591,7 +1588,7 @@ public class MyChartToFileUtils {
 		
 		// creation of the file .png
 		File barChart = new File(folderPathName + fileName + ".png"); 
-		File barChartSVG = new File(folderPathName + fileName + ".svg"); 
+		File barChartSVG = new File(folderPathName + fileName + SVGChartWriter.getFileExtension()); 
 
 		try {
 			ChartUtilities.saveChartAsPNG(barChart, chart, 1920, 1080);
@@ -3628,13 +3625,10 @@ public class MyChartToFileUtils {
 		plot.setRenderer(renderer);
 
 		try {
-			File f = new File(path + File.separator + fileName + ".svg");
+			File f = new File(path + File.separator + fileName + SVGChartWriter.getFileExtension());
 			if(f.exists()) f.delete();
 
-			SVGGraphics2D g2 = new SVGGraphics2D(width, height);
-			Rectangle r = new Rectangle(width, height);
-			xylineChart.draw(g2, r);
-			SVGUtils.writeToSVG(f, g2.getSVGElement());
+			SVGChartWriter.writeChart(xylineChart, f, width, height);
 			datasetLineChart.removeAllSeries();
 
 		} catch (IOException e) {
@@ -3733,13 +3727,10 @@ public class MyChartToFileUtils {
 			plot.setRenderer(renderer);
 
 			try {
-				File f = new File(path + File.separator + fileName + ".svg");
+				File f = new File(path + File.separator + fileName + SVGChartWriter.getFileExtension());
 				if(f.exists()) f.delete();
 
-				SVGGraphics2D g2 = new SVGGraphics2D(width, height);
-				Rectangle r = new Rectangle(width, height);
-				xylineChart.draw(g2, r);
-				SVGUtils.writeToSVG(f, g2.getSVGElement());
+				SVGChartWriter.writeChart(xylineChart, f, width, height);
 				datasetLineChart.removeAllSeries();
 
 			} catch (IOException e) {
@@ -3775,10 +3766,7 @@ public class MyChartToFileUtils {
 		try {
 			if(fileNameWithPath.exists()) fileNameWithPath.delete();
 
-			SVGGraphics2D g2 = new SVGGraphics2D(width, height);
-			Rectangle r = new Rectangle(width, height);
-			chart.draw(g2, r);
-			SVGUtils.writeToSVG(fileNameWithPath, g2.getSVGElement());
+			SVGChartWriter.writeChart(chart, fileNameWithPath, width, height);
 
 		} catch (IOException e) {
 			e.printStackTrace();
@@ -3794,10 +3782,7 @@ public class MyChartToFileUtils {
 		try {
 			if(fileNameWithPath.exists()) fileNameWithPath.delete();
 
-			SVGGraphics2D g2 = new SVGGraphics2D(width, height);
-			Rectangle r = new Rectangle(width, height);
-			chart.draw(g2, r);
-			SVGUtils.writeToSVG(fileNameWithPath, g2.getSVGElement());
+			SVGChartWriter.writeChart(chart, fileNameWithPath, width, height);
 
 		} catch (IOException e) {
 			e.printStackTrace();
@@ -1,7 +1,8 @@
 package jpad.core.ex.standaloneutils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import org.apache.commons.math3.analysis.interpolation.BicubicInterpolatingFunction;
 import org.apache.commons.math3.analysis.interpolation.BicubicInterpolator;
@@ -9,6 +10,7 @@ import org.apache.commons.math3.analysis.interpolation.LinearInterpolator;
 import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
 import org.apache.commons.math3.analysis.interpolation.TricubicInterpolatingFunction;
 import org.apache.commons.math3.analysis.interpolation.TricubicInterpolator;
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
 import org.apache.commons.math3.analysis.polynomials.PolynomialSplineFunction;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.NumberIsTooSmallException;
@@ -17,6 +19,10 @@ import org.apache.commons.math3.util.MathArrays;
 
 public class MyInterpolatingFunction {
 
+	// batches with at least this number of queries are split across the available cores
+	// (volatile: set by any thread, read by the threads evaluating the batches)
+	private static volatile int parallelBatchThreshold = 20000;
+	
 	private PolynomialSplineFunction psf;
 	private BicubicInterpolatingFunction bi;
 	private TricubicInterpolatingFunction ti;
@@ -90,6 +96,23 @@ public class MyInterpolatingFunction {
 		
 	}
 	
+	/**
+	 * @param data the grid values stored row-major as data[i*y.length + j]
+	 */
+	public BilinearInterpolatingFunction interpolateBilinear (double[] x, double[] y, double[] data) {
+		
+		this.x = x; 
+		this.y = y;
+		xMin = MyArrayUtils.getMin(this.x);
+		xMax = MyArrayUtils.getMax(this.x);
+		yMin = MyArrayUtils.getMin(this.y);
+		yMax = MyArrayUtils.getMax(this.y);
+		
+		bif = new BilinearInterpolatingFunction(x, y, data);
+		return bif;
+		
+	}
+	
 	public BilinearInterpolatingFunction interpolateBilinearAtIndex (
 			double[] input1, double[] input2,  
 			int index1, int index2, 
@@ -179,6 +202,47 @@ public class MyInterpolatingFunction {
 		
 	}
 	
+	/**
+	 * @param data the tensor values stored row-major as data[(i*y.length + j)*z.length + k]
+	 */
+	public TrilinearInterpolatingFunction interpolateTrilinear(double[] x, double[] y, double[] z, double[] data) {
+		
+		this.x = x; 
+		this.y = y;
+		this.z = z;
+		xMin = MyArrayUtils.getMin(this.x);
+		xMax = MyArrayUtils.getMax(this.x);
+		yMin = MyArrayUtils.getMin(this.y);
+		yMax = MyArrayUtils.getMax(this.y);
+		zMin = MyArrayUtils.getMin(this.z);
+		zMax = MyArrayUtils.getMax(this.z);
+		
+		tif = new TrilinearInterpolatingFunction(x, y, z, data);
+		return tif;
+		
+	}
+	
+	/**
+	 * @param data the tensor values, with the same ordering of the double[] version 
+	 * 		  (e.g. a read-only view of a memory-mapped tensor file)
+	 */
+	public TrilinearInterpolatingFunction interpolateTrilinear(double[] x, double[] y, double[] z, DoubleBuffer data) {
+		
+		this.x = x; 
+		this.y = y;
+		this.z = z;
+		xMin = MyArrayUtils.getMin(this.x);
+		xMax = MyArrayUtils.getMax(this.x);
+		yMin = MyArrayUtils.getMin(this.y);
+		yMax = MyArrayUtils.getMax(this.y);
+		zMin = MyArrayUtils.getMin(this.z);
+		zMax = MyArrayUtils.getMax(this.z);
+		
+		tif = new TrilinearInterpolatingFunction(x, y, z, data);
+		return tif;
+		
+	}
+	
 	public TrilinearInterpolatingFunction interpolateTrilinearAtIndex (
 			double[] input1, double[] input2, double[] input3, 
 			int index1, int index2, int index3,
@@ -285,6 +349,53 @@ public class MyInterpolatingFunction {
 		
 	}
 	
+	/**
+	 * @param data the tensor values stored row-major as data[((i*y.length + j)*z.length + l)*k.length + m]
+	 */
+	public QuadrilinearInterpolatingFunction interpolateQuadrilinear(double[] x, double[] y, double[] z, double[] k, double[] data) {
+		
+		this.x = x; 
+		this.y = y;
+		this.z = z;
+		this.k = k;
+		xMin = MyArrayUtils.getMin(this.x);
+		xMax = MyArrayUtils.getMax(this.x);
+		yMin = MyArrayUtils.getMin(this.y);
+		yMax = MyArrayUtils.getMax(this.y);
+		zMin = MyArrayUtils.getMin(this.z);
+		zMax = MyArrayUtils.getMax(this.z);
+		kMin = MyArrayUtils.getMin(this.k);
+		kMax = MyArrayUtils.getMax(this.k);
+		
+		qif = new QuadrilinearInterpolatingFunction(x, y, z, k, data);
+		return qif;
+		
+	}
+	
+	/**
+	 * @param data the tensor values, with the same ordering of the double[] version 
+	 * 		  (e.g. a read-only view of a memory-mapped tensor file)
+	 */
+	public QuadrilinearInterpolatingFunction interpolateQuadrilinear(double[] x, double[] y, double[] z, double[] k, DoubleBuffer data) {
+		
+		this.x = x; 
+		this.y = y;
+		this.z = z;
+		this.k = k;
+		xMin = MyArrayUtils.getMin(this.x);
+		xMax = MyArrayUtils.getMax(this.x);
+		yMin = MyArrayUtils.getMin(this.y);
+		yMax = MyArrayUtils.getMax(this.y);
+		zMin = MyArrayUtils.getMin(this.z);
+		zMax = MyArrayUtils.getMax(this.z);
+		kMin = MyArrayUtils.getMin(this.k);
+		kMax = MyArrayUtils.getMax(this.k);
+		
+		qif = new QuadrilinearInterpolatingFunction(x, y, z, k, data);
+		return qif;
+		
+	}
+	
 	public TricubicInterpolatingFunction interpolate(double[] x, double[] y, double[] z, double[][][] data) {
 		this.x = x; 
 		this.y = y;
@@ -500,6 +611,75 @@ public class MyInterpolatingFunction {
 		return qif.value(x,y,z,k);
 	}
 	
+	/**
+	 * Batch version of value(x): fills result[i] = value(x[i]). The bracketing knots found 
+	 * for a query are tried first for the next one, so that sorted queries (sweeps) 
+	 * skip the binary search most of the times.
+	 * 
+	 * @param x the query points
+	 * @param result the caller-provided output array (same length of x)
+	 */
+	public void values(double[] x, double[] result) {
+		
+		if (x.length != result.length) {
+			throw new DimensionMismatchException(x.length, result.length);
+		}
+		
+		double[] knots = psf.getKnots();
+		PolynomialFunction[] polynomials = psf.getPolynomials();
+		
+		evaluateInChunks(result.length, (from, to) -> {
+			int i = -1;
+			for(int q=from; q<to; q++) {
+				double v = x[q];
+				if (v < xMin) v = xMin;
+				if (v > xMax) v = xMax;
+				i = findSegment(knots, v, i);
+				result[q] = polynomials[i].value(v - knots[i]);
+			}
+		});
+	}
+	
+	/**
+	 * Batch version of valueBilinear(x, y), with the queries given as struct-of-arrays. 
+	 * 
+	 * @param x the first coordinates of the query points
+	 * @param y the second coordinates of the query points
+	 * @param result the caller-provided output array
+	 */
+	public void valuesBilinear(double[] x, double[] y, double[] result) {
+		bif.values(x, y, result);
+	}
+	
+	/**
+	 * Batch version of valueTrilinear(x, y, z), with the queries given as struct-of-arrays. 
+	 */
+	public void valuesTrilinear(double[] x, double[] y, double[] z, double[] result) {
+		tif.values(x, y, z, result);
+	}
+	
+	/**
+	 * Batch version of valueQuadrilinear(x, y, z, k), with the queries given as struct-of-arrays. 
+	 */
+	public void valuesQuadrilinear(double[] x, double[] y, double[] z, double[] k, double[] result) {
+		qif.values(x, y, z, k, result);
+	}
+	
+	public static int getParallelBatchThreshold() {
+		return parallelBatchThreshold;
+	}
+	
+	/**
+	 * @param threshold the minimum batch size evaluated in parallel (Integer.MAX_VALUE disables it)
+	 */
+	public static void setParallelBatchThreshold(int threshold) {
+		parallelBatchThreshold = threshold;
+	}
+	
+	public BilinearInterpolatingFunction getBilinearInterpolatingFunction() {
+		return bif;
+	}
+	
 	public double[] getX() {
 		return x;
 	}
@@ -580,6 +760,77 @@ public class MyInterpolatingFunction {
 		this.kMax = kMax;
 	}
 	
+	/**
+	 * Locates the segment of the knots array which contains v, following the same rule 
+	 * used by commons-math PolynomialSplineFunction (a value equal to the last knot 
+	 * belongs to the last segment).
+	 * 
+	 * @param knots the strictly increasing breakpoints
+	 * @param v the (already clamped) abscissa
+	 * @return the index of the lower knot of the segment
+	 */
+	static int findSegment(double[] knots, double v) {
+		int i = Arrays.binarySearch(knots, v);
+		if (i < 0)
+			i = -i - 2;
+		if (i >= knots.length - 1)
+			i--;
+		return i;
+	}
+	
+	/**
+	 * Same as findSegment(knots, v), but the segment found for the previous query (hint) 
+	 * and the following one are checked before falling back to the binary search.
+	 */
+	static int findSegment(double[] knots, double v, int hint) {
+		if (hint >= 0) {
+			if (isInSegment(knots, v, hint))
+				return hint;
+			if (hint + 1 < knots.length - 1 && isInSegment(knots, v, hint + 1))
+				return hint + 1;
+		}
+		return findSegment(knots, v);
+	}
+	
+	// Double.compare keeps the same ordering used by Arrays.binarySearch (i.e. -0.0 < 0.0)
+	private static boolean isInSegment(double[] knots, double v, int i) {
+		return Double.compare(knots[i], v) <= 0 && Double.compare(v, knots[i + 1]) < 0;
+	}
+	
+	@FunctionalInterface
+	interface BatchChunk {
+		void evaluate(int from, int to);
+	}
+	
+	/**
+	 * Evaluates the [0, size) range of a batch, splitting it in contiguous chunks over the 
+	 * common fork-join pool when the batch is larger than the parallel threshold.
+	 */
+	static void evaluateInChunks(int size, BatchChunk chunk) {
+		
+		if (size < parallelBatchThreshold) {
+			chunk.evaluate(0, size);
+			return;
+		}
+		
+		int nChunks = 4*Runtime.getRuntime().availableProcessors();
+		int chunkSize = (size + nChunks - 1) / nChunks;
+		IntStream.range(0, nChunks).parallel().forEach(
+				c -> chunk.evaluate(Math.min(size, c*chunkSize), Math.min(size, (c + 1)*chunkSize))
+				);
+	}
+	
+	/**
+	 * Evaluates the linear piece c0 + c1*dx in the same way as commons-math PolynomialFunction 
+	 * does (Horner scheme, vanishing slope trimmed). This keeps the flat-array evaluators 
+	 * bit-identical to the LinearInterpolator based ones.
+	 */
+	static double evaluateLinearPiece(double c0, double c1, double dx) {
+		if (c1 == 0)
+			return c0;
+		return dx * c1 + c0;
+	}
+	
 	public static class BilinearInterpolatingFunction {
 		
 		double[] x;
@@ -589,18 +840,23 @@ public class MyInterpolatingFunction {
 		double yMin;
 		double yMax;
 		
-		List<PolynomialSplineFunction> interpolatedDataAlongX;
+		// row-major grid (x rows, y columns) and the slopes along y of each row segment
+		double[] values;
+		double[] slopesAlongY;
 		
 		public BilinearInterpolatingFunction (double[] x, double[] y, double[][] data) {
+			this(x, y, flatten(x, y, data));
+		}
+		
+		/**
+		 * @param x = var_1 = row breakpoints
+		 * @param y = var_0 = column breakpoints
+		 * @param data the grid values stored row-major, i.e. data[i*y.length + j] = f(x[i], y[j])
+		 */
+		public BilinearInterpolatingFunction (double[] x, double[] y, double[] data) {
 
-			// x = var_1 = number of rows
-			if (x.length != data.length) {
-				throw new DimensionMismatchException(x.length, data.length);
-			}
-
-			// y = var_0 = number of columns
-			if (y.length != data[0].length) {
-				throw new DimensionMismatchException(y.length, data[0].length);
+			if (x.length * y.length != data.length) {
+				throw new DimensionMismatchException(data.length, x.length * y.length);
 			}
 			
 			if (x.length < 2) {
@@ -623,15 +879,36 @@ public class MyInterpolatingFunction {
 		    MathArrays.checkOrder(x);
 		    MathArrays.checkOrder(y);
 			
-		    // getting linear interpolating functions for each row (along var_1 = x)
-		    interpolatedDataAlongX = new ArrayList<>();
+		    // slopes of the linear pieces of each row (along var_0 = y)
+		    int nY = y.length;
+		    values = data;
+		    slopesAlongY = new double[x.length*(nY - 1)];
 		    for(int i=0; i<x.length; i++)
-		    	interpolatedDataAlongX.add(
-		    			new LinearInterpolator().interpolate(y, data[i])
-		    			);
+		    	for(int j=0; j<nY-1; j++)
+		    		slopesAlongY[i*(nY - 1) + j] = 
+		    				(data[i*nY + j + 1] - data[i*nY + j]) / (y[j + 1] - y[j]);
 		    
 		}
 		
+		private static double[] flatten(double[] x, double[] y, double[][] data) {
+
+			// x = var_1 = number of rows
+			if (x.length != data.length) {
+				throw new DimensionMismatchException(x.length, data.length);
+			}
+
+			// y = var_0 = number of columns
+			double[] flatData = new double[x.length*y.length];
+			for(int i=0; i<data.length; i++) {
+				if (y.length != data[i].length) {
+					throw new DimensionMismatchException(y.length, data[i].length);
+				}
+				System.arraycopy(data[i], 0, flatData, i*y.length, y.length);
+			}
+			
+			return flatData;
+		}
+		
 		/**
 		 *@author Vittorio Trifari
 		 * 
@@ -649,91 +926,350 @@ public class MyInterpolatingFunction {
 			if (y < yMin) y = yMin;
 			if (y > yMax) y = yMax;
 			
-			List<Double> valuesAtVar0 = new ArrayList<>();
-			for(int i=0; i<interpolatedDataAlongX.size(); i++)
-				valuesAtVar0.add(interpolatedDataAlongX.get(i).value(y));
+			// the column bracket is shared by all the rows
+			int j = findSegment(this.y, y);
+			int i = findSegment(this.x, x);
 			
-			return MyMathUtils.getInterpolatedValue1DLinear(
-					this.x,
-					MyArrayUtils.convertToDoublePrimitive(valuesAtVar0), 
-					x
+			return valueInCell(x, i, y - this.y[j], j);
+			
+		}
+		
+		/**
+		 * Batch version of value(x, y): fills result[q] = value(x[q], y[q]). The cell found for 
+		 * a query is tried first for the next one, so that sweeps skip the binary searches.
+		 * 
+		 * @param x = var_1 = row values
+		 * @param y = var_0 = column values
+		 * @param result the caller-provided output array
+		 */
+		public void values(double[] x, double[] y, double[] result) {
+			
+			if (x.length != result.length) {
+				throw new DimensionMismatchException(x.length, result.length);
+			}
+			if (y.length != result.length) {
+				throw new DimensionMismatchException(y.length, result.length);
+			}
+			
+			evaluateInChunks(result.length, (from, to) -> {
+				int i = -1;
+				int j = -1;
+				for(int q=from; q<to; q++) {
+					double xq = x[q];
+					double yq = y[q];
+					if (xq < xMin) xq = xMin;
+					if (xq > xMax) xq = xMax;
+					if (yq < yMin) yq = yMin;
+					if (yq > yMax) yq = yMax;
+					
+					j = findSegment(this.y, yq, j);
+					i = findSegment(this.x, xq, i);
+					result[q] = valueInCell(xq, i, yq - this.y[j], j);
+				}
+			});
+		}
+		
+		private double valueInCell(double x, int i, double dy, int j) {
+			
+			int nX = this.x.length;
+			if (x <= this.x[0]) 
+				return valueAtRow(0, j, dy);
+			if (x >= this.x[nX - 1]) 
+				return valueAtRow(nX - 1, j, dy);
+			
+			double valueAtLowerRow = valueAtRow(i, j, dy);
+			double valueAtUpperRow = valueAtRow(i + 1, j, dy);
+			
+			return evaluateLinearPiece(
+					valueAtLowerRow,
+					(valueAtUpperRow - valueAtLowerRow) / (this.x[i + 1] - this.x[i]),
+					x - this.x[i]
 					);
 			
 		}
 		
+		private double valueAtRow(int i, int j, double dy) {
+			int nY = this.y.length;
+			return evaluateLinearPiece(values[i*nY + j], slopesAlongY[i*(nY - 1) + j], dy);
+		}
+		
+		public double[] getX() {
+			return x;
+		}
+		
+		public double[] getY() {
+			return y;
+		}
+		
+		/**
+		 * @return the grid values stored row-major (x rows, y columns)
+		 */
+		public double[] getValues() {
+			return values;
+		}
+		
 	}
 	
-	public static class TrilinearInterpolatingFunction {
+	/**
+	 * Rank-agnostic multilinear interpolation over a flat tensor. Each axis has its own 
+	 * strictly increasing breakpoints and the tensor is stored row-major (last axis fastest), 
+	 * i.e. for a rank 3 function values[(i*n1 + j)*n2 + k] = f(b0[i], b1[j], b2[k]).
+	 * 
+	 * A query locates its cell with one binary search per axis and then sums the 2^N 
+	 * corner values weighted by the products of the axis fractions. Query points outside 
+	 * the breakpoints ranges are clamped.
+	 * 
+	 * The tensor is either a heap array, read directly, or a DoubleBuffer read with absolute 
+	 * gets only, e.g. a read-only view shared by several functions (a memory-mapped tensor file).
+	 */
+	public static class MultilinearInterpolatingFunction {
 		
-		double[] x;
-		double xMin;
-		double xMax;
-		double[] y;
-		double yMin;
-		double yMax;
-		double[] z;
-		double zMin;
-		double zMax;
+		// per-thread scratch for the axis fractions, so that evaluations do not allocate
+		private static final ThreadLocal<double[]> FRACTIONS = ThreadLocal.withInitial(() -> new double[4]);
 		
-		List<BilinearInterpolatingFunction> interpolatedDataAlongYAndZ;
+		double[][] breakpoints;
+		double[] min;
+		double[] max;
+		int[] strides;
+		DoubleBuffer values;
+		// the backing array of heap tensors (null otherwise) and the offset of the first value
+		double[] array;
+		int arrayOffset;
 		
-		public TrilinearInterpolatingFunction (double[] x, double[] y, double[] z ,double[][][] data) {
-
-			// x = var_0 = number of pages
-			if (x.length != data.length) {
-				throw new DimensionMismatchException(x.length, data.length);
+		public MultilinearInterpolatingFunction (double[][] breakpoints, double[] values) {
+			this(breakpoints, DoubleBuffer.wrap(values));
+		}
+		
+		/**
+		 * @param breakpoints the breakpoints of each axis
+		 * @param values the tensor values, from the buffer position to its limit 
+		 */
+		public MultilinearInterpolatingFunction (double[][] breakpoints, DoubleBuffer values) {
+			
+			int rank = breakpoints.length;
+			if (rank < 1) {
+				throw new NumberIsTooSmallException(LocalizedFormats.DIMENSION, rank, 1, true);
 			}
-
-			// y = var_2 = number of rows
-			if (y.length != data[0].length) {
-				throw new DimensionMismatchException(y.length, data[0].length);
+			
+			this.breakpoints = breakpoints;
+			min = new double[rank];
+			max = new double[rank];
+			strides = new int[rank];
+			
+			int size = 1;
+			for(int d=rank-1; d>=0; d--) {
+				
+				if (breakpoints[d].length < 2) {
+					throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
+							breakpoints[d].length, 2, true);
+				}
+				MathArrays.checkOrder(breakpoints[d]);
+				
+				min[d] = breakpoints[d][0];
+				max[d] = breakpoints[d][breakpoints[d].length - 1];
+				strides[d] = size;
+				size *= breakpoints[d].length;
 			}
 			
-			// z = var_1 = number of columns
-			if (z.length != data[0][0].length) {
-				throw new DimensionMismatchException(z.length, data[0][0].length);
+			if (size != values.remaining()) {
+				throw new DimensionMismatchException(values.remaining(), size);
+			}
+			this.values = values.slice();
+			if (this.values.hasArray()) {
+				array = this.values.array();
+				arrayOffset = this.values.arrayOffset();
 			}
 			
-			if (x.length < 2) {
-				throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
-						x.length, 2, true);
+		}
+		
+		public double value(double x, double y) {
+			checkRank(2);
+			double[] fractions = fractions();
+			int base = locate(0, x, fractions) + locate(1, y, fractions);
+			return sumCorners(base, fractions);
+		}
+		
+		public double value(double x, double y, double z) {
+			checkRank(3);
+			double[] fractions = fractions();
+			int base = locate(0, x, fractions) + locate(1, y, fractions) + locate(2, z, fractions);
+			return sumCorners(base, fractions);
+		}
+		
+		public double value(double x, double y, double z, double k) {
+			checkRank(4);
+			double[] fractions = fractions();
+			int base = locate(0, x, fractions) + locate(1, y, fractions) 
+					+ locate(2, z, fractions) + locate(3, k, fractions);
+			return sumCorners(base, fractions);
+		}
+		
+		/**
+		 * @param point the query coordinates, one for each axis
+		 * @return the interpolated value
+		 */
+		public double value(double... point) {
+			checkRank(point.length);
+			double[] fractions = fractions();
+			int base = 0;
+			for(int d=0; d<point.length; d++)
+				base += locate(d, point[d], fractions);
+			return sumCorners(base, fractions);
+		}
+		
+		/**
+		 * Batch evaluation with the queries given as struct-of-arrays, i.e. the q-th point 
+		 * is (points[0][q], points[1][q], ...). The cell found for a query is tried first 
+		 * for the next one, so that sweeps skip the binary searches.
+		 * 
+		 * @param points the query coordinates, one array for each axis
+		 * @param result the caller-provided output array
+		 */
+		public void values(double[][] points, double[] result) {
+			
+			checkRank(points.length);
+			for(int d=0; d<points.length; d++)
+				if (points[d].length != result.length) {
+					throw new DimensionMismatchException(points[d].length, result.length);
+				}
+			
+			evaluateInChunks(result.length, (from, to) -> {
+				double[] fractions = fractions();
+				int[] cell = new int[strides.length];
+				Arrays.fill(cell, -1);
+				for(int q=from; q<to; q++) {
+					int base = 0;
+					for(int d=0; d<points.length; d++)
+						base += locate(d, points[d][q], cell, fractions);
+					result[q] = sumCorners(base, fractions);
+				}
+			});
+		}
+		
+		/**
+		 * Clamps the coordinate along the given axis, stores its fraction within the cell 
+		 * and returns the offset of the cell lower corner along that axis.
+		 */
+		private int locate(int axis, double v, double[] fractions) {
+			
+			double[] b = breakpoints[axis];
+			if (v < min[axis]) v = min[axis];
+			if (v > max[axis]) v = max[axis];
+			
+			int i = findSegment(b, v);
+			fractions[axis] = (v - b[i]) / (b[i + 1] - b[i]);
+			return i*strides[axis];
+		}
+		
+		// same as above, starting the search from the cell of the previous query
+		private int locate(int axis, double v, int[] cell, double[] fractions) {
+			
+			double[] b = breakpoints[axis];
+			if (v < min[axis]) v = min[axis];
+			if (v > max[axis]) v = max[axis];
+			
+			int i = findSegment(b, v, cell[axis]);
+			cell[axis] = i;
+			fractions[axis] = (v - b[i]) / (b[i + 1] - b[i]);
+			return i*strides[axis];
+		}
+		
+		private double sumCorners(int base, double[] fractions) {
+			
+			int rank = strides.length;
+			double result = 0.0;
+			for(int corner=0; corner<(1 << rank); corner++) {
+				double weight = 1.0;
+				int offset = base;
+				for(int d=0; d<rank; d++) {
+					if ((corner & (1 << d)) != 0) {
+						weight *= fractions[d];
+						offset += strides[d];
+					} else
+						weight *= 1.0 - fractions[d];
+				}
+				// corners with no weight (e.g. queries lying on a knot) are skipped 
+				if (weight != 0.0)
+					result += weight * (array != null ? array[arrayOffset + offset] : values.get(offset));
 			}
 			
-			if (y.length < 2) {
-				throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
-						y.length, 2, true);
+			return result;
+		}
+		
+		private double[] fractions() {
+			double[] fractions = FRACTIONS.get();
+			if (fractions.length < strides.length) {
+				fractions = new double[strides.length];
+				FRACTIONS.set(fractions);
+			}
+			return fractions;
+		}
+		
+		private void checkRank(int rank) {
+			if (rank != strides.length) {
+				throw new DimensionMismatchException(rank, strides.length);
 			}
+		}
+		
+		public int getRank() {
+			return strides.length;
+		}
+		
+		public double[] getBreakpoints(int axis) {
+			return breakpoints[axis];
+		}
+		
+		public DoubleBuffer getValues() {
+			return values.duplicate();
+		}
+		
+	}
+	
+	public static class TrilinearInterpolatingFunction {
+		
+		MultilinearInterpolatingFunction tensor;
+		
+		public TrilinearInterpolatingFunction (double[] x, double[] y, double[] z ,double[][][] data) {
+			this(x, y, z, flatten(x, y, z, data));
+		}
+		
+		/**
+		 * @param x = var_0 = page breakpoints
+		 * @param y = var_2 = row breakpoints
+		 * @param z = var_1 = column breakpoints
+		 * @param data the tensor values stored as data[(i*y.length + j)*z.length + k] = f(x[i], y[j], z[k])
+		 */
+		public TrilinearInterpolatingFunction (double[] x, double[] y, double[] z ,double[] data) {
+			tensor = new MultilinearInterpolatingFunction(new double[][] {x, y, z}, data);
+		}
+		
+		public TrilinearInterpolatingFunction (double[] x, double[] y, double[] z ,DoubleBuffer data) {
+			tensor = new MultilinearInterpolatingFunction(new double[][] {x, y, z}, data);
+		}
+		
+		private static double[] flatten(double[] x, double[] y, double[] z, double[][][] data) {
 			
-			if (z.length < 2) {
-				throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
-						z.length, 2, true);
+			// x = var_0 = number of pages
+			if (x.length != data.length) {
+				throw new DimensionMismatchException(x.length, data.length);
 			}
 			
-			this.x = x; 
-			this.y = y;
-			this.z = z;
-			xMin = MyArrayUtils.getMin(this.x);
-			xMax = MyArrayUtils.getMax(this.x);
-			yMin = MyArrayUtils.getMin(this.y);
-			yMax = MyArrayUtils.getMax(this.y);
-			zMin = MyArrayUtils.getMin(this.z);
-			zMax = MyArrayUtils.getMax(this.z);
+			double[] flatData = new double[x.length*y.length*z.length];
+			for(int i=0; i<x.length; i++) {
+				// y = var_2 = number of rows
+				if (y.length != data[i].length) {
+					throw new DimensionMismatchException(y.length, data[i].length);
+				}
+				for(int j=0; j<y.length; j++) {
+					// z = var_1 = number of columns
+					if (z.length != data[i][j].length) {
+						throw new DimensionMismatchException(z.length, data[i][j].length);
+					}
+					System.arraycopy(data[i][j], 0, flatData, (i*y.length + j)*z.length, z.length);
+				}
+			}
 			
-		    MathArrays.checkOrder(x);
-		    MathArrays.checkOrder(y);
-		    MathArrays.checkOrder(z);
-		    
-		    // getting bilinear interpolating functions for each page (along var_0 = z)
-		    interpolatedDataAlongYAndZ = new ArrayList<>();
-		    for(int i=0; i<x.length; i++)
-		    	interpolatedDataAlongYAndZ.add(
-		    			new BilinearInterpolatingFunction(
-		    					y,
-		    					z,
-		    					data[i]
-		    					)
-		    			);
-		    
+			return flatData;
 		}
 		
 		/**
@@ -745,118 +1281,72 @@ public class MyInterpolatingFunction {
 		 * @return
 		 */
 		public double value(double x, double y, double z) {
-			
-			if (x < xMin) x = xMin;
-			if (x > xMax) x = xMax;
-			if (y < yMin) y = yMin;
-			if (y > yMax) y = yMax;
-			if (z < zMin) z = zMin;
-			if (z > zMax) z = zMax;
-			
-			List<Double> valuesAtVar0 = new ArrayList<>();
-			for(int i=0; i<interpolatedDataAlongYAndZ.size(); i++)
-				valuesAtVar0.add(interpolatedDataAlongYAndZ.get(i).value(y,z));
-			
-			return MyMathUtils.getInterpolatedValue1DLinear(
-					this.x,
-					MyArrayUtils.convertToDoublePrimitive(valuesAtVar0), 
-					x
-					);
-			
+			return tensor.value(x, y, z);
+		}
+		
+		public void values(double[] x, double[] y, double[] z, double[] result) {
+			tensor.values(new double[][] {x, y, z}, result);
 		}
 		
 	}
 	
 	public static class QuadrilinearInterpolatingFunction {
 		
-		double[] x;
-		double xMin;
-		double xMax;
-		double[] y;
-		double yMin;
-		double yMax;
-		double[] z;
-		double zMin;
-		double zMax;
-		double[] k;
-		double kMin;
-		double kMax;
-		
-		List<TrilinearInterpolatingFunction> interpolatedDataAlongYAndZAndK;
+		MultilinearInterpolatingFunction tensor;
 		
 		public QuadrilinearInterpolatingFunction (double[] x, double[] y, double[] z, double [] k ,double[][][][] data) {
-
+			this(x, y, z, k, flatten(x, y, z, k, data));
+		}
+		
+		/**
+		 * @param x = var_0 = page breakpoints
+		 * @param y = var_3 = row breakpoints
+		 * @param z = var_2 = column breakpoints
+		 * @param k = var_1 = table breakpoints
+		 * @param data the tensor values stored as 
+		 * 		data[((i*y.length + j)*z.length + l)*k.length + m] = f(x[i], y[j], z[l], k[m])
+		 */
+		public QuadrilinearInterpolatingFunction (double[] x, double[] y, double[] z, double [] k ,double[] data) {
+			tensor = new MultilinearInterpolatingFunction(new double[][] {x, y, z, k}, data);
+		}
+		
+		public QuadrilinearInterpolatingFunction (double[] x, double[] y, double[] z, double [] k ,DoubleBuffer data) {
+			tensor = new MultilinearInterpolatingFunction(new double[][] {x, y, z, k}, data);
+		}
+		
+		private static double[] flatten(double[] x, double[] y, double[] z, double[] k, double[][][][] data) {
+			
 			// x = var_0 = number of pages
 			if (x.length != data.length) {
 				throw new DimensionMismatchException(x.length, data.length);
 			}
 			
-			// y = var_3 = number of rows
-			if (y.length != data[0].length) {
-				throw new DimensionMismatchException(y.length, data[0].length);
-			}
-			
-			// z = var_2 = number of columns
-			if (z.length != data[0][0].length) {
-				throw new DimensionMismatchException(z.length, data[0][0].length);
-			}
-			
-			// k = var_1 = number of tables
-			if (k.length != data[0][0][0].length) {
-				throw new DimensionMismatchException(k.length, data[0][0][0].length);
-			}
-		
-
-			if (x.length < 2) {
-				throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
-						x.length, 2, true);
-			}
-			
-			if (y.length < 2) {
-				throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
-						y.length, 2, true);
-			}
-			
-			if (z.length < 2) {
-				throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
-						z.length, 2, true);
+			double[] flatData = new double[x.length*y.length*z.length*k.length];
+			for(int i=0; i<x.length; i++) {
+				// y = var_3 = number of rows
+				if (y.length != data[i].length) {
+					throw new DimensionMismatchException(y.length, data[i].length);
+				}
+				for(int j=0; j<y.length; j++) {
+					// z = var_2 = number of columns
+					if (z.length != data[i][j].length) {
+						throw new DimensionMismatchException(z.length, data[i][j].length);
+					}
+					for(int l=0; l<z.length; l++) {
+						// k = var_1 = number of tables
+						if (k.length != data[i][j][l].length) {
+							throw new DimensionMismatchException(k.length, data[i][j][l].length);
+						}
+						System.arraycopy(
+								data[i][j][l], 0, 
+								flatData, ((i*y.length + j)*z.length + l)*k.length, 
+								k.length
+								);
+					}
+				}
 			}
 			
-			if (k.length < 2) {
-				throw new NumberIsTooSmallException(LocalizedFormats.NUMBER_OF_POINTS,
-						k.length, 2, true);
-			}
-			
-			this.x = x; 
-			this.y = y;
-			this.z = z;
-			this.k = k;
-			xMin = MyArrayUtils.getMin(this.x);
-			xMax = MyArrayUtils.getMax(this.x);
-			yMin = MyArrayUtils.getMin(this.y);
-			yMax = MyArrayUtils.getMax(this.y);
-			zMin = MyArrayUtils.getMin(this.z);
-			zMax = MyArrayUtils.getMax(this.z);
-			kMin = MyArrayUtils.getMin(this.k);
-			kMax = MyArrayUtils.getMax(this.k);
-			
-		    MathArrays.checkOrder(x);
-		    MathArrays.checkOrder(y);
-		    MathArrays.checkOrder(z);
-		    MathArrays.checkOrder(k);
-		    
-		    // getting bilinear interpolating functions for each page (along var_0 = z)
-		    interpolatedDataAlongYAndZAndK = new ArrayList<>();
-		    for(int i=0; i<x.length; i++)
-		    	interpolatedDataAlongYAndZAndK.add(
-		    			new TrilinearInterpolatingFunction(
-		    					y,
-		    					z,
-		    					k,
-		    					data[i]
-		    					)
-		    			);
-		    
+			return flatData;
 		}
 		
 		/**
@@ -869,26 +1359,11 @@ public class MyInterpolatingFunction {
 		 * @return
 		 */
 		public double value(double x, double y, double z, double k) {
-			
-			if (x < xMin) x = xMin;
-			if (x > xMax) x = xMax;
-			if (y < yMin) y = yMin;
-			if (y > yMax) y = yMax;
-			if (z < zMin) z = zMin;
-			if (z > zMax) z = zMax;
-			if (k < kMin) k = kMin;
-			if (k > kMax) k = kMax;
-			
-			List<Double> valuesAtVar0 = new ArrayList<>();
-			for(int i=0; i<interpolatedDataAlongYAndZAndK.size(); i++)
-				valuesAtVar0.add(interpolatedDataAlongYAndZAndK.get(i).value(y,z,k));
-			
-			return MyMathUtils.getInterpolatedValue1DLinear(
-					this.x,
-					MyArrayUtils.convertToDoublePrimitive(valuesAtVar0), 
-					x
-					);
-			
+			return tensor.value(x, y, z, k);
+		}
+		
+		public void values(double[] x, double[] y, double[] z, double[] k, double[] result) {
+			tensor.values(new double[][] {x, y, z, k}, result);
 		}
 		
 	}
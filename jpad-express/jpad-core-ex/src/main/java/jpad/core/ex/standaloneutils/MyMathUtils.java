@@ -5,11 +5,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
+import org.apache.commons.math3.analysis.polynomials.PolynomialSplineFunction;
 import org.apache.commons.math3.analysis.integration.IterativeLegendreGaussIntegrator;
 import org.apache.commons.math3.analysis.integration.SimpsonIntegrator;
 import org.apache.commons.math3.analysis.integration.TrapezoidIntegrator;
 import org.apache.commons.math3.analysis.interpolation.LinearInterpolator;
 import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
+import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.NonMonotonicSequenceException;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.LUDecomposition;
@@ -453,6 +456,42 @@ public final class MyMathUtils {
 		return result;
 	}
 
+	/** 
+	 * Same as getInterpolatedValue1DLinear(vx, vy, x0), but the results are written in the 
+	 * caller-provided array and the bracketing knots found for a query are tried first for 
+	 * the next one (see MyInterpolatingFunction.values). The results are bit-identical to 
+	 * the ones of the scalar version, end values included.
+	 * 
+	 * @param vx vector of x's in ascending ordered 
+	 * @param vy vector of y's
+	 * @param x0 the x values where the user wants to estimate the function
+	 * @param result the caller-provided output array (same length of x0)
+	 */
+	public static void getInterpolatedValue1DLinear(double[] vx, double[] vy, double[] x0, double[] result) {
+
+		if (x0.length != result.length) {
+			throw new DimensionMismatchException(x0.length, result.length);
+		}
+
+		PolynomialSplineFunction myInterpolationFunction = new LinearInterpolator().interpolate(vx, vy);
+		double[] knots = myInterpolationFunction.getKnots();
+		PolynomialFunction[] polynomials = myInterpolationFunction.getPolynomials();
+
+		MyInterpolatingFunction.evaluateInChunks(result.length, (from, to) -> {
+			int segment = -1;
+			for (int i=from; i < to; i++) {
+				if (x0[i] <= vx[0]) {
+					result[i] = vy[0];
+				} else if ((x0[i] >= vx[vx.length - 1])) {
+					result[i] = vy[vy.length - 1];
+				} else {
+					segment = MyInterpolatingFunction.findSegment(knots, x0[i], segment);
+					result[i] = polynomials[segment].value(x0[i] - knots[segment]);
+				}
+			}
+		});
+	}
+
 	/** 
 	 * Interpolate a set of y values as function of x values
 	 * with a spline
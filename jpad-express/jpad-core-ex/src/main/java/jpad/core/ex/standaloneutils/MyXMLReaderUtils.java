@@ -6,7 +6,9 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.measure.quantity.Angle;
 import javax.measure.quantity.Length;
@@ -43,6 +45,66 @@ import jpad.configs.ex.enumerations.PowerPlantMountingPositionEnum;
 
 public class MyXMLReaderUtils {
 
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final int MAX_CACHED_EXPRESSIONS = 4096;
+
+	// XPath and XPathExpression are not thread-safe: each thread compiles its own expressions
+	private static final ThreadLocal<XPath> _xpath =
+			ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+	private static final ThreadLocal<Map<String, XPathExpression>> _compiledExpressions =
+			ThreadLocal.withInitial(HashMap::new);
+
+	/**
+	 * @return the XPath object of the calling thread
+	 */
+	public static XPath getXPath() {
+		return _xpath.get();
+	}
+
+	/**
+	 * Compile an XPath expression, or take it from the cache of the calling thread
+	 * if it has already been compiled by the same thread.
+	 *
+	 * The readers use a few hundred fixed expressions, hence the cache is simply
+	 * emptied if it ever reaches MAX_CACHED_EXPRESSIONS entries.
+	 *
+	 * @param expression the XPath expression
+	 * @return the compiled expression
+	 * @throws XPathExpressionException if the expression can't be compiled
+	 */
+	public static XPathExpression compileXPath(String expression) throws XPathExpressionException {
+
+		Map<String, XPathExpression> cache = _compiledExpressions.get();
+		XPathExpression expr = cache.get(expression);
+		if (expr == null) {
+			if (cache.size() >= MAX_CACHED_EXPRESSIONS)
+				cache.clear();
+			expr = _xpath.get().compile(expression);
+			cache.put(expression, expr);
+		}
+		return expr;
+	}
+
+	/**
+	 * @return the value of the first node (in document order) matching the expression, null if none matches
+	 */
+	private static String evaluateFirstNodeValue(Node context, String expression) throws XPathExpressionException {
+		Node node = (Node) compileXPath(expression).evaluate(context, XPathConstants.NODE);
+		return (node == null) ? null : node.getNodeValue();
+	}
+
+	private static List<String> evaluateNodeValues(Node context, String expression) throws XPathExpressionException {
+		NodeList nodes = (NodeList) compileXPath(expression).evaluate(context, XPathConstants.NODESET);
+		List<String> list_elements = new ArrayList<>(nodes.getLength());
+		for (int i = 0; i < nodes.getLength(); i++)
+			list_elements.add(nodes.item(i).getNodeValue());
+		return list_elements;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
 	/**
 	 * Overloaded method: read specified object, e.g. theFuselage
 	 *
@@ -431,25 +493,22 @@ public class MyXMLReaderUtils {
 		return outputStrings;
 	}
 
+	/**
+	 * Get the first occurrence of a property for a given XPath search string
+	 * into a _document_. The expression is compiled once per thread (see compileXPath),
+	 * the xpath argument is kept for compatibility.
+	 *
+	 * @param doc the document root to start the search
+	 * @param xpath not used
+	 * @param expression the XPath expression
+	 * @return property value, null if search fails
+	 */
 	public static String getXMLPropertyByPath(Document doc, XPath xpath, String expression) {
 
 		try {
 
-			XPathExpression expr =
-					xpath.compile(expression);
-			// evaluate expression result on XML document
-			List<String> list_elements = new ArrayList<String>();
-			NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
-
-			for (int i = 0; i < nodes.getLength(); i++)
-				list_elements.add(nodes.item(i).getNodeValue());
-
-			if ( !list_elements.isEmpty() ) {
-				return list_elements.get(0);
-
-			} else {
-				return null;
-			}
+			// evaluate expression result on XML document, stopping at the first match
+			return evaluateFirstNodeValue(doc, expression);
 
 		} catch (XPathExpressionException ex1) {
 
@@ -478,14 +537,12 @@ public class MyXMLReaderUtils {
 			Document doc = builder.newDocument();
 			Node importedNode = doc.importNode(node, true);
 			doc.appendChild(importedNode);
-			List<String> props = MyXMLReaderUtils.getXMLPropertiesByPath(doc, expression);
-			//System.out.println("getXMLPropertyByPath :: properties found: " + props.size());
-			//System.out.println("props[0] " + props.get(0));
-			if (props.size() == 0)
-				return null;
-			else
-				return props.get(0);
+			return evaluateFirstNodeValue(doc, expression);
 
+		} catch (XPathExpressionException e) {
+			System.err.println("########################## MyXMLReaderUtils :: getXMLPropertyByPath");
+			e.printStackTrace();
+			return null;
 		} catch (ParserConfigurationException e) {
 			System.err.println("########################## MyXMLReaderUtils :: getXMLPropertyByPath");
 			e.printStackTrace();
@@ -513,16 +570,12 @@ public class MyXMLReaderUtils {
 			Node importedNode = doc.importNode(node, true);
 			doc.appendChild(importedNode);
 
-			List<String> attributes = MyXMLReaderUtils.getXMLPropertiesByPath(doc, path+"/@"+ attribute);
-
-			//System.out.println("getXMLAttributeByPath :: attributes \""+ attribute +"\" found: " + attributes.size());
-			//System.out.println("props[0] " + attributes.get(0));
-
-			if (attributes.size() == 0)
-				return null;
-			else
-				return attributes.get(0);
+			return evaluateFirstNodeValue(doc, path+"/@"+ attribute);
 
+		} catch (XPathExpressionException e) {
+			System.err.println("########################## MyXMLReaderUtils :: getXMLAttributeByPath");
+			e.printStackTrace();
+			return null;
 		} catch (ParserConfigurationException e) {
 			System.err.println("########################## MyXMLReaderUtils :: getXMLAttributesByPath");
 			e.printStackTrace();
@@ -541,15 +594,13 @@ public class MyXMLReaderUtils {
 	 * @return property value, null if search fails
 	 */	
 	public static String getXMLAttributeByPath(Document doc, String path, String attribute) {
-		List<String> attributes = MyXMLReaderUtils.getXMLPropertiesByPath(doc, path+"/@"+ attribute);
-
-		//System.out.println("getXMLAttributeByPath :: attributes \""+ attribute +"\" found: " + attributes.size());
-		//System.out.println("props[0] " + attributes.get(0));
-
-		if (attributes.size() == 0)
+		try {
+			return evaluateFirstNodeValue(doc, path+"/@"+ attribute);
+		} catch (XPathExpressionException e) {
+			System.err.println("########################## MyXMLReaderUtils :: getXMLAttributeByPath");
+			e.printStackTrace();
 			return null;
-		else
-			return attributes.get(0);
+		}
 	}
 	
 	/**
@@ -586,10 +637,7 @@ public class MyXMLReaderUtils {
 
 	public static NodeList getXMLNodeListByPath(Document doc, String expression) {
 		try {
-			XPathFactory xpathFactory = XPathFactory.newInstance();
-			XPath xpath = xpathFactory.newXPath();
-			XPathExpression expr =
-					xpath.compile(expression);
+			XPathExpression expr = compileXPath(expression);
 			// evaluate expression result on XML document
 			NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
 			return nodes;
@@ -609,17 +657,8 @@ public class MyXMLReaderUtils {
 	public static List<String> getXMLPropertiesByPath(Document doc, XPath xpath, String expression) {
 		try {
 
-			XPathExpression expr =
-					xpath.compile(expression);
-
 			// evaluate expression result on XML document
-			List<String> list_elements = new ArrayList<String>();
-			NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
-
-			for (int i = 0; i < nodes.getLength(); i++)
-				list_elements.add(nodes.item(i).getNodeValue());
-
-			return list_elements;
+			return evaluateNodeValues(doc, expression);
 
 		} catch (XPathExpressionException ex1) {
 
@@ -637,25 +676,8 @@ public class MyXMLReaderUtils {
 	public static List<String> getXMLPropertiesByPath(Document doc, String expression) {
 		try {
 
-			// Once we have document object. We are ready to use XPath. Just create an xpath object using XPathFactory.
-			// Create XPathFactory object
-			XPathFactory xpathFactory = XPathFactory.newInstance();
-
-			// Create XPath object
-			XPath xpath = xpathFactory.newXPath();
-
-			XPathExpression expr =
-					xpath.compile(expression);
-
-
 			// evaluate expression result on XML document
-			List<String> list_elements = new ArrayList<>();
-			NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
-
-			for (int i = 0; i < nodes.getLength(); i++)
-				list_elements.add(nodes.item(i).getNodeValue());
-
-			return list_elements;
+			return evaluateNodeValues(doc, expression);
 
 		} catch (XPathExpressionException ex1) {
 			ex1.printStackTrace();
@@ -672,16 +694,9 @@ public class MyXMLReaderUtils {
 	public static NodeList getXMLNodeListByPath(Document doc, XPath xpath, String expression) {
 		try {
 
-			XPathExpression expr =
-					xpath.compile(expression);
+			XPathExpression expr = compileXPath(expression);
 			// evaluate expression result on XML document
-			List<String> list_elements = new ArrayList<>();
-			NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
-
-			for (int i = 0; i < nodes.getLength(); i++)
-				list_elements.add(nodes.item(i).getNodeValue());
-
-			return nodes;
+			return (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
 
 		} catch (XPathExpressionException ex1) {
 
@@ -707,16 +722,9 @@ public class MyXMLReaderUtils {
 			Document doc = builder.newDocument();
 			Node importedNode = doc.importNode(node, true);
 			doc.appendChild(importedNode);
-			XPathExpression expr =
-					xpath.compile(expression);
+			XPathExpression expr = compileXPath(expression);
 			// evaluate expression result on XML document
-			List<String> list_elements = new ArrayList<>();
-			NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
-
-			for (int i = 0; i < nodes.getLength(); i++)
-				list_elements.add(nodes.item(i).getNodeValue());
-
-			return nodes;
+			return (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
 
 		} catch (XPathExpressionException | ParserConfigurationException ex1) {
 
@@ -732,9 +740,7 @@ public class MyXMLReaderUtils {
 	 * @return list of nodes (NodeList)
 	 */
 	public static NodeList getXMLNodeListByPath(Node node, String expression) {
-		XPathFactory xpathFactory = XPathFactory.newInstance();
-		XPath xpath = xpathFactory.newXPath();
-		return MyXMLReaderUtils.getXMLNodeListByPath(node, xpath, expression);
+		return MyXMLReaderUtils.getXMLNodeListByPath(node, getXPath(), expression);
 	}
 
 	public static Double getXMLDoubleByPath(Document xmlDoc, XPath xpath, String expression) {
@@ -752,9 +758,7 @@ public class MyXMLReaderUtils {
 			return null;
 	}
 	public static Double getXMLDoubleByPath(Document xmlDoc, String expression) {
-		XPathFactory xpathFactory = XPathFactory.newInstance();
-		XPath xpath = xpathFactory.newXPath();
-		return MyXMLReaderUtils.getXMLDoubleByPath(xmlDoc, xpath, expression);
+		return MyXMLReaderUtils.getXMLDoubleByPath(xmlDoc, getXPath(), expression);
 	}
 
 
@@ -773,7 +777,18 @@ public class MyXMLReaderUtils {
 
 		String valueStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/text()");
 		String unitStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/@unit");
-		
+
+		return toAmountWithUnit(valueStr, unitStr);
+	}
+
+	/*
+	 * Convert the text and the unit attribute of an element, as read by getXMLAmountWithUnitByPath
+	 * @param valueStr   the text of the element
+	 * @param unitStr    the unit attribute, mandatory
+	 * @return           amount, null if a value is missing or can't be parsed
+	 */
+	public static Amount<?> toAmountWithUnit(String valueStr, String unitStr) {
+
 		if ((valueStr != null) && (!valueStr.equals("")) && (unitStr != null)) {
 			try {
 
@@ -804,11 +819,9 @@ public class MyXMLReaderUtils {
 	public static Amount<?> getXMLAmountWithUnitByPath(Document xmlDoc, String expression) {
 
 		try {
-			XPathFactory xpathFactory = XPathFactory.newInstance();
-			XPath xpath = xpathFactory.newXPath();
-			XPathExpression expr =
-					xpath.compile(expression);
-			// evaluate expression result on XML document
+			XPath xpath = getXPath();
+			// validate the expression before the lookups
+			compileXPath(expression);
 			String valueStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/text()");
 			String unitStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/@unit");
 
@@ -843,11 +856,8 @@ public class MyXMLReaderUtils {
 	public static Amount<?> getXMLAmountFromAttributeValueWithUnitByPath(Document xmlDoc, String expression) {
 		try {
 
-			XPathFactory xpathFactory = XPathFactory.newInstance();
-			XPath xpath = xpathFactory.newXPath();
-			XPathExpression expr =
-					xpath.compile(expression);
-			// evaluate expression result on XML document
+			// validate the expression before the lookups
+			compileXPath(expression);
 			String valueStr = MyXMLReaderUtils.getXMLAttributeByPath(xmlDoc, expression, "value");
 			String unitStr = MyXMLReaderUtils.getXMLAttributeByPath(xmlDoc, expression, "unit");
 			if ((valueStr != null) && (!valueStr.equals("")) && (unitStr != null)) {
@@ -933,6 +943,17 @@ public class MyXMLReaderUtils {
 		String valueStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/text()");
 		String unitStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/@unit");
 
+		return toAmountLength(valueStr, unitStr);
+	}
+
+	/*
+	 * Convert the text and the unit attribute of an element, as read by getXMLAmountLengthByPath
+	 * @param valueStr   the text of the element
+	 * @param unitStr    the unit attribute, SI.METRE if null
+	 * @return           amount, null if the value is missing or can't be parsed
+	 */
+	public static Amount<Length> toAmountLength(String valueStr, String unitStr) {
+
 		if ((valueStr != null) && (!valueStr.equals(""))) {
 			try {
 
@@ -970,7 +991,7 @@ public class MyXMLReaderUtils {
 
 		XPathExpression expr = null;
 		try {
-			expr = xpath.compile(expression);
+			expr = compileXPath(expression);
 
 		} catch (XPathExpressionException e1) {
 
@@ -1113,6 +1134,17 @@ public class MyXMLReaderUtils {
 		String valueStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/text()");
 		String unitStr = MyXMLReaderUtils.getXMLPropertyByPath(xmlDoc, xpath, expression + "/@unit");
 
+		return toAmountAngle(valueStr, unitStr);
+	}
+
+	/*
+	 * Convert the text and the unit attribute of an element, as read by getXMLAmountAngleByPath
+	 * @param valueStr   the text of the element
+	 * @param unitStr    the unit attribute, SI.RADIAN if null
+	 * @return           amount, null if the value is missing or can't be parsed
+	 */
+	public static Amount<Angle> toAmountAngle(String valueStr, String unitStr) {
+
 		if ((valueStr != null) && (!valueStr.equals(""))) {
 			try {
 
@@ -1142,8 +1174,7 @@ public class MyXMLReaderUtils {
 	}
 	public static Amount<Angle> getXMLAmountAngleByPath(Document xmlDoc, String expression) {
 		try {
-			XPathFactory xpathFactory = XPathFactory.newInstance();
-			XPath xpath = xpathFactory.newXPath();
+			XPath xpath = getXPath();
 			Amount<Angle> quantity = MyXMLReaderUtils.getXMLAmountAngleByPath(xmlDoc, xpath, expression);
 			return quantity;
 		} catch (NumberFormatException | AmountException e) {
@@ -1190,8 +1221,7 @@ public class MyXMLReaderUtils {
 	}
 	public static Amount<?> getXMLAmountOnePerSecondByPath(Document xmlDoc, String expression) {
 		try {
-			XPathFactory xpathFactory = XPathFactory.newInstance();
-			XPath xpath = xpathFactory.newXPath();
+			XPath xpath = getXPath();
 			Amount<?> quantity = MyXMLReaderUtils.getXMLAmountOnePerSecondByPath(xmlDoc, xpath, expression);
 			return quantity;
 
@@ -1240,8 +1270,7 @@ public class MyXMLReaderUtils {
 
 	public static Amount<?> getXMLAmountOnePerSecondSquaredByPath(Document xmlDoc, String expression) {
 		try {
-			XPathFactory xpathFactory = XPathFactory.newInstance();
-			XPath xpath = xpathFactory.newXPath();
+			XPath xpath = getXPath();
 			Amount<?> quantity = MyXMLReaderUtils.getXMLAmountOnePerSecondSquaredByPath(xmlDoc, xpath, expression);
 			return quantity;
 
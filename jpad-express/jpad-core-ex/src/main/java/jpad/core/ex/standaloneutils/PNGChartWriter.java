@@ -0,0 +1,132 @@
+package jpad.core.ex.standaloneutils;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.jfree.chart.JFreeChart;
+
+/**
+ * Writes charts as PNG files, drawing them on a per-thread image which is cleared and
+ * reused by the next chart of the same size, instead of a new image for each chart
+ * (ChartUtilities.saveChartAsPNG). Each thread keeps only its last image, until releaseImages.
+ *
+ * The default encoding is the one of ChartUtilities.saveChartAsPNG, hence the same files.
+ * The fast encoding (system property jpad.png.fast=true, or explicitly) trades a larger
+ * file for a much cheaper deflate, when the JDK PNG writer supports compression settings.
+ */
+public class PNGChartWriter {
+
+	//-------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final String FAST_PROPERTY = "jpad.png.fast";
+
+	/** the compression quality of the fast encoding (1 would not compress at all) */
+	public static final float FAST_COMPRESSION_QUALITY = 0.75f;
+
+	private static final ThreadLocal<AtomicReference<BufferedImage>> images = ThreadLocal.withInitial(AtomicReference::new);
+
+	/** the holders of images which may be not null, so that releaseImages reaches the other threads */
+	private static final Set<AtomicReference<BufferedImage>> heldImages = ConcurrentHashMap.newKeySet();
+
+	//-------------------------------------------------------------
+	// METHODS
+
+	public static boolean isFastByDefault() {
+		return Boolean.getBoolean(FAST_PROPERTY);
+	}
+
+	public static void writeChart(JFreeChart chart, File file, int width, int height) throws IOException {
+		writeChart(chart, file, width, height, isFastByDefault());
+	}
+
+	/**
+	 * Draws the chart in a width x height image and writes it to the file, replacing it.
+	 *
+	 * @param fast true for the low compression encoding
+	 */
+	public static void writeChart(JFreeChart chart, File file, int width, int height, boolean fast) throws IOException {
+
+		BufferedImage image = getImage(width, height);
+		Graphics2D g2 = image.createGraphics();
+		try {
+			chart.draw(g2, new Rectangle2D.Double(0, 0, width, height), null, null);
+		} finally {
+			g2.dispose();
+		}
+
+		try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+			if (fast)
+				writeFast(image, outputStream);
+			else
+				ImageIO.write(image, "png", outputStream);
+		}
+	}
+
+	/**
+	 * @return the image of this thread, cleared, or a new one if it has a different size
+	 */
+	private static BufferedImage getImage(int width, int height) {
+
+		AtomicReference<BufferedImage> holder = images.get();
+		BufferedImage image = holder.get();
+		if (image == null || image.getWidth() != width || image.getHeight() != height) {
+			// same type as JFreeChart.createBufferedImage
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			holder.set(image);
+			heldImages.add(holder);
+		}
+		else
+			Arrays.fill(((DataBufferInt) image.getRaster().getDataBuffer()).getData(), 0);
+		return image;
+	}
+
+	/**
+	 * Drops the images kept by all the threads (e.g. the pool threads of AircraftViewsRenderer,
+	 * which outlive the rendering); a thread writing a chart meanwhile keeps its image until done.
+	 */
+	public static void releaseImages() {
+
+		for (AtomicReference<BufferedImage> holder : heldImages) {
+			heldImages.remove(holder);
+			holder.set(null);
+		}
+	}
+
+	private static void writeFast(BufferedImage image, OutputStream outputStream) throws IOException {
+
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+		if (!writers.hasNext())
+			throw new IOException("No PNG writer available");
+		ImageWriter writer = writers.next();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (param.canWriteCompressed()) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(FAST_COMPRESSION_QUALITY);
+			}
+			writer.setOutput(imageOutputStream);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+}
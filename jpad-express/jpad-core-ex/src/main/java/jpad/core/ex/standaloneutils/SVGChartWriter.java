@@ -0,0 +1,167 @@
+package jpad.core.ex.standaloneutils;
+
+import java.awt.Rectangle;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPOutputStream;
+
+import org.jfree.chart.JFreeChart;
+
+/**
+ * Writes charts as SVG files through StreamingSVGGraphics2D, without building the whole
+ * document in memory: the SVG elements are moved, while the chart is drawn, to a temporary
+ * file, which is copied to the output after the svg start tag and the definitions. Charts
+ * whose elements fit in StreamingSVGGraphics2D.FLUSH_THRESHOLD chars never touch the
+ * temporary file. The files are the same as those written by SVGUtils.writeToSVG.
+ *
+ * Files whose name ends with .svgz are gzip compressed. The system properties
+ * jpad.svg.compress (true to write the views as .svgz) and jpad.svg.decimation (the
+ * decimation tolerance in pixels, 0 to keep all the vertices) are the defaults of the
+ * aircraft views and of MyChartToFileUtils.
+ */
+public class SVGChartWriter {
+
+	//-------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final String COMPRESS_PROPERTY = "jpad.svg.compress";
+	public static final String DECIMATION_PROPERTY = "jpad.svg.decimation";
+
+	private static final String DOCTYPE =
+			"<!DOCTYPE svg PUBLIC \"-//W3C//DTD SVG 1.1//EN\" \"http://www.w3.org/Graphics/SVG/1.1/DTD/svg11.dtd\">\n";
+
+	//-------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * @return ".svgz" if jpad.svg.compress is true, otherwise ".svg"
+	 */
+	public static String getFileExtension() {
+		return Boolean.getBoolean(COMPRESS_PROPERTY) ? ".svgz" : ".svg";
+	}
+
+	/**
+	 * @return the value of jpad.svg.decimation, 0 if not set or not valid
+	 */
+	public static double getDefaultDecimationTolerance() {
+		try {
+			return Math.max(Double.parseDouble(System.getProperty(DECIMATION_PROPERTY, "0")), 0.0);
+		} catch (NumberFormatException e) {
+			return 0.0;
+		}
+	}
+
+	public static void writeChart(JFreeChart chart, File file, int width, int height) throws IOException {
+		writeChart(chart, file, width, height, getDefaultDecimationTolerance());
+	}
+
+	/**
+	 * Draws the chart in a width x height rectangle and writes it to the file, replacing it.
+	 *
+	 * @param decimationTolerance see StreamingSVGGraphics2D, 0 to keep all the vertices
+	 */
+	public static void writeChart(JFreeChart chart, File file, int width, int height, double decimationTolerance)
+			throws IOException {
+
+		try (TemporaryFileWriter bodyWriter = new TemporaryFileWriter()) {
+
+			StreamingSVGGraphics2D g2 = new StreamingSVGGraphics2D(width, height, bodyWriter, decimationTolerance);
+			try {
+				chart.draw(g2, new Rectangle(width, height));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			g2.flush();
+
+			OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file));
+			if (file.getName().endsWith(".svgz"))
+				outputStream = new GZIPOutputStream(outputStream);
+			try (Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+				writer.write(DOCTYPE);
+				writer.write(g2.getSVGHeader());
+				bodyWriter.copyTo(writer, outputStream);
+				writer.write(StreamingSVGGraphics2D.SVG_END_TAG);
+				writer.write("\n");
+			}
+		}
+	}
+
+	/**
+	 * A Writer keeping the first chars in memory, and moving them to a temporary file
+	 * (deleted on close) when they exceed the threshold.
+	 */
+	private static class TemporaryFileWriter extends Writer {
+
+		private final StringBuilder buffer = new StringBuilder();
+		private File file;
+		private Writer fileWriter;
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			if (fileWriter != null) {
+				fileWriter.write(cbuf, off, len);
+				return;
+			}
+			buffer.append(cbuf, off, len);
+			if (buffer.length() >= StreamingSVGGraphics2D.FLUSH_THRESHOLD) {
+				file = File.createTempFile("jpad-svg-", ".tmp");
+				fileWriter = new BufferedWriter(
+						new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8),
+						StreamingSVGGraphics2D.FLUSH_THRESHOLD);
+				fileWriter.append(buffer);
+				buffer.setLength(0);
+			}
+		}
+
+		@Override
+		public Writer append(CharSequence csq) throws IOException {
+			if (fileWriter == null && buffer.length() + csq.length() < StreamingSVGGraphics2D.FLUSH_THRESHOLD) {
+				buffer.append(csq);
+				return this;
+			}
+			String chars = csq.toString();
+			write(chars.toCharArray(), 0, chars.length());
+			return this;
+		}
+
+		/**
+		 * Writes the content to writer, or (after flushing writer) to the underlying stream.
+		 */
+		void copyTo(Writer writer, OutputStream outputStream) throws IOException {
+			if (fileWriter == null) {
+				writer.append(buffer);
+				return;
+			}
+			fileWriter.close();
+			fileWriter = null;
+			writer.flush();
+			Files.copy(file.toPath(), outputStream);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (fileWriter != null)
+				fileWriter.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				if (fileWriter != null)
+					fileWriter.close();
+			} finally {
+				if (file != null)
+					Files.deleteIfExists(file.toPath());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,222 @@
+package jpad.core.ex.standaloneutils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Lightweight element tree of a JPAD XML file, read in a single pass with a StAX stream reader.
+ *
+ * Each element keeps its name, its attributes and its content (text runs and child elements,
+ * in document order). Comments and processing instructions are skipped, the text around
+ * them is merged as the DOM parser of JPADXmlReader does with setIgnoringComments(true).
+ *
+ * The tree is queried through StaxPath; toDocument() rebuilds a W3C DOM of the element
+ * subtree for the queries and the importers which still need one.
+ */
+public final class StaxElement {
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	private static final ThreadLocal<XMLInputFactory> _inputFactory = ThreadLocal.withInitial(() -> {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	});
+
+	private final String name;
+	private final StaxElement parent;
+	private final Map<String, String> attributes;
+	// String (text runs) and StaxElement (children) in document order
+	private final List<Object> content = new ArrayList<>();
+	private final List<Object> contentView = Collections.unmodifiableList(content);
+
+	//-----------------------------------------------------------------------------------------
+	// BUILDER
+	private StaxElement(String name, StaxElement parent, Map<String, String> attributes) {
+		this.name = name;
+		this.parent = parent;
+		this.attributes = attributes;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * Read the file in a single pass.
+	 *
+	 * @param filePath the XML file
+	 * @return the root element, or null if the file uses namespaces or a DTD, which the
+	 * 		   tree doesn't model (the caller has to use the DOM parser)
+	 */
+	public static StaxElement read(String filePath) throws IOException, XMLStreamException {
+
+		try (InputStream in = new FileInputStream(filePath)) {
+
+			XMLStreamReader reader = _inputFactory.get().createXMLStreamReader(in);
+			try {
+				return read(reader);
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	private static StaxElement read(XMLStreamReader reader) throws XMLStreamException {
+
+		StaxElement root = null;
+		StaxElement current = null;
+		// true if the last content of the current element is a text run that may still grow
+		boolean textOpen = false;
+
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+
+			case XMLStreamConstants.START_ELEMENT:
+				if (!isEmpty(reader.getNamespaceURI()) || !isEmpty(reader.getPrefix()))
+					return null;
+
+				Map<String, String> attributes;
+				int nAttributes = reader.getAttributeCount();
+				if (nAttributes == 0)
+					attributes = Collections.emptyMap();
+				else {
+					attributes = new LinkedHashMap<>(2*nAttributes);
+					for (int i = 0; i < nAttributes; i++) {
+						if (!isEmpty(reader.getAttributeNamespace(i)))
+							return null;
+						attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+					}
+				}
+
+				StaxElement element = new StaxElement(reader.getLocalName(), current, attributes);
+				if (current == null)
+					root = element;
+				else
+					current.content.add(element);
+				current = element;
+				textOpen = false;
+				break;
+
+			case XMLStreamConstants.END_ELEMENT:
+				current = current.parent;
+				textOpen = false;
+				break;
+
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+			case XMLStreamConstants.SPACE:
+				// text outside the root element is whitespace and has no DOM counterpart
+				if (current != null) {
+					if (textOpen) {
+						int last = current.content.size() - 1;
+						current.content.set(last, (String) current.content.get(last) + reader.getText());
+					} else
+						current.content.add(reader.getText());
+					textOpen = true;
+				}
+				break;
+
+			case XMLStreamConstants.DTD:
+			case XMLStreamConstants.ENTITY_REFERENCE:
+				return null;
+
+			default:
+				// comments and processing instructions
+				break;
+			}
+		}
+
+		return root;
+	}
+
+	private static boolean isEmpty(String s) {
+		return s == null || s.isEmpty();
+	}
+
+	/**
+	 * @return a new DOM document whose document element is a copy of this element subtree
+	 */
+	public Document toDocument() {
+
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		try {
+			Document doc = factory.newDocumentBuilder().newDocument();
+			doc.appendChild(toElement(doc));
+			return doc;
+		} catch (ParserConfigurationException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private Element toElement(Document doc) {
+
+		Element element = doc.createElementNS(null, name);
+		for (Map.Entry<String, String> attribute : attributes.entrySet())
+			element.setAttributeNS(null, attribute.getKey(), attribute.getValue());
+
+		for (Object item : content) {
+			if (item instanceof String)
+				element.appendChild(doc.createTextNode((String) item));
+			else
+				element.appendChild(((StaxElement) item).toElement(doc));
+		}
+		return element;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// GETTERS
+
+	public String getName() {
+		return name;
+	}
+
+	public StaxElement getParent() {
+		return parent;
+	}
+
+	/**
+	 * @return the attribute value, null if the element has no such attribute
+	 */
+	public String getAttribute(String attributeName) {
+		return attributes.get(attributeName);
+	}
+
+	/**
+	 * @return text runs (String) and child elements (StaxElement) in document order
+	 */
+	public List<Object> getContent() {
+		return contentView;
+	}
+
+	/**
+	 * @return the first text run, null if the element has no text (the DOM value of text())
+	 */
+	public String getText() {
+		for (Object item : content)
+			if (item instanceof String)
+				return (String) item;
+		return null;
+	}
+
+}
@@ -0,0 +1,251 @@
+package jpad.core.ex.standaloneutils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The subset of XPath used by the JPAD importers, evaluated on a StaxElement tree.
+ *
+ * Supported expressions are location paths made of child (/) and descendant (//) steps
+ * with element names or *, optionally followed by /text() or /@attribute, plus //@attribute.
+ * E.g.:
+ *
+ * <pre>
+ * //global_data/length/text()
+ * //panels/panel
+ * //inner_section/airfoil/@file
+ * //@id
+ * </pre>
+ *
+ * The context element plays the role of the document element (as in the documents
+ * the importers build from a single node), results are given in document order.
+ * Predicates, functions, axes and the other XPath features are not supported:
+ * compile returns null and the caller has to evaluate the expression on the DOM.
+ */
+public final class StaxPath {
+
+	private enum Target {
+		ELEMENT,
+		TEXT,
+		ATTRIBUTE;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final int MAX_CACHED_PATHS = 4096;
+
+	// the paths are immutable, hence a single cache is shared by all threads
+	private static final ConcurrentMap<String, StaxPath> _compiledPaths = new ConcurrentHashMap<>();
+	private static final StaxPath UNSUPPORTED = new StaxPath(new String[0], new boolean[0], Target.ELEMENT, null);
+
+	private final String[] names;
+	private final boolean[] descendant;
+	private final Target target;
+	private final String attribute;
+
+	//-----------------------------------------------------------------------------------------
+	// BUILDER
+	private StaxPath(String[] names, boolean[] descendant, Target target, String attribute) {
+		this.names = names;
+		this.descendant = descendant;
+		this.target = target;
+		this.attribute = attribute;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * @param expression the XPath expression
+	 * @return the compiled path, null if the expression is not supported
+	 */
+	public static StaxPath compile(String expression) {
+
+		StaxPath path = _compiledPaths.get(expression);
+		if (path == null) {
+			path = parse(expression);
+			if (_compiledPaths.size() >= MAX_CACHED_PATHS)
+				_compiledPaths.clear();
+			_compiledPaths.put(expression, path);
+		}
+		return (path == UNSUPPORTED) ? null : path;
+	}
+
+	private static StaxPath parse(String expression) {
+
+		String s = expression.trim();
+		Target target = Target.ELEMENT;
+		String attribute = null;
+
+		if (s.endsWith("/text()")) {
+			target = Target.TEXT;
+			s = s.substring(0, s.length() - "/text()".length());
+		}
+
+		List<String> names = new ArrayList<>();
+		List<Boolean> descendant = new ArrayList<>();
+
+		int i = 0;
+		while (i < s.length()) {
+
+			boolean isDescendant = false;
+			if (s.startsWith("//", i)) {
+				isDescendant = true;
+				i += 2;
+			} else if (s.charAt(i) == '/')
+				i += 1;
+			else if (i > 0)
+				return UNSUPPORTED;
+			// else: relative to the document node, same as a leading /
+
+			int end = s.indexOf('/', i);
+			if (end == -1)
+				end = s.length();
+			String step = s.substring(i, end);
+			i = end;
+
+			if (step.startsWith("@")) {
+				// attributes end the path, only /@name after an element step or a leading //@name
+				if (target != Target.ELEMENT || i < s.length() || !isValidName(step.substring(1)))
+					return UNSUPPORTED;
+				if (isDescendant) {
+					if (!names.isEmpty())
+						return UNSUPPORTED;
+					names.add("*");
+					descendant.add(true);
+				}
+				target = Target.ATTRIBUTE;
+				attribute = step.substring(1);
+			} else {
+				if (!step.equals("*") && !isValidName(step))
+					return UNSUPPORTED;
+				names.add(step);
+				descendant.add(isDescendant);
+			}
+		}
+
+		if (names.isEmpty())
+			return UNSUPPORTED;
+
+		boolean[] descendantArray = new boolean[descendant.size()];
+		for (int k = 0; k < descendantArray.length; k++)
+			descendantArray[k] = descendant.get(k);
+
+		return new StaxPath(names.toArray(new String[names.size()]), descendantArray, target, attribute);
+	}
+
+	private static boolean isValidName(String name) {
+
+		if (name.isEmpty() || !(Character.isLetter(name.charAt(0)) || name.charAt(0) == '_'))
+			return false;
+		for (int k = 1; k < name.length(); k++) {
+			char c = name.charAt(k);
+			if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-'))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the first value (text or attribute) in document order, null if nothing matches;
+	 * 		   for paths which select elements it is always null, as the DOM node value of an element
+	 */
+	public String first(StaxElement context) {
+		if (target == Target.ELEMENT)
+			return null;
+		List<Object> values = new ArrayList<>(1);
+		collect(context, context, values, true);
+		return values.isEmpty() ? null : (String) values.get(0);
+	}
+
+	/**
+	 * @return all the values (texts or attributes) in document order;
+	 * 		   for paths which select elements a null for each element, as the DOM node values
+	 */
+	public List<String> all(StaxElement context) {
+		List<Object> values = new ArrayList<>();
+		collect(context, context, values, false);
+		List<String> strings = new ArrayList<>(values.size());
+		for (Object value : values)
+			strings.add((target == Target.ELEMENT) ? null : (String) value);
+		return strings;
+	}
+
+	/**
+	 * @return the selected elements in document order, empty if the path selects texts or attributes
+	 */
+	public List<StaxElement> elements(StaxElement context) {
+		List<StaxElement> elements = new ArrayList<>();
+		if (target != Target.ELEMENT)
+			return elements;
+		List<Object> values = new ArrayList<>();
+		collect(context, context, values, false);
+		for (Object value : values)
+			elements.add((StaxElement) value);
+		return elements;
+	}
+
+	// pre-order visit of the subtree, returns true when the search can stop
+	private boolean collect(StaxElement element, StaxElement context, List<Object> values, boolean firstOnly) {
+
+		boolean matched = matches(element, names.length - 1, context);
+		if (matched) {
+			switch (target) {
+			case ELEMENT:
+				values.add(element);
+				break;
+			case ATTRIBUTE:
+				String value = element.getAttribute(attribute);
+				if (value != null) {
+					values.add(value);
+					if (firstOnly)
+						return true;
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		// the text runs of a matched element are interleaved with the texts of its descendants
+		for (Object item : element.getContent()) {
+			if (item instanceof StaxElement) {
+				if (collect((StaxElement) item, context, values, firstOnly))
+					return true;
+			}
+			else if (matched && target == Target.TEXT) {
+				values.add(item);
+				if (firstOnly)
+					return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean matches(StaxElement element, int step, StaxElement context) {
+
+		if (!names[step].equals("*") && !names[step].equals(element.getName()))
+			return false;
+
+		if (step == 0)
+			// the document node is the parent of the context element
+			return descendant[0] || element == context;
+
+		if (element == context)
+			return false;
+
+		if (!descendant[step])
+			return matches(element.getParent(), step - 1, context);
+
+		for (StaxElement ancestor = element.getParent(); ; ancestor = ancestor.getParent()) {
+			if (matches(ancestor, step - 1, context))
+				return true;
+			if (ancestor == context)
+				return false;
+		}
+	}
+
+}
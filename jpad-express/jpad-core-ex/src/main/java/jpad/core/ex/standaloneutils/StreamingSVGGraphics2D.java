@@ -0,0 +1,580 @@
+package jpad.core.ex.standaloneutils;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.RenderingHints.Key;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+import org.jfree.graphics2d.svg.SVGGraphics2D;
+
+/**
+ * A Graphics2D writing SVG as it draws. The drawing is done by a JFreeSVG SVGGraphics2D,
+ * whose body (the SVG elements) is moved to the given Writer every FLUSH_THRESHOLD chars
+ * instead of growing in memory until getSVGElement(). The remaining part of the document,
+ * i.e. the svg start tag and the definitions (clip paths and gradients), is given by
+ * getSVGHeader() once the drawing is over, so that the document is:
+ *
+ * getSVGHeader() + (body written to the Writer) + "&lt;/svg&gt;"
+ *
+ * which is the same as SVGGraphics2D.getSVGElement().
+ *
+ * With a decimation tolerance (device pixels) greater than zero, the consecutive vertices
+ * of the drawn and filled paths closer than the tolerance to the last kept vertex are not
+ * written, except the last one of each subpath.
+ *
+ * The graphics created by create() write to the same Writer. None of them is thread safe.
+ */
+public final class StreamingSVGGraphics2D extends Graphics2D {
+
+	//-------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final int FLUSH_THRESHOLD = 1 << 16;
+
+	public static final String SVG_END_TAG = "</svg>";
+
+	private final SVGGraphics2D delegate;
+	private final StringBuilder body;
+	private final Writer bodyWriter;
+	private final double decimationTolerance;
+
+	//-------------------------------------------------------------
+	// BUILDER
+	public StreamingSVGGraphics2D(int width, int height, Writer bodyWriter, double decimationTolerance) {
+		this.body = new StringBuilder(FLUSH_THRESHOLD + FLUSH_THRESHOLD/4);
+		this.delegate = new SVGGraphics2D(width, height, body);
+		this.bodyWriter = bodyWriter;
+		this.decimationTolerance = decimationTolerance;
+	}
+
+	private StreamingSVGGraphics2D(StreamingSVGGraphics2D parent) {
+		this.body = parent.body;
+		this.delegate = (SVGGraphics2D) parent.delegate.create();
+		this.bodyWriter = parent.bodyWriter;
+		this.decimationTolerance = parent.decimationTolerance;
+	}
+
+	//-------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * Writes the elements still in memory to the Writer (without flushing the Writer).
+	 */
+	public void flush() throws IOException {
+		bodyWriter.append(body);
+		body.setLength(0);
+	}
+
+	private void written() {
+		if (body.length() >= FLUSH_THRESHOLD) {
+			try {
+				flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * To be called after flush(), when the drawing is over.
+	 *
+	 * @return the svg start tag and the definitions, to be written before the body
+	 */
+	public String getSVGHeader() {
+		if (body.length() > 0)
+			throw new IllegalStateException("The SVG body has not been flushed");
+		String element = delegate.getSVGElement();
+		return element.substring(0, element.length() - SVG_END_TAG.length());
+	}
+
+	/**
+	 * @return the path without the vertices closer than the tolerance to the previous one,
+	 * 		   or the shape itself if it is not a path or nothing has to be removed
+	 */
+	private Shape decimate(Shape shape) {
+
+		if (decimationTolerance <= 0.0 || !(shape instanceof Path2D))
+			return shape;
+		double scale = Math.sqrt(Math.abs(delegate.getTransform().getDeterminant()));
+		if (scale == 0.0)
+			return shape;
+		double tolerance = decimationTolerance/scale;
+		double tolerance2 = tolerance*tolerance;
+
+		Path2D path = new Path2D.Double(((Path2D) shape).getWindingRule());
+		double[] coords = new double[6];
+		double lastX = 0.0, lastY = 0.0, skippedX = 0.0, skippedY = 0.0;
+		boolean skipped = false;
+		int removed = 0;
+		for (PathIterator iterator = shape.getPathIterator(null); !iterator.isDone(); iterator.next()) {
+			int segment = iterator.currentSegment(coords);
+			if (segment == PathIterator.SEG_LINETO) {
+				double dx = coords[0] - lastX, dy = coords[1] - lastY;
+				if (dx*dx + dy*dy < tolerance2) {
+					if (skipped)
+						removed++;
+					skipped = true;
+					skippedX = coords[0];
+					skippedY = coords[1];
+				}
+				else {
+					if (skipped)
+						removed++;
+					path.lineTo(coords[0], coords[1]);
+					lastX = coords[0];
+					lastY = coords[1];
+					skipped = false;
+				}
+				continue;
+			}
+			// the last vertex before a new segment type is always kept
+			if (skipped) {
+				path.lineTo(skippedX, skippedY);
+				skipped = false;
+			}
+			switch (segment) {
+			case PathIterator.SEG_MOVETO:
+				path.moveTo(coords[0], coords[1]);
+				lastX = coords[0];
+				lastY = coords[1];
+				break;
+			case PathIterator.SEG_QUADTO:
+				path.quadTo(coords[0], coords[1], coords[2], coords[3]);
+				lastX = coords[2];
+				lastY = coords[3];
+				break;
+			case PathIterator.SEG_CUBICTO:
+				path.curveTo(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5]);
+				lastX = coords[4];
+				lastY = coords[5];
+				break;
+			case PathIterator.SEG_CLOSE:
+				path.closePath();
+				break;
+			}
+		}
+		if (skipped)
+			path.lineTo(skippedX, skippedY);
+
+		return removed == 0 ? shape : path;
+	}
+
+	//-------------------------------------------------------------
+	// DRAWING
+
+	@Override
+	public void draw(Shape s) {
+		delegate.draw(decimate(s));
+		written();
+	}
+
+	@Override
+	public void fill(Shape s) {
+		delegate.fill(decimate(s));
+		written();
+	}
+
+	@Override
+	public void drawString(String str, int x, int y) {
+		delegate.drawString(str, x, y);
+		written();
+	}
+
+	@Override
+	public void drawString(String str, float x, float y) {
+		delegate.drawString(str, x, y);
+		written();
+	}
+
+	@Override
+	public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+		delegate.drawString(iterator, x, y);
+		written();
+	}
+
+	@Override
+	public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+		delegate.drawString(iterator, x, y);
+		written();
+	}
+
+	@Override
+	public void drawGlyphVector(GlyphVector g, float x, float y) {
+		delegate.drawGlyphVector(g, x, y);
+		written();
+	}
+
+	@Override
+	public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+		boolean result = delegate.drawImage(img, xform, obs);
+		written();
+		return result;
+	}
+
+	@Override
+	public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+		delegate.drawImage(img, op, x, y);
+		written();
+	}
+
+	@Override
+	public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+		delegate.drawRenderedImage(img, xform);
+		written();
+	}
+
+	@Override
+	public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+		delegate.drawRenderableImage(img, xform);
+		written();
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+		boolean result = delegate.drawImage(img, x, y, observer);
+		written();
+		return result;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+		boolean result = delegate.drawImage(img, x, y, width, height, observer);
+		written();
+		return result;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+		boolean result = delegate.drawImage(img, x, y, bgcolor, observer);
+		written();
+		return result;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer) {
+		boolean result = delegate.drawImage(img, x, y, width, height, bgcolor, observer);
+		written();
+		return result;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+			ImageObserver observer) {
+		boolean result = delegate.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer);
+		written();
+		return result;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+			Color bgcolor, ImageObserver observer) {
+		boolean result = delegate.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, bgcolor, observer);
+		written();
+		return result;
+	}
+
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		delegate.drawLine(x1, y1, x2, y2);
+		written();
+	}
+
+	@Override
+	public void fillRect(int x, int y, int width, int height) {
+		delegate.fillRect(x, y, width, height);
+		written();
+	}
+
+	@Override
+	public void clearRect(int x, int y, int width, int height) {
+		delegate.clearRect(x, y, width, height);
+		written();
+	}
+
+	@Override
+	public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		delegate.drawRoundRect(x, y, width, height, arcWidth, arcHeight);
+		written();
+	}
+
+	@Override
+	public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		delegate.fillRoundRect(x, y, width, height, arcWidth, arcHeight);
+		written();
+	}
+
+	@Override
+	public void drawOval(int x, int y, int width, int height) {
+		delegate.drawOval(x, y, width, height);
+		written();
+	}
+
+	@Override
+	public void fillOval(int x, int y, int width, int height) {
+		delegate.fillOval(x, y, width, height);
+		written();
+	}
+
+	@Override
+	public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		delegate.drawArc(x, y, width, height, startAngle, arcAngle);
+		written();
+	}
+
+	@Override
+	public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+		delegate.fillArc(x, y, width, height, startAngle, arcAngle);
+		written();
+	}
+
+	@Override
+	public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+		delegate.drawPolyline(xPoints, yPoints, nPoints);
+		written();
+	}
+
+	@Override
+	public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+		delegate.drawPolygon(xPoints, yPoints, nPoints);
+		written();
+	}
+
+	@Override
+	public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+		delegate.fillPolygon(xPoints, yPoints, nPoints);
+		written();
+	}
+
+	@Override
+	public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+		delegate.copyArea(x, y, width, height, dx, dy);
+	}
+
+	//-------------------------------------------------------------
+	// STATE
+
+	@Override
+	public Graphics create() {
+		return new StreamingSVGGraphics2D(this);
+	}
+
+	@Override
+	public void dispose() {
+		delegate.dispose();
+	}
+
+	@Override
+	public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+		return delegate.hit(rect, s, onStroke);
+	}
+
+	@Override
+	public GraphicsConfiguration getDeviceConfiguration() {
+		return delegate.getDeviceConfiguration();
+	}
+
+	@Override
+	public void setComposite(Composite comp) {
+		delegate.setComposite(comp);
+	}
+
+	@Override
+	public Composite getComposite() {
+		return delegate.getComposite();
+	}
+
+	@Override
+	public void setPaint(Paint paint) {
+		delegate.setPaint(paint);
+	}
+
+	@Override
+	public Paint getPaint() {
+		return delegate.getPaint();
+	}
+
+	@Override
+	public void setStroke(Stroke s) {
+		delegate.setStroke(s);
+	}
+
+	@Override
+	public Stroke getStroke() {
+		return delegate.getStroke();
+	}
+
+	@Override
+	public void setRenderingHint(Key hintKey, Object hintValue) {
+		delegate.setRenderingHint(hintKey, hintValue);
+	}
+
+	@Override
+	public Object getRenderingHint(Key hintKey) {
+		return delegate.getRenderingHint(hintKey);
+	}
+
+	@Override
+	public void setRenderingHints(Map<?, ?> hints) {
+		delegate.setRenderingHints(hints);
+	}
+
+	@Override
+	public void addRenderingHints(Map<?, ?> hints) {
+		delegate.addRenderingHints(hints);
+	}
+
+	@Override
+	public RenderingHints getRenderingHints() {
+		return delegate.getRenderingHints();
+	}
+
+	@Override
+	public void translate(int x, int y) {
+		delegate.translate(x, y);
+	}
+
+	@Override
+	public void translate(double tx, double ty) {
+		delegate.translate(tx, ty);
+	}
+
+	@Override
+	public void rotate(double theta) {
+		delegate.rotate(theta);
+	}
+
+	@Override
+	public void rotate(double theta, double x, double y) {
+		delegate.rotate(theta, x, y);
+	}
+
+	@Override
+	public void scale(double sx, double sy) {
+		delegate.scale(sx, sy);
+	}
+
+	@Override
+	public void shear(double shx, double shy) {
+		delegate.shear(shx, shy);
+	}
+
+	@Override
+	public void transform(AffineTransform tx) {
+		delegate.transform(tx);
+	}
+
+	@Override
+	public void setTransform(AffineTransform tx) {
+		delegate.setTransform(tx);
+	}
+
+	@Override
+	public AffineTransform getTransform() {
+		return delegate.getTransform();
+	}
+
+	@Override
+	public void setBackground(Color color) {
+		delegate.setBackground(color);
+	}
+
+	@Override
+	public Color getBackground() {
+		return delegate.getBackground();
+	}
+
+	@Override
+	public void clip(Shape s) {
+		delegate.clip(s);
+	}
+
+	@Override
+	public FontRenderContext getFontRenderContext() {
+		return delegate.getFontRenderContext();
+	}
+
+	@Override
+	public Color getColor() {
+		return delegate.getColor();
+	}
+
+	@Override
+	public void setColor(Color c) {
+		delegate.setColor(c);
+	}
+
+	@Override
+	public void setPaintMode() {
+		delegate.setPaintMode();
+	}
+
+	@Override
+	public void setXORMode(Color c1) {
+		delegate.setXORMode(c1);
+	}
+
+	@Override
+	public Font getFont() {
+		return delegate.getFont();
+	}
+
+	@Override
+	public void setFont(Font font) {
+		delegate.setFont(font);
+	}
+
+	@Override
+	public FontMetrics getFontMetrics(Font f) {
+		return delegate.getFontMetrics(f);
+	}
+
+	@Override
+	public Rectangle getClipBounds() {
+		return delegate.getClipBounds();
+	}
+
+	@Override
+	public void clipRect(int x, int y, int width, int height) {
+		delegate.clipRect(x, y, width, height);
+	}
+
+	@Override
+	public void setClip(int x, int y, int width, int height) {
+		delegate.setClip(x, y, width, height);
+	}
+
+	@Override
+	public Shape getClip() {
+		return delegate.getClip();
+	}
+
+	@Override
+	public void setClip(Shape clip) {
+		delegate.setClip(clip);
+	}
+
+}
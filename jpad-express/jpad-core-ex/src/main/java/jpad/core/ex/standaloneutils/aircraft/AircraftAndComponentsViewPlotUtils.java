@@ -3,7 +3,6 @@ package jpad.core.ex.standaloneutils.aircraft;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.Rectangle;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -21,7 +20,6 @@ import javax.measure.quantity.Length;
 import javax.measure.unit.SI;
 
 import org.jfree.chart.ChartFactory;
-import org.jfree.chart.ChartUtilities;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
@@ -33,8 +31,6 @@ import org.jfree.chart.util.ShapeUtils;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
-import org.jfree.graphics2d.svg.SVGGraphics2D;
-import org.jfree.graphics2d.svg.SVGUtils;
 import org.jscience.physics.amount.Amount;
 
 import javaslang.Tuple;
@@ -42,9 +38,13 @@ import javaslang.Tuple2;
 import jpad.configs.ex.enumerations.ComponentEnum;
 import jpad.configs.ex.enumerations.EngineTypeEnum;
 import jpad.core.ex.aircraft.Aircraft;
+import jpad.core.ex.aircraft.AircraftProjectedGeometry;
+import jpad.core.ex.aircraft.AircraftProjectedGeometry.Polyline;
 import jpad.core.ex.aircraft.components.liftingSurface.LiftingSurface;
 import jpad.core.ex.standaloneutils.GeometryCalc;
 import jpad.core.ex.standaloneutils.MyArrayUtils;
+import jpad.core.ex.standaloneutils.PNGChartWriter;
+import jpad.core.ex.standaloneutils.SVGChartWriter;
 import jpad.core.ex.standaloneutils.geometry.FusNacGeometryCalc;
 
 public class AircraftAndComponentsViewPlotUtils {
@@ -56,82 +56,34 @@ public class AircraftAndComponentsViewPlotUtils {
 	public static final int HEIGHT = 1000;
 	
 	public static void createAircraftTopView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createAircraftTopViewChart(aircraft), outputDirectoryPath, "AircraftTopView");
+	}
+
+	public static JFreeChart createAircraftTopViewChart(Aircraft aircraft) {
+		
+		AircraftProjectedGeometry projectedGeometry = aircraft.getProjectedGeometry();
 		
 		//--------------------------------------------------
 		// get data vectors from fuselage discretization
 		//--------------------------------------------------
 		XYSeries seriesFuselageCurve = new XYSeries("Fuselage - Top View", false);
 		
-		if(aircraft.getFuselage() != null) {
-			// left curve, upperview
-			List<Amount<Length>> vX1Left = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXYSideLCurveAmountX().stream().forEach(x -> vX1Left.add(x));
-			int nX1Left = vX1Left.size();
-			List<Amount<Length>> vY1Left = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXYSideLCurveAmountY().stream().forEach(y -> vY1Left.add(y));
-
-			// right curve, upperview
-			List<Amount<Length>> vX2Right = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXYSideRCurveAmountX().stream().forEach(x -> vX2Right.add(x));;
-			int nX2Right = vX2Right.size();
-			List<Amount<Length>> vY2Right = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXYSideRCurveAmountY().stream().forEach(y -> vY2Right.add(y));;
-
-			IntStream.range(0, nX1Left)
-			.forEach(i -> {
-				seriesFuselageCurve.add(vX1Left.get(i).doubleValue(SI.METRE), vY1Left.get(i).doubleValue(SI.METRE));
-			});
-			IntStream.range(0, nX2Right)
-			.forEach(i -> {
-				seriesFuselageCurve.add(vX2Right.get(vX2Right.size()-1-i).doubleValue(SI.METRE), vY2Right.get(vY2Right.size()-1-i).doubleValue(SI.METRE));
-			});
-		}
+		if(aircraft.getFuselage() != null)
+			addPoints(seriesFuselageCurve, projectedGeometry.getFuselageTopView());
 		//--------------------------------------------------
 		// get data vectors from wing discretization
 		//--------------------------------------------------
 		XYSeries seriesWingTopView = new XYSeries("Wing - Top View", false);
 		
-		if (aircraft.getWing() != null) {
-			Double[][] dataTopViewIsolated = aircraft.getWing().getDiscretizedTopViewAsArray(ComponentEnum.WING);
-
-			IntStream.range(0, dataTopViewIsolated.length)
-			.forEach(i -> {
-				seriesWingTopView.add(
-						dataTopViewIsolated[i][1] + aircraft.getWing().getXApexConstructionAxes().doubleValue(SI.METER),
-						dataTopViewIsolated[i][0] + aircraft.getWing().getYApexConstructionAxes().doubleValue(SI.METER)
-						);
-			});
-			IntStream.range(0, dataTopViewIsolated.length)
-			.forEach(i -> {
-				seriesWingTopView.add(
-						dataTopViewIsolated[dataTopViewIsolated.length-1-i][1] + aircraft.getWing().getXApexConstructionAxes().doubleValue(SI.METER),
-						-dataTopViewIsolated[dataTopViewIsolated.length-1-i][0] + aircraft.getWing().getYApexConstructionAxes().doubleValue(SI.METER)
-						);
-			});
-		}
+		if (aircraft.getWing() != null)
+			addPoints(seriesWingTopView, projectedGeometry.getLiftingSurfaceView(ComponentEnum.WING));
 		//--------------------------------------------------
 		// get data vectors from hTail discretization
 		//--------------------------------------------------
 		XYSeries seriesHTailTopView = new XYSeries("HTail - Top View", false);
 		
-		if (aircraft.getHTail() != null) {
-			Double[][] dataTopViewIsolatedHTail = aircraft.getHTail().getDiscretizedTopViewAsArray(ComponentEnum.HORIZONTAL_TAIL);
-
-			IntStream.range(0, dataTopViewIsolatedHTail.length)
-			.forEach(i -> {
-				seriesHTailTopView.add(
-						dataTopViewIsolatedHTail[i][1] + aircraft.getHTail().getXApexConstructionAxes().doubleValue(SI.METER),
-						dataTopViewIsolatedHTail[i][0] + aircraft.getHTail().getYApexConstructionAxes().doubleValue(SI.METER)
-						);
-			});
-			IntStream.range(0, dataTopViewIsolatedHTail.length)
-			.forEach(i -> {
-				seriesHTailTopView.add(
-						dataTopViewIsolatedHTail[dataTopViewIsolatedHTail.length-1-i][1] + aircraft.getHTail().getXApexConstructionAxes().doubleValue(SI.METER),
-						- dataTopViewIsolatedHTail[dataTopViewIsolatedHTail.length-1-i][0] + aircraft.getHTail().getYApexConstructionAxes().doubleValue(SI.METER)
-						);
-			});
-		}
+		if (aircraft.getHTail() != null)
+			addPoints(seriesHTailTopView, projectedGeometry.getLiftingSurfaceView(ComponentEnum.HORIZONTAL_TAIL));
 		
 		//--------------------------------------------------
 		// get data vectors from vTail discretization
@@ -175,24 +127,8 @@ public class AircraftAndComponentsViewPlotUtils {
 		//--------------------------------------------------
 		XYSeries seriesCanardTopView = new XYSeries("Canard - Top View", false);
 		
-		if (aircraft.getCanard() != null) {
-			Double[][] dataTopViewIsolatedCanard = aircraft.getCanard().getDiscretizedTopViewAsArray(ComponentEnum.CANARD);
-
-			IntStream.range(0, dataTopViewIsolatedCanard.length)
-			.forEach(i -> {
-				seriesCanardTopView.add(
-						dataTopViewIsolatedCanard[i][1] + aircraft.getCanard().getXApexConstructionAxes().doubleValue(SI.METER),
-						dataTopViewIsolatedCanard[i][0] + aircraft.getCanard().getYApexConstructionAxes().doubleValue(SI.METER)
-						);
-			});
-			IntStream.range(0, dataTopViewIsolatedCanard.length)
-			.forEach(i -> {
-				seriesCanardTopView.add(
-						dataTopViewIsolatedCanard[dataTopViewIsolatedCanard.length-1-i][1] + aircraft.getCanard().getXApexConstructionAxes().doubleValue(SI.METER),
-						- dataTopViewIsolatedCanard[dataTopViewIsolatedCanard.length-1-i][0] + aircraft.getCanard().getYApexConstructionAxes().doubleValue(SI.METER)
-						);
-			});
-		}
+		if (aircraft.getCanard() != null)
+			addPoints(seriesCanardTopView, projectedGeometry.getLiftingSurfaceView(ComponentEnum.CANARD));
 		
 		//--------------------------------------------------
 		// get data vectors from nacelle discretization
@@ -200,53 +136,8 @@ public class AircraftAndComponentsViewPlotUtils {
 		List<XYSeries> seriesNacelleCruvesTopViewList = new ArrayList<>();
 
 		if(aircraft.getNacelles() != null) {
-			for(int i=0; i<aircraft.getNacelles().getNacellesList().size(); i++) {
-
-				// upper curve, sideview
-				List<Amount<Length>> nacelleCurveX = new ArrayList<>(); 
-				aircraft.getNacelles().getNacellesList().get(i).getXCoordinatesOutline().stream().forEach(x -> nacelleCurveX.add(x));
-				int nacelleCurveXPoints = nacelleCurveX.size();
-				List<Amount<Length>> nacelleCurveUpperY = new ArrayList<>(); 
-				aircraft.getNacelles().getNacellesList().get(i).getYCoordinatesOutlineXYRight().stream().forEach(y -> nacelleCurveUpperY.add(y));
-
-				// lower curve, sideview
-				List<Amount<Length>> nacelleCurveLowerY = new ArrayList<>(); 
-				aircraft.getNacelles().getNacellesList().get(i).getYCoordinatesOutlineXYLeft().stream().forEach(y -> nacelleCurveLowerY.add(y));;
-
-				List<Amount<Length>> dataOutlineXZCurveNacelleX = new ArrayList<>();
-				List<Amount<Length>> dataOutlineXZCurveNacelleY = new ArrayList<>();
-
-				for(int j=0; j<nacelleCurveXPoints; j++) {
-					dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(j)
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getXApexConstructionAxes()));
-					dataOutlineXZCurveNacelleY.add(nacelleCurveUpperY.get(j)
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getYApexConstructionAxes()));
-				}
-
-				for(int j=0; j<nacelleCurveXPoints; j++) {
-					dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(nacelleCurveXPoints-j-1) 
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getXApexConstructionAxes()));
-					dataOutlineXZCurveNacelleY.add(nacelleCurveLowerY.get(nacelleCurveXPoints-j-1)
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getYApexConstructionAxes()));
-				}
-
-				dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(0)
-						.plus(aircraft.getNacelles().getNacellesList().get(i).getXApexConstructionAxes()));
-				dataOutlineXZCurveNacelleY.add(nacelleCurveUpperY.get(0)
-						.plus(aircraft.getNacelles().getNacellesList().get(i).getYApexConstructionAxes()));
-
-				XYSeries seriesNacelleCruvesTopView = new XYSeries("Nacelle " + i + " XZ Curve - Top View", false);
-				IntStream.range(0, dataOutlineXZCurveNacelleX.size())
-				.forEach(j -> {
-					seriesNacelleCruvesTopView.add(
-							dataOutlineXZCurveNacelleX.get(j).doubleValue(SI.METER),
-							dataOutlineXZCurveNacelleY.get(j).doubleValue(SI.METER)
-							);
-				});
-				
-				seriesNacelleCruvesTopViewList.add(seriesNacelleCruvesTopView);
-
-			}
+			for(int i=0; i<projectedGeometry.getNumberOfNacelles(); i++)
+				seriesNacelleCruvesTopViewList.add(createSeries("Nacelle " + i + " XZ Curve - Top View", projectedGeometry.getNacelleTopView(i)));
 		}
 
 		//-------------------------------------------------------------------------------
@@ -578,69 +469,24 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapeRenderer);
 		plot.setDataset(0, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "AircraftTopView.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "AircraftTopView.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		
+		return chart;
 	}
 
 	public static void createAircraftSideView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createAircraftSideViewChart(aircraft), outputDirectoryPath, "AircraftSideView");
+	}
+
+	public static JFreeChart createAircraftSideViewChart(Aircraft aircraft) {
+		
+		AircraftProjectedGeometry projectedGeometry = aircraft.getProjectedGeometry();
 		
 		//--------------------------------------------------
 		// get data vectors from fuselage discretization
 		//--------------------------------------------------
 		XYSeries seriesFuselageCurve = new XYSeries("Fuselage - Top View", false);
 		
-		if (aircraft.getFuselage() != null) {
-			// upper curve, sideview
-			List<Amount<Length>> vX1Upper = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXZUpperCurveAmountX().stream().forEach(x -> vX1Upper.add(x));
-			int nX1Upper = vX1Upper.size();
-			List<Amount<Length>> vZ1Upper = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXZUpperCurveAmountZ().stream().forEach(z -> vZ1Upper.add(z));
-
-			// lower curve, sideview
-			List<Amount<Length>> vX2Lower = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXZLowerCurveAmountX().stream().forEach(x -> vX2Lower.add(x));
-			int nX2Lower = vX2Lower.size();
-			List<Amount<Length>> vZ2Lower = new ArrayList<>(); 
-			aircraft.getFuselage().getOutlineXZLowerCurveAmountZ().stream().forEach(z -> vZ2Lower.add(z));
-
-			IntStream.range(0, nX1Upper)
-			.forEach(i -> {
-				seriesFuselageCurve.add(vX1Upper.get(i).doubleValue(SI.METRE), vZ1Upper.get(i).doubleValue(SI.METRE));
-			});
-			IntStream.range(0, nX2Lower)
-			.forEach(i -> {
-				seriesFuselageCurve.add(vX2Lower.get(vX2Lower.size()-1-i).doubleValue(SI.METRE), vZ2Lower.get(vZ2Lower.size()-1-i).doubleValue(SI.METRE));
-			});
-		}
+		if (aircraft.getFuselage() != null)
+			addPoints(seriesFuselageCurve, projectedGeometry.getFuselageSideView());
 		//--------------------------------------------------
 		// get data vectors from wing discretization
 		//--------------------------------------------------
@@ -760,72 +606,17 @@ public class AircraftAndComponentsViewPlotUtils {
 		//--------------------------------------------------
 		XYSeries seriesVTailSideView = new XYSeries("VTail - Side View", false);
 
-		if (aircraft.getVTail() != null) {
-			Double[][] dataTopViewVTail = aircraft.getVTail().getDiscretizedTopViewAsArray(ComponentEnum.VERTICAL_TAIL);
-
-			IntStream.range(0, dataTopViewVTail.length)
-			.forEach(i -> {
-				seriesVTailSideView.add(
-						dataTopViewVTail[i][0] + aircraft.getVTail().getXApexConstructionAxes().doubleValue(SI.METER),
-						dataTopViewVTail[i][1] + aircraft.getVTail().getZApexConstructionAxes().doubleValue(SI.METER)
-						);
-			});
-		}
+		if (aircraft.getVTail() != null)
+			addPoints(seriesVTailSideView, projectedGeometry.getLiftingSurfaceView(ComponentEnum.VERTICAL_TAIL));
 
 		//--------------------------------------------------
 		// get data vectors from nacelle discretization
 		//--------------------------------------------------
 		List<XYSeries> seriesNacelleCruvesSideViewList = new ArrayList<>();
 
-		if (aircraft.getNacelles() != null) {
-			for(int i=0; i<aircraft.getNacelles().getNacellesList().size(); i++) {
-
-				// upper curve, sideview
-				List<Amount<Length>> nacelleCurveX = new ArrayList<>(); 
-				aircraft.getNacelles().getNacellesList().get(i).getXCoordinatesOutline().stream().forEach(x -> nacelleCurveX.add(x));
-				int nacelleCurveXPoints = nacelleCurveX.size();
-				List<Amount<Length>> nacelleCurveUpperZ = new ArrayList<>(); 
-				aircraft.getNacelles().getNacellesList().get(i).getZCoordinatesOutlineXZUpper().stream().forEach(z -> nacelleCurveUpperZ.add(z));
-
-				// lower curve, sideview
-				List<Amount<Length>> nacelleCurveLowerZ = new ArrayList<>(); 
-				aircraft.getNacelles().getNacellesList().get(i).getZCoordinatesOutlineXZLower().stream().forEach(z -> nacelleCurveLowerZ.add(z));;
-
-				List<Amount<Length>> dataOutlineXZCurveNacelleX = new ArrayList<>();
-				List<Amount<Length>> dataOutlineXZCurveNacelleZ = new ArrayList<>();
-
-				for(int j=0; j<nacelleCurveXPoints; j++) {
-					dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(j)
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getXApexConstructionAxes()));
-					dataOutlineXZCurveNacelleZ.add(nacelleCurveUpperZ.get(j)
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getZApexConstructionAxes()));
-				}
-
-				for(int j=0; j<nacelleCurveXPoints; j++) {
-					dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(nacelleCurveXPoints-j-1) 
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getXApexConstructionAxes()));
-					dataOutlineXZCurveNacelleZ.add(nacelleCurveLowerZ.get(nacelleCurveXPoints-j-1)
-							.plus(aircraft.getNacelles().getNacellesList().get(i).getZApexConstructionAxes()));
-				}
-
-				dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(0)
-						.plus(aircraft.getNacelles().getNacellesList().get(i).getXApexConstructionAxes()));
-				dataOutlineXZCurveNacelleZ.add(nacelleCurveUpperZ.get(0)
-						.plus(aircraft.getNacelles().getNacellesList().get(i).getZApexConstructionAxes()));
-
-
-				XYSeries seriesNacelleCruvesSideView = new XYSeries("Nacelle " + i + " XY Curve - Side View", false);
-				IntStream.range(0, dataOutlineXZCurveNacelleX.size())
-				.forEach(j -> {
-					seriesNacelleCruvesSideView.add(
-							dataOutlineXZCurveNacelleX.get(j).doubleValue(SI.METER),
-							dataOutlineXZCurveNacelleZ.get(j).doubleValue(SI.METER)
-							);
-				});
-
-				seriesNacelleCruvesSideViewList.add(seriesNacelleCruvesSideView);
-
-			}
+		if(aircraft.getNacelles() != null) {
+			for(int i=0; i<projectedGeometry.getNumberOfNacelles(); i++)
+				seriesNacelleCruvesSideViewList.add(createSeries("Nacelle " + i + " XY Curve - Side View", projectedGeometry.getNacelleSideView(i)));
 		}
 		//-------------------------------------------------------------------------------
 		// get data vectors from power plant propellers (only for PISTON and TURBOPROP)
@@ -1008,68 +799,24 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapePropRenderer);
 		plot.setDataset(0, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "AircraftSideView.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "AircraftSideView.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 	
 	public static void createAircraftFrontView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createAircraftFrontViewChart(aircraft), outputDirectoryPath, "AircraftFrontView");
+	}
+
+	public static JFreeChart createAircraftFrontViewChart(Aircraft aircraft) {
+		
+		AircraftProjectedGeometry projectedGeometry = aircraft.getProjectedGeometry();
 		
 		//--------------------------------------------------
 		// get data vectors from fuselage discretization
 		//--------------------------------------------------
 		XYSeries seriesFuselageCurve = new XYSeries("Fuselage - Front View", false);
 		
-		if (aircraft.getFuselage() != null) {
-			// section upper curve
-			List<Amount<Length>> vY1Upper = new ArrayList<>(); 
-			aircraft.getFuselage().getSectionUpperCurveAmountY().stream().forEach(y -> vY1Upper.add(y));
-			int nY1Upper = vY1Upper.size();
-			List<Amount<Length>> vZ1Upper = new ArrayList<>(); 
-			aircraft.getFuselage().getSectionUpperCurveAmountZ().stream().forEach(z -> vZ1Upper.add(z));
-
-			// section lower curve
-			List<Amount<Length>> vY2Lower = new ArrayList<>(); 
-			aircraft.getFuselage().getSectionLowerCurveAmountY().stream().forEach(y -> vY2Lower.add(y));
-			int nY2Lower = vY2Lower.size();
-			List<Amount<Length>> vZ2Lower = new ArrayList<>(); 
-			aircraft.getFuselage().getSectionLowerCurveAmountZ().stream().forEach(z -> vZ2Lower.add(z));
-
-			IntStream.range(0, nY1Upper)
-			.forEach(i -> {
-				seriesFuselageCurve.add(vY1Upper.get(i).doubleValue(SI.METRE), vZ1Upper.get(i).doubleValue(SI.METRE));
-			});
-			IntStream.range(0, nY2Lower)
-			.forEach(i -> {
-				seriesFuselageCurve.add(vY2Lower.get(vY2Lower.size()-1-i).doubleValue(SI.METRE), vZ2Lower.get(vZ2Lower.size()-1-i).doubleValue(SI.METRE));
-			});
-		}
+		if (aircraft.getFuselage() != null)
+			addPoints(seriesFuselageCurve, projectedGeometry.getFuselageFrontView());
 		//--------------------------------------------------
 		// get data vectors from wing discretization
 		//--------------------------------------------------
@@ -1334,44 +1081,9 @@ public class AircraftAndComponentsViewPlotUtils {
 		//--------------------------------------------------
 		List<XYSeries> seriesNacelleCruvesFrontViewList = new ArrayList<>();
 
-		if (aircraft.getNacelles() != null) {
-			for(int i=0; i<aircraft.getNacelles().getNacellesList().size(); i++) {
-
-				double[] angleArray = MyArrayUtils.linspace(0.0, 2*Math.PI, 20);
-				double[] yCoordinate = new double[angleArray.length];
-				double[] zCoordinate = new double[angleArray.length];
-
-				double radius = aircraft.getNacelles()
-						.getNacellesList().get(i)
-						.getDiameterMax()
-						.divide(2)
-						.doubleValue(SI.METER);
-				double y0 = aircraft.getNacelles()
-						.getNacellesList().get(i)
-						.getYApexConstructionAxes()
-						.doubleValue(SI.METER);
-
-				double z0 = aircraft.getNacelles()
-						.getNacellesList().get(i)
-						.getZApexConstructionAxes()
-						.doubleValue(SI.METER);
-
-				for(int j=0; j<angleArray.length; j++) {
-					yCoordinate[j] = radius*Math.cos(angleArray[j]);
-					zCoordinate[j] = radius*Math.sin(angleArray[j]);
-				}
-
-				XYSeries seriesNacelleCruvesFrontView = new XYSeries("Nacelle " + i + " - Front View", false);
-				IntStream.range(0, yCoordinate.length)
-				.forEach(j -> {
-					seriesNacelleCruvesFrontView.add(
-							yCoordinate[j] + y0,
-							zCoordinate[j] + z0
-							);
-				});
-
-				seriesNacelleCruvesFrontViewList.add(seriesNacelleCruvesFrontView);
-			}
+		if(aircraft.getNacelles() != null) {
+			for(int i=0; i<projectedGeometry.getNumberOfNacelles(); i++)
+				seriesNacelleCruvesFrontViewList.add(createSeries("Nacelle " + i + " - Front View", projectedGeometry.getNacelleFrontView(i)));
 		}
 		//-------------------------------------------------------------------------------
 		// get data vectors from power plant propellers (only for PISTON and TURBOPROP)
@@ -1734,66 +1446,19 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(1, xyLineAndShapeRenderer);
 		plot.setDataset(1, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "AircraftFrontView.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "AircraftFrontView.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		
+		return chart;
 	}
 	
 	public static void createFuselageTopView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createFuselageTopViewChart(aircraft), outputDirectoryPath, "FuselageTopView");
+	}
+
+	public static JFreeChart createFuselageTopViewChart(Aircraft aircraft) {
 		
 		//--------------------------------------------------
 		// get data vectors from fuselage discretization
 		//--------------------------------------------------
-		// left curve, upperview
-		List<Amount<Length>> vX1Left = new ArrayList<>(); 
-		aircraft.getFuselage().getOutlineXYSideLCurveAmountX().stream().forEach(x -> vX1Left.add(x));
-		int nX1Left = vX1Left.size();
-		List<Amount<Length>> vY1Left = new ArrayList<>(); 
-		aircraft.getFuselage().getOutlineXYSideLCurveAmountY().stream().forEach(y -> vY1Left.add(y));
-
-		// right curve, upperview
-		List<Amount<Length>> vX2Right = new ArrayList<>(); 
-		aircraft.getFuselage().getOutlineXYSideRCurveAmountX().stream().forEach(x -> vX2Right.add(x));
-		int nX2Right = vX2Right.size();
-		List<Amount<Length>> vY2Right = new ArrayList<>();
-		aircraft.getFuselage().getOutlineXYSideRCurveAmountY().stream().forEach(y -> vY2Right.add(y));
-
-		XYSeries seriesFuselageCurve = new XYSeries("Fuselage - Top View", false);
-		IntStream.range(0, nX1Left)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vX1Left.get(i).doubleValue(SI.METRE), vY1Left.get(i).doubleValue(SI.METRE));
-		});
-		IntStream.range(0, nX2Right)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vX2Right.get(vX2Right.size()-1-i).doubleValue(SI.METRE), vY2Right.get(vY2Right.size()-1-i).doubleValue(SI.METRE));
-		});
+		XYSeries seriesFuselageCurve = createSeries("Fuselage - Top View", aircraft.getProjectedGeometry().getFuselageTopView());
 
 		double xMaxTopView = 1.40*aircraft.getFuselage().getFuselageLength().divide(2).doubleValue(SI.METRE);
 		double xMinTopView = -1.40*aircraft.getFuselage().getFuselageLength().divide(2).doubleValue(SI.METRE);
@@ -1872,65 +1537,19 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(1, xyLineAndShapeRenderer);
 		plot.setDataset(1, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "FuselageTopView.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "FuselageTopView.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 
 	public static void createFuselageSideView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createFuselageSideViewChart(aircraft), outputDirectoryPath, "FuselageSideView");
+	}
+
+	public static JFreeChart createFuselageSideViewChart(Aircraft aircraft) {
 		
 		//--------------------------------------------------
 		// get data vectors from fuselage discretization
 		//--------------------------------------------------
-		// upper curve, sideview
-		List<Amount<Length>> vX1Upper = new ArrayList<>(); 
-		aircraft.getFuselage().getOutlineXZUpperCurveAmountX().stream().forEach(x -> vX1Upper.add(x));
-		int nX1Upper = vX1Upper.size();
-		List<Amount<Length>> vZ1Upper = new ArrayList<>(); 
-		aircraft.getFuselage().getOutlineXZUpperCurveAmountZ().stream().forEach(z -> vZ1Upper.add(z));
-
-		// lower curve, sideview
-		List<Amount<Length>> vX2Lower = new ArrayList<>(); 
-		aircraft.getFuselage().getOutlineXZLowerCurveAmountX().stream().forEach(x -> vX2Lower.add(x));
-		int nX2Lower = vX2Lower.size();
-		List<Amount<Length>> vZ2Lower = new ArrayList<>(); 
-		aircraft.getFuselage().getOutlineXZLowerCurveAmountZ().stream().forEach(z -> vZ2Lower.add(z));
-
-		XYSeries seriesFuselageCurve = new XYSeries("Fuselage - Top View", false);
-		IntStream.range(0, nX1Upper)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vX1Upper.get(i).doubleValue(SI.METRE), vZ1Upper.get(i).doubleValue(SI.METRE));
-		});
-		IntStream.range(0, nX2Lower)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vX2Lower.get(vX2Lower.size()-1-i).doubleValue(SI.METRE), vZ2Lower.get(vZ2Lower.size()-1-i).doubleValue(SI.METRE));
-		});
+		XYSeries seriesFuselageCurve = createSeries("Fuselage - Top View", aircraft.getProjectedGeometry().getFuselageSideView());
 		
 		double xMaxSideView = 1.20*aircraft.getFuselage().getFuselageLength().doubleValue(SI.METRE);
 		double xMinSideView = -0.20*aircraft.getFuselage().getFuselageLength().doubleValue(SI.METRE);
@@ -2007,66 +1626,19 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(1, xyLineAndShapeRenderer);
 		plot.setDataset(1, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "FuselageSideView.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "FuselageSideView.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}	
-		
+		return chart;
 	}
 	
 	public static void createFuselageFrontView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createFuselageFrontViewChart(aircraft), outputDirectoryPath, "FuselageFrontView");
+	}
+
+	public static JFreeChart createFuselageFrontViewChart(Aircraft aircraft) {
 		
 		//--------------------------------------------------
 		// get data vectors from fuselage discretization
 		//--------------------------------------------------
-		// section upper curve
-		List<Amount<Length>> vY1Upper = new ArrayList<>(); 
-		aircraft.getFuselage().getSectionUpperCurveAmountY().stream().forEach(y -> vY1Upper.add(y));
-		int nY1Upper = vY1Upper.size();
-		List<Amount<Length>> vZ1Upper = new ArrayList<>(); 
-		aircraft.getFuselage().getSectionUpperCurveAmountZ().stream().forEach(z -> vZ1Upper.add(z));
-
-		// section lower curve
-		List<Amount<Length>> vY2Lower = new ArrayList<>(); 
-		aircraft.getFuselage().getSectionLowerCurveAmountY().stream().forEach(y -> vY2Lower.add(y));
-		int nY2Lower = vY2Lower.size();
-		List<Amount<Length>> vZ2Lower = new ArrayList<>(); 
-		aircraft.getFuselage().getSectionLowerCurveAmountZ().stream().forEach(z -> vZ2Lower.add(z));
-		
-		XYSeries seriesFuselageCurve = new XYSeries("Fuselage - Front View", false);
-		IntStream.range(0, nY1Upper)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vY1Upper.get(i).doubleValue(SI.METRE), vZ1Upper.get(i).doubleValue(SI.METRE));
-		});
-		IntStream.range(0, nY2Lower)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vY2Lower.get(vY2Lower.size()-1-i).doubleValue(SI.METRE), vZ2Lower.get(vZ2Lower.size()-1-i).doubleValue(SI.METRE));
-		});
+		XYSeries seriesFuselageCurve = createSeries("Fuselage - Front View", aircraft.getProjectedGeometry().getFuselageFrontView());
 		
 		double yMaxFrontView = 1.20*aircraft.getWing().getSemiSpan().doubleValue(SI.METER);
 		double yMinFrontView = -1.20*aircraft.getWing().getSemiSpan().doubleValue(SI.METRE);
@@ -2143,38 +1715,14 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(1, xyLineAndShapeRenderer);
 		plot.setDataset(1, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "FuselageFrontView.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "FuselageFrontView.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 	
 	public static void createSeatMap(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createSeatMapChart(aircraft), outputDirectoryPath, "SeatMap");
+	}
+
+	public static JFreeChart createSeatMapChart(Aircraft aircraft) {
 		
 		List<XYSeries> seatBlockSeriesList = new ArrayList<>();
 		List<XYSeries> seatsSeriesList = new ArrayList<>();
@@ -2182,31 +1730,7 @@ public class AircraftAndComponentsViewPlotUtils {
 		//------------------------------------------------
 		// GET DATA VECTORS FROM FUSELAGE DISCRETIZATION
 		
-		//.........................
-		// Left curve, upper view
-		List<Amount<Length>> vXLeft = new ArrayList<>(); 
-		List<Amount<Length>> vYLeft = new ArrayList<>();
-		aircraft.getFuselage().getOutlineXYSideLCurveAmountX().forEach(x -> vXLeft.add(x));
-		aircraft.getFuselage().getOutlineXYSideLCurveAmountY().forEach(y -> vYLeft.add(y));
-		int nXLeft = vXLeft.size();
-		
-		//.........................
-		// Right curve, upper view
-		List<Amount<Length>> vXRight = new ArrayList<>(); 
-		List<Amount<Length>> vYRight = new ArrayList<>();
-		aircraft.getFuselage().getOutlineXYSideRCurveAmountX().forEach(x -> vXRight.add(x));
-		aircraft.getFuselage().getOutlineXYSideRCurveAmountY().forEach(y -> vYRight.add(y));
-		int nXRight = vXRight.size();
-		
-		XYSeries seriesFuselageCurve = new XYSeries("Fuselage - Top View", false);
-		IntStream.range(0, nXLeft)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vXLeft.get(i).doubleValue(SI.METRE), vYLeft.get(i).doubleValue(SI.METRE));
-		});
-		IntStream.range(0, nXRight)
-		.forEach(i -> {
-			seriesFuselageCurve.add(vXRight.get(vXRight.size()-1-i).doubleValue(SI.METRE), vYRight.get(vYRight.size()-1-i).doubleValue(SI.METRE));
-		});
+		XYSeries seriesFuselageCurve = createSeries("Fuselage - Top View", aircraft.getProjectedGeometry().getFuselageTopView());
 		
 		//-----------------------------------------------------------
 		// CREATING SEAT BLOCKS
@@ -2362,56 +1886,22 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapeRenderer);
 		plot.setDataset(0, dataset);
 
-		//------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "SeatMap.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "SeatMap.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}	
+		return chart;
 	}
 	
 	public static void createWingPlanformView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createWingPlanformViewChart(aircraft), outputDirectoryPath, "WingPlanform");
+	}
+
+	public static JFreeChart createWingPlanformViewChart(Aircraft aircraft) {
 		
 		//--------------------------------------------------
 		// get data vectors from wing discretization
 		//--------------------------------------------------
-		Double[][] dataTopViewIsolated = aircraft.getWing().getDiscretizedTopViewAsArray(ComponentEnum.WING);
+		Polyline planform = aircraft.getProjectedGeometry().getPlanform(ComponentEnum.WING);
 		
-		XYSeries seriesWingTopView = new XYSeries("Wing Planform", false);
-		IntStream.range(0, dataTopViewIsolated.length)
-		.forEach(i -> {
-			seriesWingTopView.add(
-					dataTopViewIsolated[i][1],
-					dataTopViewIsolated[i][0]
-					);
-		});
-		seriesWingTopView.add(
-				dataTopViewIsolated[0][1],
-				dataTopViewIsolated[0][0]
-				);
+		XYSeries seriesWingTopView = createSeries("Wing Planform", planform);
+		seriesWingTopView.add(planform.getX(0), planform.getY(0));
 		
 		//--------------------------------------------------
 		// get data vectors from flaps
@@ -2762,38 +2252,14 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapeRenderer);
 		plot.setDataset(0, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "WingPlanform.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "WingPlanform.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 	
 	public static void createEquivalentLiftingSurfaceView(LiftingSurface theLiftingSurface, String outputDirectoryPath) {
+		exportChart(createEquivalentLiftingSurfaceViewChart(theLiftingSurface), outputDirectoryPath, theLiftingSurface.getType().toString() + "EquivalentLiftingSurface");
+	}
+
+	public static JFreeChart createEquivalentLiftingSurfaceViewChart(LiftingSurface theLiftingSurface) {
 		
 		//--------------------------------------------------
 		// get data vectors from wing discretization
@@ -2977,56 +2443,22 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapeRenderer);
 		plot.setDataset(0, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ (theLiftingSurface.getType().toString() + "EquivalentLiftingSurface.svg");
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ (theLiftingSurface.getType().toString() + "EquivalentLiftingSurface.png");
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 	
 	public static void createHTailPlanformView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createHTailPlanformViewChart(aircraft), outputDirectoryPath, "HorizontalTailPlanform");
+	}
+
+	public static JFreeChart createHTailPlanformViewChart(Aircraft aircraft) {
 		
 		//--------------------------------------------------
 		// get data vectors from HTail discretization
 		//--------------------------------------------------
-		Double[][] dataTopViewIsolated = aircraft.getHTail().getDiscretizedTopViewAsArray(ComponentEnum.HORIZONTAL_TAIL);
+		Polyline planform = aircraft.getProjectedGeometry().getPlanform(ComponentEnum.HORIZONTAL_TAIL);
 		
-		XYSeries seriesHTailTopView = new XYSeries("HTail Planform", false);
-		IntStream.range(0, dataTopViewIsolated.length)
-		.forEach(i -> {
-			seriesHTailTopView.add(
-					dataTopViewIsolated[i][1],
-					dataTopViewIsolated[i][0]
-					);
-		});
-		seriesHTailTopView.add(
-				dataTopViewIsolated[0][1],
-				dataTopViewIsolated[0][0]
-				);
+		XYSeries seriesHTailTopView = createSeries("HTail Planform", planform);
+		seriesHTailTopView.add(planform.getX(0), planform.getY(0));
 		
 		//--------------------------------------------------
 		// get data vectors from flaps
@@ -3214,56 +2646,25 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapeRenderer);
 		plot.setDataset(0, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "HorizontalTailPlanform.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "HorizontalTailPlanform.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 	
 	public static void createVTailPlanformView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createVTailPlanformViewChart(aircraft), outputDirectoryPath, "VerticalTailPlanform");
+	}
+
+	public static JFreeChart createVTailPlanformViewChart(Aircraft aircraft) {
 		
 		//--------------------------------------------------
 		// get data vectors from VTail discretization
 		//--------------------------------------------------
-		Double[][] dataTopViewVTail = aircraft.getVTail().getDiscretizedTopViewAsArray(ComponentEnum.VERTICAL_TAIL);
+		Polyline planform = aircraft.getProjectedGeometry().getPlanform(ComponentEnum.VERTICAL_TAIL);
 		
+		// spanwise coordinate on the abscissa
 		XYSeries seriesVTailTopView = new XYSeries("VTail", false);
-		IntStream.range(0, dataTopViewVTail.length)
-		.forEach(i -> {
-			seriesVTailTopView.add(
-					dataTopViewVTail[i][1],
-					dataTopViewVTail[i][0]
-					);
-		});
-		seriesVTailTopView.add(
-				dataTopViewVTail[0][1],
-				dataTopViewVTail[0][0]
-				);
+		for (int i=0; i<planform.size(); i++)
+			seriesVTailTopView.add(planform.getY(i), planform.getX(i));
+		seriesVTailTopView.add(planform.getY(0), planform.getX(0));
 		
 		//--------------------------------------------------
 		// get data vectors from rudders
@@ -3451,56 +2852,22 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapeRenderer);
 		plot.setDataset(0, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "VerticalTailPlanform.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "VerticalTailPlanform.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 	
 	public static void createCanardPlanformView(Aircraft aircraft, String outputDirectoryPath) {
+		exportChart(createCanardPlanformViewChart(aircraft), outputDirectoryPath, "CanardPlanform");
+	}
+
+	public static JFreeChart createCanardPlanformViewChart(Aircraft aircraft) {
 		
 		//--------------------------------------------------
 		// get data vectors from Canard discretization
 		//--------------------------------------------------
-		Double[][] dataTopViewIsolated = aircraft.getCanard().getDiscretizedTopViewAsArray(ComponentEnum.CANARD);
+		Polyline planform = aircraft.getProjectedGeometry().getPlanform(ComponentEnum.CANARD);
 		
-		XYSeries seriesCanardTopView = new XYSeries("Canard Planform", false);
-		IntStream.range(0, dataTopViewIsolated.length)
-		.forEach(i -> {
-			seriesCanardTopView.add(
-					dataTopViewIsolated[i][1],
-					dataTopViewIsolated[i][0]
-					);
-		});
-		seriesCanardTopView.add(
-				dataTopViewIsolated[0][1],
-				dataTopViewIsolated[0][0]
-				);
+		XYSeries seriesCanardTopView = createSeries("Canard Planform", planform);
+		seriesCanardTopView.add(planform.getX(0), planform.getY(0));
 		
 		//--------------------------------------------------
 		// get data vectors from control surface
@@ -3688,82 +3055,29 @@ public class AircraftAndComponentsViewPlotUtils {
 		plot.setRenderer(0, xyLineAndShapeRenderer);
 		plot.setDataset(0, dataset);
 
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO SVG
-		String outputFilePathTopViewSVG = outputDirectoryPath 
-				+ File.separator 
-				+ "CanardPlanform.svg";
-		File outputFileSVG = new File(outputFilePathTopViewSVG);
-		if(outputFileSVG.exists()) outputFileSVG.delete();
-		SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-		Rectangle r = new Rectangle(WIDTH, HEIGHT);
-		chart.draw(g2, r);
-		try {
-			SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		//-------------------------------------------------------------------------------------
-		// EXPORT TO PNG
-		String outputFilePathTopViewPNG = outputDirectoryPath 
-				+ File.separator 
-				+ "CanardPlanform.png";
-		File outputFilePNG = new File(outputFilePathTopViewPNG);
-		if(outputFilePNG.exists()) outputFilePNG.delete();
-		
-		try {
-			ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		return chart;
 	}
 	
 	public static void createNacelleTopView(Aircraft aircraft, String outputDirectoryPath) {
+		List<JFreeChart> charts = createNacelleTopViewCharts(aircraft);
+		for (int i=0; i<charts.size(); i++)
+			exportChart(charts.get(i), outputDirectoryPath, "NacelleTopView_" + i);
+	}
+
+	public static List<JFreeChart> createNacelleTopViewCharts(Aircraft aircraft) {
 
 		//---------------------------------------------------------------------------------
 		// LOOP OVER NACELLES:
+		List<JFreeChart> charts = new ArrayList<>();
+
 		for (int i=0; i<aircraft.getNacelles().getNacellesList().size(); i++) {
 
 			//--------------------------------------------------
 			// get data vectors from nacelle discretization
 			//--------------------------------------------------
 
-			// upper curve, sideview
-			List<Amount<Length>> nacelleCurveX = new ArrayList<>(); 
-			aircraft.getNacelles().getNacellesList().get(i).getXCoordinatesOutline().stream().forEach(x -> nacelleCurveX.add(x));
-			int nacelleCurveXPoints = nacelleCurveX.size();
-			List<Amount<Length>> nacelleCurveUpperY = new ArrayList<>(); 
-			aircraft.getNacelles().getNacellesList().get(i).getYCoordinatesOutlineXYRight().stream().forEach(y -> nacelleCurveUpperY.add(y));
-
-			// lower curve, sideview
-			List<Amount<Length>> nacelleCurveLowerY = new ArrayList<>(); 
-			aircraft.getNacelles().getNacellesList().get(i).getYCoordinatesOutlineXYLeft().stream().forEach(y -> nacelleCurveLowerY.add(y));
-
-			List<Amount<Length>> dataOutlineXZCurveNacelleX = new ArrayList<>();
-			List<Amount<Length>> dataOutlineXZCurveNacelleY = new ArrayList<>();
-
-			for(int j=0; j<nacelleCurveXPoints; j++) {
-				dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(j));
-				dataOutlineXZCurveNacelleY.add(nacelleCurveUpperY.get(j));
-			}
-
-			for(int j=0; j<nacelleCurveXPoints; j++) {
-				dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(nacelleCurveXPoints-j-1) );
-				dataOutlineXZCurveNacelleY.add(nacelleCurveLowerY.get(nacelleCurveXPoints-j-1));
-			}
-
-			dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(0));
-			dataOutlineXZCurveNacelleY.add(nacelleCurveUpperY.get(0));
-
-			XYSeries seriesNacelleCruvesTopView = new XYSeries("Nacelle " + i + " XZ Curve - Top View", false);
-			IntStream.range(0, dataOutlineXZCurveNacelleX.size())
-			.forEach(k -> {
-				seriesNacelleCruvesTopView.add(
-						dataOutlineXZCurveNacelleX.get(k).doubleValue(SI.METER),
-						dataOutlineXZCurveNacelleY.get(k).doubleValue(SI.METER)
-						);
-			});
+			XYSeries seriesNacelleCruvesTopView = createSeries(
+					"Nacelle " + i + " XZ Curve - Top View", aircraft.getProjectedGeometry().getNacelleOutlineXY(i));
 
 			double xMaxTopView = 1.40*aircraft.getNacelles().getNacellesList().get(i).getLength().divide(2).doubleValue(SI.METRE);
 			double xMinTopView = -1.40*aircraft.getNacelles().getNacellesList().get(i).getLength().divide(2).doubleValue(SI.METRE);
@@ -3842,83 +3156,35 @@ public class AircraftAndComponentsViewPlotUtils {
 			plot.setRenderer(1, xyLineAndShapeRenderer);
 			plot.setDataset(1, dataset);
 
-			//-------------------------------------------------------------------------------------
-			// EXPORT TO SVG
-			String outputFilePathTopViewSVG = outputDirectoryPath 
-					+ File.separator 
-					+ "NacelleTopView_" + i + ".svg";
-			File outputFileSVG = new File(outputFilePathTopViewSVG);
-			if(outputFileSVG.exists()) outputFileSVG.delete();
-			SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-			Rectangle r = new Rectangle(WIDTH, HEIGHT);
-			chart.draw(g2, r);
-			try {
-				SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-
-			//-------------------------------------------------------------------------------------
-			// EXPORT TO PNG
-			String outputFilePathTopViewPNG = outputDirectoryPath 
-					+ File.separator 
-					+ "NacelleTopView_" + i + ".png";
-			File outputFilePNG = new File(outputFilePathTopViewPNG);
-			if(outputFilePNG.exists()) outputFilePNG.delete();
-			
-			try {
-				ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+			charts.add(chart);
 		}
+
+		return charts;
 	}
 	
 	public static void createNacelleSideView(Aircraft aircraft, String outputDirectoryPath) {
+		List<JFreeChart> charts = createNacelleSideViewCharts(aircraft);
+		for (int i=0; i<charts.size(); i++)
+			exportChart(charts.get(i), outputDirectoryPath, "NacelleSideView_" + i);
+	}
+
+	public static List<JFreeChart> createNacelleSideViewCharts(Aircraft aircraft) {
 
 		//---------------------------------------------------------------------------------
 		// LOOP OVER NACELLES:
+		List<JFreeChart> charts = new ArrayList<>();
+
 		for (int i=0; i<aircraft.getNacelles().getNacellesList().size(); i++) {
 
 			//--------------------------------------------------
 			// get data vectors from nacelle discretization
 			//--------------------------------------------------
 
-			// upper curve, sideview
-			List<Amount<Length>> nacelleCurveX = new ArrayList<>(); 
-			aircraft.getNacelles().getNacellesList().get(i).getXCoordinatesOutline().stream().forEach(x -> nacelleCurveX.add(x));
-			int nacelleCurveXPoints = nacelleCurveX.size();
-			List<Amount<Length>> nacelleCurveUpperZ = new ArrayList<>(); 
-			aircraft.getNacelles().getNacellesList().get(i).getZCoordinatesOutlineXZUpper().stream().forEach(z -> nacelleCurveUpperZ.add(z));
-
-			// lower curve, sideview
-			List<Amount<Length>> nacelleCurveLowerZ = new ArrayList<>(); 
-			aircraft.getNacelles().getNacellesList().get(i).getZCoordinatesOutlineXZLower().stream().forEach(z -> nacelleCurveLowerZ.add(z));;
-
-			List<Amount<Length>> dataOutlineXZCurveNacelleX = new ArrayList<>();
-			List<Amount<Length>> dataOutlineXZCurveNacelleZ = new ArrayList<>();
-
-			for(int j=0; j<nacelleCurveXPoints; j++) {
-				dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(j));
-				dataOutlineXZCurveNacelleZ.add(nacelleCurveUpperZ.get(j));
-			}
-
-			for(int j=0; j<nacelleCurveXPoints; j++) {
-				dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(nacelleCurveXPoints-j-1));
-				dataOutlineXZCurveNacelleZ.add(nacelleCurveLowerZ.get(nacelleCurveXPoints-j-1));
-			}
-
-			dataOutlineXZCurveNacelleX.add(nacelleCurveX.get(0));
-			dataOutlineXZCurveNacelleZ.add(nacelleCurveUpperZ.get(0));
-
+			// z on the abscissa
+			Polyline outlineXZ = aircraft.getProjectedGeometry().getNacelleOutlineXZ(i);
 			XYSeries seriesNacelleCruvesSideView = new XYSeries("Nacelle " + i + " XY Curve - Side View", false);
-			IntStream.range(0, dataOutlineXZCurveNacelleX.size())
-			.forEach(j -> {
-				seriesNacelleCruvesSideView.add(
-						dataOutlineXZCurveNacelleZ.get(j).doubleValue(SI.METER),
-						dataOutlineXZCurveNacelleX.get(j).doubleValue(SI.METER)
-						);
-			});
+			for (int j=0; j<outlineXZ.size(); j++)
+				seriesNacelleCruvesSideView.add(outlineXZ.getY(j), outlineXZ.getX(j));
 
 			double xMaxSideView = 1.40*aircraft.getNacelles().getNacellesList().get(i).getLength().divide(2).doubleValue(SI.METRE);
 			double xMinSideView = -1.40*aircraft.getNacelles().getNacellesList().get(i).getLength().divide(2).doubleValue(SI.METRE);
@@ -3997,42 +3263,24 @@ public class AircraftAndComponentsViewPlotUtils {
 			plot.setRenderer(1, xyLineAndShapeRenderer);
 			plot.setDataset(1, dataset);
 
-			//-------------------------------------------------------------------------------------
-			// EXPORT TO SVG
-			String outputFilePathTopViewSVG = outputDirectoryPath 
-					+ File.separator 
-					+ "NacelleSideView_" + i + ".svg";
-			File outputFileSVG = new File(outputFilePathTopViewSVG);
-			if(outputFileSVG.exists()) outputFileSVG.delete();
-			SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-			Rectangle r = new Rectangle(WIDTH, HEIGHT);
-			chart.draw(g2, r);
-			try {
-				SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-
-			//-------------------------------------------------------------------------------------
-			// EXPORT TO PNG
-			String outputFilePathTopViewPNG = outputDirectoryPath 
-					+ File.separator 
-					+ "NacelleSideView_" + i + ".png";
-			File outputFilePNG = new File(outputFilePathTopViewPNG);
-			if(outputFilePNG.exists()) outputFilePNG.delete();
-			
-			try {
-				ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+			charts.add(chart);
 		}
+
+		return charts;
 	}
 	
 	public static void createNacelleFrontView(Aircraft aircraft, String outputDirectoryPath) {
+		List<JFreeChart> charts = createNacelleFrontViewCharts(aircraft);
+		for (int i=0; i<charts.size(); i++)
+			exportChart(charts.get(i), outputDirectoryPath, "NacelleFrontView_" + i);
+	}
+
+	public static List<JFreeChart> createNacelleFrontViewCharts(Aircraft aircraft) {
 
 		//---------------------------------------------------------------------------------
 		// LOOP OVER NACELLES:
+		List<JFreeChart> charts = new ArrayList<>();
+
 		for (int i=0; i<aircraft.getNacelles().getNacellesList().size(); i++) {
 
 			//--------------------------------------------------
@@ -4141,35 +3389,69 @@ public class AircraftAndComponentsViewPlotUtils {
 			plot.setRenderer(1, xyLineAndShapeRenderer);
 			plot.setDataset(1, dataset);
 
-			//-------------------------------------------------------------------------------------
-			// EXPORT TO SVG
-			String outputFilePathTopViewSVG = outputDirectoryPath 
-					+ File.separator 
-					+ "NacelleFrontView_" + i + ".svg";
-			File outputFileSVG = new File(outputFilePathTopViewSVG);
-			if(outputFileSVG.exists()) outputFileSVG.delete();
-			SVGGraphics2D g2 = new SVGGraphics2D(WIDTH, HEIGHT);
-			Rectangle r = new Rectangle(WIDTH, HEIGHT);
-			chart.draw(g2, r);
-			try {
-				SVGUtils.writeToSVG(outputFileSVG, g2.getSVGElement());
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+			charts.add(chart);
+		}
 
-			//-------------------------------------------------------------------------------------
-			// EXPORT TO PNG
-			String outputFilePathTopViewPNG = outputDirectoryPath 
-					+ File.separator 
-					+ "NacelleFrontView_" + i + ".png";
-			File outputFilePNG = new File(outputFilePathTopViewPNG);
-			if(outputFilePNG.exists()) outputFilePNG.delete();
-			
-			try {
-				ChartUtilities.saveChartAsPNG(outputFilePNG, chart, WIDTH, HEIGHT);
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+		return charts;
+	}
+	
+	/**
+	 * @return the series of the points of the polyline, in order
+	 */
+	private static XYSeries createSeries(Comparable<?> key, Polyline polyline) {
+		XYSeries series = new XYSeries(key, false);
+		addPoints(series, polyline);
+		return series;
+	}
+
+	private static void addPoints(XYSeries series, Polyline polyline) {
+		for (int i=0; i<polyline.size(); i++)
+			series.add(polyline.getX(i), polyline.getY(i));
+	}
+	
+	/**
+	 * Writes the chart in the output directory as SVG and PNG (WIDTH x HEIGHT), replacing
+	 * the existing files. Different charts can be exported concurrently.
+	 *
+	 * @param fileName the name of the output files, without extension
+	 */
+	public static void exportChart(JFreeChart chart, String outputDirectoryPath, String fileName) {
+		exportChartToSVG(chart, outputDirectoryPath, fileName);
+		exportChartToPNG(chart, outputDirectoryPath, fileName);
+	}
+
+	/**
+	 * The SVG half of exportChart.
+	 */
+	public static void exportChartToSVG(JFreeChart chart, String outputDirectoryPath, String fileName) {
+
+		String outputFilePathSVG = outputDirectoryPath 
+				+ File.separator 
+				+ fileName + SVGChartWriter.getFileExtension();
+		File outputFileSVG = new File(outputFilePathSVG);
+		if(outputFileSVG.exists()) outputFileSVG.delete();
+		try {
+			SVGChartWriter.writeChart(chart, outputFileSVG, WIDTH, HEIGHT);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * The PNG half of exportChart, drawn on the pooled image of the current thread (see PNGChartWriter).
+	 */
+	public static void exportChartToPNG(JFreeChart chart, String outputDirectoryPath, String fileName) {
+
+		String outputFilePathPNG = outputDirectoryPath 
+				+ File.separator 
+				+ fileName + ".png";
+		File outputFilePNG = new File(outputFilePathPNG);
+		if(outputFilePNG.exists()) outputFilePNG.delete();
+		
+		try {
+			PNGChartWriter.writeChart(chart, outputFilePNG, WIDTH, HEIGHT);
+		} catch (IOException e) {
+			e.printStackTrace();
 		}
 	}
 }
@@ -0,0 +1,424 @@
+package jpad.core.ex.standaloneutils.aircraft;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.io.FileUtils;
+
+import jpad.configs.ex.MyConfiguration;
+import jpad.configs.ex.enumerations.ComponentEnum;
+import jpad.configs.ex.enumerations.FoldersEnum;
+import jpad.core.ex.standaloneutils.JPADXmlReader;
+import jpad.core.ex.standaloneutils.PNGChartWriter;
+import jpad.core.ex.standaloneutils.SVGChartWriter;
+
+/**
+ * The manifest of the views written in an aircraft output folder (file views_manifest.properties),
+ * used to write again only the views whose inputs have changed, instead of emptying the folder and
+ * writing all of them.
+ *
+ * The inputs of the views of each component are hashed (SHA-256): the aircraft file, the component
+ * files with the airfoils of the lifting surfaces, AircraftViewsRenderer.VERSION and the output
+ * options (jpad.svg.compress, jpad.svg.decimation, jpad.png.fast). The aircraft views depend on all
+ * the files, the fuselage views on the fuselage and the wing (whose span sets the front view range),
+ * the nacelle views on the engines, the nacelles and, with turbofan or turbojet engines, the turbofan
+ * characteristics database (which sets the nacelle diameter). The files are found from the aircraft
+ * file as in Aircraft.importFromXML, hence without importing the aircraft.
+ *
+ * The inputs are hashed before the import (see readInputs) and again when the manifest is written:
+ * the components whose inputs have changed in the meantime are not recorded, as it is unknown which
+ * version has been imported, and their views are written again at the next run.
+ *
+ * The manifest records the input hash of each component and, for each written file (relative to the
+ * aircraft folder), its component: a file is up to date if it exists and the hash of its component
+ * is unchanged.
+ */
+public class AircraftViewsManifest {
+
+	//-------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final String FILE_NAME = "views_manifest.properties";
+
+	private static final String VERSION_KEY = "renderer.version";
+	private static final String ID_KEY = "aircraft.id";
+	private static final String COMPLETE_KEY = "complete";
+	private static final String INPUTS_KEY_PREFIX = "inputs.";
+	private static final String ARTIFACT_KEY_PREFIX = "artifact.";
+	// component of the files kept from a previous run, which are never up to date
+	private static final String STALE_ARTIFACT = "stale";
+
+	private static final List<ComponentEnum> LIFTING_SURFACES = Arrays.asList(
+			ComponentEnum.WING, ComponentEnum.HORIZONTAL_TAIL, ComponentEnum.VERTICAL_TAIL, ComponentEnum.CANARD);
+
+	// as read by Engine.importFromXML and FusNacGeometryCalc for turbofan and turbojet engines
+	private static final String TURBOFAN_DATABASE_FILE_NAME = "TurbofanCharacterstics.h5";
+
+	private final File aircraftFile;
+	private final Map<ComponentEnum, List<File>> inputFiles;
+	private final Map<ComponentEnum, String> inputHashes;
+	private File aircraftFolder;
+	private Properties previous = new Properties();
+
+	//-------------------------------------------------------------
+	// BUILDER
+	private AircraftViewsManifest(File aircraftFile, Map<ComponentEnum, List<File>> inputFiles) {
+		this.aircraftFile = aircraftFile;
+		this.inputFiles = inputFiles;
+		this.inputHashes = hashInputFiles(aircraftFile, inputFiles);
+	}
+
+	//-------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * Hashes the inputs of the views and reads the manifest of the aircraft folder, if any.
+	 * The arguments after the aircraft folder are those of Aircraft.importFromXML.
+	 */
+	public static AircraftViewsManifest read(
+			String aircraftFolder,
+			String pathToXML,
+			String liftingSurfacesDir,
+			String fuselagesDir,
+			String engineDir,
+			String nacelleDir,
+			String landingGearsDir,
+			String cabinConfigurationDir,
+			String airfoilsDir) {
+
+		return readInputs(
+				pathToXML, liftingSurfacesDir, fuselagesDir, engineDir, nacelleDir,
+				landingGearsDir, cabinConfigurationDir, airfoilsDir
+				).readFolder(aircraftFolder);
+	}
+
+	/**
+	 * Hashes the inputs of the views, to be done before importing the aircraft; the manifest of the
+	 * aircraft folder is then read by readFolder. The arguments are those of Aircraft.importFromXML.
+	 */
+	public static AircraftViewsManifest readInputs(
+			String pathToXML,
+			String liftingSurfacesDir,
+			String fuselagesDir,
+			String engineDir,
+			String nacelleDir,
+			String landingGearsDir,
+			String cabinConfigurationDir,
+			String airfoilsDir) {
+
+		//---------------------------------------------------------------------------------
+		// INPUT FILES, as read by Aircraft.importFromXML
+		Map<ComponentEnum, List<File>> inputFiles = new EnumMap<>(ComponentEnum.class);
+		JPADXmlReader reader = new JPADXmlReader(pathToXML);
+		if (reader.isStatusOK()) {
+			addInputFile(inputFiles, ComponentEnum.FUSELAGE, fuselagesDir,
+					reader.getXMLValueByPath("//fuselages/fuselage/@file"));
+			addInputFile(inputFiles, ComponentEnum.CABIN_CONFIGURATION, cabinConfigurationDir,
+					reader.getXMLValueByPath("//global_data/cabin_configuration/@file"));
+			addInputFile(inputFiles, ComponentEnum.WING, liftingSurfacesDir,
+					reader.getXMLValueByPath("//lifting_surfaces/wing/@file"));
+			addInputFile(inputFiles, ComponentEnum.HORIZONTAL_TAIL, liftingSurfacesDir,
+					reader.getXMLValueByPath("//lifting_surfaces/horizontal_tail/@file"));
+			addInputFile(inputFiles, ComponentEnum.VERTICAL_TAIL, liftingSurfacesDir,
+					reader.getXMLValueByPath("//lifting_surfaces/vertical_tail/@file"));
+			addInputFile(inputFiles, ComponentEnum.CANARD, liftingSurfacesDir,
+					reader.getXMLValueByPath("//lifting_surfaces/canard/@file"));
+			addInputFile(inputFiles, ComponentEnum.LANDING_GEAR, landingGearsDir,
+					reader.getXMLValueByPath("//landing_gears/@file"));
+			List<String> engineFileNames = reader.getXMLAttributesByPath("//power_plant/engine", "file");
+			addInputFiles(inputFiles, ComponentEnum.NACELLE, engineDir, engineFileNames);
+			addInputFiles(inputFiles, ComponentEnum.NACELLE, nacelleDir,
+					reader.getXMLAttributesByPath("//engine/nacelle", "file"));
+
+			// the turbofan and turbojet engines are sized on the turbofan characteristics database
+			if (engineFileNames != null
+					&& engineFileNames.stream().anyMatch(fileName -> isTurbofan(new File(engineDir + File.separator + fileName))))
+				addInputFile(inputFiles, ComponentEnum.NACELLE, MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
+						TURBOFAN_DATABASE_FILE_NAME);
+
+			// the airfoils of the panels, as read by LiftingSurfacePanelCreator
+			for (ComponentEnum liftingSurface : LIFTING_SURFACES) {
+				if (!inputFiles.containsKey(liftingSurface))
+					continue;
+				File liftingSurfaceFile = inputFiles.get(liftingSurface).get(0);
+				if (!liftingSurfaceFile.isFile())
+					continue;
+				addInputFiles(inputFiles, liftingSurface, airfoilsDir,
+						new JPADXmlReader(liftingSurfaceFile.getPath()).getXMLValuesByPath("//airfoil/@file"));
+			}
+		}
+
+		return new AircraftViewsManifest(new File(pathToXML), inputFiles);
+	}
+
+	/**
+	 * Reads the manifest of the aircraft folder, if any.
+	 *
+	 * @return this manifest
+	 */
+	public AircraftViewsManifest readFolder(String aircraftFolder) {
+
+		File folder = new File(aircraftFolder);
+		Properties previous = new Properties();
+		File manifestFile = new File(folder, FILE_NAME);
+		if (manifestFile.isFile()) {
+			try (InputStream inputStream = Files.newInputStream(manifestFile.toPath())) {
+				previous.load(inputStream);
+			} catch (IOException | IllegalArgumentException e) {
+				e.printStackTrace();
+				previous.clear();
+			}
+			if (!String.valueOf(AircraftViewsRenderer.VERSION).equals(previous.getProperty(VERSION_KEY)))
+				previous.clear();
+		}
+
+		this.aircraftFolder = folder;
+		this.previous = previous;
+		return this;
+	}
+
+	private static boolean isTurbofan(File engineFile) {
+		if (!engineFile.isFile())
+			return false;
+		String type = new JPADXmlReader(engineFile.getPath()).getXMLValueByPath("//@type");
+		return "TURBOFAN".equalsIgnoreCase(type) || "TURBOJET".equalsIgnoreCase(type);
+	}
+
+	/**
+	 * @return the input hash of each component
+	 */
+	private static Map<ComponentEnum, String> hashInputFiles(File aircraftFile, Map<ComponentEnum, List<File>> inputFiles) {
+
+		Map<String, String> fileHashes = new LinkedHashMap<>();
+		fileHashes.put(aircraftFile.getName(), hashFile(aircraftFile));
+		String aircraftHash = hash(fileHashes);
+
+		Map<ComponentEnum, String> inputHashes = new EnumMap<>(ComponentEnum.class);
+		Map<String, String> allFileHashes = new LinkedHashMap<>(fileHashes);
+		for (Map.Entry<ComponentEnum, List<File>> entry : inputFiles.entrySet()) {
+			Map<String, String> componentFileHashes = new LinkedHashMap<>();
+			componentFileHashes.put(ComponentEnum.AIRCRAFT.name(), aircraftHash);
+			for (File file : entry.getValue()) {
+				String fileHash = hashFile(file);
+				componentFileHashes.put(file.getName(), fileHash);
+				allFileHashes.put(entry.getKey() + "/" + file.getName(), fileHash);
+			}
+			inputHashes.put(entry.getKey(), hash(componentFileHashes));
+		}
+		inputHashes.put(ComponentEnum.AIRCRAFT, hash(allFileHashes));
+
+		// the fuselage front view range is the wing span
+		if (inputHashes.containsKey(ComponentEnum.FUSELAGE)) {
+			Map<String, String> fuselageHashes = new LinkedHashMap<>();
+			fuselageHashes.put(ComponentEnum.FUSELAGE.name(), inputHashes.get(ComponentEnum.FUSELAGE));
+			fuselageHashes.put(ComponentEnum.WING.name(), inputHashes.getOrDefault(ComponentEnum.WING, ""));
+			inputHashes.put(ComponentEnum.FUSELAGE, hash(fuselageHashes));
+		}
+
+		return inputHashes;
+	}
+
+	private static void addInputFile(Map<ComponentEnum, List<File>> inputFiles, ComponentEnum component, String dir, String fileName) {
+		if (fileName == null || fileName.isEmpty())
+			return;
+		inputFiles.computeIfAbsent(component, c -> new ArrayList<>()).add(new File(dir + File.separator + fileName));
+	}
+
+	private static void addInputFiles(Map<ComponentEnum, List<File>> inputFiles, ComponentEnum component, String dir, List<String> fileNames) {
+		if (fileNames != null)
+			fileNames.forEach(fileName -> addInputFile(inputFiles, component, dir, fileName));
+	}
+
+	/**
+	 * @return the SHA-256 of the file content, or "missing" if it cannot be read
+	 */
+	private static String hashFile(File file) {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[64*1024];
+		try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+			for (int n = inputStream.read(buffer); n >= 0; n = inputStream.read(buffer))
+				digest.update(buffer, 0, n);
+			return toHex(digest.digest());
+		} catch (IOException e) {
+			return "missing";
+		}
+	}
+
+	/**
+	 * @return the SHA-256 of the renderer version, of the output options and of the named hashes
+	 */
+	private static String hash(Map<String, String> namedHashes) {
+
+		StringBuilder text = new StringBuilder();
+		text.append(AircraftViewsRenderer.VERSION).append('\n')
+			.append(SVGChartWriter.getFileExtension()).append(' ')
+			.append(SVGChartWriter.getDefaultDecimationTolerance()).append(' ')
+			.append(PNGChartWriter.isFastByDefault()).append('\n');
+		namedHashes.forEach((name, hash) -> text.append(name).append('=').append(hash).append('\n'));
+		return toHex(newDigest().digest(text.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform has SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(2*bytes.length);
+		for (byte b : bytes)
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		return hex.toString();
+	}
+
+	/**
+	 * @return true if the folder has a manifest written by this renderer version
+	 */
+	public boolean isValid() {
+		return !previous.isEmpty();
+	}
+
+	/**
+	 * Forgets the manifest of the folder, so that all the views are written again.
+	 */
+	public void invalidate() {
+		previous = new Properties();
+	}
+
+	/**
+	 * Empties the aircraft folder if it has no valid manifest: its files were not written by this
+	 * renderer version, or the manifest has been invalidated.
+	 */
+	public void prepareFolder() throws IOException {
+		if (!isValid() && aircraftFolder != null && aircraftFolder.isDirectory())
+			FileUtils.cleanDirectory(aircraftFolder);
+	}
+
+	/**
+	 * @return the aircraft id recorded by the manifest, or an empty string
+	 */
+	public String getAircraftId() {
+		return previous.getProperty(ID_KEY, "");
+	}
+
+	/**
+	 * @return true if all the views of the last run were written and all of them are up to date,
+	 * 		   hence nothing has to be done (the aircraft does not even need to be imported)
+	 */
+	public boolean isUpToDate() {
+
+		if (!isValid() || !Boolean.parseBoolean(previous.getProperty(COMPLETE_KEY)))
+			return false;
+		boolean anyArtifact = false;
+		for (String key : previous.stringPropertyNames()) {
+			if (!key.startsWith(ARTIFACT_KEY_PREFIX))
+				continue;
+			anyArtifact = true;
+			if (!isUpToDate(key.substring(ARTIFACT_KEY_PREFIX.length())))
+				return false;
+		}
+		return anyArtifact;
+	}
+
+	/**
+	 * @return true if the SVG and the PNG files of the view are up to date
+	 */
+	public boolean isUpToDate(String outputDirectoryPath, String fileName) {
+		return isUpToDate(getArtifactPath(outputDirectoryPath, fileName + SVGChartWriter.getFileExtension()))
+				&& isUpToDate(getArtifactPath(outputDirectoryPath, fileName + ".png"));
+	}
+
+	private boolean isUpToDate(String artifactPath) {
+
+		String component = previous.getProperty(ARTIFACT_KEY_PREFIX + artifactPath);
+		if (component == null || component.equals(STALE_ARTIFACT))
+			return false;
+		String previousHash = previous.getProperty(INPUTS_KEY_PREFIX + component);
+		String hash;
+		try {
+			hash = inputHashes.get(ComponentEnum.valueOf(component));
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		return previousHash != null && previousHash.equals(hash) && new File(aircraftFolder, artifactPath).isFile();
+	}
+
+	/**
+	 * @return the path of the file relative to the aircraft folder, with / separators
+	 */
+	private String getArtifactPath(String outputDirectoryPath, String fileName) {
+		return aircraftFolder.toPath().toAbsolutePath().normalize()
+				.relativize(new File(outputDirectoryPath, fileName).toPath().toAbsolutePath().normalize())
+				.toString().replace(File.separatorChar, '/');
+	}
+
+	/**
+	 * Records the views written (or found up to date) by AircraftViewsRenderer.render, deletes the
+	 * files of the previous views which have not been written again (e.g. of a removed nacelle) and
+	 * writes the manifest in the aircraft folder. The files of the failed views are kept from the 
+	 * previous run, but recorded as stale; the inputs changed since they were hashed are not recorded. 
+	 * Hence both are written again at the next run.
+	 *
+	 * @return false if the manifest could not be written
+	 */
+	public boolean write(String aircraftId, List<AircraftViewsRenderer.View> views) {
+
+		if (aircraftFolder == null)
+			throw new IllegalStateException("The aircraft folder of the manifest has not been read");
+
+		Properties manifest = new Properties();
+		manifest.setProperty(VERSION_KEY, String.valueOf(AircraftViewsRenderer.VERSION));
+		manifest.setProperty(ID_KEY, aircraftId == null ? "" : aircraftId);
+
+		boolean complete = true;
+		Map<ComponentEnum, String> currentInputHashes = hashInputFiles(aircraftFile, inputFiles);
+		for (Map.Entry<ComponentEnum, String> entry : inputHashes.entrySet()) {
+			if (entry.getValue().equals(currentInputHashes.get(entry.getKey())))
+				manifest.setProperty(INPUTS_KEY_PREFIX + entry.getKey(), entry.getValue());
+			else
+				complete = false;
+		}
+
+		for (AircraftViewsRenderer.View view : views) {
+			if (view.getError() != null)
+				complete = false;
+			for (String extension : Arrays.asList(SVGChartWriter.getFileExtension(), ".png")) {
+				String key = ARTIFACT_KEY_PREFIX + getArtifactPath(view.getOutputDirectoryPath(), view.getFileName() + extension);
+				if (view.getError() == null)
+					manifest.setProperty(key, view.getComponent().name());
+				else if (previous.containsKey(key))
+					manifest.setProperty(key, STALE_ARTIFACT);
+			}
+		}
+		manifest.setProperty(COMPLETE_KEY, String.valueOf(complete));
+
+		for (String key : previous.stringPropertyNames())
+			if (key.startsWith(ARTIFACT_KEY_PREFIX) && !manifest.containsKey(key))
+				new File(aircraftFolder, key.substring(ARTIFACT_KEY_PREFIX.length())).delete();
+
+		try (OutputStream outputStream = Files.newOutputStream(new File(aircraftFolder, FILE_NAME).toPath())) {
+			manifest.store(outputStream, "JPAD aircraft views");
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+		previous = manifest;
+		return true;
+	}
+
+}
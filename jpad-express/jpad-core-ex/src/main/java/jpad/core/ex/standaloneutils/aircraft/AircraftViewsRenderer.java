@@ -0,0 +1,395 @@
+package jpad.core.ex.standaloneutils.aircraft;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jfree.chart.JFreeChart;
+
+import jpad.configs.ex.enumerations.ComponentEnum;
+import jpad.core.ex.aircraft.Aircraft;
+import jpad.core.ex.aircraft.components.liftingSurface.LiftingSurface;
+import jpad.core.ex.standaloneutils.PNGChartWriter;
+
+/**
+ * Writes the aircraft and component views of AircraftAndComponentsViewPlotUtils concurrently.
+ *
+ * The charts of all the views (datasets, renderers and axes) are built once per aircraft on the
+ * calling thread, which is then the only one reading the aircraft; each chart is then drawn and
+ * written as SVG and PNG on a bounded pool of daemon threads, in headless mode. The PNG is drawn
+ * from a copy of the chart, so that the two files of a view are written concurrently too. A
+ * failure of one view does not stop the others and is recorded in its View.
+ *
+ * The pool is shared by all the calls, so that writing the views of several aircraft at the same
+ * time (e.g. JPADBatch) does not multiply the rendering threads. Its size is the number of
+ * available processors, unless given by the system property jpad.views.threads. The PNG images
+ * kept by the pool threads are released when no call is rendering anymore.
+ *
+ * Given an AircraftViewsManifest, the views whose files are up to date are neither built nor written.
+ */
+public class AircraftViewsRenderer {
+
+	//-------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final String THREADS_PROPERTY = "jpad.views.threads";
+
+	/** to be increased when the views change, so that the views written by AircraftViewsManifest are written again */
+	public static final int VERSION = 1;
+
+	static {
+		// JFreeChart only needs Java2D: never open a display connection for the views
+		if (System.getProperty("java.awt.headless") == null)
+			System.setProperty("java.awt.headless", "true");
+	}
+
+	private static ExecutorService pool;
+
+	/** the calls of render in progress */
+	private static final AtomicInteger activeRenders = new AtomicInteger();
+
+	/**
+	 * One output view (an SVG and a PNG file with the same name) and its timings (ms).
+	 */
+	public static class View {
+
+		private final String outputDirectoryPath;
+		private final String fileName;
+		private final ComponentEnum component;
+		private JFreeChart chart;
+		private boolean upToDate;
+		private long chartTime;
+		private volatile long svgTime;
+		private volatile long pngTime;
+		private volatile String svgThread = "";
+		private volatile String pngThread = "";
+		private Throwable error;
+
+		View(String outputDirectoryPath, String fileName, ComponentEnum component) {
+			this.outputDirectoryPath = outputDirectoryPath;
+			this.fileName = fileName;
+			this.component = component;
+		}
+
+		public String getOutputDirectoryPath() {
+			return outputDirectoryPath;
+		}
+
+		/**
+		 * @return the name of the output files, without extension
+		 */
+		public String getFileName() {
+			return fileName;
+		}
+
+		/**
+		 * @return the component whose inputs the view depends on (AIRCRAFT for the aircraft views)
+		 */
+		public ComponentEnum getComponent() {
+			return component;
+		}
+
+		/**
+		 * @return true if the files of the view were up to date, hence not written
+		 */
+		public boolean isUpToDate() {
+			return upToDate;
+		}
+
+		/**
+		 * @return the time spent building the chart, on the calling thread
+		 */
+		public long getChartTime() {
+			return chartTime;
+		}
+
+		/**
+		 * @return the time spent drawing and writing the chart, on the pool
+		 */
+		public long getExportTime() {
+			return svgTime + pngTime;
+		}
+
+		public long getSVGTime() {
+			return svgTime;
+		}
+
+		public long getPNGTime() {
+			return pngTime;
+		}
+
+		/**
+		 * @return the names of the pool threads which wrote the SVG and the PNG
+		 */
+		public String getThread() {
+			return svgThread.equals(pngThread) ? svgThread : svgThread + "/" + pngThread;
+		}
+
+		/**
+		 * @return the failure of the view, or null
+		 */
+		public Throwable getError() {
+			return error;
+		}
+	}
+
+	//-------------------------------------------------------------
+	// METHODS
+
+	private static synchronized ExecutorService getPool() {
+
+		if (pool == null) {
+			int threads = Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+			AtomicInteger threadCounter = new AtomicInteger();
+			pool = Executors.newFixedThreadPool(
+					Math.max(threads, 1),
+					runnable -> {
+						Thread thread = new Thread(runnable, "jpad-views-" + threadCounter.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+		}
+		return pool;
+	}
+
+	/**
+	 * Writes the aircraft views in aircraftViewsPath and the component views (of the
+	 * components which are not null) in componentViewsPath; returns when all the files
+	 * have been written.
+	 *
+	 * @return the views, in the order of JPAD.createViews, with their timings and errors
+	 */
+	public static List<View> render(Aircraft aircraft, String aircraftViewsPath, String componentViewsPath) {
+		return render(aircraft, aircraftViewsPath, componentViewsPath, null);
+	}
+
+	/**
+	 * As render(aircraft, aircraftViewsPath, componentViewsPath), skipping the views which are up
+	 * to date according to the manifest (if not null); the manifest is not written.
+	 */
+	public static List<View> render(Aircraft aircraft, String aircraftViewsPath, String componentViewsPath,
+			AircraftViewsManifest manifest) {
+
+		activeRenders.incrementAndGet();
+		try {
+			return renderViews(aircraft, aircraftViewsPath, componentViewsPath, manifest);
+		} finally {
+			if (activeRenders.decrementAndGet() == 0)
+				PNGChartWriter.releaseImages();
+		}
+	}
+
+	private static List<View> renderViews(Aircraft aircraft, String aircraftViewsPath, String componentViewsPath,
+			AircraftViewsManifest manifest) {
+
+		//-------------------------------------------------------------
+		// CHARTS: built sequentially, they read the aircraft
+		List<View> views = new ArrayList<>();
+		addView(views, manifest, aircraftViewsPath, "AircraftTopView", ComponentEnum.AIRCRAFT,
+				() -> AircraftAndComponentsViewPlotUtils.createAircraftTopViewChart(aircraft));
+		addView(views, manifest, aircraftViewsPath, "AircraftSideView", ComponentEnum.AIRCRAFT,
+				() -> AircraftAndComponentsViewPlotUtils.createAircraftSideViewChart(aircraft));
+		addView(views, manifest, aircraftViewsPath, "AircraftFrontView", ComponentEnum.AIRCRAFT,
+				() -> AircraftAndComponentsViewPlotUtils.createAircraftFrontViewChart(aircraft));
+
+		if (aircraft.getFuselage() != null) {
+			addView(views, manifest, componentViewsPath, "FuselageTopView", ComponentEnum.FUSELAGE,
+					() -> AircraftAndComponentsViewPlotUtils.createFuselageTopViewChart(aircraft));
+			addView(views, manifest, componentViewsPath, "FuselageSideView", ComponentEnum.FUSELAGE,
+					() -> AircraftAndComponentsViewPlotUtils.createFuselageSideViewChart(aircraft));
+			addView(views, manifest, componentViewsPath, "FuselageFrontView", ComponentEnum.FUSELAGE,
+					() -> AircraftAndComponentsViewPlotUtils.createFuselageFrontViewChart(aircraft));
+		}
+		if (aircraft.getWing() != null) {
+			addView(views, manifest, componentViewsPath, "WingPlanform", ComponentEnum.WING,
+					() -> AircraftAndComponentsViewPlotUtils.createWingPlanformViewChart(aircraft));
+			addEquivalentLiftingSurfaceView(views, manifest, componentViewsPath, aircraft.getWing());
+		}
+		if (aircraft.getHTail() != null) {
+			addView(views, manifest, componentViewsPath, "HorizontalTailPlanform", ComponentEnum.HORIZONTAL_TAIL,
+					() -> AircraftAndComponentsViewPlotUtils.createHTailPlanformViewChart(aircraft));
+			addEquivalentLiftingSurfaceView(views, manifest, componentViewsPath, aircraft.getHTail());
+		}
+		if (aircraft.getVTail() != null) {
+			addView(views, manifest, componentViewsPath, "VerticalTailPlanform", ComponentEnum.VERTICAL_TAIL,
+					() -> AircraftAndComponentsViewPlotUtils.createVTailPlanformViewChart(aircraft));
+			addEquivalentLiftingSurfaceView(views, manifest, componentViewsPath, aircraft.getVTail());
+		}
+		if (aircraft.getCanard() != null) {
+			addView(views, manifest, componentViewsPath, "CanardPlanform", ComponentEnum.CANARD,
+					() -> AircraftAndComponentsViewPlotUtils.createCanardPlanformViewChart(aircraft));
+			addEquivalentLiftingSurfaceView(views, manifest, componentViewsPath, aircraft.getCanard());
+		}
+		if (aircraft.getNacelles() != null) {
+			int nacelles = aircraft.getNacelles().getNacellesList().size();
+			addViews(views, manifest, componentViewsPath, "NacelleTopView_", ComponentEnum.NACELLE, nacelles,
+					() -> AircraftAndComponentsViewPlotUtils.createNacelleTopViewCharts(aircraft));
+			addViews(views, manifest, componentViewsPath, "NacelleSideView_", ComponentEnum.NACELLE, nacelles,
+					() -> AircraftAndComponentsViewPlotUtils.createNacelleSideViewCharts(aircraft));
+			addViews(views, manifest, componentViewsPath, "NacelleFrontView_", ComponentEnum.NACELLE, nacelles,
+					() -> AircraftAndComponentsViewPlotUtils.createNacelleFrontViewCharts(aircraft));
+		}
+
+		//-------------------------------------------------------------
+		// EXPORT: the charts are independent of each other; drawing changes the state of
+		// the axes, hence a copy of each chart (made here) for the PNG
+		List<View> exportedViews = new ArrayList<>();
+		List<Future<?>> futures = new ArrayList<>();
+		for (View view : views) {
+			if (view.chart == null)
+				continue;
+			JFreeChart chartPNG = copy(view.chart);
+			exportedViews.add(view);
+			futures.add(getPool().submit(() -> {
+				long startTime = System.currentTimeMillis();
+				view.svgThread = Thread.currentThread().getName();
+				AircraftAndComponentsViewPlotUtils.exportChartToSVG(view.chart, view.outputDirectoryPath, view.fileName);
+				view.svgTime = System.currentTimeMillis() - startTime;
+				if (chartPNG == null)
+					exportPNG(view, view.chart);
+			}));
+			exportedViews.add(view);
+			futures.add(chartPNG == null ? null : getPool().submit(() -> exportPNG(view, chartPNG)));
+		}
+
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				if (futures.get(i) == null)
+					continue;
+				try {
+					futures.get(i).get();
+				} catch (ExecutionException e) {
+					if (exportedViews.get(i).error == null)
+						exportedViews.get(i).error = e.getCause();
+				}
+			}
+		} catch (InterruptedException e) {
+			futures.stream().filter(f -> f != null).forEach(f -> f.cancel(true));
+			Thread.currentThread().interrupt();
+		}
+
+		// the charts are not needed anymore
+		views.stream().forEach(view -> view.chart = null);
+
+		return views;
+	}
+
+	private static void exportPNG(View view, JFreeChart chart) {
+		long startTime = System.currentTimeMillis();
+		view.pngThread = Thread.currentThread().getName();
+		AircraftAndComponentsViewPlotUtils.exportChartToPNG(chart, view.outputDirectoryPath, view.fileName);
+		view.pngTime = System.currentTimeMillis() - startTime;
+	}
+
+	/**
+	 * @return a copy of the chart (sharing the datasets, which are only read), or null if it cannot be copied
+	 */
+	private static JFreeChart copy(JFreeChart chart) {
+		try {
+			return (JFreeChart) chart.clone();
+		} catch (CloneNotSupportedException e) {
+			return null;
+		}
+	}
+
+	private static void addEquivalentLiftingSurfaceView(List<View> views, AircraftViewsManifest manifest, String outputDirectoryPath,
+			LiftingSurface liftingSurface) {
+		addView(views, manifest, outputDirectoryPath, liftingSurface.getType().toString() + "EquivalentLiftingSurface", liftingSurface.getType(),
+				() -> AircraftAndComponentsViewPlotUtils.createEquivalentLiftingSurfaceViewChart(liftingSurface));
+	}
+
+	private static void addView(List<View> views, AircraftViewsManifest manifest, String outputDirectoryPath, String fileName,
+			ComponentEnum component, Callable<JFreeChart> chart) {
+
+		View view = new View(outputDirectoryPath, fileName, component);
+		if (manifest != null && manifest.isUpToDate(outputDirectoryPath, fileName)) {
+			view.upToDate = true;
+			views.add(view);
+			return;
+		}
+		long startTime = System.currentTimeMillis();
+		try {
+			view.chart = chart.call();
+		} catch (Exception | Error e) {
+			view.error = e;
+		}
+		view.chartTime = System.currentTimeMillis() - startTime;
+		views.add(view);
+	}
+
+	/**
+	 * Adds one view for each chart (e.g. one for each nacelle), named fileNamePrefix + index;
+	 * the charts are built unless all the count views are up to date.
+	 */
+	private static void addViews(List<View> views, AircraftViewsManifest manifest, String outputDirectoryPath, String fileNamePrefix,
+			ComponentEnum component, int count, Callable<List<JFreeChart>> charts) {
+
+		if (manifest != null && count > 0
+				&& IntStream.range(0, count).allMatch(i -> manifest.isUpToDate(outputDirectoryPath, fileNamePrefix + i))) {
+			for (int i = 0; i < count; i++) {
+				View view = new View(outputDirectoryPath, fileNamePrefix + i, component);
+				view.upToDate = true;
+				views.add(view);
+			}
+			return;
+		}
+
+		long startTime = System.currentTimeMillis();
+		List<JFreeChart> chartList;
+		try {
+			chartList = charts.call();
+		} catch (Exception | Error e) {
+			View view = new View(outputDirectoryPath, fileNamePrefix, component);
+			view.chartTime = System.currentTimeMillis() - startTime;
+			view.error = e;
+			views.add(view);
+			return;
+		}
+		long chartTime = System.currentTimeMillis() - startTime;
+
+		for (int i = 0; i < chartList.size(); i++) {
+			View view = new View(outputDirectoryPath, fileNamePrefix + i, component);
+			view.chart = chartList.get(i);
+			view.chartTime = chartTime/chartList.size();
+			views.add(view);
+		}
+	}
+
+	/**
+	 * @return the names of the views which failed, separated by spaces (empty if none)
+	 */
+	public static String getFailedViewNames(List<View> views) {
+		return views.stream()
+				.filter(view -> view.error != null)
+				.map(view -> view.fileName)
+				.collect(Collectors.joining(" "));
+	}
+
+	/**
+	 * @return a table with the timings (ms) of each view and the failures
+	 */
+	public static String report(List<View> views) {
+
+		StringBuilder report = new StringBuilder();
+		report.append(String.format(Locale.ROOT, "%-45s %11s %11s %11s  %s%n", "VIEW", "CHART (ms)", "SVG (ms)", "PNG (ms)", "THREAD"));
+		long chartTime = 0, svgTime = 0, pngTime = 0;
+		for (View view : views) {
+			report.append(String.format(Locale.ROOT, "%-45s %11d %11d %11d  %s%s%n",
+					view.fileName, view.chartTime, view.svgTime, view.pngTime, view.upToDate ? "UP TO DATE" : view.getThread(),
+					view.error == null ? "" : "  FAILED: " + view.error));
+			chartTime += view.chartTime;
+			svgTime += view.svgTime;
+			pngTime += view.pngTime;
+		}
+		report.append(String.format(Locale.ROOT, "%-45s %11d %11d %11d%n", "TOTAL", chartTime, svgTime, pngTime));
+		return report.toString();
+	}
+
+}
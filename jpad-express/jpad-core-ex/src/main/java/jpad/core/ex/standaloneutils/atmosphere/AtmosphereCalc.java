@@ -9,6 +9,8 @@ import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
 
+import jpad.configs.ex.enumerations.AtmosphereModelEnum;
+
 /**
  * Hold atmosphere model and sea level constants (temperature = 15 C).
  * Everything is given in SI units.
@@ -27,37 +29,160 @@ public class AtmosphereCalc {
 	public static final double M = 0.0289644; // molar mass of Earth's air (kg/mol)
 	public static final double R = 8.31432; // universal gas constant for air N m/(mol K)
 
-	private static final StdAtmos1976 atmosphere = new StdAtmos1976(0.0, 0.0);
+	// per-thread scratch for the ratios computed by StdAtmos1976, so that the scalar getters do not allocate
+	private static final ThreadLocal<double[]> RATIOS = ThreadLocal.withInitial(() -> new double[4]);
+	
+	// lookup table used by the TABULATED model, built on first use (see getTabulatedAtmosphere)
+	private static volatile TabulatedAtmosphere tabulatedAtmosphere;
 
+	/**
+	 * @return a new StdAtmos1976 set at the given altitude (negative altitudes are set to 0.0) 
+	 * 		   and delta ISA, which is not shared with other callers
+	 */
 	public static StdAtmos1976 getAtmosphere(double altitude, double deltaTemperature) {
 		if(altitude < 0.0) {
 //			System.err.println("WARNING: (ATMOSHERE - ALTITUDE) NEGATIVE ALTITUDE. SETTING 0.0 ... ");
 			altitude = 0.0;
 		}
 			
+		StdAtmos1976 atmosphere = new StdAtmos1976();
 		atmosphere.setAltitudeAndDeltaTemperature(altitude, deltaTemperature);
 		return atmosphere;
 	}
 
+	/**
+	 * Stateless and thread-safe evaluation of all the atmosphere properties in one call.
+	 * As in getAtmosphere, negative altitudes are set to 0.0.
+	 * 
+	 * @param altitude (m)
+	 * @param deltaTemperature the delta ISA (K), between -40 and +40
+	 * @return the atmosphere properties at the given altitude and delta ISA
+	 */
+	public static AtmosphereProperties getProperties(double altitude, double deltaTemperature) {
+		return getProperties(altitude, deltaTemperature, AtmosphereModelEnum.EXACT);
+	}
+
+	/**
+	 * @param altitude (m)
+	 * @param deltaTemperature the delta ISA (K), between -40 and +40
+	 * @param model EXACT (StdAtmos1976) or TABULATED (see getTabulatedAtmosphere)
+	 * @return the atmosphere properties at the given altitude and delta ISA
+	 */
+	public static AtmosphereProperties getProperties(double altitude, double deltaTemperature, AtmosphereModelEnum model) {
+		if(altitude < 0.0)
+			altitude = 0.0;
+		return new AtmosphereProperties(altitude, deltaTemperature, calculateRatios(altitude, deltaTemperature, model));
+	}
+
+	/**
+	 * Batch version of getProperties which fills caller-provided primitive arrays and does not allocate. 
+	 * The output arrays which are not needed can be null. Negative altitudes are set to 0.0.
+	 * 
+	 * @param altitude (m)
+	 * @param deltaTemperature the delta ISA (K), between -40 and +40
+	 * @param temperature (K)
+	 * @param pressure (Pa)
+	 * @param density (kg/m^3)
+	 * @param speedOfSound (m/s)
+	 */
+	public static void getProperties(
+			double[] altitude, double deltaTemperature,
+			double[] temperature, double[] pressure, double[] density, double[] speedOfSound
+			) {
+		getProperties(altitude, deltaTemperature, temperature, pressure, density, speedOfSound, AtmosphereModelEnum.EXACT);
+	}
+
+	/**
+	 * Same as above, with the atmosphere model chosen by the caller.
+	 */
+	public static void getProperties(
+			double[] altitude, double deltaTemperature,
+			double[] temperature, double[] pressure, double[] density, double[] speedOfSound,
+			AtmosphereModelEnum model
+			) {
+		
+		for (int i = 0; i < altitude.length; i++) {
+			double[] ratios = calculateRatios(Math.max(altitude[i], 0.0), deltaTemperature, model);
+			if (density != null)
+				density[i] = StdAtmos1976.DENSITY_SEA_LEVEL*ratios[0]*1000.;
+			if (pressure != null)
+				pressure[i] = StdAtmos1976.PRESSURE_SEA_LEVEL*ratios[1];
+			if (temperature != null)
+				temperature[i] = StdAtmos1976.TEMPERATURE_SEA_LEVEL*ratios[2];
+			if (speedOfSound != null)
+				speedOfSound[i] = StdAtmos1976.SPEED_OF_SOUND_SEA_LEVEL*ratios[3];
+		}
+	}
+
+	private static double[] calculateRatios(double altitude, double deltaTemperature, AtmosphereModelEnum model) {
+		StdAtmos1976.checkAltitudeAndDeltaTemperature(altitude, deltaTemperature);
+		double[] ratios = RATIOS.get();
+		if (model == AtmosphereModelEnum.TABULATED)
+			getTabulatedAtmosphere().calculate(altitude, deltaTemperature, ratios);
+		else
+			StdAtmos1976.calculate(altitude, deltaTemperature, ratios, 0);
+		return ratios;
+	}
+
 	public static double getDensity(double altitude, double deltaTemperature) {
-		atmosphere.setAltitudeAndDeltaTemperature(altitude, deltaTemperature);
-		return atmosphere.getDensity()*1000.;
+		return getDensity(altitude, deltaTemperature, AtmosphereModelEnum.EXACT);
+	}
+
+	public static double getDensity(double altitude, double deltaTemperature, AtmosphereModelEnum model) {
+		return StdAtmos1976.DENSITY_SEA_LEVEL*calculateRatios(altitude, deltaTemperature, model)[0]*1000.;
+	}
+
+	public static double getPressure(double altitude, double deltaTemperature) {
+		return getPressure(altitude, deltaTemperature, AtmosphereModelEnum.EXACT);
+	}
+
+	public static double getPressure(double altitude, double deltaTemperature, AtmosphereModelEnum model) {
+		return StdAtmos1976.PRESSURE_SEA_LEVEL*calculateRatios(altitude, deltaTemperature, model)[1];
 	}
 
 	public static double getTemperature(double altitude, double deltaTemperature) {
-		atmosphere.setAltitudeAndDeltaTemperature(altitude, deltaTemperature);
-		return atmosphere.getTemperature();
+		return getTemperature(altitude, deltaTemperature, AtmosphereModelEnum.EXACT);
+	}	
+	
+	public static double getTemperature(double altitude, double deltaTemperature, AtmosphereModelEnum model) {
+		return StdAtmos1976.TEMPERATURE_SEA_LEVEL*calculateRatios(altitude, deltaTemperature, model)[2];
 	}	
 	
 	public static double getSpeedOfSound(double altitude, double deltaTemperature) {
-		atmosphere.setAltitudeAndDeltaTemperature(altitude, deltaTemperature);
-		return atmosphere.getSpeedOfSound();
+		return getSpeedOfSound(altitude, deltaTemperature, AtmosphereModelEnum.EXACT);
+	}
+
+	public static double getSpeedOfSound(double altitude, double deltaTemperature, AtmosphereModelEnum model) {
+		return StdAtmos1976.SPEED_OF_SOUND_SEA_LEVEL*calculateRatios(altitude, deltaTemperature, model)[3];
+	}
+
+	/**
+	 * @return the lookup table used by the TABULATED model (by default 0-20 km with a 10 m step)
+	 */
+	public static TabulatedAtmosphere getTabulatedAtmosphere() {
+		if (tabulatedAtmosphere == null) {
+			synchronized (AtmosphereCalc.class) {
+				if (tabulatedAtmosphere == null)
+					tabulatedAtmosphere = new TabulatedAtmosphere();
+			}
+		}
+		return tabulatedAtmosphere;
+	}
+
+	/**
+	 * @param table the lookup table to be used by the TABULATED model (e.g. with a custom altitude grid)
+	 */
+	public static void setTabulatedAtmosphere(TabulatedAtmosphere table) {
+		tabulatedAtmosphere = table;
 	}
 
 	// Dynamic viscosity accordring to Sutherland Law
 	// https://www.cfd-online.com/Wiki/Sutherland%27s_law
 	public static double getDynamicViscosity(double altitude, double deltaTemperature) {
-		double t = getTemperature(altitude, deltaTemperature); 
+		return calculateSutherlandViscosity(getTemperature(altitude, deltaTemperature));
+	}
+	
+	static double calculateSutherlandViscosity(double t) {
 		double muRef = 1.716E-5;
 		double tRef = 273.15;
 		double s = 110.4;
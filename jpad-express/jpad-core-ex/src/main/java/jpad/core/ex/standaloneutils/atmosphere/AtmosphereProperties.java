@@ -0,0 +1,98 @@
+package jpad.core.ex.standaloneutils.atmosphere;
+
+/**
+ * Immutable snapshot of the ICAO 1976 standard atmosphere properties at one
+ * (altitude, delta ISA) pair, as returned by AtmosphereCalc.getProperties.
+ * Everything is given in SI units.
+ */
+public final class AtmosphereProperties {
+
+	private final double altitude;
+	private final double deltaTemperature;
+	private final double densityRatio;
+	private final double pressureRatio;
+	private final double temperatureRatio;
+	private final double speedOfSoundRatio;
+
+	AtmosphereProperties(double altitude, double deltaTemperature, double[] ratios) {
+		this.altitude = altitude;
+		this.deltaTemperature = deltaTemperature;
+		this.densityRatio = ratios[0];
+		this.pressureRatio = ratios[1];
+		this.temperatureRatio = ratios[2];
+		this.speedOfSoundRatio = ratios[3];
+	}
+
+	/**
+	 * @return the geometric altitude (m)
+	 */
+	public double getAltitude() {
+		return altitude;
+	}
+
+	/**
+	 * @return the delta ISA (K)
+	 */
+	public double getDeltaTemperature() {
+		return deltaTemperature;
+	}
+
+	/**
+	 * @return the temperature (K)
+	 */
+	public double getTemperature() {
+		return StdAtmos1976.TEMPERATURE_SEA_LEVEL*temperatureRatio;
+	}
+
+	/**
+	 * @return the static pressure (Pa)
+	 */
+	public double getPressure() {
+		return StdAtmos1976.PRESSURE_SEA_LEVEL*pressureRatio;
+	}
+
+	/**
+	 * @return the density (kg/m^3)
+	 */
+	public double getDensity() {
+		return StdAtmos1976.DENSITY_SEA_LEVEL*densityRatio*1000.;
+	}
+
+	/**
+	 * @return the speed of sound (m/s)
+	 */
+	public double getSpeedOfSound() {
+		return StdAtmos1976.SPEED_OF_SOUND_SEA_LEVEL*speedOfSoundRatio;
+	}
+
+	/**
+	 * @return the dynamic viscosity (Pa s) according to the Sutherland law
+	 */
+	public double getDynamicViscosity() {
+		return AtmosphereCalc.calculateSutherlandViscosity(getTemperature());
+	}
+
+	public double getDensityRatio() {
+		return densityRatio;
+	}
+
+	public double getPressureRatio() {
+		return pressureRatio;
+	}
+
+	public double getTemperatureRatio() {
+		return temperatureRatio;
+	}
+
+	public double getSpeedOfSoundRatio() {
+		return speedOfSoundRatio;
+	}
+
+	@Override
+	public String toString() {
+		return "h = " + altitude + " m, dISA = " + deltaTemperature
+				+ " K, T = " + getTemperature() + " K, p = " + getPressure()
+				+ " Pa, rho = " + getDensity() + " kg/m^3, a = " + getSpeedOfSound() + " m/s";
+	}
+
+}
@@ -13,6 +13,16 @@ public class PressureCalc {
 		return 0.5*AtmosphereCalc.gamma*staticPressure*mach*mach;
 	}
 
+	/**
+	 * @param mach
+	 * @param altitude (m)
+	 * @param deltaTemperature the delta ISA (K)
+	 * @return the dynamic pressure (Pa) at the given flight condition
+	 */
+	public static double calculateDynamicPressure(double mach, double altitude, double deltaTemperature) {
+		return calculateDynamicPressure(mach, AtmosphereCalc.getProperties(altitude, deltaTemperature).getPressure());
+	}
+
 	/** 
 	 * @author Lorenzo Attanasio
 	 * @see Sforza 2014, page 447 (473 pdf)
@@ -62,7 +62,7 @@ public class SpeedCalc {
 	}
 
 	public static Amount<Velocity> calculateTAS(Amount<Velocity> VCAS, Amount<Length> altitude, Amount<Temperature> deltaTemperature) {
-		return VCAS.to(SI.METERS_PER_SECOND).divide(Math.sqrt(AtmosphereCalc.getAtmosphere(altitude.doubleValue(SI.METER), deltaTemperature.doubleValue(SI.CELSIUS)).getDensityRatio()));
+		return VCAS.to(SI.METERS_PER_SECOND).divide(Math.sqrt(AtmosphereCalc.getProperties(altitude.doubleValue(SI.METER), deltaTemperature.doubleValue(SI.CELSIUS)).getDensityRatio()));
 	}
 	
 	/**
@@ -88,7 +88,7 @@ public class SpeedCalc {
 	 */
 	public static double calculateMach(Amount<Length> altitude, Amount<Temperature> deltaTemperature, Amount<Velocity> speed) {
 		return speed.doubleValue(SI.METERS_PER_SECOND)
-				/AtmosphereCalc.getAtmosphere(altitude.doubleValue(SI.METER), deltaTemperature.doubleValue(SI.CELSIUS)).getSpeedOfSound();
+				/AtmosphereCalc.getProperties(altitude.doubleValue(SI.METER), deltaTemperature.doubleValue(SI.CELSIUS)).getSpeedOfSound();
 	}
 
 }
@@ -88,6 +88,12 @@ public final class StdAtmos1976 extends StdAtmos {
 	//	Standard sea level ISA+0C speed of sound (ft/s).
 	private static final double csr = 0.11164500056016072449e04;
 	
+	//	Standard sea level values (see T0(), P0(), RHO0() and a0()).
+	static final double TEMPERATURE_SEA_LEVEL = tempr/1.8;				//	Convert Rankine to Kelvin
+	static final double PRESSURE_SEA_LEVEL = presr/(conv2*conv4);		//	Convert from lbf/ft^2 to N/m^2.
+	static final double DENSITY_SEA_LEVEL = densr/(conv3*1000);			//	Convert slugs/ft^3 to g/cm^3.
+	static final double SPEED_OF_SOUND_SEA_LEVEL = csr*conv1;
+	
 	//	anshgh are values for very high altitudes where the atmosphere appears constant.
 	private static final double[] anshgh = { 0.690948e-17, 0.156946e-09, 0.1e+04, 0.89450046e+03};
 	
@@ -823,7 +829,7 @@ public final class StdAtmos1976 extends StdAtmos {
 	*/
     @Override
 	public final double T0() {
-		return tempr/1.8;	//	Convert Rankine to Kelvin
+		return TEMPERATURE_SEA_LEVEL;
 	}
 
 	/**
@@ -834,7 +840,7 @@ public final class StdAtmos1976 extends StdAtmos {
 	*/
     @Override
 	public final double P0() {
-		return presr/(conv2*conv4);	//	Convert from lbf/ft^2 to N/m^2.
+		return PRESSURE_SEA_LEVEL;
 	}
 
 	/**
@@ -846,7 +852,7 @@ public final class StdAtmos1976 extends StdAtmos {
 	*/
     @Override
 	public final double RHO0() {
-		return densr/(conv3*1000);	//	Convert slugs/ft^3 to g/cm^3.
+		return DENSITY_SEA_LEVEL;
 	}
 
 	/**
@@ -857,7 +863,7 @@ public final class StdAtmos1976 extends StdAtmos {
 	*/
     @Override
 	public final double a0() {
-		return csr*conv1;
+		return SPEED_OF_SOUND_SEA_LEVEL;
 	}
 
 	/**
@@ -971,20 +977,40 @@ public final class StdAtmos1976 extends StdAtmos {
 	 * 			Ported to Java by Joseph A. Huwaldt, January 14, 2012.
 	 */
 	private void calculate(double deltaTemperature) {
+		double[] ratios = new double[4];
+		calculate(alt, deltaTemperature, ratios, 0);
+		sigma = ratios[0];
+		delta = ratios[1];
+		theta = ratios[2];
+		cs = ratios[3];
+	}
+	
+	/**
+	 * Stateless version of calculate(double): it doesn't read or write any field, so that it can 
+	 * be called concurrently. The density, pressure, temperature and speed of sound ratios 
+	 * are stored (in this order) in ratios[offset], ..., ratios[offset + 3].
+	 * 
+	 * @param alt the geometric altitude in meters (not checked against minAltitude())
+	 * @param deltaTemperature the delta ISA in C (not checked against the -40C, +40C range)
+	 * @param ratios the caller-provided output array
+	 * @param offset the index of the density ratio in the output array
+	 */
+	static void calculate(double alt, double deltaTemperature, double[] ratios, int offset) {
+		double theta, delta, sigma, cs = 0;
 		double zft = alt/conv1;		//	Convert input altitude from meters to feet.
 		
 		/* This updates the reference values at ISA+0C taking into account for the deltaTemperature parameter (in C) */
-		double temprMod = 1.8*deltaTemperature + 518.67;
+		double temprMod = temprMod(deltaTemperature);
 		double presrMod = presr;
-		double densrMod = 0.0000000292*Math.pow(deltaTemperature, 2) - 0.0000083583*deltaTemperature + 0.0023770779;
-		double csrMod = -0.0016896125*Math.pow(deltaTemperature, 2) + 1.9404119118*deltaTemperature + 1116.4517910217;
+		double densrMod = densrMod(deltaTemperature);
+		double csrMod = csrMod(deltaTemperature);
 		
 		if (zft >= 3280839.9) {
 			//	For z greater than 3280839.9 ft, define output values equal to those at that altitude.
-			theta = anshgh[2]*1.8/temprMod;
-			delta = anshgh[1]/presrMod;
-			sigma = anshgh[0]/densrMod;
-			cs = anshgh[3]/csrMod;
+			ratios[offset] = anshgh[0]/densrMod;
+			ratios[offset + 1] = anshgh[1]/presrMod;
+			ratios[offset + 2] = anshgh[2]*1.8/temprMod;
+			ratios[offset + 3] = anshgh[3]/csrMod;
 			return;
 		}
 		
@@ -1132,6 +1158,53 @@ public final class StdAtmos1976 extends StdAtmos {
 		delta = pin/presrMod;
 		sigma = rho/densrMod;
 		cs = cs/csrMod;
+		
+		ratios[offset] = sigma;
+		ratios[offset + 1] = delta;
+		ratios[offset + 2] = theta;
+		ratios[offset + 3] = cs;
+	}
+	
+	private static double temprMod(double deltaTemperature) {
+		return 1.8*deltaTemperature + 518.67;
+	}
+	
+	private static double densrMod(double deltaTemperature) {
+		return 0.0000000292*Math.pow(deltaTemperature, 2) - 0.0000083583*deltaTemperature + 0.0023770779;
+	}
+	
+	private static double csrMod(double deltaTemperature) {
+		return -0.0016896125*Math.pow(deltaTemperature, 2) + 1.9404119118*deltaTemperature + 1116.4517910217;
+	}
+	
+	/**
+	 * The delta ISA only changes the reference values, so that for every altitude
+	 * ratio(h, deltaTemperature) = ratio(h, 0)*factor(deltaTemperature).
+	 * The pressure ratio doesn't depend on the delta ISA.
+	 */
+	static double densityRatioFactor(double deltaTemperature) {
+		return densrMod(0.0)/densrMod(deltaTemperature);
+	}
+	
+	static double temperatureRatioFactor(double deltaTemperature) {
+		return temprMod(0.0)/temprMod(deltaTemperature);
+	}
+	
+	static double speedOfSoundRatioFactor(double deltaTemperature) {
+		return csrMod(0.0)/csrMod(deltaTemperature);
+	}
+	
+	/**
+	 * Same checks of setAltitudeAndDeltaTemperature(double, double), 
+	 * for the callers of the stateless calculate(double, double, double[], int).
+	 */
+	static void checkAltitudeAndDeltaTemperature( double altitude, double deltaTemperature ) throws IllegalArgumentException {
+		if ( altitude < 0 )
+			throw new IllegalArgumentException( "Altitude can not be less than " + 0 + " km." );
+		if ( deltaTemperature < -40.0 )
+			throw new IllegalArgumentException( "Delta Temperature can not be less than " + -40 + " C" );
+		else if ( deltaTemperature > 40.0 )
+			throw new IllegalArgumentException( "Delta Temperature can not be greater than " + 40 + " C" );
 	}
 	
 	/**
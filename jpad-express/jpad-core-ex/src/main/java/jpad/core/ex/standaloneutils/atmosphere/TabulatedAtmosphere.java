@@ -0,0 +1,152 @@
+package jpad.core.ex.standaloneutils.atmosphere;
+
+/**
+ * Lookup table of the ICAO 1976 standard atmosphere (StdAtmos1976), built once over a uniform
+ * altitude grid and evaluated by linear interpolation, which avoids the exp/pow calls of the
+ * layered model at every query.
+ *
+ * The table stores the density, pressure, temperature and speed of sound ratios at ISA+0.
+ * The delta ISA only rescales the reference values of the model, so its effect is applied
+ * exactly (see StdAtmos1976.densityRatioFactor) and the table doesn't need a delta ISA axis.
+ *
+ * The maximum relative error against the exact model is estimated when the table is built,
+ * sampling every cell at SAMPLES_PER_CELL points, and it is returned by getMaxRelativeError().
+ * With the default grid (0-20 km, 10 m step) it is about 3e-5. The error decreases with the
+ * square of the step where the profiles are smooth and linearly in the cells which contain
+ * a layer boundary.
+ *
+ * Altitudes outside the table are evaluated with the exact model.
+ * The table is immutable, hence it can be shared among threads.
+ */
+public final class TabulatedAtmosphere {
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final double DEFAULT_MIN_ALTITUDE = 0.0;
+	public static final double DEFAULT_MAX_ALTITUDE = 20000.0;
+	public static final double DEFAULT_ALTITUDE_STEP = 10.0;
+	public static final int SAMPLES_PER_CELL = 8;
+
+	private final double minAltitude;
+	private final double maxAltitude;
+	private final double altitudeStep;
+	private final int nNodes;
+	// density, pressure, temperature and speed of sound ratios at ISA+0, 4 values for each node
+	private final double[] ratiosTable;
+	private final double maxRelativeError;
+
+	//-----------------------------------------------------------------------------------------
+	// BUILDER
+	public TabulatedAtmosphere() {
+		this(DEFAULT_MIN_ALTITUDE, DEFAULT_MAX_ALTITUDE, DEFAULT_ALTITUDE_STEP);
+	}
+
+	/**
+	 * @param minAltitude the lowest altitude of the table (m), not negative
+	 * @param maxAltitude the highest altitude of the table (m), rounded up to a whole number of steps
+	 * @param altitudeStep the grid spacing (m)
+	 */
+	public TabulatedAtmosphere(double minAltitude, double maxAltitude, double altitudeStep) {
+
+		if (minAltitude < 0.0)
+			throw new IllegalArgumentException("The minimum altitude of the table can not be negative");
+		if (!(maxAltitude > minAltitude))
+			throw new IllegalArgumentException("The maximum altitude of the table must be greater than the minimum one");
+		if (!(altitudeStep > 0.0))
+			throw new IllegalArgumentException("The altitude step of the table must be positive");
+
+		this.minAltitude = minAltitude;
+		this.altitudeStep = altitudeStep;
+		this.nNodes = (int) Math.ceil((maxAltitude - minAltitude)/altitudeStep) + 1;
+		this.maxAltitude = minAltitude + (nNodes - 1)*altitudeStep;
+
+		ratiosTable = new double[4*nNodes];
+		for (int i = 0; i < nNodes; i++)
+			StdAtmos1976.calculate(minAltitude + i*altitudeStep, 0.0, ratiosTable, 4*i);
+
+		maxRelativeError = estimateMaxRelativeError();
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * Same contract of StdAtmos1976.calculate(double, double, double[], int), with offset 0.
+	 */
+	void calculate(double altitude, double deltaTemperature, double[] ratios) {
+
+		if (!contains(altitude)) {
+			StdAtmos1976.calculate(altitude, deltaTemperature, ratios, 0);
+			return;
+		}
+
+		interpolate(altitude, ratios);
+		if (deltaTemperature != 0.0) {
+			ratios[0] *= StdAtmos1976.densityRatioFactor(deltaTemperature);
+			ratios[2] *= StdAtmos1976.temperatureRatioFactor(deltaTemperature);
+			ratios[3] *= StdAtmos1976.speedOfSoundRatioFactor(deltaTemperature);
+		}
+	}
+
+	// ISA+0 ratios at the given altitude, which must be inside the table
+	private void interpolate(double altitude, double[] ratios) {
+
+		double s = (altitude - minAltitude)/altitudeStep;
+		int i = (int) s;
+		if (i > nNodes - 2)
+			i = nNodes - 2;
+		double f = s - i;
+
+		int lower = 4*i;
+		int upper = lower + 4;
+		for (int k = 0; k < 4; k++)
+			ratios[k] = ratiosTable[lower + k] + f*(ratiosTable[upper + k] - ratiosTable[lower + k]);
+	}
+
+	private double estimateMaxRelativeError() {
+
+		double[] exact = new double[4];
+		double[] tabulated = new double[4];
+		double maxError = 0.0;
+
+		for (int i = 0; i < nNodes - 1; i++) {
+			for (int j = 1; j < SAMPLES_PER_CELL; j++) {
+				double altitude = minAltitude + (i + (double) j/SAMPLES_PER_CELL)*altitudeStep;
+				StdAtmos1976.calculate(altitude, 0.0, exact, 0);
+				interpolate(altitude, tabulated);
+				for (int k = 0; k < 4; k++)
+					maxError = Math.max(maxError, Math.abs(tabulated[k] - exact[k])/Math.abs(exact[k]));
+			}
+		}
+
+		return maxError;
+	}
+
+	public boolean contains(double altitude) {
+		return altitude >= minAltitude && altitude <= maxAltitude;
+	}
+
+	//-----------------------------------------------------------------------------------------
+	// GETTERS
+
+	public double getMinAltitude() {
+		return minAltitude;
+	}
+
+	public double getMaxAltitude() {
+		return maxAltitude;
+	}
+
+	public double getAltitudeStep() {
+		return altitudeStep;
+	}
+
+	/**
+	 * @return the maximum relative error on density, pressure, temperature and speed of sound
+	 * 		   against StdAtmos1976, estimated when the table was built
+	 */
+	public double getMaxRelativeError() {
+		return maxRelativeError;
+	}
+
+}
@@ -25,6 +25,7 @@ import javaslang.Tuple;
 import javaslang.Tuple2;
 import jpad.core.ex.aircraft.Aircraft;
 import jpad.core.ex.aircraft.components.fuselage.Fuselage;
+import jpad.core.ex.aircraft.components.fuselage.FuselageYZSections;
 import jpad.core.ex.aircraft.components.liftingSurface.LiftingSurface;
 import jpad.core.ex.standaloneutils.MyArrayUtils;
 import jpad.core.ex.writers.JPADStaticWriteUtils;
@@ -667,6 +668,8 @@ public class CPACSWriter {
 				+ (numberNoseCapSections + numberNosePatch2Sections -3 + numberTailPatchSections + numberTailCapSections) + " XY-type sections ...");
 
 		List<List<PVector>> result = new ArrayList<>();
+		// x stations of the sections, made all together at the end
+		List<Double> stations = new ArrayList<>();
 		
 		Amount<Length> noseLength = fuselage.getNoseLength();
 		System.out.println(">> Nose length: " + noseLength);
@@ -708,17 +711,12 @@ public class CPACSWriter {
 //					.mapToObj(i -> new PVector(0.0f, 0.0f, (float)fuselage.getNoseTipHeightOffset().doubleValue(SI.METER)))
 //					.collect(Collectors.toList())
 //					);
-		// better this than collapsing
-		result.add(
-				fuselage.getUniqueValuesYZSectionCurve(Amount.valueOf(0.5*xmtPatch1.get(1), SI.METER)).stream()
-					.map(pt -> new PVector(0.0f, pt.y, pt.z))
-					.collect(Collectors.toList())
-				);
+		// better this than collapsing (moved to x=0, see below)
+		stations.add(0.5*xmtPatch1.get(1));
 		//======================================================================== PATCH-1
 		xmtPatch1.stream()
 				 .skip(1) // skip x=0
-				 .map(x -> Amount.valueOf(x, SI.METER))
-				 .forEach(x -> result.add(fuselage.getUniqueValuesYZSectionCurve(x)));
+				 .forEach(x -> stations.add(x));
 		
 		System.out.println(">> Nose-cap trunk selected x-stations (m), Patch-1: " + xmtPatch1.toString());
 		
@@ -746,8 +744,7 @@ public class CPACSWriter {
 		//======================================================================== PATCH-2		
 		xmtPatch2.stream()
 				 .skip(1) // do not duplicate last section of previous patch
-				 .map(x -> Amount.valueOf(x, SI.METER))
-				 .forEach(x -> result.add(fuselage.getUniqueValuesYZSectionCurve(x)));
+				 .forEach(x -> stations.add(x));
 		
 		// nose Patch-2 terminal section
 //		result.add(fuselage.getUniqueValuesYZSectionCurve(noseLength));
@@ -768,18 +765,10 @@ public class CPACSWriter {
 		
 		//======================================================================== PATCH-3		
 		// Cylindrical trunk mid section
-		result.add(
-				fuselage.getUniqueValuesYZSectionCurve(
-						noseLength.plus(cylinderLength.times(0.5))
-						)
-				);
+		stations.add(noseLength.plus(cylinderLength.times(0.5)).doubleValue(SI.METER));
 
 		// Cylindrical trunk terminal section
-		result.add(
-				fuselage.getUniqueValuesYZSectionCurve(
-						noseLength.plus(cylinderLength)
-						)
-				);
+		stations.add(noseLength.plus(cylinderLength).doubleValue(SI.METER));
 
 		// Tail trunk
 		Amount<Length> tailLength = fuselage.getTailLength();
@@ -803,8 +792,7 @@ public class CPACSWriter {
 		//======================================================================== PATCH-4	
 		xmtPatch4.stream()
 		 		 .skip(1) // do not duplicate last section of previous patch
-				 .map(x -> Amount.valueOf(x, SI.METER))
-				 .forEach(x -> result.add(fuselage.getUniqueValuesYZSectionCurve(x)));
+				 .forEach(x -> stations.add(x));
 		
 		// tail cap patch
 
@@ -832,8 +820,7 @@ public class CPACSWriter {
 		//======================================================================== PATCH-5		
 		xmtPatch5.stream()
 		 		 .skip(1) // do not duplicate last section of previous patch
-				 .map(x -> Amount.valueOf(x, SI.METER))
-				 .forEach(x -> result.add(fuselage.getUniqueValuesYZSectionCurve(x)));
+				 .forEach(x -> stations.add(x));
 
 		
 		//======================================================================== TAIL-TIP-COLLAPSED-SECTION		
@@ -846,10 +833,24 @@ public class CPACSWriter {
 //							(float) fuselage.getTailTipHeightOffset().doubleValue(SI.METER)))
 //					.collect(Collectors.toList())
 //					);
-		// better this than collapsing
-		result.add(
-				fuselage.getUniqueValuesYZSectionCurve(
-						Amount.valueOf(xmtPatch5.get(xmtPatch5.size() - 1), SI.METER)).stream()
+		// better this than collapsing (moved to x=fuselageLength, see below)
+		stations.add(xmtPatch5.get(xmtPatch5.size() - 1));
+
+		//======================================================================== SECTIONS
+		// all the sections in a single pass
+		FuselageYZSections sections = fuselage.getYZSections(
+				stations.stream().mapToDouble(Double::doubleValue).toArray());
+		if (sections == null)
+			return null;
+		result.addAll(sections.getSectionsPoints());
+
+		result.set(0,
+				result.get(0).stream()
+					.map(pt -> new PVector(0.0f, pt.y, pt.z))
+					.collect(Collectors.toList())
+				);
+		result.set(result.size() - 1,
+				result.get(result.size() - 1).stream()
 					.map(pt -> new PVector((float) fuselageLength.doubleValue(SI.METER), pt.y, pt.z))
 					.collect(Collectors.toList())
 				);
@@ -2,61 +2,51 @@ package jpad.core.ex.standaloneutils.database;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
-
-import jpad.configs.ex.MyConfiguration;
-import jpad.core.ex.standaloneutils.MyXMLReaderUtils;
 import jpad.core.ex.standaloneutils.database.databasefunctions.engine.TurbofanCharacteristicsReader;
-import jpad.core.ex.writers.JPADStaticWriteUtils;
 
 public class DatabaseManager {
 
+	/**
+	 * Restores the reader from the binary snapshot of its interpolants 
+	 * (databaseDirectory/serializedDatabase/databaseName.snapshot). If the snapshot 
+	 * is missing, corrupted or older than the h5 file, the interpolants are built
+	 * from the h5 database and the snapshot is (re)written; a snapshot which cannot be
+	 * written (e.g. the old one is still mapped) does not prevent returning the reader.
+	 */
 	public static  TurbofanCharacteristicsReader initializeTurbofanCharacteristicsDatabase(
-			TurbofanCharacteristicsReader databaseManager, 
 			String databaseDirectory, 
 			String databaseName
-			) throws InvalidFormatException, IOException {
-		
-		String databaseNameXML = databaseName.replace(".h5", ".xml");
+			) throws IOException {
 		
 		String serializedDatabaseDirectory = databaseDirectory + File.separator + "serializedDatabase";
-		String serializedDatabaseFullName = serializedDatabaseDirectory + File.separator + databaseNameXML;
+		String snapshotName = databaseName.replace(".h5", InterpolantSnapshot.FILE_EXTENSION);
 		
-		File serializedTurbofanCharacteristicsDatabaseFile = new File(serializedDatabaseFullName);
+		File databaseFile = new File(databaseDirectory, databaseName);
+		File snapshotFile = new File(serializedDatabaseDirectory, snapshotName);
 		
-		if (serializedTurbofanCharacteristicsDatabaseFile.exists()) {
+		InterpolantSnapshot snapshot = InterpolantSnapshot.read(snapshotFile, databaseFile);
+		
+		if (snapshot != null) {
 			
-			System.out.println("De-serializing file: " + serializedTurbofanCharacteristicsDatabaseFile.getAbsolutePath() + " ...");
-			databaseManager = (TurbofanCharacteristicsReader) 
-			MyXMLReaderUtils.deserializeObject(
-					databaseManager,
-					serializedDatabaseFullName,
-					StandardCharsets.UTF_8
-					);
-		} else {
+			System.out.println("Reading snapshot: " + snapshotFile.getAbsolutePath() + " ...");
+			return new TurbofanCharacteristicsReader(databaseDirectory, databaseName, snapshot);
 			
-			System.out.println(	"Serializing file " + "==> " + databaseName + " ==> "+ 
-					serializedTurbofanCharacteristicsDatabaseFile.getAbsolutePath() + " ...");
-			databaseManager = new TurbofanCharacteristicsReader(
-					MyConfiguration.databaseDirectory,
-					"TurbofanCharacterstics.h5"
-					);
-
-			File dir = new File(serializedDatabaseDirectory);
-			if (!dir.exists()){
-				dir.mkdirs(); 
-			} else {
-				JPADStaticWriteUtils.serializeObject(
-						databaseManager, 
-						serializedDatabaseDirectory,
-						databaseNameXML
-						);
-			}
+		}
+		
+		System.out.println(	"Writing snapshot " + "==> " + databaseName + " ==> "+ 
+				snapshotFile.getAbsolutePath() + " ...");
+		TurbofanCharacteristicsReader databaseManager = new TurbofanCharacteristicsReader(
+				databaseDirectory,
+				databaseName
+				);
+		try {
+			databaseManager.toSnapshot().write(snapshotFile, databaseFile);
+		} catch (IOException e) {
+			// the snapshot is only a cache: the reader is valid anyway, it will be written next time
+			System.err.println("Unable to write the snapshot " + snapshotFile.getAbsolutePath() + ": " + e);
 		}
 		
 		return databaseManager;
 	}
 }
-
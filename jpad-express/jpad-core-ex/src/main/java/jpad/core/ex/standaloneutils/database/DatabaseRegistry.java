@@ -0,0 +1,141 @@
+package jpad.core.ex.standaloneutils.database;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import javaslang.Tuple;
+import javaslang.Tuple2;
+import jpad.core.ex.standaloneutils.database.databasefunctions.DatabaseReader;
+import jpad.core.ex.standaloneutils.database.databasefunctions.engine.TurbofanCharacteristicsReader;
+
+/**
+ * Process-wide registry of the database readers. Each reader is keyed by the absolute path 
+ * of its h5 file and by its type, so that every database is opened only once per JVM and the 
+ * same (read-only) reader is shared by all the components and aircraft which need it.
+ * 
+ * The registry is thread-safe: concurrent requests for the same database wait for a single 
+ * load. Hit/miss and load time counters are exposed for diagnostics.
+ */
+public class DatabaseRegistry {
+
+	private static final ConcurrentMap<Tuple2<String, Class<? extends DatabaseReader>>, DatabaseReader> _readers = 
+			new ConcurrentHashMap<>();
+	
+	private static final AtomicLong _hits = new AtomicLong();
+	private static final AtomicLong _misses = new AtomicLong();
+	private static final AtomicLong _loadTimeNanos = new AtomicLong();
+	
+	/**
+	 * @param readerType the type of the requested reader
+	 * @param databaseDirectory the folder containing the h5 file
+	 * @param databaseFileName the h5 file name
+	 * @param loader the function creating the reader from (databaseDirectory, databaseFileName) 
+	 * 		  when it is not in the registry yet
+	 * @return the shared reader, never null
+	 * @throws IllegalStateException if the loader returns null (nothing is registered, 
+	 * 		   the next request tries again); the exceptions of the loader are propagated
+	 */
+	public static <T extends DatabaseReader> T getReader(
+			Class<T> readerType,
+			String databaseDirectory, 
+			String databaseFileName,
+			BiFunction<String, String, T> loader
+			) {
+
+		Tuple2<String, Class<? extends DatabaseReader>> key = Tuple.of(
+				new File(databaseDirectory, databaseFileName).getAbsoluteFile().toPath().normalize().toString(),
+				readerType
+				);
+
+		DatabaseReader reader = _readers.get(key);
+		if (reader != null) {
+			_hits.incrementAndGet();
+			return readerType.cast(reader);
+		}
+
+		boolean[] loaded = new boolean[] {false};
+		reader = _readers.computeIfAbsent(key, k -> {
+			loaded[0] = true;
+			long startTime = System.nanoTime();
+			try {
+				return loader.apply(databaseDirectory, databaseFileName);
+			} finally {
+				_loadTimeNanos.addAndGet(System.nanoTime() - startTime);
+			}
+		});
+		
+		if (loaded[0])
+			_misses.incrementAndGet();
+		else
+			_hits.incrementAndGet();
+		
+		if (reader == null)
+			throw new IllegalStateException("Unable to load the database " + key._1());
+		
+		return readerType.cast(reader);
+	}
+	
+	/**
+	 * @return the shared reader of the turbofan characteristics database
+	 * @throws UncheckedIOException if the database cannot be read
+	 */
+	public static TurbofanCharacteristicsReader getTurbofanCharacteristicsReader(
+			String databaseDirectory, 
+			String databaseFileName
+			) {
+		
+		return getReader(
+				TurbofanCharacteristicsReader.class, 
+				databaseDirectory, 
+				databaseFileName, 
+				(directory, fileName) -> {
+					try {
+						return DatabaseManager.initializeTurbofanCharacteristicsDatabase(directory, fileName);
+					} catch (IOException e) {
+						throw new UncheckedIOException(
+								"Unable to read the database " + new File(directory, fileName).getAbsolutePath(), e);
+					}
+				});
+	}
+	
+	/**
+	 * Removes all the readers from the registry. Readers already handed out stay valid.
+	 */
+	public static void clear() {
+		_readers.clear();
+	}
+	
+	public static void resetStatistics() {
+		_hits.set(0);
+		_misses.set(0);
+		_loadTimeNanos.set(0);
+	}
+	
+	public static int getSize() {
+		return _readers.size();
+	}
+	
+	public static long getHits() {
+		return _hits.get();
+	}
+	
+	public static long getMisses() {
+		return _misses.get();
+	}
+	
+	public static long getLoadTimeMillis() {
+		return _loadTimeNanos.get() / 1000000;
+	}
+	
+	public static String getStatistics() {
+		return "Database registry: " + getSize() + " readers, " 
+				+ getHits() + " hits, " + getMisses() + " misses, "
+				+ getLoadTimeMillis() + " ms spent loading";
+	}
+	
+}
@@ -0,0 +1,260 @@
+package jpad.core.ex.standaloneutils.database;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import jpad.core.ex.standaloneutils.MyInterpolatingFunction;
+import jpad.core.ex.standaloneutils.MyInterpolatingFunction.BilinearInterpolatingFunction;
+
+/**
+ * Compact binary snapshot of the interpolants built from an h5 database, used in place
+ * of the XStream XML serialization of the whole reader.
+ *
+ * Each entry stores the breakpoints of every axis and the tensor values (row-major, last
+ * axis fastest). The file layout (big-endian) is:
+ *
+ * <pre>
+ * MAGIC (8 bytes) | VERSION (int) | source size (long) | source last modified (long) | entries (int)
+ * for each entry:  name (UTF) | rank (int) | for each axis: n (int), n doubles | m (int), m doubles
+ * CRC32 of all the previous bytes (long)
+ * </pre>
+ *
+ * The snapshot is read through a memory-mapped file channel and it is discarded
+ * (returning null) if it is corrupted, written with a different VERSION or if the
+ * source h5 file changed (size or last modification time) since it was written.
+ */
+public class InterpolantSnapshot {
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final int VERSION = 1;
+	public static final String FILE_EXTENSION = ".snapshot";
+	private static final byte[] MAGIC = "JPADSNAP".getBytes(StandardCharsets.US_ASCII);
+
+	private final Map<String, double[][]> _axes = new LinkedHashMap<>();
+	private final Map<String, double[]> _values = new LinkedHashMap<>();
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * @param name the entry name (e.g. the dataset name)
+	 * @param axes the breakpoints of each axis
+	 * @param values the tensor values, row-major with the last axis running fastest
+	 */
+	public void put(String name, double[][] axes, double[] values) {
+
+		int size = 1;
+		for (double[] axis : axes)
+			size *= axis.length;
+		if (size != values.length)
+			throw new IllegalArgumentException(
+					"Snapshot entry " + name + ": " + values.length + " values for a grid of " + size + " points");
+
+		_axes.put(name, axes);
+		_values.put(name, values);
+	}
+
+	public void putBilinear(String name, MyInterpolatingFunction function) {
+
+		if (function == null || function.getBilinearInterpolatingFunction() == null)
+			return;
+
+		BilinearInterpolatingFunction bif = function.getBilinearInterpolatingFunction();
+		put(name, new double[][] {bif.getX(), bif.getY()}, bif.getValues());
+	}
+
+	/**
+	 * @return the bilinear interpolating function rebuilt from the entry,
+	 * 		   or null if the snapshot has no 2D entry with the given name
+	 */
+	public MyInterpolatingFunction getBilinear(String name) {
+
+		double[][] axes = _axes.get(name);
+		if (axes == null || axes.length != 2)
+			return null;
+
+		MyInterpolatingFunction function = new MyInterpolatingFunction();
+		function.interpolateBilinear(axes[0], axes[1], _values.get(name));
+		return function;
+	}
+
+	public boolean contains(String name) {
+		return _axes.containsKey(name);
+	}
+
+	public Set<String> getNames() {
+		return Collections.unmodifiableSet(_axes.keySet());
+	}
+
+	public double[][] getAxes(String name) {
+		return _axes.get(name);
+	}
+
+	public double[] getValues(String name) {
+		return _values.get(name);
+	}
+
+	/**
+	 * Writes the snapshot, stamped with size and last modification time of the source file.
+	 * The file is first written to a temporary file of the same folder (unique, so that
+	 * concurrent writers don't collide) and then moved over the snapshot, so that a concurrent
+	 * reader never maps a partially written snapshot.
+	 */
+	public void write(File snapshotFile, File sourceFile) throws IOException {
+
+		File dir = snapshotFile.getAbsoluteFile().getParentFile();
+		if (dir != null && !dir.exists())
+			dir.mkdirs();
+
+		Path tmpFile = Files.createTempFile(dir.toPath(), snapshotFile.getName(), ".tmp");
+		try {
+			writeTo(tmpFile.toFile(), sourceFile);
+			replace(tmpFile, snapshotFile.toPath());
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+	private void writeTo(File file, File sourceFile) throws IOException {
+
+		CRC32 crc = new CRC32();
+
+		try (CheckedOutputStream checked = new CheckedOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file)), crc);
+			 DataOutputStream out = new DataOutputStream(checked)) {
+
+			out.write(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(sourceFile.length());
+			out.writeLong(sourceFile.lastModified());
+			out.writeInt(_axes.size());
+
+			for (Map.Entry<String, double[][]> entry : _axes.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(entry.getValue().length);
+				for (double[] axis : entry.getValue())
+					writeArray(out, axis);
+				writeArray(out, _values.get(entry.getKey()));
+			}
+
+			out.flush();
+			out.writeLong(crc.getValue());
+		}
+	}
+
+	/**
+	 * Moves the file over the target, atomically where the file system allows it.
+	 * Used for the database caches, which may be read by other processes while written.
+	 */
+	static void replace(Path file, Path target) throws IOException {
+		try {
+			Files.move(file, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void writeArray(DataOutputStream out, double[] array) throws IOException {
+		out.writeInt(array.length);
+		for (double value : array)
+			out.writeDouble(value);
+	}
+
+	/**
+	 * @return the snapshot, or null if it doesn't exist, it is not valid or it is older
+	 * 		   than the source file (in which case the caller has to rebuild it)
+	 */
+	public static InterpolantSnapshot read(File snapshotFile, File sourceFile) {
+
+		if (!snapshotFile.exists())
+			return null;
+
+		try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+
+			long size = channel.size();
+			if (size < MAGIC.length + Integer.BYTES + 2*Long.BYTES + Integer.BYTES + Long.BYTES) {
+				System.out.println("Snapshot " + snapshotFile.getName() + " is truncated, rebuilding it ...");
+				return null;
+			}
+
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+			// checksum over everything but the trailing CRC
+			ByteBuffer content = buffer.duplicate();
+			content.limit((int) size - Long.BYTES);
+			CRC32 crc = new CRC32();
+			crc.update(content);
+			if (crc.getValue() != buffer.getLong((int) size - Long.BYTES)) {
+				System.out.println("Snapshot " + snapshotFile.getName() + " is corrupted, rebuilding it ...");
+				return null;
+			}
+
+			byte[] magic = new byte[MAGIC.length];
+			buffer.get(magic);
+			int version = buffer.getInt();
+			long sourceSize = buffer.getLong();
+			long sourceLastModified = buffer.getLong();
+
+			if (!Arrays.equals(magic, MAGIC) || version != VERSION) {
+				System.out.println("Snapshot " + snapshotFile.getName() + " has an unknown format, rebuilding it ...");
+				return null;
+			}
+			if (sourceSize != sourceFile.length() || sourceLastModified != sourceFile.lastModified()) {
+				System.out.println("Snapshot " + snapshotFile.getName() + " is out of date, rebuilding it ...");
+				return null;
+			}
+
+			InterpolantSnapshot snapshot = new InterpolantSnapshot();
+			int nEntries = buffer.getInt();
+			for (int e = 0; e < nEntries; e++) {
+				String name = readUTF(buffer);
+				double[][] axes = new double[buffer.getInt()][];
+				for (int a = 0; a < axes.length; a++)
+					axes[a] = readArray(buffer);
+				snapshot.put(name, axes, readArray(buffer));
+			}
+
+			return snapshot;
+
+		} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private static String readUTF(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		// names are plain ASCII dataset names, for which modified UTF-8 and UTF-8 coincide
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static double[] readArray(ByteBuffer buffer) {
+		double[] array = new double[buffer.getInt()];
+		buffer.asDoubleBuffer().get(array);
+		buffer.position(buffer.position() + array.length*Double.BYTES);
+		return array;
+	}
+
+}
@@ -0,0 +1,220 @@
+package jpad.core.ex.standaloneutils.database;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ncsa.hdf.hdf5lib.exceptions.HDF5LibraryException;
+
+/**
+ * Off-heap store of the h5 datasets used by the multilinear interpolating functions, enabled
+ * by the system property jpad.database.mapped=true (see MyHDFReader.setUseMappedTensors).
+ *
+ * The first time a dataset is requested it is exported from the h5 file into a flat
+ * float64 file (serializedDatabase/tensors/h5 file name/dataset name.f64, with the same
+ * ordering of the MyHDFReader flat readers). The file is then memory-mapped read-only
+ * and the same DoubleBuffer view is handed out to every reader of the JVM, while other
+ * JVMs on the same host share its pages through the OS page cache.
+ *
+ * The file layout is:
+ *
+ * <pre>
+ * MAGIC (8 bytes) | VERSION (int) | rank (int) | source size (long) | source last modified (long)
+ * | length (long) | byte order (int) | padding up to HEADER_SIZE | length doubles
+ * </pre>
+ *
+ * where the header is big-endian and the doubles are in the native byte order of the host
+ * (recorded in the header), so that reading them from the mapped file does not swap bytes.
+ *
+ * A tensor file written by a different VERSION, with a different byte order or for a
+ * different version of the h5 file (size or last modification time) is exported again.
+ */
+public class MappedTensorStore {
+
+	//-----------------------------------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final int VERSION = 2;
+	public static final String FILE_EXTENSION = ".f64";
+	// multiple of 8, so that the data are aligned to doubles
+	private static final int HEADER_SIZE = 48;
+	private static final byte[] MAGIC = "JPADTNSR".getBytes(StandardCharsets.US_ASCII);
+	private static final int BIG_ENDIAN = 0;
+	private static final int LITTLE_ENDIAN = 1;
+
+	private static final ConcurrentMap<String, DoubleBuffer> _tensors = new ConcurrentHashMap<>();
+
+	private MappedTensorStore() {}
+
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * @param reader the reader of the h5 file which contains the dataset
+	 * @param datasetFullName the dataset name (e.g. "(AR_v_eff)_c_over_c_tail/data")
+	 * @param rank the rank of the dataset (3 or 4)
+	 * @return a read-only view of the flattened dataset, or null if the dataset can't be read
+	 */
+	public static DoubleBuffer getTensor(MyHDFReader reader, String datasetFullName, int rank) {
+
+		File sourceFile = new File(reader.getDatabaseAbsolutePath());
+		File tensorFile = getTensorFile(sourceFile, datasetFullName);
+
+		DoubleBuffer tensor = _tensors.computeIfAbsent(
+				tensorFile.getAbsolutePath(),
+				key -> {
+					try {
+						DoubleBuffer mapped = map(tensorFile, sourceFile, rank);
+						if (mapped == null) {
+							if (!export(reader, datasetFullName, rank, tensorFile, sourceFile))
+								return null;
+							mapped = map(tensorFile, sourceFile, rank);
+						}
+						return mapped;
+					} catch (IOException | HDF5LibraryException e) {
+						e.printStackTrace();
+						return null;
+					}
+				});
+
+		// independent position/limit for each caller, the content is shared
+		return (tensor == null) ? null : tensor.duplicate();
+	}
+
+	public static File getTensorFile(File sourceFile, String datasetFullName) {
+
+		String sourceName = sourceFile.getName().replace(".h5", "");
+		String tensorName = datasetFullName.replaceAll("^/+", "").replace('/', '.') + FILE_EXTENSION;
+
+		return new File(
+				sourceFile.getAbsoluteFile().getParentFile(),
+				"serializedDatabase" + File.separator + "tensors" + File.separator
+				+ sourceName + File.separator + tensorName
+				);
+	}
+
+	/**
+	 * Drops the mapped views held by the store. Views already handed out stay valid.
+	 */
+	public static void clear() {
+		_tensors.clear();
+	}
+
+	public static int getSize() {
+		return _tensors.size();
+	}
+
+	private static DoubleBuffer map(File tensorFile, File sourceFile, int rank) throws IOException {
+
+		if (!tensorFile.exists())
+			return null;
+
+		try (FileChannel channel = FileChannel.open(tensorFile.toPath(), StandardOpenOption.READ)) {
+
+			long size = channel.size();
+			if (size < HEADER_SIZE)
+				return null;
+
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+			byte[] magic = new byte[MAGIC.length];
+			buffer.get(magic);
+			int version = buffer.getInt();
+			int fileRank = buffer.getInt();
+			long sourceSize = buffer.getLong();
+			long sourceLastModified = buffer.getLong();
+			long length = buffer.getLong();
+			int byteOrder = buffer.getInt();
+
+			if (!Arrays.equals(magic, MAGIC) || version != VERSION || fileRank != rank
+					|| byteOrder != getByteOrderCode(ByteOrder.nativeOrder())
+					|| size != HEADER_SIZE + length*Double.BYTES) {
+				System.out.println("Tensor file " + tensorFile.getName() + " is not valid, exporting it again ...");
+				return null;
+			}
+			if (sourceSize != sourceFile.length() || sourceLastModified != sourceFile.lastModified()) {
+				System.out.println("Tensor file " + tensorFile.getName() + " is out of date, exporting it again ...");
+				return null;
+			}
+
+			// the mapping stays valid after the channel is closed
+			buffer.position(HEADER_SIZE);
+			return buffer.slice().order(ByteOrder.nativeOrder()).asDoubleBuffer().asReadOnlyBuffer();
+		}
+	}
+
+	private static int getByteOrderCode(ByteOrder byteOrder) {
+		return byteOrder == ByteOrder.LITTLE_ENDIAN ? LITTLE_ENDIAN : BIG_ENDIAN;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+	}
+
+	private static boolean export(
+			MyHDFReader reader, String datasetFullName, int rank,
+			File tensorFile, File sourceFile
+			) throws IOException, HDF5LibraryException {
+
+		double[] data;
+		switch (rank) {
+		case 3:
+			data = reader.getDataset3DFloatFlatByName(datasetFullName);
+			break;
+		case 4:
+			data = reader.getDataset4DFloatFlatByName(datasetFullName);
+			break;
+		default:
+			throw new IllegalArgumentException("Unsupported tensor rank: " + rank);
+		}
+
+		if (data == null)
+			return false;
+
+		System.out.println("Exporting dataset " + datasetFullName + " ==> " + tensorFile.getAbsolutePath() + " ...");
+
+		File dir = tensorFile.getParentFile();
+		if (!dir.exists())
+			dir.mkdirs();
+
+		// written aside (to a file of this writer only) and then moved, so that other JVMs
+		// never map a partial file
+		Path tmpFile = Files.createTempFile(dir.toPath(), tensorFile.getName(), ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+				header.put(MAGIC);
+				header.putInt(VERSION);
+				header.putInt(rank);
+				header.putLong(sourceFile.length());
+				header.putLong(sourceFile.lastModified());
+				header.putLong(data.length);
+				header.putInt(getByteOrderCode(ByteOrder.nativeOrder()));
+				header.rewind();
+				writeFully(channel, header);
+
+				ByteBuffer values = ByteBuffer.allocate(data.length*Double.BYTES).order(ByteOrder.nativeOrder());
+				values.asDoubleBuffer().put(data);
+				writeFully(channel, values);
+			}
+			InterpolantSnapshot.replace(tmpFile, tensorFile.toPath());
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+
+		return true;
+	}
+
+}
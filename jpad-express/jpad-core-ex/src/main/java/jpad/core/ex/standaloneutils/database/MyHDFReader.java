@@ -1,14 +1,15 @@
 package jpad.core.ex.standaloneutils.database;
 
 import java.io.File;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.StringUtils;
 
 import jpad.configs.ex.MyConfiguration;
 import jpad.configs.ex.enumerations.FoldersEnum;
@@ -16,24 +17,33 @@ import jpad.core.ex.standaloneutils.MyInterpolatingFunction;
 import jpad.core.ex.standaloneutils.MyMathUtils;
 import ncsa.hdf.hdf5lib.H5;
 import ncsa.hdf.hdf5lib.HDF5Constants;
-import ncsa.hdf.hdf5lib.callbacks.H5O_iterate_cb;
 import ncsa.hdf.hdf5lib.callbacks.H5O_iterate_t;
 import ncsa.hdf.hdf5lib.exceptions.HDF5Exception;
 import ncsa.hdf.hdf5lib.exceptions.HDF5LibraryException;
-import ncsa.hdf.hdf5lib.structs.H5O_info_t;
 import ncsa.hdf.object.Dataset;
 import ncsa.hdf.object.FileFormat;
 import ncsa.hdf.object.Group;
-import ncsa.hdf.object.HObject;
 import ncsa.hdf.object.h5.H5File;
 import ncsa.hdf.object.h5.H5Group;
 
 public class MyHDFReader {
 
+	public static final String MAPPED_TENSORS_PROPERTY = "jpad.database.mapped";
+
+	// if true, the 3D/4D datasets used by the interpolating functions are served by the MappedTensorStore.
+	// The 2D grids are always read on the heap (the bilinear functions keep them with their slopes),
+	// and InterpolantSnapshot restores them without opening the h5 file.
+	private static volatile boolean useMappedTensors = Boolean.getBoolean(MAPPED_TENSORS_PROPERTY);
+	
 	private String _fileName = null;
 	private H5File _fileH5 = null;
 	private H5Group _rootGroup = null;
 
+	// full name -> HDF5 object type of every object in the file, built once in open()
+	private final Map<String, Integer> _objectTypes = new ConcurrentHashMap<>();
+	// full name -> id of the datasets opened so far, released in close()
+	private final Map<String, Integer> _datasetIds = new ConcurrentHashMap<>();
+
 
 	// HDF5 Object Types
 	enum H5O_type {
@@ -80,6 +90,7 @@ public class MyHDFReader {
 		String DATASETNAME = "/";
 		try {
 			_rootGroup = (H5Group) _fileH5.get(DATASETNAME);
+			buildIndex();
 		} catch (Exception e) {
 			
 			String interpolaterDatabaseSerializedDirectory = MyConfiguration.getDir(FoldersEnum.DATABASE_DIR) + File.separator + "serializedDatabase" + File.separator; 
@@ -326,6 +337,17 @@ public class MyHDFReader {
 	public void close(){
 		if (_fileH5.getFID() >= 0)
 		{
+			synchronized (_datasetIds) {
+				for (int id : _datasetIds.values()) {
+					try {
+						H5.H5Dclose(id);
+					} catch (HDF5LibraryException e) {
+						e.printStackTrace();
+					}
+				}
+				_datasetIds.clear();
+			}
+			_objectTypes.clear();
 			try {
 				_fileH5.close();
 			} catch (HDF5Exception e) {
@@ -341,113 +363,121 @@ public class MyHDFReader {
 	}
 
 	/////////////////////////////////////////////////////
+	// PATH INDEX
 
-	private class MyIterateData_FindGroupByName {
-		public String link_name = null;
-		public int link_type = -1;
-		public int link_id = -1;
-
-		public boolean groupFound = false;
-		public H5Group group = null;
-
-		MyIterateData_FindGroupByName(String name, int type, int id) {
-			this.link_name = name;
-			this.link_type = type;
-			this.link_id   = id;
-		}
+	// content of a dataset read through the path index
+	private static class DatasetContent {
+		public int id = -1;
+		public float [] dataset = null;
+		public int rank = -1;
+		public long[] dims_out;
 	}
 
-	private class H5O_MyIterData_FindGroupByName implements H5O_iterate_t {
-		// a List containig data gathered at each call of callback function
-		public ArrayList<MyIterateData_FindGroupByName> iterdata = new ArrayList<MyIterateData_FindGroupByName>();
-		// When search is successful, the group id and info are stored 
-		// in last element of this list
+	/**
+	 * Visits the whole file once, storing the full name and the type of each object. 
+	 * All the following lookups are resolved through this index.
+	 */
+	private void buildIndex() {
 
-		// a function returning search success
-		public boolean isGroupFound()
-		{
-			if (iterdata.size() == 0)
-				return false;
+		_objectTypes.clear();
 
-			// check the last iteration only
-			boolean retValue = iterdata.get(iterdata.size() - 1).groupFound;
-			return retValue;
+		try {
+			H5.H5Ovisit(
+					_fileH5.getFID(), 
+					HDF5Constants.H5_INDEX_NAME, 
+					HDF5Constants.H5_ITER_NATIVE, 
+					(loc_id, name, info, op_data) -> {
+						// the root group is reported as '.'
+						if (name.charAt(0) != '.')
+							_objectTypes.put(name, info.type);
+						return 0;
+					}, 
+					new H5O_iterate_t() {}
+					);
+		} catch (HDF5LibraryException | NullPointerException e) {
+			e.printStackTrace();
 		}
 	}
 
-	private class H5O_IterCallback_FindGroupByName implements H5O_iterate_cb {
-
-		public String theNameWeSearch = null;
-		public int idGroupFound = -1;
+	/**
+	 * @return the id of the dataset, opened on the first request and kept open 
+	 * 		   until close(), or -1 if the file has no dataset with this name
+	 */
+	private int getDatasetId(String datasetFullName) throws HDF5LibraryException, NullPointerException {
 
-		public H5O_IterCallback_FindGroupByName(String theName)
-		{
-			super();
-			theNameWeSearch = theName;
-		}
+		Integer type = _objectTypes.get(datasetFullName);
+		if (type == null || type != HDF5Constants.H5O_TYPE_DATASET)
+			return -1;
 
-		public int callback(int group_id, String name, H5O_info_t info, H5O_iterate_t op_data) {
+		Integer id = _datasetIds.get(datasetFullName);
+		if (id != null)
+			return id;
 
-			if ( ((H5O_MyIterData_FindGroupByName)op_data).isGroupFound() )
-			{
-				// there's non need to search further
-				// return straight away
-				//        		System.out.println("------- search stopped");
-				// the group id and info are stored in last element of 
-				// ((H5O_MyIterData_FindGroupByName)op_data).iterdata
-				return 0;
+		synchronized (_datasetIds) {
+			id = _datasetIds.get(datasetFullName);
+			if (id == null) {
+				id = H5.H5Dopen(_fileH5.getFID(), datasetFullName, HDF5Constants.H5P_DEFAULT);
+				_datasetIds.put(datasetFullName, id);
 			}
+			return id;
+		}
+	}
 
-			MyIterateData_FindGroupByName id = new MyIterateData_FindGroupByName(name, info.type, group_id);
-			((H5O_MyIterData_FindGroupByName)op_data).iterdata.add(id);
+	private DatasetContent readDatasetByName(String datasetFullName) {
 
-			//			System.out.print("/"); /* Print root group in object path */
+		DatasetContent content = new DatasetContent();
 
-			//Check if the current object is the root group, and if not print the full path name and type.
+		if (_fileH5 == null || _rootGroup == null)
+			return content;
 
-			if (name.charAt(0) == '.')         /* Root group, do not print '.' */
-			{
-				//				System.out.println("  (Group)");
-			}
-			else if(info.type == HDF5Constants.H5O_TYPE_GROUP )
-			{
-				//				System.out.println(name + "  (Group)" );
+		if (datasetFullName == null || datasetFullName.length() == 0)
+			return content;
 
-				// set flag in list of data
-				if (name.equals(theNameWeSearch))
-				{
-					int sz = ((H5O_MyIterData_FindGroupByName)op_data).iterdata.size();
+		try {
 
-					// set flag
-					(((H5O_MyIterData_FindGroupByName)op_data)
-							.iterdata.get(sz - 1)
-							).groupFound = true;
+			int id0 = getDatasetId(datasetFullName);
+			if (id0 < 0)
+				return content;
 
-					idGroupFound = group_id;
+			content.id = id0;
 
-					//					System.out.println(
-					//							"---- FOUND ----> " + name + "\n" +
-					//							"---- ID    ----> " + group_id + "\n" +
-					//							"---- Type  ----> " + info.type                    				
-					//							);
+			long storageSize = H5.H5Dget_storage_size(id0);
 
+			float[] dataset = new float[(int) storageSize/4]; // NOTE: 1 float = 4 bytes
+			H5.H5Dread_float(
+					id0, 
+					HDF5Constants.H5T_NATIVE_FLOAT, // mem_type_id 
+					HDF5Constants.H5S_ALL, // mem_space_id
+					HDF5Constants.H5S_ALL, // file_space_id 
+					HDF5Constants.H5P_DEFAULT, // xfer_plist_id
+					dataset // buffer
+					);
+			content.dataset = dataset;
+
+			int dataspace = H5.H5Dget_space(id0);
+			try {
+				content.rank = H5.H5Sget_simple_extent_ndims(dataspace);
+				if (content.rank > 0) {
+					content.dims_out = new long[content.rank];
+					H5.H5Sget_simple_extent_dims(dataspace, content.dims_out, null);
 				}
-			}
-			else if(info.type == HDF5Constants.H5O_TYPE_DATASET)
-			{
-				//				System.out.println(name + "  (Dataset)");
-			}
-			else if (info.type == HDF5Constants.H5O_TYPE_NAMED_DATATYPE )
-			{
-				//				System.out.println(name + "  (Datatype)");
-			} else {
-				//				System.out.println(name + "  (Unknown)");
+			} finally {
+				H5.H5Sclose(dataspace);
 			}
 
-			return 0;
+		} catch (HDF5LibraryException | NullPointerException e) {
+			e.printStackTrace();
 		}
+
+		return content;
 	}
 
+	/**
+	 * @param groupFullName
+	 * @return the id of the file containing the group, or -1 if the file has no group with this name
+	 * @throws HDF5LibraryException
+	 * @throws NullPointerException
+	 */
 	public int findGroupByName(String groupFullName) throws HDF5LibraryException, NullPointerException{
 		if (_fileH5 == null || _rootGroup == null)
 			return -1;
@@ -455,210 +485,19 @@ public class MyHDFReader {
 		if (groupFullName == null || groupFullName.length() == 0)
 			return -1;
 
-		// recursively iterate
-
-		// some useful variables
-		HObject obj = null;
-		int o_id = -1;
-		int objType;
-		H5O_info_t info;
-
-		// check start from root
-		o_id = _rootGroup.open();
-		info = H5.H5Oget_info(o_id);
-		objType = info.type;
-
-		H5O_iterate_t iter_data = new H5O_MyIterData_FindGroupByName();
-		H5O_iterate_cb iter_cb = new H5O_IterCallback_FindGroupByName(groupFullName);
-
-		// recursive visit
-		H5.H5Ovisit(
-				_fileH5.getFID(), 
-				HDF5Constants.H5_INDEX_NAME, 
-				HDF5Constants.H5_ITER_NATIVE, 
-				iter_cb, 
-				iter_data
-				);
-
-		//        System.out.println(
-		//        		"#############################" 
-		//        	);			
-		// loop on data used in the visit loop
-		//		int sz = ((H5O_MyIterData_FindGroupByName)iter_data).iterdata.size();
-		//		for (int k = 0; k < sz; k++)
-		//		if (sz > 0)
-		//		{
-		//			int k = sz -1;
-		//	        System.out.println(
-		//	        		"-------->" + k 
-		//	        	);			
-		//	        System.out.println(
-		//	        		"-------->" + 
-		//	        		(((H5O_MyIterData_FindDatasetByName)iter_data).iterdata).get(k).groupFound
-		//	        	);			
-		//	        System.out.println(
-		//	        		"-------->" + 
-		//	        		(((H5O_MyIterData_FindDatasetByName)iter_data).iterdata).get(k).link_name
-		//	        	);			
-		//		}
-
-		return ((H5O_IterCallback_FindGroupByName)iter_cb).idGroupFound;
-	}
-
-	/////////////////////////////////////////////////////
-
-	private class MyIterateData_FindDatasetByName {
-		public String link_name = null;
-		public int link_type = -1;
-		public int link_id = -1;
-
-		public boolean datasetFound = false;
-
-		MyIterateData_FindDatasetByName(String name, int type, int id) {
-			this.link_name = name;
-			this.link_type = type;
-			this.link_id   = id;
-		}
-	}
-
-	private class H5O_MyIterData_FindDatasetByName implements H5O_iterate_t {
-		// a List containig data gathered at each call of callback function
-		public ArrayList<MyIterateData_FindDatasetByName> iterdata = new ArrayList<MyIterateData_FindDatasetByName>();
-		// When search is successful, the group id and info are stored 
-		// in last element of this list
-
-		// a function returning search success
-		public boolean isDatasetFound()
-		{
-			if (iterdata.size() == 0)
-				return false;
-
-			// check the last iteration only
-			boolean retValue = iterdata.get(iterdata.size() - 1).datasetFound;
-			return retValue;
-		}
-	}
-
-	private class H5O_IterCallback_FindDatasetByName implements H5O_iterate_cb {
-
-		public String theNameWeSearch = null;
-		public int idDatasetFound = -1;
-		public float [] dataset = null;
-		public int rank = -1;
-		public long[] dims_out;
-
-
-		public H5O_IterCallback_FindDatasetByName(String theName)
-		{
-			super();
-			theNameWeSearch = theName;
-		}
-
-		public int callback(int dset_id, String name, H5O_info_t info, H5O_iterate_t op_data) {
-
-			if ( ((H5O_MyIterData_FindDatasetByName)op_data).isDatasetFound() )
-			{
-				// there's non need to search further
-				// return straight away
-				//				System.out.println("------- search stopped");
-				// the group id and info are stored in last element of 
-				// ((H5O_MyIterData_FindDatasetByName)op_data).iterdata
-				return 0;
-			}
-
-			MyIterateData_FindDatasetByName id = new MyIterateData_FindDatasetByName(name, info.type, dset_id);
-			((H5O_MyIterData_FindDatasetByName)op_data).iterdata.add(id);
-
-			//			System.out.print("/"); /* Print root group in object path */
-
-			//Check if the current object is the root group, and if not print the full path name and type.
-
-			if (name.charAt(0) == '.')         /* Root group, do not print '.' */
-			{
-				//				System.out.println("  (Group)");
-			}
-			else if(info.type == HDF5Constants.H5O_TYPE_GROUP )
-			{
-				//				System.out.println(name + "  (Group)" );
-			}
-			else if(info.type == HDF5Constants.H5O_TYPE_DATASET)
-			{
-				// set flag in list of data
-				if (
-						StringUtils.equals(name, theNameWeSearch) // APACHE COMMONS STRINGUTILS
-						//						name.equals(theNameWeSearch)
-						)
-				{
-					int sz = ((H5O_MyIterData_FindDatasetByName)op_data).iterdata.size();
-
-					// set flag
-					(((H5O_MyIterData_FindDatasetByName)op_data)
-							.iterdata.get(sz - 1)
-							).datasetFound = true;
-
-					idDatasetFound = dset_id;
-
-					try {
-
-						int id0 = H5.H5Dopen(dset_id, name, HDF5Constants.H5P_DEFAULT);
-						//						System.out.println("_________________________________id0: " + id0);
-
-						long storageSize = H5.H5Dget_storage_size(id0);
-						//						System.out.println("_________________________________Storage: " + storageSize);
-
-						dataset = new float[(int) storageSize/4]; // NOTE: 1 float = 4 bytes
-						int res = H5.H5Dread_float(
-								id0, 
-								HDF5Constants.H5T_NATIVE_FLOAT, // mem_type_id 
-								HDF5Constants.H5S_ALL, // mem_space_id
-								HDF5Constants.H5S_ALL, // file_space_id 
-								HDF5Constants.H5P_DEFAULT, // xfer_plist_id
-								dataset // buffer
-								);
-
-						//						System.out.println(
-						//								"_________________________________buff: " + Arrays.toString(buff));
-
-						int dataspace = H5.H5Dget_space(id0);
-						rank = H5.H5Sget_simple_extent_ndims(dataspace);
-
-						//						System.out.println(
-						//								"---- rank ----> " + rank
-						//						);
-
-						if (rank > 0) {
-							dims_out = new long[rank];
-							int status_n = H5.H5Sget_simple_extent_dims(dataspace, dims_out, null);
-
-							//							System.out.println(
-							//									"---- dims_out ----> " + Arrays.toString(dims_out)
-							//							);
-						}
-
-					} catch (HDF5LibraryException | NullPointerException e) {
-						e.printStackTrace();
-					}
-
-					//					System.out.println(
-					//							"---- FOUND ----> " + name + "\n" +
-					//							"---- ID    ----> " + dset_id + "\n" +
-					//							"---- Type  ----> " + info.type                    				
-					//							);
-				}
-			}
-			else if (info.type == HDF5Constants.H5O_TYPE_NAMED_DATATYPE )
-			{
-				//				System.out.println(name + "  (Datatype)");
-			}
-			else
-			{
-				//				System.out.println(name + "  (Unknown)");
-			}
+		Integer type = _objectTypes.get(groupFullName);
+		if (type == null || type != HDF5Constants.H5O_TYPE_GROUP)
+			return -1;
 
-			return 0;
-		}
+		return _fileH5.getFID();
 	}
 
+	/**
+	 * @param datasetFullName
+	 * @return the id of the dataset (valid until close()), or -1 if the file has no dataset with this name
+	 * @throws HDF5LibraryException
+	 * @throws NullPointerException
+	 */
 	public int getIdDatasetByName(String datasetFullName) throws HDF5LibraryException, NullPointerException {
 
 		if (_fileH5 == null || _rootGroup == null)
@@ -667,38 +506,7 @@ public class MyHDFReader {
 		if (datasetFullName == null || datasetFullName.length() == 0)
 			return -1;
 
-		// recursively iterate
-
-		// some useful variables
-		//		HObject obj = null;
-		int o_id = -1;
-		int objType;
-		H5O_info_t info;
-
-		// check start from root
-		o_id = _rootGroup.open();
-		info = H5.H5Oget_info(o_id);
-		objType = info.type;
-
-		H5O_iterate_t iter_data = new H5O_MyIterData_FindDatasetByName();
-		H5O_iterate_cb iter_cb = new H5O_IterCallback_FindDatasetByName(datasetFullName);
-
-		// recursive visit
-		H5.H5Ovisit(
-				_fileH5.getFID(), 
-				HDF5Constants.H5_INDEX_NAME, 
-				HDF5Constants.H5_ITER_NATIVE, 
-				iter_cb, 
-				iter_data
-				);
-
-		float [] dset = ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset;
-
-		int result = ((H5O_IterCallback_FindDatasetByName)iter_cb).idDatasetFound;
-
-		//		System.out.println(
-		//				"getIdDatasetByName :: dataset id " + result);		
-		return result;
+		return getDatasetId(datasetFullName);
 	}
 
 	public double[] getDataset1DFloatByName(String datasetFullName) throws HDF5LibraryException, NullPointerException {
@@ -709,42 +517,19 @@ public class MyHDFReader {
 		if (datasetFullName == null || datasetFullName.length() == 0)
 			return null;
 
-		// recursively iterate
+		DatasetContent content = readDatasetByName(datasetFullName);
 
-		// some useful variables
-		HObject obj = null;
-		int o_id = -1;
-		int objType;
-		H5O_info_t info;
-
-		// check start from root
-		o_id = _rootGroup.open();
-		info = H5.H5Oget_info(o_id);
-		objType = info.type;
-
-		H5O_iterate_t iter_data = new H5O_MyIterData_FindDatasetByName();
-		H5O_iterate_cb iter_cb = new H5O_IterCallback_FindDatasetByName(datasetFullName);
-
-		// recursive visit
-		H5.H5Ovisit(
-				_fileH5.getFID(), 
-				HDF5Constants.H5_INDEX_NAME, 
-				HDF5Constants.H5_ITER_NATIVE, 
-				iter_cb, 
-				iter_data
-				);
-
-		if ( ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset != null ) {
+		if ( content.dataset != null ) {
 			// convert from float[] to double[]
-			int sz = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[0];
+			int sz = (int) content.dims_out[0];
 
 			if (sz == 0 ) return null;
 
 			double[] result = new double[sz];
 			for (int i=0; i<sz; i++) {
-				result[i] = (double) ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset[i];
+				result[i] = (double) content.dataset[i];
 			}
-			//			return ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset;
+			//			return content.dataset;
 			return result;
 		} else
 			return null;
@@ -759,32 +544,9 @@ public class MyHDFReader {
 		if (datasetFullName == null || datasetFullName.length() == 0)
 			return null;
 
-		// recursively iterate
-
-		// some useful variables
-		//		HObject obj = null;
-		int o_id = -1;
-		int objType;
-		H5O_info_t info;
-
-		// check start from root
-		o_id = _rootGroup.open();
-		info = H5.H5Oget_info(o_id);
-		objType = info.type;
-
-		H5O_iterate_t iter_data = new H5O_MyIterData_FindDatasetByName();
-		H5O_iterate_cb iter_cb = new H5O_IterCallback_FindDatasetByName(datasetFullName);
+		DatasetContent content = readDatasetByName(datasetFullName);
 
-		// recursive visit
-		H5.H5Ovisit(
-				_fileH5.getFID(), 
-				HDF5Constants.H5_INDEX_NAME, 
-				HDF5Constants.H5_ITER_NATIVE, 
-				iter_cb, 
-				iter_data
-				);
-
-		float [] dset = ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset;
+		float [] dset = content.dataset;
 
 		//		System.out.println(
 		//				"getDataset2DFloatByName :: dataset size " + dset.length + "\n"
@@ -792,15 +554,15 @@ public class MyHDFReader {
 		//				);		
 		//		System.out.println(
 		//				"getDataset2DFloatByName :: dataset size = "
-		//				+ ((H5O_IterCallback_FindDatasetByName)iter_cb).rank
+		//				+ content.rank
 		//				);
 
 		if (
-				((H5O_IterCallback_FindDatasetByName)iter_cb).rank == 2
+				content.rank == 2
 				) {
 
-			int nRows = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[0];
-			int nCols = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[1];
+			int nRows = (int) content.dims_out[0];
+			int nCols = (int) content.dims_out[1];
 
 			//			System.out.println("2D dataset !!!");
 			//			System.out.println(
@@ -844,32 +606,9 @@ public class MyHDFReader {
 		if (datasetFullName == null || datasetFullName.length() == 0)
 			return null;
 
-		// recursively iterate
-
-		// some useful variables
-		//		HObject obj = null;
-		int o_id = -1;
-		int objType;
-		H5O_info_t info;
-
-		// check start from root
-		o_id = _rootGroup.open();
-		info = H5.H5Oget_info(o_id);
-		objType = info.type;
-
-		H5O_iterate_t iter_data = new H5O_MyIterData_FindDatasetByName();
-		H5O_iterate_cb iter_cb = new H5O_IterCallback_FindDatasetByName(datasetFullName);
+		DatasetContent content = readDatasetByName(datasetFullName);
 
-		// recursive visit
-		H5.H5Ovisit(
-				_fileH5.getFID(), 
-				HDF5Constants.H5_INDEX_NAME, 
-				HDF5Constants.H5_ITER_NATIVE, 
-				iter_cb, 
-				iter_data
-				);
-
-		float [] dset = ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset;
+		float [] dset = content.dataset;
 
 		//		System.out.println(
 		//				"getDataset2DFloatByName :: dataset size " + dset.length + "\n"
@@ -877,14 +616,14 @@ public class MyHDFReader {
 		//				);		
 		//		System.out.println(
 		//				"getDataset2DFloatByName :: dataset size = "
-		//				+ ((H5O_IterCallback_FindDatasetByName)iter_cb).rank
+		//				+ content.rank
 		//				);
 
-		if (((H5O_IterCallback_FindDatasetByName)iter_cb).rank == 3) {
+		if (content.rank == 3) {
 
-			int nRows  = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[0];
-			int nCols  = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[1];
-			int nPages = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[2];
+			int nRows  = (int) content.dims_out[0];
+			int nCols  = (int) content.dims_out[1];
+			int nPages = (int) content.dims_out[2];
 
 			//			System.out.println("3D dataset !!!");
 			//			System.out.println(
@@ -938,32 +677,9 @@ public class MyHDFReader {
 		if (datasetFullName == null || datasetFullName.length() == 0)
 			return null;
 
-		// recursively iterate
-
-		// some useful variables
-		//		HObject obj = null;
-		int o_id = -1;
-		int objType;
-		H5O_info_t info;
-
-		// check start from root
-		o_id = _rootGroup.open();
-		info = H5.H5Oget_info(o_id);
-		objType = info.type;
+		DatasetContent content = readDatasetByName(datasetFullName);
 
-		H5O_iterate_t iter_data = new H5O_MyIterData_FindDatasetByName();
-		H5O_iterate_cb iter_cb = new H5O_IterCallback_FindDatasetByName(datasetFullName);
-
-		// recursive visit
-		H5.H5Ovisit(
-				_fileH5.getFID(), 
-				HDF5Constants.H5_INDEX_NAME, 
-				HDF5Constants.H5_ITER_NATIVE, 
-				iter_cb, 
-				iter_data
-				);
-
-		float [] dset = ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset;
+		float [] dset = content.dataset;
 
 		//		System.out.println(
 		//				"getDataset2DFloatByName :: dataset size " + dset.length + "\n"
@@ -971,15 +687,15 @@ public class MyHDFReader {
 		//				);		
 		//		System.out.println(
 		//				"getDataset2DFloatByName :: dataset size = "
-		//				+ ((H5O_IterCallback_FindDatasetByName)iter_cb).rank
+		//				+ content.rank
 		//				);
 
-		if (((H5O_IterCallback_FindDatasetByName)iter_cb).rank == 4) {
+		if (content.rank == 4) {
 
-			int nRows  = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[0];
-			int nCols  = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[1];
-			int nPages = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[2];
-			int nTables = (int) ((H5O_IterCallback_FindDatasetByName)iter_cb).dims_out[3];
+			int nRows  = (int) content.dims_out[0];
+			int nCols  = (int) content.dims_out[1];
+			int nPages = (int) content.dims_out[2];
+			int nTables = (int) content.dims_out[3];
 
 			//			System.out.println("3D dataset !!!");
 			//			System.out.println(
@@ -1027,6 +743,124 @@ public class MyHDFReader {
 		}
 	}
 	
+	/**
+	 * Reads a 2D dataset into a flat array, skipping the nested double[][] arrays. 
+	 * The ordering is row-major, i.e. 
+	 * result[i*nCols + j] = getDataset2DFloatByName(datasetFullName)[i][j]
+	 * 
+	 * @param datasetFullName
+	 * @return
+	 * @throws HDF5LibraryException
+	 * @throws NullPointerException
+	 */
+	public double[] getDataset2DFloatFlatByName(String datasetFullName) throws HDF5LibraryException, NullPointerException {
+
+		DatasetContent content = readDatasetByName(datasetFullName);
+
+		if (content.rank != 2)
+			return null;
+
+		int nRows = (int) content.dims_out[0];
+		int nCols = (int) content.dims_out[1];
+
+		double[] result = new double[nRows*nCols];
+		for(int index = 0; index < nRows*nCols; index++)
+			result[index] = content.dataset[index];
+
+		return result;
+	}
+
+	/**
+	 * Reads a 3D dataset into a flat array, skipping the nested double[][][] arrays. 
+	 * The ordering is the same of getDataset3DFloatByName, i.e. 
+	 * result[(k*nRows + i)*nCols + j] = getDataset3DFloatByName(datasetFullName)[k][i][j]
+	 * 
+	 * @param datasetFullName
+	 * @return
+	 * @throws HDF5LibraryException
+	 * @throws NullPointerException
+	 */
+	public double[] getDataset3DFloatFlatByName(String datasetFullName) throws HDF5LibraryException, NullPointerException {
+
+		DatasetContent content = readDatasetByName(datasetFullName);
+
+		if (content.rank != 3)
+			return null;
+
+		int nRows  = (int) content.dims_out[0];
+		int nCols  = (int) content.dims_out[1];
+		int nPages = (int) content.dims_out[2];
+
+		double[] result = new double[nPages*nRows*nCols];
+
+		int index = -1;
+		for(int i = 0; i < nRows; i++) {
+			for(int j = 0; j < nCols; j++) {
+				for(int k = 0; k < nPages; k++) {
+					index++;
+					result[(k*nRows + i)*nCols + j] = content.dataset[index];
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Reads a 4D dataset into a flat array, skipping the nested double[][][][] arrays. 
+	 * The ordering is the same of getDataset4DFloatByName, i.e. 
+	 * result[((k*nRows + i)*nCols + j)*nTables + l] = getDataset4DFloatByName(datasetFullName)[k][i][j][l]
+	 * 
+	 * @param datasetFullName
+	 * @return
+	 * @throws HDF5LibraryException
+	 * @throws NullPointerException
+	 */
+	public double[] getDataset4DFloatFlatByName(String datasetFullName) throws HDF5LibraryException, NullPointerException {
+
+		DatasetContent content = readDatasetByName(datasetFullName);
+
+		if (content.rank != 4)
+			return null;
+
+		int nRows   = (int) content.dims_out[0];
+		int nCols   = (int) content.dims_out[1];
+		int nPages  = (int) content.dims_out[2];
+		int nTables = (int) content.dims_out[3];
+
+		double[] result = new double[nPages*nRows*nCols*nTables];
+
+		int index = -1;
+		for(int i = 0; i < nRows; i++) {
+			for(int j = 0; j < nCols; j++) {
+				for(int k = 0; k < nPages; k++) {
+					for(int l = 0; l < nTables; l++) {
+						index++;
+						result[((k*nRows + i)*nCols + j)*nTables + l] = content.dataset[index];
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return the flat 3D or 4D dataset, as a view of the MappedTensorStore when useMappedTensors 
+	 * 		   is set or wrapping a heap array otherwise 
+	 */
+	private DoubleBuffer readDatasetFlat(String datasetFullName, int rank) throws HDF5LibraryException, NullPointerException {
+
+		if (useMappedTensors)
+			return MappedTensorStore.getTensor(this, datasetFullName, rank);
+
+		double[] result = (rank == 3) 
+				? getDataset3DFloatFlatByName(datasetFullName) 
+				: getDataset4DFloatFlatByName(datasetFullName);
+
+		return (result == null) ? null : DoubleBuffer.wrap(result);
+	}
+
 	/**
 	 * 
 	 * @param groupFullName
@@ -1044,43 +878,16 @@ public class MyHDFReader {
 		if (datasetFullName == null || datasetFullName.length() == 0)
 			return -1;
 
-		// recursively iterate
-
-		// some useful variables
-		//		HObject obj = null;
-		int o_id = -1;
-		int objType;
-		H5O_info_t info;
-
-		// check start from root
-		o_id = _rootGroup.open();
-		info = H5.H5Oget_info(o_id);
-		objType = info.type;
-
-		H5O_iterate_t iter_data = new H5O_MyIterData_FindDatasetByName();
-		H5O_iterate_cb iter_cb = new H5O_IterCallback_FindDatasetByName(datasetFullName);
-
-		// recursive visit
-		H5.H5Ovisit(
-				_fileH5.getFID(), 
-				HDF5Constants.H5_INDEX_NAME, 
-				HDF5Constants.H5_ITER_NATIVE, 
-				iter_cb, 
-				iter_data
-				);
-
-		//		float [] dset = ((H5O_IterCallback_FindDatasetByName)iter_cb).dataset;
-
-		//		System.out.println(
-		//				"getDataset2DFloatByName :: dataset size " + dset.length + "\n"
-		//				+ Arrays.toString(dset)
-		//				);		
-		//		System.out.println(
-		//				"getDataset2DFloatByName :: dataset size = "
-		//				+ ((H5O_IterCallback_FindDatasetByName)iter_cb).rank
-		//				);
+		int id0 = getDatasetId(datasetFullName);
+		if (id0 < 0)
+			return -1;
 
-		return ((H5O_IterCallback_FindDatasetByName)iter_cb).rank;
+		int dataspace = H5.H5Dget_space(id0);
+		try {
+			return H5.H5Sget_simple_extent_ndims(dataspace);
+		} finally {
+			H5.H5Sclose(dataspace);
+		}
 	}
 
 	/**
@@ -1193,9 +1000,9 @@ public class MyHDFReader {
 
 		String dataset2DFullName = group2DFullName + "/data";
 
-		double[][] dset2D = null;
+		double[] dset2D = null;
 		try {
-			dset2D = getDataset2DFloatByName(dataset2DFullName);
+			dset2D = getDataset2DFloatFlatByName(dataset2DFullName);
 		} catch (HDF5LibraryException e) {
 			e.printStackTrace();
 		} catch (NullPointerException e) {
@@ -1228,9 +1035,9 @@ public class MyHDFReader {
 
 		String dataset2DFullName = group2DFullName + "/" + dataName;
 
-		double[][] dset2D = null;
+		double[] dset2D = null;
 		try {
-			dset2D = getDataset2DFloatByName(dataset2DFullName);
+			dset2D = getDataset2DFloatFlatByName(dataset2DFullName);
 		} catch (HDF5LibraryException e) {
 			e.printStackTrace();
 		} catch (NullPointerException e) {
@@ -1277,9 +1084,9 @@ public class MyHDFReader {
 
 		String dataset3DFullName = group3DFullName + "/data";
 
-		double[][][] dset3D = null;
+		DoubleBuffer dset3D = null;
 		try {
-			dset3D = getDataset3DFloatByName(dataset3DFullName);
+			dset3D = readDatasetFlat(dataset3DFullName, 3);
 		} catch (HDF5LibraryException e) {
 			e.printStackTrace();
 		} catch (NullPointerException e) {
@@ -1322,9 +1129,9 @@ public class MyHDFReader {
 	 */
 	public MyInterpolatingFunction interpolate3DFromDatasetFunction(String group3DFullName,String dataName, String var0Name, String var1Name, String var2Name) {
 		String dataset3DFullName = group3DFullName + "/" + dataName;
-		double[][][] dset3D = null;
+		DoubleBuffer dset3D = null;
 		try {
-			dset3D = getDataset3DFloatByName(dataset3DFullName);
+			dset3D = readDatasetFlat(dataset3DFullName, 3);
 		} catch (HDF5LibraryException e) {
 			e.printStackTrace();
 		} catch (NullPointerException e) {
@@ -1408,9 +1215,9 @@ public class MyHDFReader {
 
 		String dataset4DFullName = group4DFullName + "/data";
 
-		double[][][][] dset4D = null;
+		DoubleBuffer dset4D = null;
 		try {
-			dset4D = getDataset4DFloatByName(dataset4DFullName);
+			dset4D = readDatasetFlat(dataset4DFullName, 4);
 		} catch (HDF5LibraryException e) {
 			e.printStackTrace();
 		} catch (NullPointerException e) {
@@ -1695,6 +1502,21 @@ public class MyHDFReader {
 		}
 	}
 
+	public static boolean isUseMappedTensors() {
+		return useMappedTensors;
+	}
+
+	/**
+	 * Overrides the system property jpad.database.mapped (false if not set) for the interpolating
+	 * functions built from now on.
+	 * 
+	 * @param use if true, the 3D/4D datasets of the interpolating functions are exported once into 
+	 * 		  flat float64 files and then shared as memory-mapped read-only views (see MappedTensorStore)
+	 */
+	public static void setUseMappedTensors(boolean use) {
+		useMappedTensors = use;
+	}
+
 	public String getDatabaseAbsolutePath() {
 		return _fileH5.getAbsolutePath();
 	}
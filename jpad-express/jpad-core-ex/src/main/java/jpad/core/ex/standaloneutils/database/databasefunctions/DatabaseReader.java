@@ -24,16 +24,22 @@ public abstract class DatabaseReader {
 	 * @param databaseFileName
 	 */
 	public DatabaseReader(String databaseFolderPath, String databaseFileName) {
+		this(databaseFolderPath, databaseFileName, true);
+	}
+	
+	/**
+	 * @param databaseFolderPath
+	 * @param databaseFileName
+	 * @param openDatabase if false the h5 file is opened only on the first call to getDatabase() 
+	 * 		  (e.g. when all the interpolating functions are restored from a snapshot)
+	 */
+	protected DatabaseReader(String databaseFolderPath, String databaseFileName, boolean openDatabase) {
 
 		this.databaseFolderPath = databaseFolderPath;
 		this.databaseFileName = databaseFileName;
 
-		//		if (!databaseFolderPath.endsWith("/")) databaseFolderPath = databaseFolderPath + "/";
-		if (!databaseFolderPath.endsWith(File.separator)) databaseFolderPath = databaseFolderPath + File.separator;
-
-		String databaseFileNameWithPath = databaseFolderPath + databaseFileName;
-
-		database = new MyHDFReader(databaseFileNameWithPath);
+		if (openDatabase)
+			database = new MyHDFReader(getDatabaseFileNameWithPath());
 
 		/**
 		 *		Old snippet
@@ -44,4 +50,19 @@ public abstract class DatabaseReader {
 
 	}
 	
+	protected String getDatabaseFileNameWithPath() {
+		
+		String folderPath = databaseFolderPath;
+		//		if (!folderPath.endsWith("/")) folderPath = folderPath + "/";
+		if (!folderPath.endsWith(File.separator)) folderPath = folderPath + File.separator;
+		
+		return folderPath + databaseFileName;
+	}
+	
+	protected synchronized MyHDFReader getDatabase() {
+		if (database == null)
+			database = new MyHDFReader(getDatabaseFileNameWithPath());
+		return database;
+	}
+	
 }
@@ -9,13 +9,15 @@ import javax.measure.unit.SI;
 import org.jscience.physics.amount.Amount;
 
 import jpad.core.ex.standaloneutils.MyInterpolatingFunction;
+import jpad.core.ex.standaloneutils.database.InterpolantSnapshot;
 import jpad.core.ex.standaloneutils.database.databasefunctions.DatabaseReader;
 
 public class TurbofanCharacteristicsReader extends DatabaseReader {
 
 	//-----------------------------------------------------------------------------------------
 	// VARIABLE DECLARATION
-	private MyInterpolatingFunction dryMassFunction, maxLengthFunction, maxWidthFunction;
+	// built on first use (see getXXXFunction), since the reader may be shared among threads
+	private volatile MyInterpolatingFunction dryMassFunction, maxLengthFunction, maxWidthFunction;
 	
 	//-----------------------------------------------------------------------------------------
 	// BUILDER
@@ -23,12 +25,69 @@ public class TurbofanCharacteristicsReader extends DatabaseReader {
 		
 		super(databaseFolderPath, databaseFileName);
 		
-		dryMassFunction = database.interpolate2DFromDatasetFunction("EngineDryMass");
-		maxLengthFunction = database.interpolate2DFromDatasetFunction("EngineMaxLength");
-		maxWidthFunction = database.interpolate2DFromDatasetFunction("EngineMaxWidth");
+	}
+	
+	/**
+	 * Restores the interpolating functions from a snapshot. The h5 file is opened 
+	 * only if some of them are missing from the snapshot.
+	 */
+	public TurbofanCharacteristicsReader(String databaseFolderPath, String databaseFileName, InterpolantSnapshot snapshot) {
+		
+		super(databaseFolderPath, databaseFileName, false);
+		
+		dryMassFunction = snapshot.getBilinear("EngineDryMass");
+		maxLengthFunction = snapshot.getBilinear("EngineMaxLength");
+		maxWidthFunction = snapshot.getBilinear("EngineMaxWidth");
 		
 	}
 
+	//-----------------------------------------------------------------------------------------
+	// METHODS
+	
+	/**
+	 * Stores all the interpolating functions in a snapshot, building first 
+	 * the ones which have not been used yet.
+	 */
+	public InterpolantSnapshot toSnapshot() {
+		
+		InterpolantSnapshot snapshot = new InterpolantSnapshot();
+		snapshot.putBilinear("EngineDryMass", getDryMassFunction());
+		snapshot.putBilinear("EngineMaxLength", getMaxLengthFunction());
+		snapshot.putBilinear("EngineMaxWidth", getMaxWidthFunction());
+		
+		return snapshot;
+	}
+	
+	private MyInterpolatingFunction getDryMassFunction() {
+		if (dryMassFunction == null) {
+			synchronized (this) {
+				if (dryMassFunction == null)
+					dryMassFunction = getDatabase().interpolate2DFromDatasetFunction("EngineDryMass");
+			}
+		}
+		return dryMassFunction;
+	}
+	
+	private MyInterpolatingFunction getMaxLengthFunction() {
+		if (maxLengthFunction == null) {
+			synchronized (this) {
+				if (maxLengthFunction == null)
+					maxLengthFunction = getDatabase().interpolate2DFromDatasetFunction("EngineMaxLength");
+			}
+		}
+		return maxLengthFunction;
+	}
+	
+	private MyInterpolatingFunction getMaxWidthFunction() {
+		if (maxWidthFunction == null) {
+			synchronized (this) {
+				if (maxWidthFunction == null)
+					maxWidthFunction = getDatabase().interpolate2DFromDatasetFunction("EngineMaxWidth");
+			}
+		}
+		return maxWidthFunction;
+	}
+	
 	//-----------------------------------------------------------------------------------------
 	// GETTES & SETTERS
 	
@@ -40,7 +99,7 @@ public class TurbofanCharacteristicsReader extends DatabaseReader {
 	 */
 	public Amount<Mass> getEngineDryMass(Amount<Force> t0, double bpr) { 
 		return  Amount.valueOf(
-					dryMassFunction.valueBilinear(t0.doubleValue(NonSI.POUND_FORCE), bpr),
+					getDryMassFunction().valueBilinear(t0.doubleValue(NonSI.POUND_FORCE), bpr),
 					NonSI.POUND).to(SI.KILOGRAM);
 	}
 	
@@ -52,7 +111,7 @@ public class TurbofanCharacteristicsReader extends DatabaseReader {
 	 */
 	public Amount<Length> getEngineMaxLength(Amount<Force> t0, double bpr) { 
 		return  Amount.valueOf(
-					maxLengthFunction.valueBilinear(t0.doubleValue(NonSI.POUND_FORCE), bpr),
+					getMaxLengthFunction().valueBilinear(t0.doubleValue(NonSI.POUND_FORCE), bpr),
 					NonSI.INCH).to(SI.METER);
 	}
 	
@@ -64,7 +123,7 @@ public class TurbofanCharacteristicsReader extends DatabaseReader {
 	 */
 	public Amount<Length> getEngineMaxWidth(Amount<Force> t0, double bpr) { 
 		return  Amount.valueOf(
-					maxWidthFunction.valueBilinear(t0.doubleValue(NonSI.POUND_FORCE), bpr),
+					getMaxWidthFunction().valueBilinear(t0.doubleValue(NonSI.POUND_FORCE), bpr),
 					NonSI.INCH).to(SI.METER);
 	}
 	
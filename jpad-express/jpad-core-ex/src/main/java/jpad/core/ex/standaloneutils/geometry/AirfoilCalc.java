@@ -635,25 +635,24 @@ public class AirfoilCalc {
 			clMatrixAirfoils.add(clArrayBreakPoints.get(0));
 		}
 		
-		double [] clStar ,clDistribution;
+		double [] clStar;
 		double [][] clMatrix = new double [numberOfAlpha][ numberOfPointSemiSpanWise];
+		double [] yAdimensionalBreakPointsArray = MyArrayUtils.convertToDoublePrimitive(yAdimensionalBreakPoints);
+		double [] yAdimensionalDistributionArray = MyArrayUtils.convertToDoublePrimitive(yAdimensionalDistribution);
 
 		for (int i=0; i<numberOfAlpha; i++){
 			clStar =   new double [numberOfGivenSection];
-			clDistribution = new double [numberOfPointSemiSpanWise];
 			for (int ii=0; ii<numberOfGivenSection; ii++){
 				clStar[ii] = clArrayBreakPoints.get(ii).get(i);
 			}// given station
 
-			for (int iii=0; iii<numberOfPointSemiSpanWise; iii++){
-				clDistribution [iii] = MyMathUtils.getInterpolatedValue1DLinear(
-						MyArrayUtils.convertToDoublePrimitive(yAdimensionalBreakPoints),
-						clStar, 
-						yAdimensionalDistribution.get(iii)
-						);
-
-				clMatrix[i][iii] = clDistribution[iii];
-			}//semispanwise
+			// one batch evaluation for the whole semispanwise distribution
+			MyMathUtils.getInterpolatedValue1DLinear(
+					yAdimensionalBreakPointsArray,
+					clStar, 
+					yAdimensionalDistributionArray,
+					clMatrix[i]
+					);
 		} // alpha 
 
 		// filling the list of list 
@@ -737,25 +736,24 @@ public class AirfoilCalc {
 			cdMatrixAirfoils.add(cdArrayBreakPoints.get(0));
 		}
 		
-		double [] cdStar ,cdDistribution;
+		double [] cdStar;
 		double [][] cdMatrix = new double [numberOfCl][ numberOfPointSemiSpanWise];
+		double [] yAdimensionalBreakPointsArray = MyArrayUtils.convertToDoublePrimitive(yAdimensionalBreakPoints);
+		double [] yAdimensionalDistributionArray = MyArrayUtils.convertToDoublePrimitive(yAdimensionalDistribution);
 
 		for (int i=0; i<numberOfCl; i++){
 			cdStar =   new double [numberOfGivenSection];
-			cdDistribution = new double [numberOfPointSemiSpanWise];
 			for (int ii=0; ii<numberOfGivenSection; ii++){
 				cdStar[ii] = cdArrayBreakPoints.get(ii).get(i);
 			}// given station
 
-			for (int iii=0; iii<numberOfPointSemiSpanWise; iii++){
-				cdDistribution [iii] = MyMathUtils.getInterpolatedValue1DLinear(
-						MyArrayUtils.convertToDoublePrimitive(yAdimensionalBreakPoints),
-						cdStar, 
-						yAdimensionalDistribution.get(iii)
-						);
-
-				cdMatrix[i][iii] = cdDistribution[iii];
-			}//semispanwise
+			// one batch evaluation for the whole semispanwise distribution
+			MyMathUtils.getInterpolatedValue1DLinear(
+					yAdimensionalBreakPointsArray,
+					cdStar, 
+					yAdimensionalDistributionArray,
+					cdMatrix[i]
+					);
 		} // alpha 
 
 		// filling the list of list 
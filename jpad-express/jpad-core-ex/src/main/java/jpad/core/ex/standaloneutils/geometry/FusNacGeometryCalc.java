@@ -1,6 +1,5 @@
 package jpad.core.ex.standaloneutils.geometry;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -15,7 +14,6 @@ import javax.measure.unit.SI;
 import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.apache.commons.math3.analysis.interpolation.LinearInterpolator;
 import org.apache.commons.math3.analysis.interpolation.UnivariateInterpolator;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.jscience.physics.amount.Amount;
 
 import jpad.configs.ex.MyConfiguration;
@@ -25,7 +23,7 @@ import jpad.core.ex.aircraft.components.nacelles.NacelleCreator;
 import jpad.core.ex.aircraft.components.powerplant.Engine;
 import jpad.core.ex.standaloneutils.MyArrayUtils;
 import jpad.core.ex.standaloneutils.MyMathUtils;
-import jpad.core.ex.standaloneutils.database.DatabaseManager;
+import jpad.core.ex.standaloneutils.database.DatabaseRegistry;
 import jpad.core.ex.standaloneutils.database.databasefunctions.engine.TurbofanCharacteristicsReader;
 import processing.core.PVector;
 
@@ -595,21 +593,11 @@ public class FusNacGeometryCalc {
 		if((theEngine.getEngineType() == EngineTypeEnum.TURBOFAN) 
 				|| (theEngine.getEngineType() == EngineTypeEnum.TURBOJET)) {
 
-			TurbofanCharacteristicsReader reader;
-			try {
-				reader = DatabaseManager.initializeTurbofanCharacteristicsDatabase(
-						new TurbofanCharacteristicsReader(
-								MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
-								"TurbofanCharacterstics.h5"
-								),
-						MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
-						"TurbofanCharacterstics.h5"
-						);
-				diameterMax = reader.getEngineMaxWidth(theEngine.getT0(), theEngine.getBPR());
-				
-			} catch (InvalidFormatException | IOException e) {
-				e.printStackTrace();
-			}
+			TurbofanCharacteristicsReader reader = DatabaseRegistry.getTurbofanCharacteristicsReader(
+					MyConfiguration.getDir(FoldersEnum.DATABASE_DIR),
+					"TurbofanCharacterstics.h5"
+					);
+			diameterMax = reader.getEngineMaxWidth(theEngine.getT0(), theEngine.getBPR());
 			
 
 		}
@@ -0,0 +1,138 @@
+package jpad.core.ex.aircraft;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import javax.measure.unit.SI;
+
+import org.jscience.physics.amount.Amount;
+import org.junit.Before;
+import org.junit.Test;
+
+import jpad.configs.ex.enumerations.ComponentEnum;
+import jpad.core.ex.TestTemplates;
+import jpad.core.ex.aircraft.components.liftingSurface.LiftingSurface;
+
+public class AircraftDerivedDataTest {
+
+	private Aircraft aircraft;
+
+	@Before
+	public void importAircraft() {
+		aircraft = TestTemplates.importAircraft("aircraft_ATR72.xml");
+	}
+
+	@Test
+	public void declarationOrderIsAnUpdateOrder() {
+		for (AircraftDerivedData data : AircraftDerivedData.values())
+			for (AircraftDerivedData dependency : data.getDependencies())
+				assertTrue(dependency + " -> " + data, dependency.ordinal() < data.ordinal());
+	}
+
+	@Test
+	public void affectedDataAreTheTransitiveDependents() {
+		assertEquals(
+				EnumSet.of(
+						AircraftDerivedData.WING_GEOMETRY,
+						AircraftDerivedData.EXPOSED_WING,
+						AircraftDerivedData.FUEL_TANK,
+						AircraftDerivedData.LANDING_GEARS_POSITION,
+						AircraftDerivedData.WETTED_SURFACE,
+						AircraftDerivedData.ARMS),
+				AircraftDerivedData.WING_GEOMETRY.getAffectedData());
+		assertEquals(
+				EnumSet.of(
+						AircraftDerivedData.VTAIL_GEOMETRY,
+						AircraftDerivedData.POSITIONS_RELATIVE_TO_ATTACHMENT,
+						AircraftDerivedData.WETTED_SURFACE,
+						AircraftDerivedData.ARMS),
+				AircraftDerivedData.VTAIL_GEOMETRY.getAffectedData());
+		assertTrue(AircraftDerivedData.COMPONENT_POSITIONS.getAffectedData()
+				.containsAll(EnumSet.of(
+						AircraftDerivedData.ENGINES_OVER_THE_WING,
+						AircraftDerivedData.POSITIONS_RELATIVE_TO_ATTACHMENT)));
+	}
+
+	@Test
+	public void updateRecalculatesOnlyTheMarkedData() {
+
+		LiftingSurface exposedWing = aircraft.getWing().getExposedLiftingSurface();
+
+		aircraft.markChanged(ComponentEnum.HORIZONTAL_TAIL);
+		assertEquals(AircraftDerivedData.HTAIL_GEOMETRY.getAffectedData(), aircraft.getDirtyDerivedData());
+
+		List<AircraftDerivedData> updated = new ArrayList<>();
+		TestTemplates.silently(() -> updated.addAll(aircraft.updateDerivedData()));
+		assertEquals(
+				Arrays.asList(
+						AircraftDerivedData.HTAIL_GEOMETRY,
+						AircraftDerivedData.WETTED_SURFACE,
+						AircraftDerivedData.ARMS),
+				updated);
+		assertTrue(aircraft.getDirtyDerivedData().isEmpty());
+		// not depending on the horizontal tail
+		assertSame(exposedWing, aircraft.getWing().getExposedLiftingSurface());
+
+		aircraft.markChanged(AircraftDerivedData.WING_GEOMETRY);
+		TestTemplates.silently(() -> aircraft.updateDerivedData());
+		assertNotSame(exposedWing, aircraft.getWing().getExposedLiftingSurface());
+	}
+
+	@Test
+	public void updateReproducesTheImportedData() {
+
+		LiftingSurface wing = aircraft.getWing();
+		double[] ys = wing.getDiscretizedYsArray().clone();
+		double mac = wing.getMeanAerodynamicChord().doubleValue(SI.METER);
+		double[] exposedYs = wing.getExposedLiftingSurface().getDiscretizedYsArray().clone();
+		double wettedSurface = aircraft.getSWetTotal().doubleValue(SI.SQUARE_METRE);
+
+		// twice, a recalculation must not drift
+		for (int i = 0; i < 2; i++) {
+			aircraft.markChanged(ComponentEnum.ALL);
+			TestTemplates.silently(() -> aircraft.updateDerivedData());
+		}
+
+		assertTrue(Arrays.equals(ys, wing.getDiscretizedYsArray()));
+		assertEquals(mac, wing.getMeanAerodynamicChord().doubleValue(SI.METER), 0.0);
+		assertTrue(Arrays.equals(exposedYs, wing.getExposedLiftingSurface().getDiscretizedYsArray()));
+		assertEquals(wettedSurface, aircraft.getSWetTotal().doubleValue(SI.SQUARE_METRE), 0.0);
+	}
+
+	@Test
+	public void exposedWingKeepsTheBaselineDiscretization() {
+		// 30 requested stations, calculated twice (see Aircraft.calculateExposedWing)
+		double[] exposedYs = aircraft.getWing().getExposedLiftingSurface().getDiscretizedYsArray();
+		assertEquals(30, exposedYs.length);
+		assertEquals(0.4508333, exposedYs[1], 1e-7);
+	}
+
+	@Test
+	public void positionsRelativeToAttachmentFollowTheApex() {
+
+		LiftingSurface wing = aircraft.getWing();
+		double halfHeight = aircraft.getFuselage().getSectionCylinderHeight().doubleValue(SI.METER)/2;
+		double zApex = wing.getZApexConstructionAxes().doubleValue(SI.METER) + 0.5;
+		int enginesOverTheWing = wing.getNumberOfEngineOverTheWing();
+
+		wing.setZApexConstructionAxes(Amount.valueOf(zApex, SI.METER));
+		aircraft.markChanged(AircraftDerivedData.COMPONENT_POSITIONS);
+		assertTrue(aircraft.isDirty(AircraftDerivedData.POSITIONS_RELATIVE_TO_ATTACHMENT));
+		assertTrue(aircraft.isDirty(AircraftDerivedData.ENGINES_OVER_THE_WING));
+		assertFalse(aircraft.isDirty(AircraftDerivedData.NACELLES_GEOMETRY));
+		TestTemplates.silently(() -> aircraft.updateDerivedData());
+
+		assertEquals(zApex/halfHeight, wing.getPositionRelativeToAttachment(), 1e-12);
+		// the engines follow the wing
+		assertEquals(enginesOverTheWing, wing.getNumberOfEngineOverTheWing());
+	}
+
+}
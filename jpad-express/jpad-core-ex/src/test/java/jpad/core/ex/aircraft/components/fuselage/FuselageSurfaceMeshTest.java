@@ -0,0 +1,57 @@
+package jpad.core.ex.aircraft.components.fuselage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.function.IntConsumer;
+
+import org.junit.Test;
+
+/**
+ * The numbers of intervals of the mesh must be positive (no intervals would give a mesh of NaNs).
+ */
+public class FuselageSurfaceMeshTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructorRejectsNoSectionIntervals() {
+		new FuselageSurfaceMesh(null, 10, 4, 10, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructorRejectsNegativeIntervals() {
+		new FuselageSurfaceMesh(null, 10, -1, 10, 10);
+	}
+
+	@Test
+	public void settersRejectNonPositiveIntervals() {
+
+		FuselageSurfaceMesh mesh = new FuselageSurfaceMesh(null, 8, 3, 9, 12);
+
+		assertRejected(mesh::set_ni_N);
+		assertRejected(mesh::set_ni_C);
+		assertRejected(mesh::set_ni_T);
+		assertRejected(mesh::set_ni_Sec);
+
+		// the rejected values leave the mesh as it was
+		assertEquals(8, mesh.get_ni_N());
+		assertEquals(3, mesh.get_ni_C());
+		assertEquals(9, mesh.get_ni_T());
+		assertEquals(12, mesh.get_ni_Sec());
+		assertEquals(20, mesh.get_ni_F());
+
+		mesh.set_ni_C(1);
+		assertEquals(18, mesh.get_ni_F());
+	}
+
+	private static void assertRejected(IntConsumer setter) {
+		for (int intervals : new int[] {0, -1}) {
+			try {
+				setter.accept(intervals);
+				fail("accepted " + intervals + " intervals");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+}
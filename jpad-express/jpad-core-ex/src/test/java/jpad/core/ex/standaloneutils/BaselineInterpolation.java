@@ -0,0 +1,55 @@
+package jpad.core.ex.standaloneutils;
+
+import org.apache.commons.math3.analysis.interpolation.LinearInterpolator;
+
+/**
+ * The nested linear interpolations of MyInterpolatingFunction as they were before the flat-array
+ * kernels (one LinearInterpolator per row, then MyMathUtils.getInterpolatedValue1DLinear along
+ * the outer axis), kept as the reference of the regression tests.
+ */
+final class BaselineInterpolation {
+
+	private BaselineInterpolation() {}
+
+	static double bilinear(double[] x, double[] y, double[][] data, double xq, double yq) {
+
+		xq = clamp(x, xq);
+		yq = clamp(y, yq);
+
+		double[] valuesAtVar0 = new double[x.length];
+		for (int i = 0; i < x.length; i++)
+			valuesAtVar0[i] = new LinearInterpolator().interpolate(y, data[i]).value(yq);
+
+		return MyMathUtils.getInterpolatedValue1DLinear(x, valuesAtVar0, xq);
+	}
+
+	static double trilinear(double[] x, double[] y, double[] z, double[][][] data, double xq, double yq, double zq) {
+
+		xq = clamp(x, xq);
+
+		double[] valuesAtVar0 = new double[x.length];
+		for (int i = 0; i < x.length; i++)
+			valuesAtVar0[i] = bilinear(y, z, data[i], yq, zq);
+
+		return MyMathUtils.getInterpolatedValue1DLinear(x, valuesAtVar0, xq);
+	}
+
+	static double quadrilinear(double[] x, double[] y, double[] z, double[] k, double[][][][] data,
+			double xq, double yq, double zq, double kq) {
+
+		xq = clamp(x, xq);
+
+		double[] valuesAtVar0 = new double[x.length];
+		for (int i = 0; i < x.length; i++)
+			valuesAtVar0[i] = trilinear(y, z, k, data[i], yq, zq, kq);
+
+		return MyMathUtils.getInterpolatedValue1DLinear(x, valuesAtVar0, xq);
+	}
+
+	private static double clamp(double[] breakpoints, double v) {
+		if (v < breakpoints[0]) v = breakpoints[0];
+		if (v > breakpoints[breakpoints.length - 1]) v = breakpoints[breakpoints.length - 1];
+		return v;
+	}
+
+}
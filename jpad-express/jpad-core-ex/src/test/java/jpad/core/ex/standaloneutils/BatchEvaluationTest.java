@@ -0,0 +1,190 @@
+package jpad.core.ex.standaloneutils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The batch evaluators (MyInterpolatingFunction.values* and the array version of
+ * MyMathUtils.getInterpolatedValue1DLinear) must give the same results, bit by bit, of the
+ * point-wise ones, both on a single thread and when the batch is split across the cores.
+ */
+public class BatchEvaluationTest {
+
+	private static final int QUERIES = 5000;
+
+	private int parallelBatchThreshold;
+
+	@Before
+	public void saveThreshold() {
+		parallelBatchThreshold = MyInterpolatingFunction.getParallelBatchThreshold();
+	}
+
+	@After
+	public void restoreThreshold() {
+		MyInterpolatingFunction.setParallelBatchThreshold(parallelBatchThreshold);
+	}
+
+	@Test
+	public void linearBatchMatchesTheScalarValues() {
+
+		Random random = new Random(31);
+		double[] x = InterpolationGrids.breakpoints(random, 17);
+		double[] data = new double[x.length];
+		for (int i = 0; i < x.length; i++)
+			data[i] = InterpolationGrids.value(random, x[i]);
+
+		MyInterpolatingFunction function = new MyInterpolatingFunction();
+		function.interpolateLinear(x, data);
+		double[] xq = queries(random, x);
+
+		for (int threshold : thresholds()) {
+			MyInterpolatingFunction.setParallelBatchThreshold(threshold);
+			double[] result = new double[QUERIES];
+			function.values(xq, result);
+			for (int q = 0; q < QUERIES; q++)
+				assertBitIdentical(function.value(xq[q]), result[q], q);
+		}
+	}
+
+	@Test
+	public void bilinearBatchMatchesTheScalarValues() {
+
+		Random random = new Random(32);
+		double[] x = InterpolationGrids.breakpoints(random, 9);
+		double[] y = InterpolationGrids.breakpoints(random, 14);
+		double[][] data = new double[x.length][y.length];
+		for (int i = 0; i < x.length; i++)
+			for (int j = 0; j < y.length; j++)
+				data[i][j] = InterpolationGrids.value(random, x[i], y[j]);
+
+		MyInterpolatingFunction function = new MyInterpolatingFunction();
+		function.interpolateBilinear(x, y, data);
+		double[] xq = queries(random, x);
+		double[] yq = queries(random, y);
+
+		for (int threshold : thresholds()) {
+			MyInterpolatingFunction.setParallelBatchThreshold(threshold);
+			double[] result = new double[QUERIES];
+			function.valuesBilinear(xq, yq, result);
+			for (int q = 0; q < QUERIES; q++)
+				assertBitIdentical(function.valueBilinear(xq[q], yq[q]), result[q], q);
+		}
+	}
+
+	@Test
+	public void trilinearBatchMatchesTheScalarValues() {
+
+		Random random = new Random(33);
+		double[] x = InterpolationGrids.breakpoints(random, 5);
+		double[] y = InterpolationGrids.breakpoints(random, 7);
+		double[] z = InterpolationGrids.breakpoints(random, 11);
+		double[][][] data = new double[x.length][y.length][z.length];
+		for (int i = 0; i < x.length; i++)
+			for (int j = 0; j < y.length; j++)
+				for (int l = 0; l < z.length; l++)
+					data[i][j][l] = InterpolationGrids.value(random, x[i], y[j], z[l]);
+
+		MyInterpolatingFunction function = new MyInterpolatingFunction();
+		function.interpolateTrilinear(x, y, z, data);
+		double[] xq = queries(random, x);
+		double[] yq = queries(random, y);
+		double[] zq = queries(random, z);
+
+		for (int threshold : thresholds()) {
+			MyInterpolatingFunction.setParallelBatchThreshold(threshold);
+			double[] result = new double[QUERIES];
+			function.valuesTrilinear(xq, yq, zq, result);
+			for (int q = 0; q < QUERIES; q++)
+				assertBitIdentical(function.valueTrilinear(xq[q], yq[q], zq[q]), result[q], q);
+		}
+	}
+
+	@Test
+	public void quadrilinearBatchMatchesTheScalarValues() {
+
+		Random random = new Random(34);
+		double[] x = InterpolationGrids.breakpoints(random, 4);
+		double[] y = InterpolationGrids.breakpoints(random, 5);
+		double[] z = InterpolationGrids.breakpoints(random, 6);
+		double[] k = InterpolationGrids.breakpoints(random, 7);
+		double[][][][] data = new double[x.length][y.length][z.length][k.length];
+		for (int i = 0; i < x.length; i++)
+			for (int j = 0; j < y.length; j++)
+				for (int l = 0; l < z.length; l++)
+					for (int m = 0; m < k.length; m++)
+						data[i][j][l][m] = InterpolationGrids.value(random, x[i], y[j], z[l], k[m]);
+
+		MyInterpolatingFunction function = new MyInterpolatingFunction();
+		function.interpolateQuadrilinear(x, y, z, k, data);
+		double[] xq = queries(random, x);
+		double[] yq = queries(random, y);
+		double[] zq = queries(random, z);
+		double[] kq = queries(random, k);
+
+		for (int threshold : thresholds()) {
+			MyInterpolatingFunction.setParallelBatchThreshold(threshold);
+			double[] result = new double[QUERIES];
+			function.valuesQuadrilinear(xq, yq, zq, kq, result);
+			for (int q = 0; q < QUERIES; q++)
+				assertBitIdentical(function.valueQuadrilinear(xq[q], yq[q], zq[q], kq[q]), result[q], q);
+		}
+	}
+
+	@Test
+	public void linearArrayInterpolationMatchesTheScalarOne() {
+
+		Random random = new Random(35);
+		double[] vx = InterpolationGrids.breakpoints(random, 6);
+		double[] vy = new double[vx.length];
+		for (int i = 0; i < vx.length; i++)
+			vy[i] = InterpolationGrids.value(random, vx[i]);
+
+		// a spanwise distribution running from root to tip, as in AirfoilCalc
+		double[] x0 = new double[QUERIES];
+		for (int q = 0; q < QUERIES; q++)
+			x0[q] = vx[0] + (vx[vx.length - 1] - vx[0])*q/(QUERIES - 1);
+		x0[QUERIES/2] = vx[vx.length/2];
+
+		for (int threshold : thresholds()) {
+			MyInterpolatingFunction.setParallelBatchThreshold(threshold);
+			double[] result = new double[QUERIES];
+			MyMathUtils.getInterpolatedValue1DLinear(vx, vy, x0, result);
+			for (int q = 0; q < QUERIES; q++)
+				assertBitIdentical(MyMathUtils.getInterpolatedValue1DLinear(vx, vy, x0[q]), result[q], q);
+			assertBitIdentical(vy[vy.length - 1], result[QUERIES - 1], QUERIES - 1);
+		}
+	}
+
+	private static int[] thresholds() {
+		// single thread, then every batch split across the cores
+		return new int[] {Integer.MAX_VALUE, 1};
+	}
+
+	/**
+	 * @return a sweep over the axis (extended out of range on both sides) followed by random
+	 * 		   points, breakpoints and grid edges
+	 */
+	private static double[] queries(Random random, double[] breakpoints) {
+		double[] special = InterpolationGrids.queries(random, breakpoints, 0);
+		double first = breakpoints[0];
+		double span = breakpoints[breakpoints.length - 1] - first;
+		double[] q = new double[QUERIES];
+		for (int i = 0; i < QUERIES/2; i++)
+			q[i] = first - 0.1*span + 1.2*span*i/(QUERIES/2 - 1);
+		for (int i = QUERIES/2; i < QUERIES; i++)
+			q[i] = random.nextBoolean()
+					? special[random.nextInt(special.length)]
+					: first - 0.1*span + 1.2*span*random.nextDouble();
+		return q;
+	}
+
+	private static void assertBitIdentical(double expected, double actual, int query) {
+		assertEquals("query " + query, Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+	}
+
+}
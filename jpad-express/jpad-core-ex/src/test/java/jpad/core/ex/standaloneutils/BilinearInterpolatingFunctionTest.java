@@ -0,0 +1,72 @@
+package jpad.core.ex.standaloneutils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jpad.core.ex.standaloneutils.MyInterpolatingFunction.BilinearInterpolatingFunction;
+
+/**
+ * The flat-array BilinearInterpolatingFunction must give the same results, bit by bit, of the
+ * nested LinearInterpolator evaluation it replaced (see BaselineInterpolation), also on the
+ * breakpoints, on the grid edges and out of range (clamped).
+ */
+public class BilinearInterpolatingFunctionTest {
+
+	@Test
+	public void bitIdenticalToTheBaseline() {
+
+		Random random = new Random(20181017);
+		for (int grid = 0; grid < 40; grid++) {
+
+			double[] x = InterpolationGrids.breakpoints(random, 2 + random.nextInt(20));
+			double[] y = InterpolationGrids.breakpoints(random, 2 + random.nextInt(30));
+			double[][] data = new double[x.length][y.length];
+			for (int i = 0; i < x.length; i++)
+				for (int j = 0; j < y.length; j++)
+					data[i][j] = InterpolationGrids.value(random, x[i], y[j]);
+
+			BilinearInterpolatingFunction function = new BilinearInterpolatingFunction(x, y, data);
+			MyInterpolatingFunction wrapper = new MyInterpolatingFunction();
+			wrapper.interpolateBilinear(x, y, data);
+
+			double[] xq = InterpolationGrids.queries(random, x, 30);
+			double[] yq = InterpolationGrids.queries(random, y, 30);
+			for (double xv : xq)
+				for (double yv : yq) {
+					double expected = BaselineInterpolation.bilinear(x, y, data, xv, yv);
+					assertBitIdentical(expected, function.value(xv, yv), xv, yv);
+					assertBitIdentical(expected, wrapper.valueBilinear(xv, yv), xv, yv);
+				}
+		}
+	}
+
+	@Test
+	public void flatConstructorMatchesTheNestedOne() {
+
+		Random random = new Random(7);
+		double[] x = InterpolationGrids.breakpoints(random, 5);
+		double[] y = InterpolationGrids.breakpoints(random, 8);
+		double[][] data = new double[x.length][y.length];
+		double[] flatData = new double[x.length*y.length];
+		for (int i = 0; i < x.length; i++)
+			for (int j = 0; j < y.length; j++) {
+				data[i][j] = InterpolationGrids.value(random, x[i], y[j]);
+				flatData[i*y.length + j] = data[i][j];
+			}
+
+		BilinearInterpolatingFunction nested = new BilinearInterpolatingFunction(x, y, data);
+		BilinearInterpolatingFunction flat = new BilinearInterpolatingFunction(x, y, flatData);
+		for (double xv : InterpolationGrids.queries(random, x, 20))
+			for (double yv : InterpolationGrids.queries(random, y, 20))
+				assertBitIdentical(nested.value(xv, yv), flat.value(xv, yv), xv, yv);
+	}
+
+	private static void assertBitIdentical(double expected, double actual, double x, double y) {
+		assertEquals("f(" + x + ", " + y + ")",
+				Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+	}
+
+}
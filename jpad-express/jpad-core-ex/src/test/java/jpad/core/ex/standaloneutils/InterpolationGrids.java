@@ -0,0 +1,60 @@
+package jpad.core.ex.standaloneutils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Seeded grids shaped like the database tables (a few to a few tens of strictly increasing,
+ * unevenly spaced breakpoints per axis, smooth values with flat stretches) and query sets
+ * covering the cells, the breakpoints, the grid edges and the points out of range.
+ */
+final class InterpolationGrids {
+
+	private InterpolationGrids() {}
+
+	static double[] breakpoints(Random random, int n) {
+		double[] b = new double[n];
+		b[0] = -10 + 20*random.nextDouble();
+		for (int i = 1; i < n; i++)
+			b[i] = b[i-1] + 0.05 + 2*random.nextDouble();
+		return b;
+	}
+
+	static double value(Random random, double... point) {
+		// flat stretches give zero slopes, as in the saturated regions of the tables
+		if (random.nextInt(8) == 0)
+			return 1.0;
+		double v = 0.3*random.nextGaussian();
+		for (int d = 0; d < point.length; d++)
+			v += Math.sin(0.3*(d + 1)*point[d]) + 0.01*point[d]*point[d];
+		return v;
+	}
+
+	/**
+	 * @return the queries along one axis: random points, breakpoints, cell midpoints, points
+	 * 		   next to the breakpoints and out of range on both sides
+	 */
+	static double[] queries(Random random, double[] b, int nRandom) {
+		double first = b[0];
+		double last = b[b.length - 1];
+		double span = last - first;
+		double[] q = new double[nRandom + 4*b.length + 6];
+		int n = 0;
+		for (int i = 0; i < nRandom; i++)
+			q[n++] = first - 0.2*span + 1.4*span*random.nextDouble();
+		for (int i = 0; i < b.length; i++) {
+			q[n++] = b[i];
+			q[n++] = Math.nextUp(b[i]);
+			q[n++] = Math.nextDown(b[i]);
+			q[n++] = (i + 1 < b.length) ? 0.5*(b[i] + b[i+1]) : last;
+		}
+		q[n++] = first - 1;
+		q[n++] = last + 1;
+		q[n++] = -Double.MAX_VALUE;
+		q[n++] = Double.MAX_VALUE;
+		q[n++] = Double.NEGATIVE_INFINITY;
+		q[n++] = Double.POSITIVE_INFINITY;
+		return Arrays.copyOf(q, n);
+	}
+
+}
@@ -0,0 +1,176 @@
+package jpad.core.ex.standaloneutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import jpad.core.ex.TestTemplates;
+
+/**
+ * JPADXmlReader.Parser.STAX must give the same results of Parser.DOM on all the input files of
+ * the aircraft templates: the expressions supported by StaxPath are evaluated on the StaxElement
+ * tree, the others (predicates, functions) must fall back to the DOM.
+ */
+public class JPADXmlReaderTest {
+
+	@Test
+	public void staxMatchesTheDomOnTheTemplates() throws IOException {
+
+		int parsedFiles = 0;
+		for (File file : templateFiles()) {
+
+			JPADXmlReader dom = new JPADXmlReader(file.getAbsolutePath());
+			JPADXmlReader stax = new JPADXmlReader(file.getAbsolutePath(), JPADXmlReader.Parser.STAX);
+			// some templates are empty documents, which neither parser can read
+			assertEquals(file.getPath(), dom.getStatus(), stax.getStatus());
+			if (!dom.isStatusOK())
+				continue;
+			parsedFiles++;
+
+			Element root = dom.getXmlDoc().getDocumentElement();
+			Set<String> expressions = new LinkedHashSet<>();
+			collectExpressions(root, null, expressions);
+			expressions.add("/" + root.getTagName() + "/*/text()");
+			expressions.add("//*/text()");
+
+			for (String expression : expressions) {
+				assertNotNull(expression, StaxPath.compile(expression));
+				assertSameValues(file, expression, dom, stax);
+			}
+
+			for (String expression : elementExpressions(expressions)) {
+				List<JPADXmlReader> domReaders = dom.getXMLReadersByPath(expression);
+				List<JPADXmlReader> staxReaders = stax.getXMLReadersByPath(expression);
+				assertEquals(file.getPath() + " " + expression, domReaders.size(), staxReaders.size());
+				// each reader sees its node as the document element
+				for (int i = 0; i < domReaders.size(); i++) {
+					assertSameValues(file, expression + " [" + i + "] //*/text()", "//*/text()", 
+							domReaders.get(i), staxReaders.get(i));
+					assertSameValues(file, expression + " [" + i + "] //@id", "//@id", 
+							domReaders.get(i), staxReaders.get(i));
+				}
+			}
+		}
+		assertTrue(parsedFiles > 0);
+	}
+
+	@Test
+	public void unsupportedExpressionsFallBackToTheDom() throws IOException {
+
+		for (File file : templateFiles()) {
+
+			JPADXmlReader dom = new JPADXmlReader(file.getAbsolutePath());
+			JPADXmlReader stax = new JPADXmlReader(file.getAbsolutePath(), JPADXmlReader.Parser.STAX);
+			if (!dom.isStatusOK())
+				continue;
+
+			Set<String> expressions = new LinkedHashSet<>();
+			collectUnsupportedExpressions(dom.getXmlDoc().getDocumentElement(), expressions);
+
+			for (String expression : expressions) {
+				assertNull(expression, StaxPath.compile(expression));
+				assertSameValues(file, expression, dom, stax);
+				if (!expression.contains("text()") && !expression.contains("@"))
+					assertEquals(file.getPath() + " " + expression,
+							dom.getXMLReadersByPath(expression).size(),
+							stax.getXMLReadersByPath(expression).size());
+			}
+			assertNotNull(stax.getXmlDoc());
+		}
+	}
+
+	private static List<File> templateFiles() throws IOException {
+		try (Stream<Path> paths = Files.walk(TestTemplates.getTemplatesDirectory().toPath())) {
+			return paths
+					.filter(p -> p.toString().toLowerCase().endsWith(".xml"))
+					.sorted()
+					.map(Path::toFile)
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * The kinds of expressions used by the importers, for every element and attribute name of the file.
+	 */
+	private static void collectExpressions(Element element, String parentName, Set<String> expressions) {
+
+		String name = element.getTagName();
+		expressions.add("//" + name);
+		expressions.add("//" + name + "/text()");
+		expressions.add("//*/" + name + "/text()");
+		if (parentName != null) {
+			expressions.add("//" + parentName + "/" + name);
+			expressions.add("//" + parentName + "/" + name + "/text()");
+			expressions.add("//" + parentName + "//" + name + "/text()");
+		}
+
+		NamedNodeMap attributes = element.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			String attribute = attributes.item(i).getNodeName();
+			expressions.add("//@" + attribute);
+			expressions.add("//" + name + "/@" + attribute);
+			if (parentName != null)
+				expressions.add("//" + parentName + "/" + name + "/@" + attribute);
+		}
+
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling())
+			if (child instanceof Element)
+				collectExpressions((Element) child, name, expressions);
+	}
+
+	/**
+	 * Predicates and axes, which StaxPath does not support.
+	 */
+	private static void collectUnsupportedExpressions(Element element, Set<String> expressions) {
+
+		String name = element.getTagName();
+		expressions.add("//" + name + "[1]");
+		expressions.add("//" + name + "[last()]/text()");
+		expressions.add("//" + name + "/parent::*");
+
+		NamedNodeMap attributes = element.getAttributes();
+		for (int i = 0; i < attributes.getLength(); i++) {
+			String attribute = attributes.item(i).getNodeName();
+			expressions.add("//*[@" + attribute + "]/@" + attribute);
+		}
+
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling())
+			if (child instanceof Element)
+				collectUnsupportedExpressions((Element) child, expressions);
+	}
+
+	private static List<String> elementExpressions(Set<String> expressions) {
+		List<String> elements = new ArrayList<>();
+		for (String expression : expressions)
+			if (!expression.contains("text()") && !expression.contains("@"))
+				elements.add(expression);
+		return elements;
+	}
+
+	private static void assertSameValues(File file, String expression, JPADXmlReader dom, JPADXmlReader stax) {
+		assertSameValues(file, expression, expression, dom, stax);
+	}
+
+	private static void assertSameValues(File file, String message, String expression, JPADXmlReader dom, JPADXmlReader stax) {
+		assertEquals(file.getPath() + " " + message, dom.getXMLValueByPath(expression), stax.getXMLValueByPath(expression));
+		assertEquals(file.getPath() + " " + message, dom.getXMLValuesByPath(expression), stax.getXMLValuesByPath(expression));
+	}
+
+}
@@ -0,0 +1,150 @@
+package jpad.core.ex.standaloneutils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jpad.core.ex.standaloneutils.MyInterpolatingFunction.MultilinearInterpolatingFunction;
+import jpad.core.ex.standaloneutils.MyInterpolatingFunction.QuadrilinearInterpolatingFunction;
+import jpad.core.ex.standaloneutils.MyInterpolatingFunction.TrilinearInterpolatingFunction;
+
+/**
+ * The rank-agnostic kernel behind TrilinearInterpolatingFunction and QuadrilinearInterpolatingFunction
+ * sums the cell corners instead of nesting one interpolation per axis, so it agrees with the nested
+ * evaluation it replaced (see BaselineInterpolation) to rounding, and exactly on the grid nodes.
+ */
+public class MultilinearInterpolatingFunctionTest {
+
+	private static final double RELATIVE_TOLERANCE = 1e-12;
+	// the nested baseline rebuilds its interpolators at every call: sample the query combinations
+	private static final int QUERIES_PER_GRID = 2000;
+
+	@Test
+	public void trilinearAgreesWithTheBaseline() {
+
+		Random random = new Random(1311);
+		for (int grid = 0; grid < 15; grid++) {
+
+			double[] x = InterpolationGrids.breakpoints(random, 2 + random.nextInt(8));
+			double[] y = InterpolationGrids.breakpoints(random, 2 + random.nextInt(10));
+			double[] z = InterpolationGrids.breakpoints(random, 2 + random.nextInt(12));
+			double[][][] data = new double[x.length][y.length][z.length];
+			for (int i = 0; i < x.length; i++)
+				for (int j = 0; j < y.length; j++)
+					for (int l = 0; l < z.length; l++)
+						data[i][j][l] = InterpolationGrids.value(random, x[i], y[j], z[l]);
+
+			TrilinearInterpolatingFunction function = new TrilinearInterpolatingFunction(x, y, z, data);
+			double tolerance = RELATIVE_TOLERANCE*(1 + maxAbs(data));
+
+			double[] xq = InterpolationGrids.queries(random, x, 10);
+			double[] yq = InterpolationGrids.queries(random, y, 10);
+			double[] zq = InterpolationGrids.queries(random, z, 10);
+			for (int n = 0; n < QUERIES_PER_GRID; n++) {
+				double xv = pick(random, xq);
+				double yv = pick(random, yq);
+				double zv = pick(random, zq);
+				assertEquals("f(" + xv + ", " + yv + ", " + zv + ")",
+						BaselineInterpolation.trilinear(x, y, z, data, xv, yv, zv),
+						function.value(xv, yv, zv),
+						tolerance);
+			}
+
+			for (int i = 0; i < x.length; i++)
+				for (int j = 0; j < y.length; j++)
+					for (int l = 0; l < z.length; l++)
+						assertEquals(data[i][j][l], function.value(x[i], y[j], z[l]), 0.0);
+		}
+	}
+
+	@Test
+	public void quadrilinearAgreesWithTheBaseline() {
+
+		Random random = new Random(1312);
+		for (int grid = 0; grid < 8; grid++) {
+
+			double[] x = InterpolationGrids.breakpoints(random, 2 + random.nextInt(5));
+			double[] y = InterpolationGrids.breakpoints(random, 2 + random.nextInt(6));
+			double[] z = InterpolationGrids.breakpoints(random, 2 + random.nextInt(6));
+			double[] k = InterpolationGrids.breakpoints(random, 2 + random.nextInt(7));
+			double[][][][] data = new double[x.length][y.length][z.length][k.length];
+			double max = 0;
+			for (int i = 0; i < x.length; i++)
+				for (int j = 0; j < y.length; j++)
+					for (int l = 0; l < z.length; l++)
+						for (int m = 0; m < k.length; m++) {
+							data[i][j][l][m] = InterpolationGrids.value(random, x[i], y[j], z[l], k[m]);
+							max = Math.max(max, Math.abs(data[i][j][l][m]));
+						}
+
+			QuadrilinearInterpolatingFunction function = new QuadrilinearInterpolatingFunction(x, y, z, k, data);
+			double tolerance = RELATIVE_TOLERANCE*(1 + max);
+
+			double[] xq = InterpolationGrids.queries(random, x, 10);
+			double[] yq = InterpolationGrids.queries(random, y, 10);
+			double[] zq = InterpolationGrids.queries(random, z, 10);
+			double[] kq = InterpolationGrids.queries(random, k, 10);
+			for (int n = 0; n < QUERIES_PER_GRID; n++) {
+				double xv = pick(random, xq);
+				double yv = pick(random, yq);
+				double zv = pick(random, zq);
+				double kv = pick(random, kq);
+				assertEquals("f(" + xv + ", " + yv + ", " + zv + ", " + kv + ")",
+						BaselineInterpolation.quadrilinear(x, y, z, k, data, xv, yv, zv, kv),
+						function.value(xv, yv, zv, kv),
+						tolerance);
+			}
+
+			for (int i = 0; i < x.length; i++)
+				for (int j = 0; j < y.length; j++)
+					for (int l = 0; l < z.length; l++)
+						for (int m = 0; m < k.length; m++)
+							assertEquals(data[i][j][l][m], function.value(x[i], y[j], z[l], k[m]), 0.0);
+		}
+	}
+
+	@Test
+	public void bufferValuesMatchTheArrayValues() {
+
+		Random random = new Random(1313);
+		double[][] breakpoints = {
+				InterpolationGrids.breakpoints(random, 4),
+				InterpolationGrids.breakpoints(random, 5),
+				InterpolationGrids.breakpoints(random, 6)
+		};
+		double[] values = new double[4*5*6];
+		for (int i = 0; i < values.length; i++)
+			values[i] = InterpolationGrids.value(random, i);
+
+		// the direct buffer stands for the memory-mapped tensors of the databases
+		DoubleBuffer buffer = ByteBuffer.allocateDirect(8*values.length).asDoubleBuffer();
+		buffer.put(values).flip();
+
+		MultilinearInterpolatingFunction onArray = new MultilinearInterpolatingFunction(breakpoints, values);
+		MultilinearInterpolatingFunction onBuffer = new MultilinearInterpolatingFunction(breakpoints, buffer);
+		for (double xv : InterpolationGrids.queries(random, breakpoints[0], 5))
+			for (double yv : InterpolationGrids.queries(random, breakpoints[1], 5))
+				for (double zv : InterpolationGrids.queries(random, breakpoints[2], 5))
+					assertEquals(
+							Double.doubleToLongBits(onArray.value(xv, yv, zv)),
+							Double.doubleToLongBits(onBuffer.value(xv, yv, zv)));
+	}
+
+	private static double pick(Random random, double[] queries) {
+		return queries[random.nextInt(queries.length)];
+	}
+
+	private static double maxAbs(double[][][] data) {
+		double max = 0;
+		for (double[][] page : data)
+			for (double[] row : page)
+				for (double v : row)
+					max = Math.max(max, Math.abs(v));
+		return max;
+	}
+
+}
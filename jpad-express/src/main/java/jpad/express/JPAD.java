@@ -4,9 +4,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
@@ -16,7 +15,8 @@ import javafx.stage.Stage;
 import jpad.configs.ex.MyConfiguration;
 import jpad.configs.ex.enumerations.FoldersEnum;
 import jpad.core.ex.aircraft.Aircraft;
-import jpad.core.ex.standaloneutils.aircraft.AircraftAndComponentsViewPlotUtils;
+import jpad.core.ex.standaloneutils.aircraft.AircraftViewsManifest;
+import jpad.core.ex.standaloneutils.aircraft.AircraftViewsRenderer;
 import jpad.core.ex.writers.JPADStaticWriteUtils;
 import ncsa.hdf.hdf5lib.exceptions.HDF5LibraryException;
 
@@ -73,6 +73,7 @@ public class JPAD extends Application {
 		
 		JPADArguments va = new JPADArguments();
 		JPAD.theCmdLineParser = new CmdLineParser(va);
+		String failedViews = "";
 
 		// populate the wing static object in the class-> start ...)
 		try {
@@ -128,6 +129,18 @@ public class JPAD extends Application {
 			
 			long aircraftStartTime = System.currentTimeMillis();
 			
+			// the inputs of the views are hashed before the import, see AircraftViewsManifest
+			AircraftViewsManifest viewsManifest = AircraftViewsManifest.readInputs(
+					pathToXML,
+					dirLiftingSurfaces,
+					dirFuselages,
+					dirEngines,
+					dirNacelles,
+					dirLandingGears,
+					dirCabinConfiguration,
+					dirAirfoil
+					);
+			
 			// reading aircraft from xml ... 
 			theAircraft = Aircraft.importFromXML(
 					pathToXML,
@@ -152,45 +165,21 @@ public class JPAD extends Application {
 			long folderCleaningStartTime = System.currentTimeMillis();
 			String folderPath = MyConfiguration.getDir(FoldersEnum.OUTPUT_DIR); 
 			String aircraftFolder = JPADStaticWriteUtils.createNewFolder(folderPath + theAircraft.getId() + File.separator);
-			String subfolderPath = JPADStaticWriteUtils.createNewFolder(aircraftFolder);
-			FileUtils.cleanDirectory(new File(subfolderPath)); 
+			// only the views whose inputs have changed are written again
+			viewsManifest.readFolder(aircraftFolder);
+			if (va.isForce())
+				viewsManifest.invalidate();
+			viewsManifest.prepareFolder();
 			long folderCleaningEndTime = System.currentTimeMillis();
 			
 			long aircraftViewsStartTime = System.currentTimeMillis();
-			String subfolderViewPath = JPADStaticWriteUtils.createNewFolder(aircraftFolder + "VIEWS" + File.separator);
-			String subfolderViewComponentsPath = JPADStaticWriteUtils.createNewFolder(subfolderViewPath + "COMPONENTS");
-			if(theAircraft != null) {
-				AircraftAndComponentsViewPlotUtils.createAircraftTopView(theAircraft, subfolderViewPath);
-				AircraftAndComponentsViewPlotUtils.createAircraftSideView(theAircraft, subfolderViewPath);
-				AircraftAndComponentsViewPlotUtils.createAircraftFrontView(theAircraft, subfolderViewPath);
-			}
-			if(theAircraft.getFuselage() != null) {
-				AircraftAndComponentsViewPlotUtils.createFuselageTopView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createFuselageSideView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createFuselageFrontView(theAircraft, subfolderViewComponentsPath);
-			}
-			if(theAircraft.getWing() != null) {
-				AircraftAndComponentsViewPlotUtils.createWingPlanformView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createEquivalentLiftingSurfaceView(theAircraft.getWing(), subfolderViewComponentsPath);
-			}
-			if(theAircraft.getHTail() != null) {
-				AircraftAndComponentsViewPlotUtils.createHTailPlanformView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createEquivalentLiftingSurfaceView(theAircraft.getHTail(), subfolderViewComponentsPath);
-			}
-			if(theAircraft.getVTail() != null) {
-				AircraftAndComponentsViewPlotUtils.createVTailPlanformView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createEquivalentLiftingSurfaceView(theAircraft.getVTail(), subfolderViewComponentsPath);
-			}
-			if(theAircraft.getCanard() != null) {
-				AircraftAndComponentsViewPlotUtils.createCanardPlanformView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createEquivalentLiftingSurfaceView(theAircraft.getCanard(), subfolderViewComponentsPath);
-			}
-			if(theAircraft.getNacelles() != null) {
-				AircraftAndComponentsViewPlotUtils.createNacelleTopView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createNacelleSideView(theAircraft, subfolderViewComponentsPath);
-				AircraftAndComponentsViewPlotUtils.createNacelleFrontView(theAircraft, subfolderViewComponentsPath);
-			}
+			List<AircraftViewsRenderer.View> views = createViews(theAircraft, aircraftFolder, viewsManifest);
 			long aircraftViewsEndTime = System.currentTimeMillis();
+			originalOut.println("\n\t AIRCRAFT VIEWS\n");
+			originalOut.print(AircraftViewsRenderer.report(views));
+			failedViews = AircraftViewsRenderer.getFailedViewNames(views);
+			if (!failedViews.isEmpty())
+				System.err.println("Error: views not written: " + failedViews);
 			
 			////////////////////////////////////////////////////////////////////////
 			long aircraftEstimatedTime = aircraftEndTime - aircraftStartTime;
@@ -198,10 +187,10 @@ public class JPAD extends Application {
 			long aircraftViewsEstimatedTime = aircraftViewsEndTime - aircraftViewsStartTime;
 			long estimatedTime = System.currentTimeMillis() - startTime;
 			
-			System.out.println("\n\t TIME ESTIMATED FOR AIRCRAFT CREATION = " + TimeUnit.MILLISECONDS.toSeconds(aircraftEstimatedTime) + " seconds");
-			System.out.println("\n\t TIME ESTIMATED FOR FOLDERS CLEANING = " + TimeUnit.MILLISECONDS.toSeconds(foldersCleaningEstimatedTime) + " seconds");
-			System.out.println("\n\t TIME ESTIMATED FOR AIRCRAFT VIEWS CREATION = " + TimeUnit.MILLISECONDS.toSeconds(aircraftViewsEstimatedTime) + " seconds");
-			System.out.println("\n\t TOTAL TIME ESTIMATED = " + TimeUnit.MILLISECONDS.toSeconds(estimatedTime) + " seconds");
+			System.out.println("\n\t TIME ESTIMATED FOR AIRCRAFT CREATION = " + aircraftEstimatedTime/1000.0 + " seconds");
+			System.out.println("\n\t TIME ESTIMATED FOR FOLDERS CLEANING = " + foldersCleaningEstimatedTime/1000.0 + " seconds");
+			System.out.println("\n\t TIME ESTIMATED FOR AIRCRAFT VIEWS CREATION = " + aircraftViewsEstimatedTime/1000.0 + " seconds");
+			System.out.println("\n\t TOTAL TIME ESTIMATED = " + estimatedTime/1000.0 + " seconds");
 			
 			System.setOut(filterStream);
 			
@@ -213,6 +202,35 @@ public class JPAD extends Application {
 			System.exit(1);
 		}	
 		
-		System.exit(1);
+		// non-zero if some views could not be written
+		System.exit(failedViews.isEmpty() ? 0 : 1);
+	}
+
+	/**
+	 * Writes the aircraft and component views (SVG and PNG) in the VIEWS folder of the aircraft output folder,
+	 * rendering them concurrently (see AircraftViewsRenderer).
+	 * It only uses the given aircraft, hence it can be called concurrently for different aircraft.
+	 *
+	 * @param aircraft the aircraft
+	 * @param aircraftFolder the aircraft output folder (ending with a separator)
+	 * @return the written views, with their timings
+	 */
+	public static List<AircraftViewsRenderer.View> createViews(Aircraft aircraft, String aircraftFolder) {
+		return createViews(aircraft, aircraftFolder, null);
+	}
+
+	/**
+	 * As createViews(aircraft, aircraftFolder), writing only the views which are not up to date according
+	 * to the manifest (if not null) of the aircraft folder; the manifest is then written again.
+	 */
+	public static List<AircraftViewsRenderer.View> createViews(Aircraft aircraft, String aircraftFolder, AircraftViewsManifest manifest) {
+
+		String subfolderViewPath = JPADStaticWriteUtils.createNewFolder(aircraftFolder + "VIEWS" + File.separator);
+		String subfolderViewComponentsPath = JPADStaticWriteUtils.createNewFolder(subfolderViewPath + "COMPONENTS");
+		List<AircraftViewsRenderer.View> views = 
+				AircraftViewsRenderer.render(aircraft, subfolderViewPath, subfolderViewComponentsPath, manifest);
+		if (manifest != null)
+			manifest.write(aircraft.getId(), views);
+		return views;
 	}
 }
@@ -49,6 +49,10 @@ public class JPADArguments {
 			usage = "cabin configurations directory path")
 	private File _cabinConfigurationsDirectory;
 	
+	@Option(name = "-f", aliases = { "--force" },
+			usage = "write all the views, even those whose inputs did not change")
+	private boolean _force = false;
+	
 	// receives other command line parameters than options
 	@Argument
 	public List<String> arguments = new ArrayList<String>();
@@ -92,5 +96,9 @@ public class JPADArguments {
 	public File getCabinConfigurationDirectory() {
 		return _cabinConfigurationsDirectory;
 	}
+
+	public boolean isForce() {
+		return _force;
+	}
 	
 }
@@ -0,0 +1,494 @@
+package jpad.express;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FilenameUtils;
+import org.kohsuke.args4j.CmdLineException;
+import org.kohsuke.args4j.CmdLineParser;
+
+import jpad.configs.ex.MyConfiguration;
+import jpad.configs.ex.enumerations.FoldersEnum;
+import jpad.core.ex.aircraft.Aircraft;
+import jpad.core.ex.standaloneutils.aircraft.AircraftViewsManifest;
+import jpad.core.ex.standaloneutils.aircraft.AircraftViewsRenderer;
+import jpad.core.ex.writers.JPADStaticWriteUtils;
+
+/**
+ * Batch version of JPAD: imports a list of aircraft (given by a manifest file or by a
+ * directory of aircraft input files) and writes their views, processing at most
+ * --threads aircraft at the same time.
+ *
+ * Each aircraft is handled by a worker which only uses its own Aircraft object (neither
+ * JPAD.theAircraft nor JPADGlobalData are used) and writes to its own output folder,
+ * named after the aircraft input file. A failure does not stop the other aircraft.
+ *
+ * At the end a summary (CSV, one row per aircraft in input order) is written with status,
+ * timings (ms) and error of each aircraft:
+ *
+ * <pre>
+ * file,id,status,import_ms,views_ms,total_ms,thread,error
+ * </pre>
+ *
+ * where the timings of the steps which were not completed are 0. An aircraft some of whose
+ * views could not be written is FAILED, with the names of those views as error. If the batch is
+ * interrupted, the aircraft not processed yet are FAILED too.
+ *
+ * Only the views whose inputs have changed are written (see AircraftViewsManifest, unless --force):
+ * if all the views of an aircraft are up to date, it is not even imported and its status is UP_TO_DATE.
+ *
+ * The exit code is 0 if all the aircraft were processed, 1 otherwise.
+ */
+public class JPADBatch {
+
+	//-------------------------------------------------------------
+	// VARIABLE DECLARATION
+	public static final String SUMMARY_FILE_NAME = "batch_summary.csv";
+	public static final String SUMMARY_HEADER = "file,id,status,import_ms,views_ms,total_ms,thread,error";
+
+	public enum Status { OK, UP_TO_DATE, FAILED }
+
+	/**
+	 * Outcome of the processing of one aircraft input file.
+	 */
+	public static class Result {
+
+		private final File file;
+		private String id = "";
+		private Status status = Status.FAILED;
+		private long importTime;
+		private long viewsTime;
+		private long totalTime;
+		private String thread = "";
+		private String error = "";
+
+		public Result(File file) {
+			this.file = file;
+		}
+
+		public File getFile() {
+			return file;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public long getImportTime() {
+			return importTime;
+		}
+
+		public long getViewsTime() {
+			return viewsTime;
+		}
+
+		public long getTotalTime() {
+			return totalTime;
+		}
+
+		public String getError() {
+			return error;
+		}
+
+		public String toCSV() {
+			return String.join(",",
+					csv(file.getPath()), csv(id), status.name(),
+					Long.toString(importTime), Long.toString(viewsTime), Long.toString(totalTime),
+					csv(thread), csv(error)
+					);
+		}
+
+		private static String csv(String value) {
+			if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r"))
+				return "\"" + value.replace("\"", "\"\"") + "\"";
+			return value;
+		}
+	}
+
+	private final JPADBatchArguments arguments;
+	private final File outputDirectory;
+	private final PrintStream log;
+	private final PrintStream workerOutput;
+
+	//-------------------------------------------------------------
+	// BUILDER
+	/**
+	 * @param log the stream of the batch progress
+	 * @param workerOutput the stream which receives what the workers print to System.out while 
+	 * 		  importing the aircraft (see run), or null to leave it in System.out
+	 */
+	public JPADBatch(JPADBatchArguments arguments, File outputDirectory, PrintStream log, PrintStream workerOutput) {
+		this.arguments = arguments;
+		this.outputDirectory = outputDirectory;
+		this.log = log;
+		this.workerOutput = workerOutput;
+	}
+
+	//-------------------------------------------------------------
+	// METHODS
+
+	/**
+	 * Main
+	 *
+	 * @param args
+	 */
+	public static void main(String[] args) {
+
+		JPADBatchArguments va = new JPADBatchArguments();
+		CmdLineParser parser = new CmdLineParser(va);
+
+		try {
+			parser.parseArgument(args);
+		} catch (CmdLineException e) {
+			exitWithUsage(parser, e.getMessage());
+		}
+		if (va.getManifestFile() == null && va.getAircraftDirectory() == null)
+			exitWithUsage(parser, "Either a manifest (-m) or an aircraft directory (-dac) is required");
+		if (va.getThreads() < 1)
+			exitWithUsage(parser, "The number of threads must be positive");
+
+		MyConfiguration.initWorkingDirectoryTree(
+				MyConfiguration.databaseDirectory,
+				MyConfiguration.inputDirectory,
+				MyConfiguration.outputDirectory
+				);
+
+		File outputDirectory = (va.getOutputDirectory() != null) 
+				? va.getOutputDirectory() 
+				: new File(MyConfiguration.getDir(FoldersEnum.OUTPUT_DIR));
+		outputDirectory.mkdirs();
+		File summaryFile = (va.getSummaryFile() != null) 
+				? va.getSummaryFile() 
+				: new File(outputDirectory, SUMMARY_FILE_NAME);
+
+		// the components print a lot while being imported: unless --verbose, only the batch progress is shown
+		PrintStream workerOutput = va.isVerbose() ? null : new PrintStream(new OutputStream() {
+			public void write(int b) {
+				// write nothing
+			}
+		});
+
+		List<Result> results;
+		try {
+			List<File> aircraftFiles = (va.getManifestFile() != null) 
+					? readManifest(va.getManifestFile()) 
+					: listAircraftDirectory(va.getAircraftDirectory());
+
+			System.out.println("-------------------");
+			System.out.println("JPAD batch: " + aircraftFiles.size() + " aircraft, " + va.getThreads() + " threads");
+			System.out.println("OUTPUT ===> " + outputDirectory.getAbsolutePath());
+			System.out.println("-------------------");
+
+			long startTime = System.currentTimeMillis();
+			results = new JPADBatch(va, outputDirectory, System.out, workerOutput).run(aircraftFiles);
+			writeSummary(results, summaryFile);
+
+			long failures = results.stream().filter(r -> r.getStatus() == Status.FAILED).count();
+			System.out.println("-------------------");
+			System.out.println("Processed " + results.size() + " aircraft (" + failures + " failed) in " 
+					+ (System.currentTimeMillis() - startTime)/1000.0 + " seconds");
+			System.out.println("SUMMARY ===> " + summaryFile.getAbsolutePath());
+
+			System.exit(failures == 0 ? 0 : 1);
+
+		} catch (IOException e) {
+			System.err.println("Error: " + e.getMessage());
+			System.exit(2);
+		}
+	}
+
+	private static void exitWithUsage(CmdLineParser parser, String message) {
+		System.err.println("Error: " + message);
+		parser.printUsage(System.err);
+		System.err.println();
+		System.err.println("  Must launch this app with proper command line arguments.");
+		System.exit(2);
+	}
+
+	/**
+	 * Processes at most arguments.getThreads() aircraft at the same time. The aircraft components 
+	 * are imported on the same pool (see Aircraft.importFromXML), which is a fork-join pool so that 
+	 * the workers waiting for the components of their aircraft do not block it.
+	 * 
+	 * While the batch runs, what the pool threads print to System.out goes to workerOutput (if given), 
+	 * the other threads keep writing to the original System.out.
+	 * 
+	 * If the calling thread is interrupted, the interrupt flag is restored and the aircraft not 
+	 * processed yet are reported as FAILED.
+	 *
+	 * @param aircraftFiles the aircraft input files
+	 * @return the results, in the same order of the input files
+	 */
+	public List<Result> run(List<File> aircraftFiles) {
+
+		AtomicInteger threadCounter = new AtomicInteger();
+		ForkJoinPool pool = new ForkJoinPool(
+				arguments.getThreads(),
+				forkJoinPool -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+					thread.setName("jpad-batch-" + threadCounter.incrementAndGet());
+					return thread;
+				},
+				null,
+				false);
+		Semaphore slots = new Semaphore(arguments.getThreads());
+
+		PrintStream systemOut = System.out;
+		if (workerOutput != null)
+			System.setOut(new PrintStream(new WorkerOutputStream(pool, systemOut, workerOutput), true));
+
+		AtomicInteger done = new AtomicInteger();
+		List<Future<Result>> futures = new ArrayList<>();
+		List<Result> results = new ArrayList<>();
+		try {
+			for (File file : aircraftFiles) {
+				slots.acquire();
+				futures.add(pool.submit(() -> {
+					try {
+						Result result = process(file, pool);
+						log.println(String.format(Locale.ROOT, "[%d/%d] %-10s %s (%.3f s)%s", 
+								done.incrementAndGet(), aircraftFiles.size(), result.getStatus(), file.getName(), 
+								result.getTotalTime()/1000.0, 
+								result.getStatus() != Status.FAILED ? "" : " " + result.getError()));
+						return result;
+					} finally {
+						slots.release();
+					}
+				}));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					results.add(futures.get(i).get());
+				} catch (ExecutionException e) {
+					// process() catches everything, this is not expected
+					Result result = new Result(aircraftFiles.get(i));
+					result.error = String.valueOf(e.getCause());
+					results.add(result);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			for (int i = results.size(); i < aircraftFiles.size(); i++) {
+				Result result = new Result(aircraftFiles.get(i));
+				result.error = "Interrupted before completion";
+				results.add(result);
+			}
+		} finally {
+			pool.shutdownNow();
+			if (workerOutput != null)
+				System.setOut(systemOut);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Imports one aircraft and writes its views which are not up to date. Never throws: failures
+	 * are recorded in the result.
+	 * 
+	 * @param executor the executor which runs the component import tasks
+	 */
+	public Result process(File aircraftFile, Executor executor) {
+
+		Result result = new Result(aircraftFile);
+		result.thread = Thread.currentThread().getName();
+		long startTime = System.currentTimeMillis();
+
+		try {
+			String aircraftFolder = null;
+			AircraftViewsManifest viewsManifest = null;
+			if (!arguments.isNoViews()) {
+				// named after the input file, since different files may have the same aircraft id
+				aircraftFolder = JPADStaticWriteUtils.createNewFolder(
+						outputDirectory.getAbsolutePath() + File.separator 
+						+ FilenameUtils.getBaseName(aircraftFile.getName()) + File.separator
+						);
+				viewsManifest = AircraftViewsManifest.read(
+						aircraftFolder,
+						aircraftFile.getAbsolutePath(),
+						arguments.getLiftingSurfacesDirectory().getCanonicalPath(),
+						arguments.getFuselagesDirectory().getCanonicalPath(),
+						arguments.getEnginesDirectory().getCanonicalPath(),
+						arguments.getNacellesDirectory().getCanonicalPath(),
+						arguments.getLandingGearsDirectory().getCanonicalPath(),
+						arguments.getCabinConfigurationDirectory().getCanonicalPath(),
+						arguments.getAirfoilDirectory().getCanonicalPath()
+						);
+				if (arguments.isForce())
+					viewsManifest.invalidate();
+				if (viewsManifest.isUpToDate()) {
+					result.id = viewsManifest.getAircraftId();
+					result.status = Status.UP_TO_DATE;
+					result.totalTime = System.currentTimeMillis() - startTime;
+					return result;
+				}
+			}
+
+			long importStartTime = System.currentTimeMillis();
+			Aircraft aircraft = Aircraft.importFromXML(
+					aircraftFile.getAbsolutePath(),
+					arguments.getLiftingSurfacesDirectory().getCanonicalPath(),
+					arguments.getFuselagesDirectory().getCanonicalPath(),
+					arguments.getEnginesDirectory().getCanonicalPath(),
+					arguments.getNacellesDirectory().getCanonicalPath(),
+					arguments.getLandingGearsDirectory().getCanonicalPath(),
+					arguments.getCabinConfigurationDirectory().getCanonicalPath(),
+					arguments.getAirfoilDirectory().getCanonicalPath(),
+					executor
+					);
+			result.importTime = System.currentTimeMillis() - importStartTime;
+
+			if (aircraft == null) {
+				result.error = "Invalid aircraft input file";
+			}
+			else {
+				result.id = aircraft.getId();
+
+				if (!arguments.isNoViews()) {
+					long viewsStartTime = System.currentTimeMillis();
+					viewsManifest.prepareFolder();
+					String failedViews = AircraftViewsRenderer.getFailedViewNames(
+							JPAD.createViews(aircraft, aircraftFolder, viewsManifest));
+					result.viewsTime = System.currentTimeMillis() - viewsStartTime;
+					if (!failedViews.isEmpty())
+						result.error = "Views failed: " + failedViews;
+				}
+
+				if (result.error.isEmpty())
+					result.status = Status.OK;
+			}
+
+		} catch (Exception | Error e) {
+			result.error = e.toString();
+		}
+
+		result.totalTime = System.currentTimeMillis() - startTime;
+		return result;
+	}
+
+	/**
+	 * @param manifestFile text file with one aircraft input file per line; blank lines and
+	 * 		  lines starting with # are skipped, relative paths are resolved against the manifest folder
+	 * @throws IOException also if two files have the same output folder (see checkOutputFolders)
+	 */
+	public static List<File> readManifest(File manifestFile) throws IOException {
+
+		File baseDirectory = manifestFile.getAbsoluteFile().getParentFile();
+		List<File> files = new ArrayList<>();
+		for (String line : Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+			File file = new File(line);
+			files.add(file.isAbsolute() ? file : new File(baseDirectory, line));
+		}
+		checkOutputFolders(files);
+		return files;
+	}
+
+	/**
+	 * @return the *.xml files of the directory, sorted by name
+	 */
+	public static List<File> listAircraftDirectory(File aircraftDirectory) throws IOException {
+
+		File[] files = aircraftDirectory.listFiles((dir, name) -> name.toLowerCase().endsWith(".xml"));
+		if (files == null)
+			throw new IOException("Not a directory: " + aircraftDirectory.getAbsolutePath());
+		Arrays.sort(files);
+		checkOutputFolders(Arrays.asList(files));
+		return Arrays.asList(files);
+	}
+
+	/**
+	 * The output folder of each aircraft is named after its file name without extension: two files
+	 * with the same name (ignoring the case, for case-insensitive file systems), e.g. in different
+	 * directories, would be written concurrently to the same folder.
+	 *
+	 * @throws IOException if two files have the same output folder
+	 */
+	public static void checkOutputFolders(List<File> aircraftFiles) throws IOException {
+
+		Map<String, File> folders = new HashMap<>();
+		for (File file : aircraftFiles) {
+			File other = folders.put(FilenameUtils.getBaseName(file.getName()).toLowerCase(Locale.ROOT), file);
+			if (other != null)
+				throw new IOException("The aircraft files " + other.getPath() + " and " + file.getPath() 
+						+ " would be written to the same output folder, rename one of them");
+		}
+	}
+
+	public static void writeSummary(List<Result> results, File summaryFile) throws IOException {
+
+		File dir = summaryFile.getAbsoluteFile().getParentFile();
+		if (dir != null && !dir.exists())
+			dir.mkdirs();
+
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(summaryFile.toPath(), StandardCharsets.UTF_8))) {
+			writer.println(SUMMARY_HEADER);
+			for (Result result : results)
+				writer.println(result.toCSV());
+		}
+	}
+
+	/**
+	 * Sends the output of the threads of the batch pool to the worker output, and the output
+	 * of all the other threads to the original System.out.
+	 */
+	private static class WorkerOutputStream extends OutputStream {
+
+		private final ForkJoinPool pool;
+		private final OutputStream others;
+		private final OutputStream workers;
+
+		public WorkerOutputStream(ForkJoinPool pool, OutputStream others, OutputStream workers) {
+			this.pool = pool;
+			this.others = others;
+			this.workers = workers;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			target().write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			target().write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			target().flush();
+		}
+
+		private OutputStream target() {
+			Thread thread = Thread.currentThread();
+			if (thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool)
+				return workers;
+			return others;
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+package jpad.express;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.kohsuke.args4j.Argument;
+import org.kohsuke.args4j.Option;
+
+public class JPADBatchArguments {
+
+	@Option(name = "-m", aliases = { "--manifest" }, forbids = { "-dac" },
+			usage = "text file with the aircraft input files, one per line (relative paths are resolved against the manifest folder, # starts a comment)")
+	private File _manifestFile;
+
+	@Option(name = "-dac", aliases = { "--dir-aircraft" }, forbids = { "-m" },
+			usage = "directory with the aircraft input files (all the *.xml files are imported)")
+	private File _aircraftDirectory;
+
+	@Option(name = "-o", aliases = { "--output" },
+			usage = "output directory (default: the JPAD output directory)")
+	private File _outputDirectory;
+
+	@Option(name = "-s", aliases = { "--summary" },
+			usage = "summary file (default: batch_summary.csv in the output directory)")
+	private File _summaryFile;
+
+	@Option(name = "-t", aliases = { "--threads" },
+			usage = "number of aircraft processed at the same time (default: number of processors)")
+	private int _threads = Runtime.getRuntime().availableProcessors();
+
+	@Option(name = "-nv", aliases = { "--no-views" },
+			usage = "import the aircraft without writing the views")
+	private boolean _noViews = false;
+
+	@Option(name = "-f", aliases = { "--force" }, forbids = { "-nv" },
+			usage = "write all the views, even those whose inputs did not change")
+	private boolean _force = false;
+
+	@Option(name = "-v", aliases = { "--verbose" },
+			usage = "show the output of the components import, of all the workers")
+	private boolean _verbose = false;
+
+	@Option(name = "-da", aliases = { "--dir-airfoils" }, required = true,
+			usage = "airfoil directory path")
+	private File _airfoilDirectory;
+
+	@Option(name = "-df", aliases = { "--dir-fuselages" }, required = true,
+			usage = "fuselages directory path")
+	private File _fuselagesDirectory;
+	
+	@Option(name = "-dls", aliases = { "--dir-lifting-surfaces" }, required = true,
+			usage = "lifting surfaces directory path")
+	private File _liftingSurfacesDirectory;
+	
+	@Option(name = "-de", aliases = { "--dir-engines" }, required = true,
+			usage = "engines directory path")
+	private File _enginesDirectory;
+	
+	@Option(name = "-dn", aliases = { "--dir-nacelles" }, required = true,
+			usage = "nacelles directory path")
+	private File _nacellesDirectory;
+	
+	@Option(name = "-dlg", aliases = { "--dir-landing-gears" }, required = true,
+			usage = "landing gears directory path")
+	private File _landingGearsDirectory;
+	
+	@Option(name = "-dcc", aliases = { "--dir-cabin-configurations" }, required = true,
+			usage = "cabin configurations directory path")
+	private File _cabinConfigurationsDirectory;
+	
+	// receives other command line parameters than options
+	@Argument
+	public List<String> arguments = new ArrayList<String>();
+
+	public File getManifestFile() {
+		return _manifestFile;
+	}
+
+	public File getAircraftDirectory() {
+		return _aircraftDirectory;
+	}
+
+	public File getOutputDirectory() {
+		return _outputDirectory;
+	}
+
+	public File getSummaryFile() {
+		return _summaryFile;
+	}
+
+	public int getThreads() {
+		return _threads;
+	}
+
+	public boolean isNoViews() {
+		return _noViews;
+	}
+
+	public boolean isForce() {
+		return _force;
+	}
+
+	public boolean isVerbose() {
+		return _verbose;
+	}
+
+	public File getAirfoilDirectory() {
+		return _airfoilDirectory;
+	}
+
+	public File getFuselagesDirectory() {
+		return _fuselagesDirectory;
+	}
+	
+	public File getLiftingSurfacesDirectory() {
+		return _liftingSurfacesDirectory;
+	}
+
+	public File getEnginesDirectory() {
+		return _enginesDirectory;
+	}
+
+	public File getNacellesDirectory() {
+		return _nacellesDirectory;
+	}
+	
+	public File getLandingGearsDirectory() {
+		return _landingGearsDirectory;
+	}
+	
+	public File getCabinConfigurationDirectory() {
+		return _cabinConfigurationsDirectory;
+	}
+	
+}